@@ -228,6 +228,7 @@ subprojects {
         testRuntimeOnly("org.junit.platform:junit-platform-launcher")
         testImplementation("org.openjdk.jmh:jmh-core")
         testImplementation("org.openjdk.jmh:jmh-generator-annprocess")
+        testAnnotationProcessor("org.openjdk.jmh:jmh-generator-annprocess")
     }
 
     tasks.withType<Copy>().all {
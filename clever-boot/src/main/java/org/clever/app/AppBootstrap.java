@@ -22,6 +22,7 @@ import org.clever.web.PathConstants;
 import org.clever.web.WebServerBootstrap;
 import org.clever.web.config.WebConfig;
 import org.clever.web.filter.*;
+import org.clever.web.mvc.AsyncRequest;
 import org.clever.web.plugin.ExceptionHandlerPlugin;
 import org.clever.web.plugin.NotFoundResponsePlugin;
 import org.springframework.core.env.StandardEnvironment;
@@ -76,19 +77,28 @@ public abstract class AppBootstrap {
         // security功能
         final SecurityBootstrap securityBootstrap = SecurityBootstrap.create(environment);
         SecurityBootstrap.useDefaultSecurity(securityBootstrap.getSecurityConfig());
+        SecurityBootstrap.useWebIntegration();
+        // 异步 HandlerMethod 的线程上下文传递
+        AsyncRequest.addThreadContextPropagator(GlobalRequestParamsFilter.THREAD_CONTEXT_PROPAGATOR);
         // 注册 Filter
         final OrderIncrement filterOrder = new OrderIncrement();
         webServerBootstrap.getFilterRegistrar()
+            .addFilter(ServerTimingFilter.create(environment), PathConstants.ALL, "ServerTimingFilter", filterOrder.incrL1())
             .addFilter(ApplyConfigFilter.create(rootPath, webConfig), PathConstants.ALL, "ApplyConfigFilter", filterOrder.incrL1())
             .addFilter(EchoFilter.create(environment), PathConstants.ALL, "EchoFilter", filterOrder.incrL1())
+            .addFilter(LoadSheddingFilter.create(environment), PathConstants.ALL, "LoadSheddingFilter", filterOrder.incrL1())
+            .addFilter(ConcurrencyLimitFilter.create(environment), PathConstants.ALL, "ConcurrencyLimitFilter", filterOrder.incrL1())
+            .addFilter(CompressionFilter.create(environment), PathConstants.ALL, "CompressionFilter", filterOrder.incrL1())
             .addFilter(ExceptionHandlerFilter.INSTANCE, PathConstants.ALL, "ExceptionHandlerFilter", filterOrder.incrL1())
             .addFilter(GlobalRequestParamsFilter.INSTANCE, PathConstants.ALL, "GlobalRequestParamsFilter", filterOrder.incrL1())
             .addFilter(CorsFilter.create(environment), PathConstants.ALL, "CorsFilter", filterOrder.incrL1())
             .addFilter(mvcBootstrap.getMvcHandlerMethodFilter(), PathConstants.ALL, "MvcHandlerMethodFilter", filterOrder.incrL1())
             .addFilter(securityBootstrap.getAuthenticationFilter(), PathConstants.ALL, "AuthenticationFilter", filterOrder.incrL1())
+            .addFilter(RateLimitFilter.create(environment), PathConstants.ALL, "RateLimitFilter", filterOrder.incrL1())
             .addFilter(securityBootstrap.getLoginFilter(), PathConstants.ALL, "LoginFilter", filterOrder.incrL1())
             .addFilter(securityBootstrap.getLogoutFilter(), PathConstants.ALL, "LogoutFilter", filterOrder.incrL1())
             .addFilter(securityBootstrap.getAuthorizationFilter(), PathConstants.ALL, "AuthorizationFilter", filterOrder.incrL1())
+            .addFilter(ResponseCacheFilter.create(environment), PathConstants.ALL, "ResponseCacheFilter", filterOrder.incrL1())
             .addFilter(StaticResourceFilter.create(rootPath, environment), PathConstants.ALL, "StaticResourceFilter", filterOrder.incrL1())
             .addFilter(mvcBootstrap.getMvcFilter(), PathConstants.ALL, "MvcFilter", filterOrder.incrL1());
         // 注册 Servlet
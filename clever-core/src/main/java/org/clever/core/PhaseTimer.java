@@ -0,0 +1,161 @@
+package org.clever.core;
+
+import lombok.Data;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * 请求处理阶段耗时统计(例如: Filter、参数解析、Handler Method、sql、redis、序列化)<br/>
+ * 计时器绑定到处理请求的线程，各个模块通过静态函数 {@link #start()}、{@link #stop(String, long)} 记录耗时，
+ * 当前线程未绑定计时器时这些函数只有一次 ThreadLocal 读取的开销。同一个阶段多次执行时累计耗时和次数
+ * <p>
+ * 作者：lizw <br/>
+ * 创建时间：2026/10/19 05:42 <br/>
+ */
+public class PhaseTimer {
+    private static final ThreadLocal<PhaseTimer> CURRENT = new ThreadLocal<>();
+
+    /**
+     * 获取当前线程绑定的计时器，不存在返回 null
+     */
+    public static PhaseTimer current() {
+        return CURRENT.get();
+    }
+
+    /**
+     * 绑定计时器到当前线程，返回之前绑定的计时器(可能为 null)
+     */
+    public static PhaseTimer bind(PhaseTimer timer) {
+        final PhaseTimer previous = CURRENT.get();
+        if (timer == null) {
+            CURRENT.remove();
+        } else {
+            CURRENT.set(timer);
+        }
+        return previous;
+    }
+
+    /**
+     * 解除当前线程绑定的计时器
+     */
+    public static void unbind() {
+        CURRENT.remove();
+    }
+
+    /**
+     * 开始计时，返回开始时间(纳秒)，当前线程未绑定计时器时返回 0
+     */
+    public static long start() {
+        return CURRENT.get() == null ? 0 : System.nanoTime();
+    }
+
+    /**
+     * 结束计时，把从 startTime 开始的耗时累加到当前线程绑定的计时器
+     *
+     * @param phase     阶段名称
+     * @param startTime {@link #start()} 的返回值
+     */
+    public static void stop(String phase, long startTime) {
+        if (startTime == 0) {
+            return;
+        }
+        final PhaseTimer timer = CURRENT.get();
+        if (timer != null) {
+            timer.add(phase, System.nanoTime() - startTime);
+        }
+    }
+
+    /**
+     * 累加耗时到当前线程绑定的计时器
+     *
+     * @param phase 阶段名称
+     * @param nanos 耗时(纳秒)
+     */
+    public static void record(String phase, long nanos) {
+        final PhaseTimer timer = CURRENT.get();
+        if (timer != null) {
+            timer.add(phase, nanos);
+        }
+    }
+
+    /**
+     * 计时器创建时间(纳秒)
+     */
+    private final long startTime = System.nanoTime();
+    private String[] names = new String[8];
+    private long[] durations = new long[8];
+    private int[] counts = new int[8];
+    private int size;
+
+    /**
+     * 累加阶段耗时(可以在其他线程中调用，例如: 异步客户端的回调线程)
+     *
+     * @param phase 阶段名称
+     * @param nanos 耗时(纳秒)
+     */
+    public void add(String phase, long nanos) {
+        add(phase, nanos, 1);
+    }
+
+    /**
+     * 累加阶段耗时和执行次数(一次执行分多段记录耗时时，只有一段的 count 为 1)
+     *
+     * @param phase 阶段名称
+     * @param nanos 耗时(纳秒)
+     * @param count 执行次数
+     */
+    public synchronized void add(String phase, long nanos, int count) {
+        int idx = 0;
+        // 阶段数很少，顺序查找比 Map 更快
+        while (idx < size && !names[idx].equals(phase)) {
+            idx++;
+        }
+        if (idx == size) {
+            if (size == names.length) {
+                names = Arrays.copyOf(names, size * 2);
+                durations = Arrays.copyOf(durations, size * 2);
+                counts = Arrays.copyOf(counts, size * 2);
+            }
+            names[idx] = phase;
+            size++;
+        }
+        durations[idx] += Math.max(nanos, 0);
+        counts[idx] += count;
+    }
+
+    /**
+     * 计时器创建到现在的时间(纳秒)
+     */
+    public long getElapsed() {
+        return System.nanoTime() - startTime;
+    }
+
+    /**
+     * 获取所有阶段的耗时(按第一次记录的顺序)
+     */
+    public synchronized List<Phase> getPhases() {
+        List<Phase> phases = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            phases.add(new Phase(names[i], durations[i], counts[i]));
+        }
+        return phases;
+    }
+
+    @Data
+    public static class Phase {
+        /**
+         * 阶段名称
+         */
+        private final String name;
+        /**
+         * 累计耗时(纳秒)
+         */
+        private final long duration;
+        /**
+         * 执行次数
+         */
+        private final int count;
+    }
+}
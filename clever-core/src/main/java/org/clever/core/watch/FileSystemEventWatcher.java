@@ -0,0 +1,240 @@
+package org.clever.core.watch;
+
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.clever.core.Assert;
+
+import java.io.File;
+import java.io.FileFilter;
+import java.io.IOException;
+import java.nio.file.*;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * 基于操作系统文件事件(inotify、FSEvents、ReadDirectoryChangesW)的文件监听器，不需要定时扫描文件的最后修改时间。<br/>
+ * 变化的文件会在防抖动延时时间内合并，然后批量回调给 listener；文件持续变化时最多延迟 maxDelayMillis 回调一次。<br/>
+ * 事件队列溢出时会产生一个根目录的 {@link MonitorEventType#DirectoryChange} 事件，此时需要全量检查文件。
+ * <p>
+ * 作者：lizw <br/>
+ * 创建时间：2026/10/19 04:15 <br/>
+ */
+@Slf4j
+public class FileSystemEventWatcher {
+    /**
+     * 监听的根目录
+     */
+    @Getter
+    private final Path rootPath;
+    /**
+     * 文件过滤器(只作用于文件，不作用于文件夹)
+     */
+    private final FileFilter fileFilter;
+    /**
+     * 文件变化时的处理函数
+     */
+    private final Consumer<Collection<MonitorEvent>> listener;
+    /**
+     * 防抖动延时时间(单位毫秒)
+     */
+    private final long delayMillis;
+    /**
+     * 最大延时时间(单位毫秒)，文件持续变化时防抖动延时会不断推迟，超过这个时间后强制回调 listener
+     */
+    private final long maxDelayMillis;
+    /**
+     * 已注册监听的文件夹 {@code Map<WatchKey, 文件夹>}
+     */
+    private final Map<WatchKey, Path> watchDirs = new ConcurrentHashMap<>();
+    private WatchService watchService;
+    private Thread watchThread;
+    /**
+     * 当前是否在监听
+     */
+    @Getter
+    private volatile boolean running = false;
+
+    /**
+     * @param absolutePath 监听文件夹绝对路径
+     * @param fileFilter   文件过滤器(只作用于文件，可以为null)
+     * @param listener     文件变化时的处理函数
+     * @param delayMillis  listener处理的防抖动延时时间
+     */
+    public FileSystemEventWatcher(String absolutePath, FileFilter fileFilter, Consumer<Collection<MonitorEvent>> listener, long delayMillis) {
+        this(absolutePath, fileFilter, listener, delayMillis, delayMillis * 10);
+    }
+
+    /**
+     * @param absolutePath   监听文件夹绝对路径
+     * @param fileFilter     文件过滤器(只作用于文件，可以为null)
+     * @param listener       文件变化时的处理函数
+     * @param delayMillis    listener处理的防抖动延时时间
+     * @param maxDelayMillis 第一个事件到回调 listener 的最大延时时间
+     */
+    public FileSystemEventWatcher(String absolutePath, FileFilter fileFilter, Consumer<Collection<MonitorEvent>> listener, long delayMillis, long maxDelayMillis) {
+        Assert.isNotBlank(absolutePath, "参数 absolutePath 不能为空");
+        Assert.notNull(listener, "参数 listener 不能为 null");
+        Assert.isTrue(delayMillis >= 10, "参数 delayMillis 必须大于等于10");
+        Assert.isTrue(maxDelayMillis >= delayMillis, "参数 maxDelayMillis 必须大于等于 delayMillis");
+        this.rootPath = Paths.get(absolutePath).toAbsolutePath().normalize();
+        Assert.isTrue(Files.isDirectory(rootPath), "路径：" + rootPath + "不存在或者不是一个文件夹");
+        this.fileFilter = fileFilter;
+        this.listener = listener;
+        this.delayMillis = delayMillis;
+        this.maxDelayMillis = maxDelayMillis;
+    }
+
+    /**
+     * 开始监听
+     */
+    public synchronized void start() throws IOException {
+        if (running) {
+            return;
+        }
+        watchService = rootPath.getFileSystem().newWatchService();
+        try {
+            registerAll(watchService, rootPath);
+        } catch (IOException e) {
+            closeWatchService();
+            throw e;
+        }
+        running = true;
+        final WatchService service = watchService;
+        watchThread = new Thread(() -> watchLoop(service), "fs-watch-" + rootPath.getFileName());
+        watchThread.setDaemon(true);
+        watchThread.start();
+    }
+
+    /**
+     * 停止监听
+     */
+    public synchronized void stop() {
+        if (!running) {
+            return;
+        }
+        running = false;
+        closeWatchService();
+        if (watchThread != null) {
+            watchThread.interrupt();
+            watchThread = null;
+        }
+    }
+
+    private void watchLoop(final WatchService service) {
+        // 同一个文件的多个事件只保留最后一个
+        final Map<Path, MonitorEvent> pending = new LinkedHashMap<>();
+        // 第一个待处理事件的时间(System.nanoTime)
+        long firstEventTime = 0;
+        while (running) {
+            final WatchKey key;
+            try {
+                if (pending.isEmpty()) {
+                    // 没有待处理的事件时，一直阻塞到有新的事件
+                    key = service.take();
+                    firstEventTime = System.nanoTime();
+                } else {
+                    // 有待处理的事件时，等待防抖动延时时间(不超过最大延时时间)
+                    final long remaining = maxDelayMillis - TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - firstEventTime);
+                    key = remaining > 0 ? service.poll(Math.min(delayMillis, remaining), TimeUnit.MILLISECONDS) : null;
+                }
+            } catch (InterruptedException | ClosedWatchServiceException e) {
+                break;
+            }
+            if (key == null) {
+                fire(pending);
+                continue;
+            }
+            final Path dir = watchDirs.get(key);
+            for (WatchEvent<?> event : key.pollEvents()) {
+                final WatchEvent.Kind<?> kind = event.kind();
+                if (kind == StandardWatchEventKinds.OVERFLOW || dir == null) {
+                    pending.put(rootPath, new MonitorEvent(MonitorEventType.DirectoryChange, rootPath.toFile()));
+                    continue;
+                }
+                final Path path = dir.resolve((Path) event.context());
+                final MonitorEvent monitorEvent = toMonitorEvent(service, kind, path);
+                if (monitorEvent != null) {
+                    pending.put(path, monitorEvent);
+                }
+            }
+            if (!key.reset()) {
+                watchDirs.remove(key);
+            }
+        }
+    }
+
+    private MonitorEvent toMonitorEvent(WatchService service, WatchEvent.Kind<?> kind, Path path) {
+        final File file = path.toFile();
+        if (kind == StandardWatchEventKinds.ENTRY_DELETE) {
+            if (watchDirs.containsValue(path)) {
+                return new MonitorEvent(MonitorEventType.DirectoryDelete, file);
+            }
+            return accept(file) ? new MonitorEvent(MonitorEventType.FileDelete, file) : null;
+        }
+        if (Files.isDirectory(path, LinkOption.NOFOLLOW_LINKS)) {
+            if (kind == StandardWatchEventKinds.ENTRY_CREATE) {
+                try {
+                    registerAll(service, path);
+                } catch (IOException | ClosedWatchServiceException e) {
+                    log.warn("# 监听文件夹失败 | path={}", path, e);
+                }
+                return new MonitorEvent(MonitorEventType.DirectoryCreate, file);
+            }
+            return null;
+        }
+        if (!accept(file)) {
+            return null;
+        }
+        if (kind == StandardWatchEventKinds.ENTRY_CREATE) {
+            return new MonitorEvent(MonitorEventType.FileCreate, file);
+        }
+        return new MonitorEvent(MonitorEventType.FileChange, file);
+    }
+
+    private boolean accept(File file) {
+        return fileFilter == null || fileFilter.accept(file);
+    }
+
+    private void fire(Map<Path, MonitorEvent> pending) {
+        if (pending.isEmpty()) {
+            return;
+        }
+        final List<MonitorEvent> events = new ArrayList<>(pending.values());
+        pending.clear();
+        try {
+            listener.accept(events);
+        } catch (Exception e) {
+            log.warn("# 处理文件变化事件失败 | root={}", rootPath, e);
+        }
+    }
+
+    private void registerAll(final WatchService service, Path start) throws IOException {
+        Files.walkFileTree(start, new SimpleFileVisitor<>() {
+            @Override
+            public FileVisitResult preVisitDirectory(Path dir, BasicFileAttributes attrs) throws IOException {
+                WatchKey key = dir.register(
+                    service,
+                    StandardWatchEventKinds.ENTRY_CREATE,
+                    StandardWatchEventKinds.ENTRY_DELETE,
+                    StandardWatchEventKinds.ENTRY_MODIFY
+                );
+                watchDirs.put(key, dir);
+                return FileVisitResult.CONTINUE;
+            }
+        });
+    }
+
+    private void closeWatchService() {
+        watchDirs.clear();
+        if (watchService != null) {
+            try {
+                watchService.close();
+            } catch (IOException ignored) {
+            }
+            watchService = null;
+        }
+    }
+}
@@ -0,0 +1,64 @@
+package org.clever.core.watch;
+
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.io.FileUtils;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 作者：lizw <br/>
+ * 创建时间：2026/10/19 06:20 <br/>
+ */
+@Slf4j
+public class FileSystemEventWatcherTest {
+    /**
+     * 文件持续变化时，最多延迟 maxDelayMillis 回调一次
+     */
+    @Test
+    public void t01() throws Exception {
+        final File root = Files.createTempDirectory("watch").toFile();
+        final File file = new File(root, "a.xml");
+        final CountDownLatch fired = new CountDownLatch(1);
+        final FileSystemEventWatcher watcher = new FileSystemEventWatcher(
+            root.getAbsolutePath(),
+            null,
+            events -> {
+                log.info("--> {}", events.size());
+                fired.countDown();
+            },
+            200,
+            500
+        );
+        final AtomicBoolean writing = new AtomicBoolean(true);
+        final Thread writer = new Thread(() -> {
+            int i = 0;
+            while (writing.get()) {
+                try {
+                    FileUtils.writeStringToFile(file, String.valueOf(i++), StandardCharsets.UTF_8);
+                    Thread.sleep(20);
+                } catch (Exception e) {
+                    return;
+                }
+            }
+        });
+        watcher.start();
+        try {
+            writer.start();
+            // 写文件的间隔远小于防抖动延时时间，没有最大延时时间时会一直不回调
+            Assertions.assertTrue(fired.await(10, TimeUnit.SECONDS));
+            Assertions.assertTrue(writer.isAlive());
+        } finally {
+            writing.set(false);
+            writer.join();
+            watcher.stop();
+            FileUtils.deleteDirectory(root);
+        }
+    }
+}
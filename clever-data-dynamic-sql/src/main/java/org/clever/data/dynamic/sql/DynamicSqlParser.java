@@ -41,7 +41,17 @@ public class DynamicSqlParser {
     }
 
     public static SqlSource parserSql(XNode script) {
-        XMLScriptBuilder builder = new XMLScriptBuilder(script);
+        return parserSql(script, false);
+    }
+
+    /**
+     * 解析动态SQL
+     *
+     * @param script            sql.xml中的SQL节点
+     * @param compileExpression 是否预编译OGNL表达式(表达式存在语法错误时抛出异常)
+     */
+    public static SqlSource parserSql(XNode script, boolean compileExpression) {
+        XMLScriptBuilder builder = new XMLScriptBuilder(script, compileExpression);
         return builder.parseScriptNode();
     }
 }
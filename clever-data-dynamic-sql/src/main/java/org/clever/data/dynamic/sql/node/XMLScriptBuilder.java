@@ -5,6 +5,7 @@ import org.clever.data.dynamic.sql.builder.DynamicSqlSource;
 import org.clever.data.dynamic.sql.builder.RawSqlSource;
 import org.clever.data.dynamic.sql.builder.SqlSource;
 import org.clever.data.dynamic.sql.exception.BuilderException;
+import org.clever.data.dynamic.sql.ognl.OgnlCache;
 import org.clever.data.dynamic.sql.parsing.XNode;
 import org.w3c.dom.Node;
 import org.w3c.dom.NodeList;
@@ -16,12 +17,21 @@ import java.util.Map;
 
 public class XMLScriptBuilder extends BaseBuilder {
     private final XNode context;
+    /**
+     * 是否在解析时预编译OGNL表达式(if/when/foreach/bind)
+     */
+    private final boolean compileExpression;
     private boolean isDynamic;
     private final Map<String, NodeHandler> nodeHandlerMap = new HashMap<>(9);
 
     public XMLScriptBuilder(XNode context) {
+        this(context, false);
+    }
+
+    public XMLScriptBuilder(XNode context, boolean compileExpression) {
         super();
         this.context = context;
+        this.compileExpression = compileExpression;
         initNodeHandlerMap();
     }
 
@@ -75,11 +85,17 @@ public class XMLScriptBuilder extends BaseBuilder {
         return new MixedSqlNode(contents);
     }
 
+    private void compileExpression(String expression) {
+        if (compileExpression) {
+            OgnlCache.compile(expression);
+        }
+    }
+
     private interface NodeHandler {
         void handleNode(XNode nodeToHandle, List<SqlNode> targetContents);
     }
 
-    private static class BindHandler implements NodeHandler {
+    private class BindHandler implements NodeHandler {
         public BindHandler() {
         }
 
@@ -87,6 +103,7 @@ public class XMLScriptBuilder extends BaseBuilder {
         public void handleNode(XNode nodeToHandle, List<SqlNode> targetContents) {
             final String name = nodeToHandle.getStringAttribute("name");
             final String expression = nodeToHandle.getStringAttribute("value");
+            compileExpression(expression);
             final VarDeclSqlNode node = new VarDeclSqlNode(name, expression);
             targetContents.add(node);
         }
@@ -149,6 +166,7 @@ public class XMLScriptBuilder extends BaseBuilder {
             String open = nodeToHandle.getStringAttribute("open");
             String close = nodeToHandle.getStringAttribute("close");
             String separator = nodeToHandle.getStringAttribute("separator");
+            compileExpression(collection);
             ForEachSqlNode forEachSqlNode = new ForEachSqlNode(mixedSqlNode, collection, index, item, open, close, separator);
             targetContents.add(forEachSqlNode);
         }
@@ -163,6 +181,7 @@ public class XMLScriptBuilder extends BaseBuilder {
         public void handleNode(XNode nodeToHandle, List<SqlNode> targetContents) {
             MixedSqlNode mixedSqlNode = parseDynamicTags(nodeToHandle);
             String test = nodeToHandle.getStringAttribute("test");
+            compileExpression(test);
             IfSqlNode ifSqlNode = new IfSqlNode(mixedSqlNode, test);
             targetContents.add(ifSqlNode);
         }
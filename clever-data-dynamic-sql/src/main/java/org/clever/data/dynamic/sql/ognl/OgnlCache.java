@@ -3,6 +3,7 @@ package org.clever.data.dynamic.sql.ognl;
 import lombok.extern.slf4j.Slf4j;
 import ognl.Ognl;
 import ognl.OgnlException;
+import org.clever.data.dynamic.sql.exception.BuilderException;
 import org.clever.data.dynamic.sql.utils.ObjectUtils;
 import org.clever.data.dynamic.sql.utils.StringUtils;
 
@@ -42,6 +43,22 @@ public final class OgnlCache {
         }
     }
 
+    /**
+     * 预编译OGNL表达式(解析结果会被缓存)，表达式存在语法错误时抛出异常
+     *
+     * @param expression OGNL表达式
+     */
+    public static void compile(String expression) {
+        if (expression == null) {
+            return;
+        }
+        try {
+            parseExpression(expression);
+        } catch (Throwable e) {
+            throw new BuilderException("Error parsing expression '" + expression + "'. Cause: " + e, e);
+        }
+    }
+
     private static Object parseExpression(String expression) throws OgnlException {
         Object node = expressionCache.get(expression);
         if (node == null) {
@@ -1,11 +1,16 @@
 package org.clever.data.dynamic.sql.reflection;
 
-import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.ConcurrentMap;
-
 public class DefaultReflectorFactory implements ReflectorFactory {
     private boolean classCacheEnabled = true;
-    private final ConcurrentMap<Class<?>, Reflector> reflectorMap = new ConcurrentHashMap<>();
+    /**
+     * 使用 ClassValue 缓存(不会阻止热重载的Class被回收)
+     */
+    private final ClassValue<Reflector> reflectorCache = new ClassValue<>() {
+        @Override
+        protected Reflector computeValue(Class<?> type) {
+            return new Reflector(type);
+        }
+    };
 
     public DefaultReflectorFactory() {
     }
@@ -24,7 +29,7 @@ public class DefaultReflectorFactory implements ReflectorFactory {
     public Reflector findForClass(Class<?> type) {
         if (classCacheEnabled) {
             // synchronized (type) removed see issue #461
-            return reflectorMap.computeIfAbsent(type, Reflector::new);
+            return reflectorCache.get(type);
         } else {
             return new Reflector(type);
         }
@@ -1,10 +1,8 @@
 package org.clever.data.dynamic.sql.reflection;
 
 import org.clever.data.dynamic.sql.exception.ReflectionException;
-import org.clever.data.dynamic.sql.reflection.invoker.GetFieldInvoker;
 import org.clever.data.dynamic.sql.reflection.invoker.Invoker;
-import org.clever.data.dynamic.sql.reflection.invoker.MethodInvoker;
-import org.clever.data.dynamic.sql.reflection.invoker.SetFieldInvoker;
+import org.clever.data.dynamic.sql.reflection.invoker.LambdaInvokerFactory;
 import org.clever.data.dynamic.sql.reflection.property.PropertyNamer;
 
 import java.lang.reflect.*;
@@ -93,7 +91,7 @@ public class Reflector {
 
     private void addGetMethod(String name, Method method) {
         if (isValidPropertyName(name)) {
-            getMethods.put(name, new MethodInvoker(method));
+            getMethods.put(name, LambdaInvokerFactory.forGetMethod(method));
             Type returnType = TypeParameterResolver.resolveReturnType(method, type);
             getTypes.put(name, typeToClass(returnType));
         }
@@ -162,7 +160,7 @@ public class Reflector {
 
     private void addSetMethod(String name, Method method) {
         if (isValidPropertyName(name)) {
-            setMethods.put(name, new MethodInvoker(method));
+            setMethods.put(name, LambdaInvokerFactory.forSetMethod(method));
             Type[] paramTypes = TypeParameterResolver.resolveParamTypes(method, type);
             setTypes.put(name, typeToClass(paramTypes[0]));
         }
@@ -212,7 +210,7 @@ public class Reflector {
 
     private void addSetField(Field field) {
         if (isValidPropertyName(field.getName())) {
-            setMethods.put(field.getName(), new SetFieldInvoker(field));
+            setMethods.put(field.getName(), LambdaInvokerFactory.forSetField(field));
             Type fieldType = TypeParameterResolver.resolveFieldType(field, type);
             setTypes.put(field.getName(), typeToClass(fieldType));
         }
@@ -220,7 +218,7 @@ public class Reflector {
 
     private void addGetField(Field field) {
         if (isValidPropertyName(field.getName())) {
-            getMethods.put(field.getName(), new GetFieldInvoker(field));
+            getMethods.put(field.getName(), LambdaInvokerFactory.forGetField(field));
             Type fieldType = TypeParameterResolver.resolveFieldType(field, type);
             getTypes.put(field.getName(), typeToClass(fieldType));
         }
@@ -0,0 +1,26 @@
+package org.clever.data.dynamic.sql.reflection.invoker;
+
+import java.util.function.Function;
+
+/**
+ * 通过 LambdaMetafactory/MethodHandle 生成的 getter 调用器(不使用反射调用)
+ */
+public class LambdaGetInvoker implements Invoker {
+    private final Function<Object, Object> getter;
+    private final Class<?> type;
+
+    public LambdaGetInvoker(Function<Object, Object> getter, Class<?> type) {
+        this.getter = getter;
+        this.type = type;
+    }
+
+    @Override
+    public Object invoke(Object target, Object[] args) {
+        return getter.apply(target);
+    }
+
+    @Override
+    public Class<?> getType() {
+        return type;
+    }
+}
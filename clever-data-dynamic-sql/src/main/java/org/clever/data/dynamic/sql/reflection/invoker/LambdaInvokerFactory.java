@@ -0,0 +1,151 @@
+package org.clever.data.dynamic.sql.reflection.invoker;
+
+import java.lang.invoke.*;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+
+/**
+ * 创建属性访问的 {@link Invoker}。<br/>
+ * getter/setter 方法通过 {@link LambdaMetafactory} 生成 {@link Function}/{@link BiConsumer} 直接调用，
+ * 字段通过 {@link MethodHandle} 访问，无法生成时(如: JDK模块内未开放的类)退回到反射调用。
+ */
+public final class LambdaInvokerFactory {
+    private static final MethodHandles.Lookup LOOKUP = MethodHandles.lookup();
+    private static final MethodType GETTER_TYPE = MethodType.methodType(Function.class);
+    private static final MethodType SETTER_TYPE = MethodType.methodType(BiConsumer.class);
+    private static final MethodType GETTER_ERASED_TYPE = MethodType.methodType(Object.class, Object.class);
+    private static final MethodType SETTER_ERASED_TYPE = MethodType.methodType(void.class, Object.class, Object.class);
+
+    private LambdaInvokerFactory() {
+    }
+
+    public static Invoker forGetMethod(Method method) {
+        if (Modifier.isStatic(method.getModifiers())) {
+            return new MethodInvoker(method);
+        }
+        try {
+            final MethodHandles.Lookup lookup = privateLookup(method.getDeclaringClass());
+            final MethodHandle handle = lookup.unreflect(method);
+            final CallSite callSite = LambdaMetafactory.metafactory(
+                lookup,
+                "apply",
+                GETTER_TYPE,
+                GETTER_ERASED_TYPE,
+                handle,
+                MethodType.methodType(wrap(method.getReturnType()), method.getDeclaringClass())
+            );
+            @SuppressWarnings("unchecked")
+            final Function<Object, Object> getter = (Function<Object, Object>) callSite.getTarget().invokeExact();
+            return new LambdaGetInvoker(getter, method.getReturnType());
+        } catch (Throwable e) {
+            return new MethodInvoker(method);
+        }
+    }
+
+    public static Invoker forSetMethod(Method method) {
+        if (Modifier.isStatic(method.getModifiers())) {
+            return new MethodInvoker(method);
+        }
+        final Class<?> type = method.getParameterTypes()[0];
+        try {
+            final MethodHandles.Lookup lookup = privateLookup(method.getDeclaringClass());
+            final MethodHandle handle = lookup.unreflect(method);
+            final CallSite callSite = LambdaMetafactory.metafactory(
+                lookup,
+                "accept",
+                SETTER_TYPE,
+                SETTER_ERASED_TYPE,
+                handle,
+                MethodType.methodType(void.class, method.getDeclaringClass(), wrap(type))
+            );
+            @SuppressWarnings("unchecked")
+            final BiConsumer<Object, Object> setter = (BiConsumer<Object, Object>) callSite.getTarget().invokeExact();
+            return new LambdaSetInvoker(setter, type, new MethodInvoker(method));
+        } catch (Throwable e) {
+            return new MethodInvoker(method);
+        }
+    }
+
+    public static Invoker forGetField(Field field) {
+        try {
+            final MethodHandle handle = privateLookup(field.getDeclaringClass()).unreflectGetter(field);
+            final Function<Object, Object> getter;
+            if (Modifier.isStatic(field.getModifiers())) {
+                final MethodHandle staticHandle = handle.asType(MethodType.methodType(Object.class));
+                getter = target -> {
+                    try {
+                        return (Object) staticHandle.invokeExact();
+                    } catch (Throwable e) {
+                        throw rethrow(e);
+                    }
+                };
+            } else {
+                final MethodHandle instanceHandle = handle.asType(GETTER_ERASED_TYPE);
+                getter = target -> {
+                    try {
+                        return (Object) instanceHandle.invokeExact(target);
+                    } catch (Throwable e) {
+                        throw rethrow(e);
+                    }
+                };
+            }
+            return new LambdaGetInvoker(getter, field.getType());
+        } catch (Throwable e) {
+            return new GetFieldInvoker(field);
+        }
+    }
+
+    public static Invoker forSetField(Field field) {
+        // final字段的MethodHandle不可写，使用反射设置
+        if (Modifier.isFinal(field.getModifiers())) {
+            return new SetFieldInvoker(field);
+        }
+        try {
+            final MethodHandle handle = privateLookup(field.getDeclaringClass()).unreflectSetter(field);
+            final BiConsumer<Object, Object> setter;
+            if (Modifier.isStatic(field.getModifiers())) {
+                final MethodHandle staticHandle = handle.asType(MethodType.methodType(void.class, Object.class));
+                setter = (target, value) -> {
+                    try {
+                        staticHandle.invokeExact(value);
+                    } catch (Throwable e) {
+                        throw rethrow(e);
+                    }
+                };
+            } else {
+                final MethodHandle instanceHandle = handle.asType(SETTER_ERASED_TYPE);
+                setter = (target, value) -> {
+                    try {
+                        instanceHandle.invokeExact(target, value);
+                    } catch (Throwable e) {
+                        throw rethrow(e);
+                    }
+                };
+            }
+            return new LambdaSetInvoker(setter, field.getType(), new SetFieldInvoker(field));
+        } catch (Throwable e) {
+            return new SetFieldInvoker(field);
+        }
+    }
+
+    private static MethodHandles.Lookup privateLookup(Class<?> clazz) throws IllegalAccessException {
+        return MethodHandles.privateLookupIn(clazz, LOOKUP);
+    }
+
+    private static Class<?> wrap(Class<?> type) {
+        return MethodType.methodType(type).wrap().returnType();
+    }
+
+    private static RuntimeException rethrow(Throwable e) {
+        if (e instanceof RuntimeException) {
+            return (RuntimeException) e;
+        }
+        if (e instanceof Error) {
+            throw (Error) e;
+        }
+        return new RuntimeException(e);
+    }
+}
@@ -0,0 +1,44 @@
+package org.clever.data.dynamic.sql.reflection.invoker;
+
+import java.lang.invoke.MethodType;
+import java.lang.reflect.InvocationTargetException;
+import java.util.function.BiConsumer;
+
+/**
+ * 通过 LambdaMetafactory/MethodHandle 生成的 setter 调用器(不使用反射调用)<br/>
+ * 参数值与属性类型不匹配时(如: 基本类型属性设置 null、需要基本类型宽化转换)使用反射调用，与反射调用的异常和类型转换保持一致
+ */
+public class LambdaSetInvoker implements Invoker {
+    private final BiConsumer<Object, Object> setter;
+    private final Class<?> type;
+    /**
+     * 属性类型的包装类型
+     */
+    private final Class<?> wrapType;
+    /**
+     * 反射调用器
+     */
+    private final Invoker fallback;
+
+    public LambdaSetInvoker(BiConsumer<Object, Object> setter, Class<?> type, Invoker fallback) {
+        this.setter = setter;
+        this.type = type;
+        this.wrapType = MethodType.methodType(type).wrap().returnType();
+        this.fallback = fallback;
+    }
+
+    @Override
+    public Object invoke(Object target, Object[] args) throws IllegalAccessException, InvocationTargetException {
+        final Object value = args[0];
+        if (value == null ? type.isPrimitive() : !wrapType.isInstance(value)) {
+            return fallback.invoke(target, args);
+        }
+        setter.accept(target, value);
+        return null;
+    }
+
+    @Override
+    public Class<?> getType() {
+        return type;
+    }
+}
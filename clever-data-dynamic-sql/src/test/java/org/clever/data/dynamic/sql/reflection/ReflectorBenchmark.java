@@ -0,0 +1,89 @@
+package org.clever.data.dynamic.sql.reflection;
+
+import org.clever.data.dynamic.sql.reflection.invoker.GetFieldInvoker;
+import org.clever.data.dynamic.sql.reflection.invoker.Invoker;
+import org.clever.data.dynamic.sql.reflection.invoker.LambdaInvokerFactory;
+import org.clever.data.dynamic.sql.reflection.invoker.MethodInvoker;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 属性访问性能测试(反射调用与 LambdaMetafactory/MethodHandle 对比)，运行 main 函数执行
+ * <p>
+ * 作者：lizw <br/>
+ * 创建时间：2026/10/19 07:40 <br/>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ReflectorBenchmark {
+    private ReflectorTest.BeanA bean;
+    private Map<String, Object> map;
+    private Invoker reflectMethod;
+    private Invoker lambdaMethod;
+    private Invoker reflectField;
+    private Invoker handleField;
+
+    @Setup
+    public void setup() throws Exception {
+        bean = new ReflectorTest.BeanA();
+        bean.setName("abc");
+        ReflectorTest.BeanB beanB = new ReflectorTest.BeanB();
+        beanB.getExt().put("c", "value");
+        bean.getList().add(beanB);
+        map = Collections.singletonMap("a", bean);
+        reflectMethod = new MethodInvoker(ReflectorTest.BeanA.class.getMethod("getName"));
+        lambdaMethod = LambdaInvokerFactory.forGetMethod(ReflectorTest.BeanA.class.getMethod("getName"));
+        reflectField = new GetFieldInvoker(ReflectorTest.BeanA.class.getDeclaredField("name"));
+        handleField = LambdaInvokerFactory.forGetField(ReflectorTest.BeanA.class.getDeclaredField("name"));
+    }
+
+    @Benchmark
+    public Object reflectMethod() throws Exception {
+        return reflectMethod.invoke(bean, null);
+    }
+
+    @Benchmark
+    public Object lambdaMethod() throws Exception {
+        return lambdaMethod.invoke(bean, null);
+    }
+
+    @Benchmark
+    public Object reflectField() throws Exception {
+        return reflectField.invoke(bean, null);
+    }
+
+    @Benchmark
+    public Object handleField() throws Exception {
+        return handleField.invoke(bean, null);
+    }
+
+    @Benchmark
+    public Object metaObjectProperty() {
+        return MetaObject.newMetaObject(bean).getValue("name");
+    }
+
+    @Benchmark
+    public Object metaObjectMap() {
+        return MetaObject.newMetaObject(map).getValue("a");
+    }
+
+    @Benchmark
+    public Object metaObjectNested() {
+        return MetaObject.newMetaObject(map).getValue("a.list[0].ext.c");
+    }
+
+    public static void main(String[] args) throws Exception {
+        Options options = new OptionsBuilder().include(ReflectorBenchmark.class.getSimpleName()).build();
+        new Runner(options).run();
+    }
+}
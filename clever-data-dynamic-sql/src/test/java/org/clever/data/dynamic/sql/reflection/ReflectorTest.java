@@ -0,0 +1,94 @@
+package org.clever.data.dynamic.sql.reflection;
+
+import lombok.Data;
+import lombok.extern.slf4j.Slf4j;
+import org.clever.data.dynamic.sql.reflection.invoker.*;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.util.*;
+
+/**
+ * 作者：lizw <br/>
+ * 创建时间：2026/10/19 04:17 <br/>
+ */
+@Slf4j
+public class ReflectorTest {
+    @Data
+    public static class BeanA {
+        private String name;
+        private int age;
+        private List<BeanB> list = new ArrayList<>();
+    }
+
+    @Data
+    public static class BeanB {
+        private Long id;
+        private Map<String, Object> ext = new HashMap<>();
+    }
+
+    public static class BeanC {
+        private String field;
+    }
+
+    @Test
+    public void t01() {
+        Reflector reflector = new Reflector(BeanA.class);
+        assert reflector.getGetInvoker("name") instanceof LambdaGetInvoker;
+        assert reflector.getSetInvoker("age") instanceof LambdaSetInvoker;
+        MetaObject metaObject = MetaObject.newMetaObject(new BeanA());
+        metaObject.setValue("name", "abc");
+        metaObject.setValue("age", 18);
+        assert Objects.equals(metaObject.getValue("name"), "abc");
+        assert Objects.equals(metaObject.getValue("age"), 18);
+        // 字段访问
+        BeanC beanC = new BeanC();
+        MetaObject metaC = MetaObject.newMetaObject(beanC);
+        metaC.setValue("field", "f");
+        assert Objects.equals(beanC.field, "f");
+        assert Objects.equals(metaC.getValue("field"), "f");
+        // 嵌套属性
+        BeanA beanA = new BeanA();
+        BeanB beanB = new BeanB();
+        beanB.setId(1L);
+        beanB.getExt().put("c", "value");
+        beanA.getList().add(beanB);
+        MetaObject meta = MetaObject.newMetaObject(Collections.singletonMap("a", beanA));
+        assert Objects.equals(meta.getValue("a.list[0].id"), 1L);
+        assert Objects.equals(meta.getValue("a.list[0].ext.c"), "value");
+    }
+
+    /**
+     * setter 参数与属性类型不匹配时与反射调用一致
+     */
+    @Test
+    public void t02() throws Exception {
+        final Method setAge = BeanA.class.getMethod("setAge", int.class);
+        final Field age = BeanA.class.getDeclaredField("age");
+        final Invoker[] lambdaInvokers = {LambdaInvokerFactory.forSetMethod(setAge), LambdaInvokerFactory.forSetField(age)};
+        final Invoker[] reflectInvokers = {new MethodInvoker(setAge), new SetFieldInvoker(age)};
+        for (int i = 0; i < lambdaInvokers.length; i++) {
+            assert lambdaInvokers[i] instanceof LambdaSetInvoker;
+            final BeanA bean = new BeanA();
+            // 基本类型属性设置 null
+            final Class<? extends Exception> expected = invokeError(reflectInvokers[i], bean, null);
+            assert expected == IllegalArgumentException.class;
+            assert invokeError(lambdaInvokers[i], bean, null) == expected;
+            // 类型不匹配
+            assert invokeError(lambdaInvokers[i], bean, "18") == invokeError(reflectInvokers[i], bean, "18");
+            // 基本类型宽化转换
+            lambdaInvokers[i].invoke(bean, new Object[]{(short) 18});
+            assert bean.getAge() == 18;
+        }
+    }
+
+    private static Class<? extends Exception> invokeError(Invoker invoker, Object target, Object value) {
+        try {
+            invoker.invoke(target, new Object[]{value});
+            return null;
+        } catch (Exception e) {
+            return e.getClass();
+        }
+    }
+}
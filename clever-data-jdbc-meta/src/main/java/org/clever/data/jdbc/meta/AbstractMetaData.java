@@ -1,12 +1,17 @@
 package org.clever.data.jdbc.meta;
 
+import lombok.Getter;
+import lombok.Setter;
 import net.sf.jsqlparser.statement.Statement;
 import net.sf.jsqlparser.statement.select.PlainSelect;
 import net.sf.jsqlparser.statement.select.Select;
 import net.sf.jsqlparser.statement.select.SetOperationList;
 import org.apache.commons.lang3.StringUtils;
+import org.apache.commons.lang3.concurrent.BasicThreadFactory;
 import org.clever.core.Assert;
+import org.clever.core.Conv;
 import org.clever.core.RenameStrategy;
+import org.clever.core.exception.ExceptionUtils;
 import org.clever.core.tuples.TupleTwo;
 import org.clever.data.dynamic.sql.dialect.DbType;
 import org.clever.data.jdbc.Jdbc;
@@ -20,6 +25,10 @@ import org.slf4j.LoggerFactory;
 import org.springframework.beans.BeanUtils;
 
 import java.util.*;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.stream.Collectors;
 
 /**
@@ -47,6 +56,18 @@ public abstract class AbstractMetaData implements DataBaseMetaData {
      * 忽略表后缀(忽略大小写过滤)
      */
     private final Set<String> ignoreTablesSuffix = new HashSet<>();
+    /**
+     * Schema 元数据快照缓存(为null时不使用缓存)
+     */
+    @Getter
+    @Setter
+    private SchemaSnapshotCache snapshotCache;
+    /**
+     * 并行读取多个 Schema 元数据的线程数(小于等于1时不并行)
+     */
+    @Getter
+    @Setter
+    private int parallelism = 1;
 
     protected AbstractMetaData(Jdbc jdbc) {
         this.jdbc = jdbc;
@@ -143,7 +164,107 @@ public abstract class AbstractMetaData implements DataBaseMetaData {
         // 过滤 ignoreTablesPrefix ignoreTablesSuffix
         final Set<String> ignoreTablesPrefix = getIgnoreTablesPrefix();
         final Set<String> ignoreTablesSuffix = getIgnoreTablesSuffix();
-        return doGetSchemas(schemasName, tablesName, ignoreSchemas, ignoreTables, ignoreTablesPrefix, ignoreTablesSuffix);
+        if (snapshotCache == null && parallelism <= 1) {
+            return doGetSchemas(schemasName, tablesName, ignoreSchemas, ignoreTables, ignoreTablesPrefix, ignoreTablesSuffix);
+        }
+        // 读取每个 Schema 的数据字典版本号 Map<schemaName, version>
+        final Map<String, String> versions = getCatalogVersions(schemasName, ignoreSchemas);
+        if (versions == null) {
+            return doGetSchemas(schemasName, tablesName, ignoreSchemas, ignoreTables, ignoreTablesPrefix, ignoreTablesSuffix);
+        }
+        final String filterKey = StringUtils.joinWith(
+            "|", new TreeSet<>(tablesName), new TreeSet<>(ignoreTables), new TreeSet<>(ignoreTablesPrefix), new TreeSet<>(ignoreTablesSuffix)
+        );
+        final List<Schema> result = new ArrayList<>(versions.size());
+        // 快照不存在或者版本号已经变化的 Schema
+        final List<String> staleSchemas = new ArrayList<>();
+        for (Map.Entry<String, String> entry : versions.entrySet()) {
+            Schema schema = snapshotCache == null ? null : snapshotCache.get(getSnapshotKey(entry.getKey(), filterKey), entry.getValue());
+            if (schema == null) {
+                staleSchemas.add(entry.getKey());
+            } else {
+                result.add(schema);
+            }
+        }
+        if (!staleSchemas.isEmpty()) {
+            List<Schema> schemas = loadSchemas(staleSchemas, tablesName, ignoreTables, ignoreTablesPrefix, ignoreTablesSuffix);
+            for (Schema schema : schemas) {
+                if (snapshotCache != null && versions.containsKey(schema.getName())) {
+                    snapshotCache.put(getSnapshotKey(schema.getName(), filterKey), versions.get(schema.getName()), schema);
+                }
+                result.add(schema);
+            }
+        }
+        result.sort(Comparator.comparing(Schema::getName));
+        return result;
+    }
+
+    /**
+     * 读取 Schema 元数据，parallelism 大于1时把 Schema 分组后并行读取
+     */
+    private List<Schema> loadSchemas(List<String> schemasName, Collection<String> tablesName, Set<String> ignoreTables, Set<String> ignoreTablesPrefix, Set<String> ignoreTablesSuffix) {
+        final Set<String> ignoreSchemas = Collections.emptySet();
+        final int groupCount = Math.min(parallelism, schemasName.size());
+        if (groupCount <= 1) {
+            return doGetSchemas(schemasName, tablesName, ignoreSchemas, ignoreTables, ignoreTablesPrefix, ignoreTablesSuffix);
+        }
+        final List<List<String>> groups = new ArrayList<>(groupCount);
+        for (int i = 0; i < groupCount; i++) {
+            groups.add(new ArrayList<>());
+        }
+        for (int i = 0; i < schemasName.size(); i++) {
+            groups.get(i % groupCount).add(schemasName.get(i));
+        }
+        final ExecutorService executor = Executors.newFixedThreadPool(
+            groupCount,
+            new BasicThreadFactory.Builder().namingPattern("meta-data-%d").daemon(true).build()
+        );
+        try {
+            final List<Future<List<Schema>>> futures = new ArrayList<>(groupCount);
+            for (List<String> group : groups) {
+                futures.add(executor.submit(() -> doGetSchemas(group, tablesName, ignoreSchemas, ignoreTables, ignoreTablesPrefix, ignoreTablesSuffix)));
+            }
+            final List<Schema> schemas = new ArrayList<>(schemasName.size());
+            for (Future<List<Schema>> future : futures) {
+                try {
+                    schemas.addAll(future.get());
+                } catch (ExecutionException e) {
+                    throw ExceptionUtils.unchecked(e.getCause());
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw ExceptionUtils.unchecked(e);
+                }
+            }
+            return schemas;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private String getSnapshotKey(String schemaName, String filterKey) {
+        return StringUtils.joinWith("@", jdbc.getDataSourceName(), jdbc.getDbType().getDb()) + "/" + schemaName + "/" + filterKey;
+    }
+
+    /**
+     * 查询每个 Schema 的数据字典版本号(表、字段、索引、存储过程等对象变化时版本号也要变化)，用于判断 Schema 快照是否失效 <br/>
+     * 返回 {@code Map<schemaName(小写), version>}，返回 null 表示不支持，此时不使用快照缓存也不并行读取
+     *
+     * @param schemasName   指定的 Schema 集合(小写)，为空表示所有的 Schema
+     * @param ignoreSchemas 忽略的 Schema 集合(小写)
+     */
+    protected Map<String, String> getCatalogVersions(Collection<String> schemasName, Set<String> ignoreSchemas) {
+        return null;
+    }
+
+    /**
+     * 把查询结果(schemaName, version)转换成 {@code Map<schemaName(小写), version>}
+     */
+    protected Map<String, String> toCatalogVersions(List<Map<String, Object>> rows) {
+        final Map<String, String> versions = new LinkedHashMap<>(rows.size());
+        for (Map<String, Object> row : rows) {
+            versions.put(StringUtils.lowerCase(Conv.asString(row.get("schemaName"))), Conv.asString(row.get("version")));
+        }
+        return versions;
     }
 
     protected abstract List<Schema> doGetSchemas(Collection<String> schemasName, Collection<String> tablesName, Set<String> ignoreSchemas, Set<String> ignoreTables, Set<String> ignoreTablesPrefix, Set<String> ignoreTablesSuffix);
@@ -529,6 +650,31 @@ public abstract class AbstractMetaData implements DataBaseMetaData {
         return sql.toString();
     }
 
+    /**
+     * 不支持 hash 函数的数据库只比较数据量
+     */
+    @Override
+    public String checksumSql(String tableName, Collection<Column> columns, String where) {
+        Assert.isNotBlank(tableName, "参数 tableName 不能为空");
+        return String.format("select count(1) as row_count, 0 as checksum from %s%s", tableName, toWhere(where));
+    }
+
+    /**
+     * 参与计算校验和的字段名(按字段名排序，两边表字段顺序不同时也能得到相同的校验和)
+     */
+    protected List<String> checksumColumns(Collection<Column> columns) {
+        Assert.notEmpty(columns, "参数 columns 不能为空");
+        return columns.stream()
+            .map(Column::getName)
+            .sorted(Comparator.comparing(String::toLowerCase))
+            .map(this::toLiteral)
+            .collect(Collectors.toList());
+    }
+
+    protected String toWhere(String where) {
+        return StringUtils.isBlank(where) ? StringUtils.EMPTY : " where " + where;
+    }
+
     @Override
     public QueryMetaData queryMetaData(String sql, Map<String, Object> paramMap, RenameStrategy resultRename) {
         // TODO 需要与低代码配合
@@ -176,4 +176,14 @@ public interface DataBaseMetaData {
      * @param resultRename 返回数据字段名重命名策略
      */
     QueryMetaData queryMetaData(String sql, Map<String, Object> paramMap, RenameStrategy resultRename);
+
+    /**
+     * 计算表数据校验和的 sql，返回两个字段: 数据量(row_count)、校验和(checksum)。<br/>
+     * 校验和使用数据库的 hash 函数由所有字段(按字段名排序)计算，只有相同类型的数据库之间才能比较校验和
+     *
+     * @param tableName 表名称
+     * @param columns   参与计算校验和的字段
+     * @param where     where 条件，参数格式[:param]，可以为空
+     */
+    String checksumSql(String tableName, Collection<Column> columns, String where);
 }
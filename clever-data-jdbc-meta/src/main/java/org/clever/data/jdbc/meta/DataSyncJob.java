@@ -1,8 +1,10 @@
 package org.clever.data.jdbc.meta;
 
 import lombok.Getter;
+import lombok.SneakyThrows;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang3.StringUtils;
+import org.apache.commons.lang3.concurrent.BasicThreadFactory;
 import org.clever.core.AppShutdownHook;
 import org.clever.core.Assert;
 import org.clever.core.OrderIncrement;
@@ -11,6 +13,7 @@ import org.clever.core.exception.BusinessException;
 import org.clever.core.exception.ExceptionUtils;
 import org.clever.core.function.ZeroConsumer;
 import org.clever.core.job.DaemonExecutor;
+import org.clever.core.mapper.JacksonMapper;
 import org.clever.core.thread.SharedThreadPoolExecutor;
 import org.clever.core.tuples.TupleTwo;
 import org.clever.data.jdbc.Jdbc;
@@ -18,9 +21,20 @@ import org.clever.data.jdbc.meta.model.*;
 import org.clever.data.jdbc.meta.utils.MetaDataUtils;
 import org.springframework.transaction.support.TransactionCallback;
 
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.sql.Blob;
+import java.sql.Clob;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
 import java.util.*;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.stream.Collectors;
+import java.util.zip.CRC32;
 
 /**
  * 数据同步任务
@@ -31,6 +45,7 @@ import java.util.stream.Collectors;
 public class DataSyncJob {
     private static final ConcurrentHashMap<String, TablesSyncState> TABLE_SYNC_MAP = new ConcurrentHashMap<>();
     private static final ConcurrentHashMap<String, QuerySyncState> QUERY_SYNC_MAP = new ConcurrentHashMap<>();
+    private static final ConcurrentHashMap<String, TableDiffState> TABLE_DIFF_MAP = new ConcurrentHashMap<>();
 
     static {
         DaemonExecutor daemonExecutor = new DaemonExecutor("data-sync-clear");
@@ -39,6 +54,7 @@ public class DataSyncJob {
             daemonExecutor.shutdown();
             TABLE_SYNC_MAP.keySet().forEach(DataSyncJob::interruptTableSync);
             QUERY_SYNC_MAP.keySet().forEach(DataSyncJob::interruptQuerySync);
+            TABLE_DIFF_MAP.keySet().forEach(DataSyncJob::interruptTableDiff);
         }, OrderIncrement.MIN, "停止DataSyncJob");
     }
 
@@ -65,6 +81,14 @@ public class DataSyncJob {
         });
         removeIds.forEach(QUERY_SYNC_MAP::remove);
         removeIds.clear();
+        TABLE_DIFF_MAP.forEach((id, state) -> {
+            Long startTime = state.getStartTime();
+            if (startTime != null && (now - startTime) > ttl) {
+                removeIds.add(id);
+            }
+        });
+        removeIds.forEach(TABLE_DIFF_MAP::remove);
+        removeIds.clear();
     }
 
     /**
@@ -109,6 +133,65 @@ public class DataSyncJob {
         }
     }
 
+    /**
+     * 获取数据比对状态信息
+     *
+     * @param jobId 比对任务ID
+     */
+    public static TableDiffState getTableDiffState(String jobId) {
+        return TABLE_DIFF_MAP.get(jobId);
+    }
+
+    /**
+     * 中断数据比对任务
+     *
+     * @param jobId 比对任务ID
+     */
+    public static void interruptTableDiff(String jobId) {
+        TableDiffState tableDiffState = getTableDiffState(jobId);
+        if (tableDiffState != null) {
+            tableDiffState.setInterrupt(true);
+        }
+    }
+
+    /**
+     * 创建数据同步任务(数据库表-->表的同步)
+     *
+     * @param source          源数据库
+     * @param target          目标数据库
+     * @param tablesSyncState 同步配置(需要同步的表、并发数、分区数等)
+     * @param checkpointStore 检查点存储(为null表示不保存检查点，需要同时设置 {@link TablesSyncState#getCheckpointName()})
+     */
+    public static TablesSyncState tableSync(Jdbc source, Jdbc target, TablesSyncState tablesSyncState, SyncCheckpointStore checkpointStore) {
+        Assert.notNull(source, "参数 source 不能为null");
+        Assert.notNull(target, "参数 target 不能为null");
+        Assert.notNull(tablesSyncState, "参数 tablesSyncState 不能为null");
+        Assert.notEmpty(tablesSyncState.getTableSyncInfos(), "参数 tableSyncInfos 不能为空");
+        Assert.isTrue(tablesSyncState.getTableParallelism() >= 1, "参数 tableParallelism 必须大于等于1");
+        Assert.isTrue(tablesSyncState.getPartitionCount() >= 1, "参数 partitionCount 必须大于等于1");
+        Assert.isTrue(tablesSyncState.getBatchSize() >= 1, "参数 batchSize 必须大于等于1");
+        Assert.isTrue(tablesSyncState.getQueueCapacity() >= 1, "参数 queueCapacity 必须大于等于1");
+        if (tablesSyncState.getTableSyncInfos().stream().anyMatch(table -> StringUtils.isNotBlank(table.getWatermarkColumn()))) {
+            Assert.notNull(checkpointStore, "增量同步时参数 checkpointStore 不能为null");
+            Assert.isNotBlank(tablesSyncState.getCheckpointName(), "增量同步时参数 checkpointName 不能为空");
+        }
+        TableSyncJob tableSyncJob = new TableSyncJob(source, target, tablesSyncState, checkpointStore);
+        SharedThreadPoolExecutor.getSmall().execute(tableSyncJob);
+        TABLE_SYNC_MAP.put(tablesSyncState.getJobId(), tablesSyncState);
+        return tablesSyncState;
+    }
+
+    /**
+     * 创建数据同步任务(数据库表-->表的同步)
+     *
+     * @param source          源数据库
+     * @param target          目标数据库
+     * @param tablesSyncState 同步配置(需要同步的表、并发数、分区数等)
+     */
+    public static TablesSyncState tableSync(Jdbc source, Jdbc target, TablesSyncState tablesSyncState) {
+        return tableSync(source, target, tablesSyncState, null);
+    }
+
     /**
      * 创建数据同步任务(数据库表-->表的同步)
      *
@@ -119,8 +202,6 @@ public class DataSyncJob {
      * @param tableNames 需要同步的表
      */
     public static TablesSyncState tableSync(Jdbc source, Jdbc target, boolean clearData, boolean skipError, String... tableNames) {
-        Assert.notNull(source, "参数 source 不能为null");
-        Assert.notNull(target, "参数 target 不能为null");
         Assert.notEmpty(tableNames, "参数 tableNames 不能为空");
         TablesSyncState tablesSyncState = new TablesSyncState();
         tablesSyncState.setClearData(clearData);
@@ -134,10 +215,7 @@ public class DataSyncJob {
             tablesSyncState.getTableSyncInfos().add(tableState);
         }
         Assert.notEmpty(tablesSyncState.getTableSyncInfos(), "参数 tableNames 不能为空");
-        TableSyncJob tableSyncJob = new TableSyncJob(source, target, tablesSyncState);
-        SharedThreadPoolExecutor.getSmall().execute(tableSyncJob);
-        TABLE_SYNC_MAP.put(tablesSyncState.getJobId(), tablesSyncState);
-        return tablesSyncState;
+        return tableSync(source, target, tablesSyncState);
     }
 
     /**
@@ -150,7 +228,7 @@ public class DataSyncJob {
      * @param tableNames 需要同步的表
      */
     public static TablesSyncState tableSync(Jdbc source, Jdbc target, boolean clearData, boolean skipError, Collection<String> tableNames) {
-        return tableSync(source, target, skipError, skipError, tableNames.toArray(new String[0]));
+        return tableSync(source, target, clearData, skipError, tableNames.toArray(new String[0]));
     }
 
     /**
@@ -163,20 +241,60 @@ public class DataSyncJob {
      * @param targetTableName 目标表
      */
     public static QuerySyncState querySync(Jdbc source, Jdbc target, boolean skipError, String querySql, String targetTableName) {
-        Assert.notNull(source, "参数 source 不能为null");
-        Assert.notNull(target, "参数 target 不能为null");
-        Assert.isNotBlank(querySql, "参数 querySql 不能为空");
-        Assert.isNotBlank(targetTableName, "参数 targetTableName 不能为空");
         QuerySyncState querySyncState = new QuerySyncState();
         querySyncState.setSkipError(skipError);
         querySyncState.setQuerySql(querySql);
         querySyncState.setTargetTableName(targetTableName);
-        QuerySyncJob querySyncJob = new QuerySyncJob(source, target, querySyncState);
+        return querySync(source, target, querySyncState, null);
+    }
+
+    /**
+     * 创建数据同步任务(数据库sql查询-->表的同步)。<br/>
+     * 使用检查点时需要设置 {@link QuerySyncState#getKeyColumn()}(唯一的非空数值字段)，
+     * 查询结果按照 keyColumn 排序读取，重新同步时从上次记录的 keyColumn 之后继续同步
+     *
+     * @param source          源数据库
+     * @param target          目标数据库
+     * @param querySyncState  同步配置(查询sql、目标表等)
+     * @param checkpointStore 检查点存储(为null表示不保存检查点，需要同时设置 {@link QuerySyncState#getCheckpointName()})
+     */
+    public static QuerySyncState querySync(Jdbc source, Jdbc target, QuerySyncState querySyncState, SyncCheckpointStore checkpointStore) {
+        Assert.notNull(source, "参数 source 不能为null");
+        Assert.notNull(target, "参数 target 不能为null");
+        Assert.notNull(querySyncState, "参数 querySyncState 不能为null");
+        Assert.isNotBlank(querySyncState.getQuerySql(), "参数 querySql 不能为空");
+        Assert.isNotBlank(querySyncState.getTargetTableName(), "参数 targetTableName 不能为空");
+        if (checkpointStore != null && StringUtils.isNotBlank(querySyncState.getCheckpointName())) {
+            // 没有固定的排序字段时查询结果的顺序不稳定，无法断点续传
+            Assert.isNotBlank(querySyncState.getKeyColumn(), "使用检查点时参数 keyColumn 不能为空");
+        }
+        QuerySyncJob querySyncJob = new QuerySyncJob(source, target, querySyncState, checkpointStore);
         SharedThreadPoolExecutor.getSmall().execute(querySyncJob);
         QUERY_SYNC_MAP.put(querySyncState.getJobId(), querySyncState);
         return querySyncState;
     }
 
+    /**
+     * 创建数据比对任务(按主键范围比对源表和目标表的校验和，可以只重新同步不一致的数据)
+     *
+     * @param source         源数据库
+     * @param target         目标数据库
+     * @param tableDiffState 比对配置(表名称、拆分范围数量、是否重新同步等)
+     */
+    public static TableDiffState tableDiff(Jdbc source, Jdbc target, TableDiffState tableDiffState) {
+        Assert.notNull(source, "参数 source 不能为null");
+        Assert.notNull(target, "参数 target 不能为null");
+        Assert.notNull(tableDiffState, "参数 tableDiffState 不能为null");
+        Assert.isNotBlank(tableDiffState.getTableName(), "参数 tableName 不能为空");
+        Assert.isTrue(tableDiffState.getChunkCount() >= 1, "参数 chunkCount 必须大于等于1");
+        Assert.isTrue(tableDiffState.getFanout() >= 2, "参数 fanout 必须大于等于2");
+        Assert.isTrue(tableDiffState.getMinChunkSize() >= 1, "参数 minChunkSize 必须大于等于1");
+        TableDiffJob tableDiffJob = new TableDiffJob(source, target, tableDiffState);
+        SharedThreadPoolExecutor.getSmall().execute(tableDiffJob);
+        TABLE_DIFF_MAP.put(tableDiffState.getJobId(), tableDiffState);
+        return tableDiffState;
+    }
+
     /**
      * 数据库表结构同步
      *
@@ -364,6 +482,86 @@ public class DataSyncJob {
         return ddl.toString();
     }
 
+    /**
+     * 读取表的元数据，表名称可以包含 schema(如: schema.table)
+     */
+    private static Table getTable(Jdbc jdbc, String tableName) {
+        DataBaseMetaData metaData = MetaDataUtils.createMetaData(jdbc);
+        String schemaName = metaData.currentSchema();
+        int idx = tableName.lastIndexOf('.');
+        if (idx > 0) {
+            schemaName = tableName.substring(0, idx);
+            tableName = tableName.substring(idx + 1);
+        }
+        return metaData.getTable(schemaName, tableName);
+    }
+
+    private static ExecutorService newExecutor(String namingPattern, int poolSize) {
+        return Executors.newFixedThreadPool(
+            Math.max(1, poolSize),
+            new BasicThreadFactory.Builder()
+                .namingPattern(namingPattern)
+                .daemon(true)
+                .build()
+        );
+    }
+
+    private static <T> T loadCheckpoint(SyncCheckpointStore checkpointStore, String name, Class<T> clazz) {
+        String checkpoint = checkpointStore.load(name);
+        if (StringUtils.isBlank(checkpoint)) {
+            return null;
+        }
+        return JacksonMapper.getInstance().fromJson(checkpoint, clazz);
+    }
+
+    private static void saveCheckpoint(SyncCheckpointStore checkpointStore, String name, Object checkpoint) {
+        checkpointStore.save(name, JacksonMapper.getInstance().toJson(checkpoint));
+    }
+
+    private static PartitionCheckpoint newCheckpoint(Object lastKey, long position, long syncCount, boolean completed) {
+        PartitionCheckpoint checkpoint = new PartitionCheckpoint();
+        // 数值使用字符串保存，避免json反序列化成 Double 丢失精度
+        if (lastKey instanceof BigDecimal) {
+            checkpoint.setLastKey(((BigDecimal) lastKey).toPlainString());
+        } else if (lastKey instanceof Number) {
+            checkpoint.setLastKey(String.valueOf(lastKey));
+        } else {
+            checkpoint.setLastKey(lastKey);
+        }
+        checkpoint.setNumericKey(lastKey instanceof Number);
+        checkpoint.setPosition(position);
+        checkpoint.setSyncCount(syncCount);
+        checkpoint.setCompleted(completed);
+        return checkpoint;
+    }
+
+    /**
+     * 读取断点续传的 key 值(只支持非空的数值，其他类型保存到检查点之后无法还原原始的类型和精度)
+     */
+    private static Object getNumericKey(Map<String, Object> row, String column) {
+        Object value = getColumnValue(row, column);
+        if (!(value instanceof Number)) {
+            throw new BusinessException(String.format("断点续传的字段值必须是非空数值 | column=%s | value=%s", column, value));
+        }
+        return value;
+    }
+
+    /**
+     * 读取字段值(忽略字段名称大小写)
+     */
+    private static Object getColumnValue(Map<String, Object> row, String column) {
+        Object value = row.get(column);
+        if (value != null || row.containsKey(column)) {
+            return value;
+        }
+        for (Map.Entry<String, Object> entry : row.entrySet()) {
+            if (column.equalsIgnoreCase(entry.getKey())) {
+                return entry.getValue();
+            }
+        }
+        return null;
+    }
+
     @Getter
     @Slf4j
     public static class QuerySyncJob implements Runnable {
@@ -379,11 +577,20 @@ public class DataSyncJob {
          * 数据同步状态
          */
         private final QuerySyncState querySyncState;
+        /**
+         * 检查点存储(可以为null)
+         */
+        private final SyncCheckpointStore checkpointStore;
 
-        public QuerySyncJob(Jdbc source, Jdbc target, QuerySyncState querySyncState) {
+        public QuerySyncJob(Jdbc source, Jdbc target, QuerySyncState querySyncState, SyncCheckpointStore checkpointStore) {
             this.source = source;
             this.target = target;
             this.querySyncState = querySyncState;
+            this.checkpointStore = checkpointStore;
+        }
+
+        public QuerySyncJob(Jdbc source, Jdbc target, QuerySyncState querySyncState) {
+            this(source, target, querySyncState, null);
         }
 
         @SuppressWarnings("DuplicatedCode")
@@ -409,32 +616,69 @@ public class DataSyncJob {
                 return;
             }
             try {
-                int count = (int) source.queryCount(querySyncState.getQuerySql());
-                querySyncState.setDataCount(count);
+                querySyncState.setDataCount(source.queryCount(querySyncState.getQuerySql()));
             } catch (Exception e) {
                 if (!skipError) {
                     throw ExceptionUtils.unchecked(e);
                 }
                 log.error(e.getMessage(), e);
             }
+            // 读取检查点
+            final String checkpointName = querySyncState.getCheckpointName();
+            final String keyColumn = querySyncState.getKeyColumn();
+            final boolean checkpoint = checkpointStore != null && StringUtils.isNotBlank(checkpointName);
+            if (checkpoint && StringUtils.isBlank(keyColumn)) {
+                throw new BusinessException("使用检查点时参数 keyColumn 不能为空");
+            }
+            final boolean transactional = checkpoint && checkpointStore.isTransactional(target);
+            final PartitionCheckpoint lastCheckpoint = checkpoint ? loadCheckpoint(checkpointStore, checkpointName, PartitionCheckpoint.class) : null;
+            querySyncState.setCurrentIdx(lastCheckpoint == null ? 0L : lastCheckpoint.getPosition());
+            querySyncState.setSyncCount(lastCheckpoint == null ? 0L : lastCheckpoint.getSyncCount());
+            // 使用检查点时按照 keyColumn 排序读取，从上次记录的 keyColumn 之后继续同步
+            final Map<String, Object> paramMap = new HashMap<>(1);
+            String querySql = querySyncState.getQuerySql();
+            if (checkpoint) {
+                querySql = String.format("select * from (%s) t", querySql);
+                if (lastCheckpoint != null && lastCheckpoint.getKeyValue() != null) {
+                    querySql = querySql + String.format(" where %s > :lastKey", keyColumn);
+                    paramMap.put("lastKey", lastCheckpoint.getKeyValue());
+                }
+                querySql = querySql + " order by " + keyColumn;
+            }
+            final String sql = querySql;
             // 开始同步数据
             if (querySyncState.isInterrupt()) {
                 return;
             }
+            final AtomicBoolean finished = new AtomicBoolean(false);
             source.beginReadOnlyTX(sourceStatus -> {
                 // 开始同步数据
                 try {
-                    querySyncState.setCurrentIdx(0);
-                    querySyncState.setSyncCount(0);
-                    source.queryForCursor(querySyncState.getQuerySql(), 1000, batchData -> {
+                    source.queryForCursor(sql, paramMap, 1000, batchData -> {
                         if (querySyncState.isInterrupt()) {
                             throw new BusinessException("中断同步");
                         }
+                        final List<Map<String, Object>> rows = batchData.getRowDataList();
+                        if (rows.isEmpty()) {
+                            return;
+                        }
+                        final long position = querySyncState.getCurrentIdx() + rows.size();
+                        querySyncState.setCurrentIdx(position);
+                        // 数据按 keyColumn 排序，最后一条数据就是当前批次最大的 key
+                        final Object lastKey = checkpoint ? getNumericKey(rows.get(rows.size() - 1), keyColumn) : null;
                         // 单线程
                         try {
-                            int count = target.beginTX((TransactionCallback<Integer>) status -> target.batchInsertTable(querySyncState.getTargetTableName(), batchData.getRowDataList()));
+                            int count = target.beginTX((TransactionCallback<Integer>) status -> {
+                                int inserted = target.batchInsertTable(querySyncState.getTargetTableName(), rows);
+                                if (transactional) {
+                                    saveCheckpoint(checkpointStore, checkpointName, newCheckpoint(lastKey, position, querySyncState.getSyncCount() + inserted, false));
+                                }
+                                return inserted;
+                            });
                             querySyncState.setSyncCount(querySyncState.getSyncCount() + count);
-                            querySyncState.setCurrentIdx(batchData.getRowCount());
+                            if (checkpoint && !transactional) {
+                                saveCheckpoint(checkpointStore, checkpointName, newCheckpoint(lastKey, position, querySyncState.getSyncCount(), false));
+                            }
                         } catch (Exception e) {
                             if (!skipError) {
                                 throw ExceptionUtils.unchecked(e);
@@ -442,6 +686,7 @@ public class DataSyncJob {
                             log.error(e.getMessage(), e);
                         }
                     });
+                    finished.set(true);
                 } catch (Exception e) {
                     if (!skipError) {
                         throw ExceptionUtils.unchecked(e);
@@ -449,12 +694,33 @@ public class DataSyncJob {
                     log.error(e.getMessage(), e);
                 }
             });
+            // 同步完成，删除检查点
+            if (checkpoint && finished.get()) {
+                checkpointStore.remove(checkpointName);
+            }
         }
     }
 
+    /**
+     * 表数据同步任务，支持多张表并发同步。<br/>
+     * 每张表按照数值主键(或者指定的分区字段)的范围拆分成多个分区，
+     * 每个分区由一个读线程(游标读取源数据)和一个写线程(批量写入目标数据)组成，读写线程之间使用有界队列缓冲。
+     * 无法拆分分区的表(没有单字段主键，或者分区字段不是非空的数值字段)退化成单个分区同步。<br/>
+     * 设置了检查点时，分区数据按照主键排序读取，每个批次提交后记录最后一条数据的主键，
+     * 重新同步时从记录的主键之后继续同步。
+     * 没有非空数值主键的表只记录是否同步完成，中断后只能在 clearData=true 时清空目标表重新同步，否则拒绝同步(避免重复写入数据)。<br/>
+     * 设置了 watermarkColumn 的表使用增量同步，只同步 watermarkColumn 大于等于上次水位线的数据，
+     * 按主键先删除再插入目标数据(不会同步源数据库中删除的数据)。
+     * 增量同步的表不保存"同步完成"检查点，表同步完成时提升水位线并删除检查点，其他表同步失败不影响下次增量同步。<br/>
+     * 同步结束(没有中断)时删除所有已完成的表的检查点，跳过错误时只有同步失败的表会在下次同步时断点续传。
+     */
     @Getter
     @Slf4j
     public static class TableSyncJob implements Runnable {
+        /**
+         * 读写线程之间传递的结束标识
+         */
+        private static final List<Map<String, Object>> END = Collections.emptyList();
         /**
          * 源数据库
          */
@@ -467,11 +733,24 @@ public class DataSyncJob {
          * 数据同步状态
          */
         private final TablesSyncState tablesSyncState;
+        /**
+         * 检查点存储(可以为null)
+         */
+        private final SyncCheckpointStore checkpointStore;
+        /**
+         * 同步失败的异常(不跳过错误时，用于停止其它正在同步的分区)
+         */
+        private volatile Throwable failure;
 
-        public TableSyncJob(Jdbc source, Jdbc target, TablesSyncState tablesSyncState) {
+        public TableSyncJob(Jdbc source, Jdbc target, TablesSyncState tablesSyncState, SyncCheckpointStore checkpointStore) {
             this.source = source;
             this.target = target;
             this.tablesSyncState = tablesSyncState;
+            this.checkpointStore = checkpointStore;
+        }
+
+        public TableSyncJob(Jdbc source, Jdbc target, TablesSyncState tablesSyncState) {
+            this(source, target, tablesSyncState, null);
         }
 
         @SuppressWarnings("DuplicatedCode")
@@ -489,17 +768,57 @@ public class DataSyncJob {
             }
         }
 
+        private boolean isStopped() {
+            return tablesSyncState.isInterrupt() || failure != null;
+        }
+
+        private boolean isCheckpoint() {
+            return checkpointStore != null && StringUtils.isNotBlank(tablesSyncState.getCheckpointName());
+        }
+
+        /**
+         * 表数据能否断点续传
+         */
+        private boolean isCheckpoint(TableState table) {
+            return isCheckpoint() && StringUtils.isNotBlank(table.getPartitionColumn());
+        }
+
+        private String getCheckpointName(TableState table) {
+            return tablesSyncState.getCheckpointName() + "." + table.getTableName();
+        }
+
+        private String getCheckpointName(TableState table, PartitionState partition) {
+            return getCheckpointName(table, partition.getIndex());
+        }
+
+        private String getCheckpointName(TableState table, int partitionIndex) {
+            return getCheckpointName(table) + "." + partitionIndex;
+        }
+
+        /**
+         * 删除表和表的所有分区检查点
+         */
+        private void removeCheckpoints(TableState table, TableCheckpoint tableCheckpoint) {
+            for (int i = 0; i < Math.max(1, tableCheckpoint.getConditions().size()); i++) {
+                checkpointStore.remove(getCheckpointName(table, i));
+            }
+            checkpointStore.remove(getCheckpointName(table));
+        }
+
+        private String getWatermarkName(TableState table) {
+            return getCheckpointName(table) + ".watermark";
+        }
+
         private void doSync() {
-            final boolean clearData = tablesSyncState.isClearData();
             final boolean skipError = tablesSyncState.isSkipError();
-            List<TableState> tableSyncInfos = tablesSyncState.getTableSyncInfos();
+            final List<TableState> tableSyncInfos = tablesSyncState.getTableSyncInfos();
             tablesSyncState.setStartTime(SystemClock.now());
             // 查询同步数据量
             for (TableState table : tableSyncInfos) {
                 if (tablesSyncState.isInterrupt()) return;
                 try {
                     String queryCountSql = String.format("select count(1) from %s", table.getTableName());
-                    table.setDataCount(source.queryInt(queryCountSql));
+                    table.setDataCount(source.queryLong(queryCountSql));
                 } catch (Exception e) {
                     if (!skipError) {
                         throw ExceptionUtils.unchecked(e);
@@ -508,54 +827,816 @@ public class DataSyncJob {
                 }
             }
             // 开始同步数据
-            for (TableState table : tableSyncInfos) {
-                if (tablesSyncState.isInterrupt()) return;
-                tablesSyncState.setCurrentSync(table);
-                table.setStartTime(SystemClock.now());
-                source.beginReadOnlyTX(sourceStatus -> {
-                    // 同步之前清空表数据
-                    if (clearData) {
-                        try {
-                            String deleteSql = String.format("delete from %s", table.getTableName());
-                            int count = target.beginTX((TransactionCallback<Integer>) status -> target.update(deleteSql));
-                            table.setDeleteCount(count);
-                        } catch (Exception e) {
-                            if (!skipError) {
-                                throw ExceptionUtils.unchecked(e);
-                            }
-                            log.error(e.getMessage(), e);
+            if (tablesSyncState.isInterrupt()) return;
+            final int tableParallelism = Math.min(tablesSyncState.getTableParallelism(), tableSyncInfos.size());
+            final int partitionParallelism = tableParallelism * tablesSyncState.getPartitionCount();
+            final ExecutorService tableExecutor = newExecutor("data-sync-table-%d", tableParallelism);
+            final ExecutorService readerExecutor = newExecutor("data-sync-reader-%d", partitionParallelism);
+            final ExecutorService writerExecutor = newExecutor("data-sync-writer-%d", partitionParallelism);
+            try {
+                List<Future<?>> futures = new ArrayList<>(tableSyncInfos.size());
+                for (TableState table : tableSyncInfos) {
+                    futures.add(tableExecutor.submit(() -> syncTable(table, readerExecutor, writerExecutor)));
+                }
+                awaitAll(futures);
+                // 本次同步结束(没有中断，跳过错误时允许部分表同步失败)，删除已经同步完成的表的检查点，同步失败的表保留检查点用于断点续传
+                if (isCheckpoint() && !isStopped()) {
+                    for (TableState table : tableSyncInfos) {
+                        TableCheckpoint tableCheckpoint = loadCheckpoint(checkpointStore, getCheckpointName(table), TableCheckpoint.class);
+                        if (tableCheckpoint != null && tableCheckpoint.isCompleted()) {
+                            checkpointStore.remove(getCheckpointName(table));
                         }
                     }
-                    // 开始同步数据
+                }
+            } finally {
+                tableExecutor.shutdownNow();
+                readerExecutor.shutdownNow();
+                writerExecutor.shutdownNow();
+            }
+        }
+
+        private void syncTable(TableState table, ExecutorService readerExecutor, ExecutorService writerExecutor) {
+            if (isStopped()) return;
+            final boolean skipError = tablesSyncState.isSkipError();
+            if (tablesSyncState.getTableParallelism() <= 1) {
+                tablesSyncState.setCurrentSync(table);
+            }
+            table.setStartTime(SystemClock.now());
+            table.setCurrentIdx(0L);
+            table.setSyncCount(0L);
+            try {
+                // 读取检查点
+                TableCheckpoint tableCheckpoint = isCheckpoint() ? loadCheckpoint(checkpointStore, getCheckpointName(table), TableCheckpoint.class) : null;
+                if (tableCheckpoint != null && tableCheckpoint.isCompleted()) {
+                    log.info("表数据已同步完成 | table={}", table.getTableName());
+                    return;
+                }
+                // 增量同步，计算本次同步的数据范围
+                final SyncContext context = new SyncContext();
+                final TableWatermark watermark = StringUtils.isBlank(table.getWatermarkColumn()) ? null : prepareWatermark(table, context);
+                // 检查点不属于本次同步的数据范围(上次同步提升水位线之后、删除检查点之前中断)，不能用于断点续传
+                if (watermark != null && tableCheckpoint != null && !Objects.equals(tableCheckpoint.getWatermark(), watermark.getPending())) {
+                    removeCheckpoints(table, tableCheckpoint);
+                    tableCheckpoint = null;
+                }
+                final boolean resume = tableCheckpoint != null && StringUtils.isNotBlank(tableCheckpoint.getKeyColumn());
+                if (watermark != null && watermark.getPending() == null) {
+                    log.info("表数据为空，跳过增量同步 | table={}", table.getTableName());
+                    return;
+                }
+                // 同步之前清空表数据(断点续传、增量同步时不能清空)
+                final boolean clearData = tablesSyncState.isClearData() && !resume && (watermark == null || watermark.getValue() == null);
+                if (watermark != null && !clearData) {
+                    context.upsertKeys = getPrimaryKeyColumns(table.getTableName());
+                    Assert.notEmpty(context.upsertKeys, "增量同步的表必须有主键 | table=" + table.getTableName());
+                }
+                // 上次同步中断但是不能断点续传(没有非空的数值主键)，目标表中已经有部分数据，直接插入会重复写入数据
+                if (tableCheckpoint != null && !resume && !clearData && context.upsertKeys == null) {
+                    throw new BusinessException(String.format(
+                        "表没有可以断点续传的主键，上次同步中断后不能继续同步(会重复写入数据)，需要设置 clearData=true 重新同步或者删除检查点 | table=%s | checkpoint=%s",
+                        table.getTableName(), getCheckpointName(table)
+                    ));
+                }
+                if (clearData) {
                     try {
-                        table.setCurrentIdx(0);
-                        table.setSyncCount(0);
-                        String querySql = String.format("select * from %s", table.getTableName());
-                        source.queryForCursor(querySql, 1000, batchData -> {
-                            if (tablesSyncState.isInterrupt()) {
-                                throw new BusinessException("中断同步");
-                            }
-                            // 单线程
-                            try {
-                                int count = target.beginTX((TransactionCallback<Integer>) status -> target.batchInsertTable(table.getTableName(), batchData.getRowDataList()));
-                                table.setSyncCount(table.getSyncCount() + count);
-                                table.setCurrentIdx(batchData.getRowCount());
-                            } catch (Exception e) {
-                                if (!skipError) {
-                                    throw ExceptionUtils.unchecked(e);
-                                }
-                                log.error(e.getMessage(), e);
-                            }
-                        });
+                        String deleteSql = String.format("delete from %s", table.getTableName());
+                        int count = target.beginTX((TransactionCallback<Integer>) status -> target.update(deleteSql));
+                        table.setDeleteCount(count);
                     } catch (Exception e) {
                         if (!skipError) {
                             throw ExceptionUtils.unchecked(e);
                         }
                         log.error(e.getMessage(), e);
                     }
-                });
+                }
+                // 拆分分区(断点续传时使用上次的分区)
+                final List<PartitionState> partitions;
+                if (resume) {
+                    table.setPartitionColumn(tableCheckpoint.getKeyColumn());
+                    partitions = new ArrayList<>(tableCheckpoint.getConditions().size());
+                    for (int i = 0; i < tableCheckpoint.getConditions().size(); i++) {
+                        PartitionState partition = new PartitionState();
+                        partition.setIndex(i);
+                        partition.setCondition(tableCheckpoint.getConditions().get(i));
+                        partitions.add(partition);
+                    }
+                } else {
+                    partitions = splitPartitions(table);
+                    if (isCheckpoint()) {
+                        tableCheckpoint = new TableCheckpoint();
+                        tableCheckpoint.setKeyColumn(table.getPartitionColumn());
+                        tableCheckpoint.setWatermark(watermark == null ? null : watermark.getPending());
+                        for (PartitionState partition : partitions) {
+                            tableCheckpoint.getConditions().add(partition.getCondition());
+                            // 删除之前遗留的分区检查点
+                            checkpointStore.remove(getCheckpointName(table, partition.getIndex()));
+                        }
+                        saveCheckpoint(checkpointStore, getCheckpointName(table), tableCheckpoint);
+                    }
+                }
+                table.setPartitions(partitions);
+                // 按分区并发同步数据
+                List<Future<?>> futures = new ArrayList<>(partitions.size());
+                for (PartitionState partition : partitions) {
+                    futures.add(readerExecutor.submit(() -> syncPartition(table, partition, context, writerExecutor)));
+                }
+                awaitAll(futures);
+                // 保存表同步完成的检查点
+                if (tableCheckpoint != null && !isStopped() && partitions.stream().allMatch(partition -> Boolean.TRUE.equals(partition.getSuccess()))) {
+                    if (watermark != null) {
+                        // 增量同步: 提升水位线就是表同步完成的标识(只保存一条数据)，然后删除检查点，下次同步时重新计算数据范围
+                        watermark.setValue(watermark.getPending());
+                        watermark.setPending(null);
+                        watermark.setUpdateAt(SystemClock.now());
+                        saveCheckpoint(checkpointStore, getWatermarkName(table), watermark);
+                        removeCheckpoints(table, tableCheckpoint);
+                    } else {
+                        tableCheckpoint.setCompleted(true);
+                        saveCheckpoint(checkpointStore, getCheckpointName(table), tableCheckpoint);
+                        if (isCheckpoint(table)) {
+                            partitions.forEach(partition -> checkpointStore.remove(getCheckpointName(table, partition)));
+                        }
+                    }
+                }
+            } finally {
                 table.setEndTime(SystemClock.now());
             }
         }
+
+        /**
+         * 读取增量同步的水位线，并确定本次同步的数据范围: {@code value <= watermarkColumn <= pending}
+         */
+        private TableWatermark prepareWatermark(TableState table, SyncContext context) {
+            final String column = table.getWatermarkColumn();
+            TableWatermark watermark = loadCheckpoint(checkpointStore, getWatermarkName(table), TableWatermark.class);
+            if (watermark == null) {
+                watermark = new TableWatermark();
+            }
+            // 上次同步中断时 pending 不为空，使用相同的上限重新同步
+            if (watermark.getPending() == null) {
+                Object max = queryFirstValue(String.format("select max(%s) from %s", column, table.getTableName()));
+                watermark.setPending(watermark.toValue(max));
+                if (watermark.getPending() == null) {
+                    return watermark;
+                }
+                saveCheckpoint(checkpointStore, getWatermarkName(table), watermark);
+            }
+            // 使用 >= 下限，重新同步水位线上的数据(先删后插，重复同步不影响结果)
+            if (watermark.getValue() != null) {
+                context.conditions.add(String.format("%s >= :watermarkFrom", column));
+                context.params.put("watermarkFrom", watermark.toParam(watermark.getValue()));
+            }
+            context.conditions.add(String.format("%s <= :watermarkTo", column));
+            context.params.put("watermarkTo", watermark.toParam(watermark.getPending()));
+            table.setWatermarkRange(String.format("%s ~ %s", watermark.getValue(), watermark.getPending()));
+            try {
+                String countSql = String.format("select count(1) from %s where %s", table.getTableName(), StringUtils.join(context.conditions, " and "));
+                table.setDataCount(source.queryLong(countSql, context.params));
+            } catch (Exception e) {
+                log.warn("查询增量数据量失败 | table={}", table.getTableName(), e);
+            }
+            return watermark;
+        }
+
+        private void syncPartition(TableState table, PartitionState partition, SyncContext context, ExecutorService writerExecutor) {
+            final boolean skipError = tablesSyncState.isSkipError();
+            partition.setStartTime(SystemClock.now());
+            // 读取分区检查点
+            final boolean checkpoint = isCheckpoint(table);
+            final PartitionCheckpoint partitionCheckpoint = checkpoint ? loadCheckpoint(checkpointStore, getCheckpointName(table, partition), PartitionCheckpoint.class) : null;
+            if (partitionCheckpoint != null) {
+                partition.setLastKey(partitionCheckpoint.getKeyValue());
+                partition.setSyncCount(partitionCheckpoint.getSyncCount());
+                partition.setReadCount(partitionCheckpoint.getSyncCount());
+                table.addSyncCount(partitionCheckpoint.getSyncCount());
+                table.addCurrentIdx(partitionCheckpoint.getSyncCount());
+                if (partitionCheckpoint.isCompleted()) {
+                    partition.setEndTime(SystemClock.now());
+                    partition.setSuccess(true);
+                    return;
+                }
+            }
+            final BlockingQueue<List<Map<String, Object>>> queue = new ArrayBlockingQueue<>(tablesSyncState.getQueueCapacity());
+            final Future<?> writer = writerExecutor.submit(() -> writePartition(table, partition, context, queue));
+            Throwable error = null;
+            try {
+                if (isStopped()) {
+                    throw new BusinessException("中断同步");
+                }
+                final String keyColumn = table.getPartitionColumn();
+                final Map<String, Object> paramMap = new HashMap<>(context.params);
+                final List<String> conditions = new ArrayList<>(context.conditions);
+                if (StringUtils.isNotBlank(partition.getCondition())) {
+                    conditions.add(partition.getCondition());
+                }
+                if (checkpoint && partition.getLastKey() != null) {
+                    conditions.add(String.format("%s > :lastKey", keyColumn));
+                    paramMap.put("lastKey", partition.getLastKey());
+                }
+                String querySql = String.format("select * from %s", table.getTableName());
+                if (!conditions.isEmpty()) {
+                    querySql = querySql + " where " + StringUtils.join(conditions, " and ");
+                }
+                if (checkpoint) {
+                    querySql = querySql + " order by " + keyColumn;
+                }
+                final String sql = querySql;
+                source.beginReadOnlyTX(sourceStatus -> {
+                    source.queryForCursor(sql, paramMap, tablesSyncState.getBatchSize(), batchData -> {
+                        if (isStopped()) {
+                            throw new BusinessException("中断同步");
+                        }
+                        List<Map<String, Object>> rows = batchData.getRowDataList();
+                        if (rows == null || rows.isEmpty()) {
+                            return;
+                        }
+                        if (!offer(queue, rows, writer)) {
+                            throw new BusinessException("写入数据失败");
+                        }
+                        partition.setReadCount(partition.getReadCount() + rows.size());
+                        table.addCurrentIdx(rows.size());
+                    });
+                });
+            } catch (Exception e) {
+                error = e;
+            } finally {
+                offer(queue, END, writer);
+            }
+            // 等待写入结束
+            try {
+                writer.get();
+            } catch (ExecutionException e) {
+                // 写线程的异常才是真正的失败原因
+                error = e.getCause();
+            } catch (Exception e) {
+                writer.cancel(true);
+                error = error == null ? e : error;
+            }
+            partition.setEndTime(SystemClock.now());
+            partition.setSuccess(error == null);
+            if (error == null) {
+                if (checkpoint) {
+                    saveCheckpoint(checkpointStore, getCheckpointName(table, partition), newCheckpoint(partition.getLastKey(), partition.getSyncCount(), partition.getSyncCount(), true));
+                }
+                return;
+            }
+            partition.setErrorMsg(ExceptionUtils.getStackTraceAsString(error));
+            if (!skipError) {
+                failure = error;
+                throw ExceptionUtils.unchecked(error);
+            }
+            log.error("分区数据同步失败 | table={} | condition={}", table.getTableName(), partition.getCondition(), error);
+        }
+
+        private Void writePartition(TableState table, PartitionState partition, SyncContext context, BlockingQueue<List<Map<String, Object>>> queue) throws InterruptedException {
+            final boolean skipError = tablesSyncState.isSkipError();
+            final boolean checkpoint = isCheckpoint(table);
+            final boolean transactional = checkpoint && checkpointStore.isTransactional(target);
+            final String checkpointName = checkpoint ? getCheckpointName(table, partition) : null;
+            while (true) {
+                final List<Map<String, Object>> rows = queue.take();
+                if (rows == END) {
+                    return null;
+                }
+                if (isStopped()) {
+                    throw new BusinessException("中断同步");
+                }
+                try {
+                    // 数据按 keyColumn 排序，最后一条数据就是当前批次最大的 key
+                    final Object lastKey = checkpoint ? getNumericKey(rows.get(rows.size() - 1), table.getPartitionColumn()) : null;
+                    int count = target.beginTX((TransactionCallback<Integer>) status -> {
+                        int inserted = context.upsertKeys == null ? target.batchInsertTable(table.getTableName(), rows) : upsert(table.getTableName(), context.upsertKeys, rows);
+                        if (transactional) {
+                            long syncCount = partition.getSyncCount() + inserted;
+                            saveCheckpoint(checkpointStore, checkpointName, newCheckpoint(lastKey, syncCount, syncCount, false));
+                        }
+                        return inserted;
+                    });
+                    partition.setSyncCount(partition.getSyncCount() + count);
+                    partition.setLastKey(lastKey);
+                    table.addSyncCount(count);
+                    if (checkpoint && !transactional) {
+                        saveCheckpoint(checkpointStore, checkpointName, newCheckpoint(lastKey, partition.getSyncCount(), partition.getSyncCount(), false));
+                    }
+                } catch (Exception e) {
+                    if (!skipError) {
+                        throw ExceptionUtils.unchecked(e);
+                    }
+                    log.error(e.getMessage(), e);
+                }
+            }
+        }
+
+        /**
+         * 按主键先删除目标数据再插入(各数据库通用的 upsert)
+         */
+        private int upsert(String tableName, List<String> keys, List<Map<String, Object>> rows) {
+            List<String> where = new ArrayList<>(keys.size());
+            for (int i = 0; i < keys.size(); i++) {
+                where.add(String.format("%s=:k%d", keys.get(i), i));
+            }
+            String deleteSql = String.format("delete from %s where %s", tableName, StringUtils.join(where, " and "));
+            List<Map<String, Object>> params = new ArrayList<>(rows.size());
+            for (Map<String, Object> row : rows) {
+                Map<String, Object> param = new HashMap<>(keys.size());
+                for (int i = 0; i < keys.size(); i++) {
+                    param.put("k" + i, getColumnValue(row, keys.get(i)));
+                }
+                params.add(param);
+            }
+            target.batchUpdate(deleteSql, params);
+            return target.batchInsertTable(tableName, rows);
+        }
+
+        /**
+         * 往队列中放入数据，写线程已经结束时返回 false
+         */
+        private static boolean offer(BlockingQueue<List<Map<String, Object>>> queue, List<Map<String, Object>> rows, Future<?> writer) {
+            try {
+                while (!writer.isDone()) {
+                    if (queue.offer(rows, 100, TimeUnit.MILLISECONDS)) {
+                        return true;
+                    }
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return false;
+        }
+
+        /**
+         * 按照分区字段的取值范围拆分分区
+         */
+        private List<PartitionState> splitPartitions(TableState table) {
+            final List<PartitionState> partitions = new ArrayList<>();
+            final int partitionCount = tablesSyncState.getPartitionCount();
+            // 拆分分区和断点续传都需要使用主键
+            if ((partitionCount > 1 || isCheckpoint()) && StringUtils.isBlank(table.getPartitionColumn())) {
+                try {
+                    table.setPartitionColumn(getPrimaryKeyColumn(table.getTableName()));
+                } catch (Exception e) {
+                    log.warn("读取表主键失败 | table={}", table.getTableName(), e);
+                }
+            }
+            // 值为 null 的数据不满足分区的范围条件，也不能按分区字段断点续传，所以分区字段必须是非空字段
+            if (StringUtils.isNotBlank(table.getPartitionColumn()) && !isNotNullColumn(table.getTableName(), table.getPartitionColumn())) {
+                log.warn("分区字段不是非空字段，不拆分分区 | table={} | column={}", table.getTableName(), table.getPartitionColumn());
+                table.setPartitionColumn(null);
+            }
+            // 检查点只能保存数值类型的 lastKey(日期等类型保存到检查点之后无法还原原始的类型和精度)，所以分区字段必须是数值字段
+            Object min = null;
+            Object max = null;
+            if (StringUtils.isNotBlank(table.getPartitionColumn())) {
+                try {
+                    min = queryFirstValue(String.format("select min(%s) from %s", table.getPartitionColumn(), table.getTableName()));
+                    max = queryFirstValue(String.format("select max(%s) from %s", table.getPartitionColumn(), table.getTableName()));
+                } catch (Exception e) {
+                    log.warn("读取分区字段的取值范围失败，不拆分分区 | table={}", table.getTableName(), e);
+                    table.setPartitionColumn(null);
+                }
+                if ((min != null && !(min instanceof Number)) || (max != null && !(max instanceof Number))) {
+                    log.warn("分区字段不是数值字段，不拆分分区也不支持断点续传 | table={} | column={}", table.getTableName(), table.getPartitionColumn());
+                    table.setPartitionColumn(null);
+                }
+            }
+            final String column = table.getPartitionColumn();
+            if (partitionCount > 1 && StringUtils.isNotBlank(column)) {
+                try {
+                    if (min instanceof Number && max instanceof Number) {
+                        final long minValue = ((Number) min).longValue();
+                        final long maxValue = ((Number) max).longValue();
+                        final long range = Math.subtractExact(maxValue, minValue);
+                        final int count = (int) Math.min(partitionCount, range + 1);
+                        final long step = range / count + 1;
+                        for (int i = 0; i < count; i++) {
+                            // 第一个分区没有下界，最后一个分区没有上界，保证覆盖所有数据
+                            List<String> conditions = new ArrayList<>(2);
+                            if (i > 0) {
+                                conditions.add(String.format("%s >= %d", column, minValue + step * i));
+                            }
+                            if (i < count - 1) {
+                                conditions.add(String.format("%s < %d", column, minValue + step * (i + 1)));
+                            }
+                            PartitionState partition = new PartitionState();
+                            partition.setIndex(i);
+                            partition.setCondition(StringUtils.join(conditions, " and "));
+                            partitions.add(partition);
+                        }
+                    }
+                } catch (Exception e) {
+                    partitions.clear();
+                    log.warn("拆分分区失败，使用单线程同步 | table={}", table.getTableName(), e);
+                }
+            }
+            if (partitions.isEmpty()) {
+                partitions.add(new PartitionState());
+            }
+            return partitions;
+        }
+
+        /**
+         * 获取表的单字段主键，不存在或者是联合主键时返回 null
+         */
+        private String getPrimaryKeyColumn(String tableName) {
+            List<String> columns = getPrimaryKeyColumns(tableName);
+            return columns.size() == 1 ? columns.get(0) : null;
+        }
+
+        /**
+         * 获取表的主键字段，不存在时返回空集合
+         */
+        private List<String> getPrimaryKeyColumns(String tableName) {
+            Table table = getTable(source, tableName);
+            if (table == null || table.getPrimaryKey() == null) {
+                return Collections.emptyList();
+            }
+            return table.getPrimaryKey().getColumns().stream().map(Column::getName).collect(Collectors.toList());
+        }
+
+        /**
+         * 字段是否是非空字段(读取表结构失败时返回 false)
+         */
+        private boolean isNotNullColumn(String tableName, String columnName) {
+            try {
+                Table table = getTable(source, tableName);
+                Column column = table == null ? null : table.getColumn(columnName);
+                return column != null && column.isNotNull();
+            } catch (Exception e) {
+                log.warn("读取表结构失败 | table={}", tableName, e);
+                return false;
+            }
+        }
+
+        private Object queryFirstValue(String sql) {
+            Map<String, Object> row = source.queryFirst(sql);
+            if (row == null || row.isEmpty()) {
+                return null;
+            }
+            return row.values().iterator().next();
+        }
+
+        /**
+         * 等待所有任务结束，不跳过错误时抛出第一个异常
+         */
+        private void awaitAll(List<Future<?>> futures) {
+            Throwable error = null;
+            for (Future<?> future : futures) {
+                try {
+                    future.get();
+                } catch (ExecutionException e) {
+                    error = error == null ? e.getCause() : error;
+                } catch (InterruptedException e) {
+                    tablesSyncState.setInterrupt(true);
+                    Thread.currentThread().interrupt();
+                    error = error == null ? e : error;
+                }
+            }
+            if (error != null && !tablesSyncState.isSkipError()) {
+                failure = error;
+                throw ExceptionUtils.unchecked(error);
+            }
+        }
+
+        /**
+         * 表同步过程中各分区共享的数据
+         */
+        private static class SyncContext {
+            /**
+             * 所有分区通用的查询条件(如: 增量同步的数据范围)
+             */
+            private final List<String> conditions = new ArrayList<>(2);
+            /**
+             * 查询条件的参数
+             */
+            private final Map<String, Object> params = new HashMap<>(2);
+            /**
+             * 写入数据时按这些字段先删除再插入(为null表示直接插入)
+             */
+            private List<String> upsertKeys;
+        }
+    }
+
+    /**
+     * 表数据比对任务。<br/>
+     * 按主键范围在源数据库和目标数据库分别计算数据量和校验和(在数据库内计算，只传输校验和)，
+     * 不一致的范围继续拆分比对，直到范围小于等于 minChunkSize，最后可以只重新同步不一致的范围。<br/>
+     * 源数据库和目标数据库类型不同时，读取范围内的数据在程序中计算每一行的 hash(传输全部数据)。
+     * 只支持整数类型的主键。
+     */
+    @Getter
+    @Slf4j
+    public static class TableDiffJob implements Runnable {
+        /**
+         * 源数据库
+         */
+        private final Jdbc source;
+        /**
+         * 目标数据库
+         */
+        private final Jdbc target;
+        /**
+         * 数据比对状态
+         */
+        private final TableDiffState tableDiffState;
+
+        public TableDiffJob(Jdbc source, Jdbc target, TableDiffState tableDiffState) {
+            this.source = source;
+            this.target = target;
+            this.tableDiffState = tableDiffState;
+        }
+
+        @SuppressWarnings("DuplicatedCode")
+        @Override
+        public void run() {
+            try {
+                doDiff();
+                tableDiffState.setSuccess(true);
+            } catch (Exception e) {
+                tableDiffState.setSuccess(false);
+                tableDiffState.setErrorMsg(ExceptionUtils.getStackTraceAsString(e));
+                log.error("数据比对失败", e);
+            } finally {
+                tableDiffState.setEndTime(SystemClock.now());
+            }
+        }
+
+        private void doDiff() {
+            final String tableName = tableDiffState.getTableName();
+            tableDiffState.setStartTime(SystemClock.now());
+            final Table sourceTable = getTable(source, tableName);
+            final Table targetTable = getTable(target, tableName);
+            Assert.notNull(sourceTable, "源数据库不存在表: " + tableName);
+            Assert.notNull(targetTable, "目标数据库不存在表: " + tableName);
+            if (StringUtils.isBlank(tableDiffState.getKeyColumn())) {
+                PrimaryKey primaryKey = sourceTable.getPrimaryKey();
+                if (primaryKey != null && primaryKey.getColumns().size() == 1) {
+                    tableDiffState.setKeyColumn(primaryKey.getColumns().get(0).getName());
+                }
+            }
+            final String keyColumn = tableDiffState.getKeyColumn();
+            Assert.isNotBlank(keyColumn, "表没有单字段主键，需要设置 keyColumn | table=" + tableName);
+            // 比较方式
+            if (Objects.equals(tableDiffState.getCountOnly(), true)) {
+                tableDiffState.setCompareMode(TableDiffState.COMPARE_COUNT);
+            } else if (StringUtils.isBlank(tableDiffState.getCompareMode())) {
+                // 不同类型的数据库 hash 函数不同，只能读取数据计算 hash
+                boolean sameDbType = Objects.equals(source.getDbType(), target.getDbType());
+                tableDiffState.setCompareMode(sameDbType ? TableDiffState.COMPARE_CHECKSUM : TableDiffState.COMPARE_ROW_HASH);
+            }
+            final String compareMode = tableDiffState.getCompareMode();
+            Assert.isTrue(
+                StringUtils.equalsAny(compareMode, TableDiffState.COMPARE_CHECKSUM, TableDiffState.COMPARE_ROW_HASH, TableDiffState.COMPARE_COUNT),
+                "不支持的比较方式: " + compareMode
+            );
+            tableDiffState.setCountOnly(TableDiffState.COMPARE_COUNT.equals(compareMode));
+            if (tableDiffState.getCountOnly()) {
+                log.warn("只比较数据量，无法发现数据内容不一致 | table={}", tableName);
+            }
+            // 主键范围
+            final String minSql = String.format("select min(%s) from %s", keyColumn, tableName);
+            final String maxSql = String.format("select max(%s) from %s", keyColumn, tableName);
+            final Long minKey = minKey(queryKey(source, minSql, tableName), queryKey(target, minSql, tableName));
+            final Long maxKey = maxKey(queryKey(source, maxSql, tableName), queryKey(target, maxSql, tableName));
+            tableDiffState.setMinKey(minKey);
+            tableDiffState.setMaxKey(maxKey);
+            if (minKey == null || maxKey == null) {
+                return;
+            }
+            // 校验和查询sql
+            final String where = String.format("%s >= :from and %s < :to", keyColumn, keyColumn);
+            final String sourceSql;
+            final String targetSql;
+            switch (compareMode) {
+                case TableDiffState.COMPARE_CHECKSUM:
+                    sourceSql = MetaDataUtils.createMetaData(source).checksumSql(tableName, sourceTable.getColumns(), where);
+                    targetSql = MetaDataUtils.createMetaData(target).checksumSql(tableName, targetTable.getColumns(), where);
+                    break;
+                case TableDiffState.COMPARE_ROW_HASH:
+                    // 只比较两边都有的字段，按字段名排序保证两边的字段顺序一致
+                    final Set<String> targetColumns = targetTable.getColumns().stream()
+                        .map(column -> column.getName().toLowerCase())
+                        .collect(Collectors.toSet());
+                    final String columns = sourceTable.getColumns().stream()
+                        .map(Column::getName)
+                        .filter(name -> targetColumns.contains(name.toLowerCase()))
+                        .sorted(Comparator.comparing(String::toLowerCase))
+                        .collect(Collectors.joining(", "));
+                    sourceSql = String.format("select %s from %s where %s", columns, tableName, where);
+                    targetSql = sourceSql;
+                    break;
+                default:
+                    sourceSql = String.format("select count(1) as row_count from %s where %s", tableName, where);
+                    targetSql = sourceSql;
+            }
+            // 源数据库和目标数据库同时查询校验和
+            final ExecutorService executor = newExecutor("data-diff-%d", 2);
+            try {
+                final Deque<long[]> ranges = new ArrayDeque<>();
+                splitRange(minKey, Math.addExact(maxKey, 1), tableDiffState.getChunkCount(), ranges);
+                while (!ranges.isEmpty()) {
+                    if (tableDiffState.isInterrupt()) {
+                        throw new BusinessException("中断比对");
+                    }
+                    final long[] range = ranges.pop();
+                    final Map<String, Object> params = new HashMap<>(2);
+                    params.put("from", range[0]);
+                    params.put("to", range[1]);
+                    Future<Map<String, Object>> sourceFuture = executor.submit(() -> checksum(source, sourceSql, params));
+                    Future<Map<String, Object>> targetFuture = executor.submit(() -> checksum(target, targetSql, params));
+                    Map<String, Object> sourceChecksum = sourceFuture.get();
+                    Map<String, Object> targetChecksum = targetFuture.get();
+                    tableDiffState.setChecksumCount(tableDiffState.getChecksumCount() + 1);
+                    final long sourceCount = toNumber(sourceChecksum, "row_count").longValue();
+                    final long targetCount = toNumber(targetChecksum, "row_count").longValue();
+                    boolean same = sourceCount == targetCount;
+                    if (same && !tableDiffState.getCountOnly()) {
+                        same = toNumber(sourceChecksum, "checksum").compareTo(toNumber(targetChecksum, "checksum")) == 0;
+                    }
+                    if (same) {
+                        continue;
+                    }
+                    // 数据不一致，继续拆分范围比对
+                    if (range[1] - range[0] > tableDiffState.getMinChunkSize()) {
+                        splitRange(range[0], range[1], tableDiffState.getFanout(), ranges);
+                        continue;
+                    }
+                    DiffRange diffRange = new DiffRange();
+                    diffRange.setFrom(range[0]);
+                    diffRange.setTo(range[1]);
+                    diffRange.setSourceCount(sourceCount);
+                    diffRange.setTargetCount(targetCount);
+                    tableDiffState.getDiffRanges().add(diffRange);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw ExceptionUtils.unchecked(e);
+            } catch (ExecutionException e) {
+                throw ExceptionUtils.unchecked(e.getCause());
+            } finally {
+                executor.shutdownNow();
+            }
+            // 重新同步不一致的数据
+            if (tableDiffState.isRepair()) {
+                for (DiffRange diffRange : tableDiffState.getDiffRanges()) {
+                    if (tableDiffState.isInterrupt()) {
+                        throw new BusinessException("中断比对");
+                    }
+                    repair(tableName, where, diffRange);
+                }
+            }
+        }
+
+        /**
+         * 查询范围内的数据量和校验和
+         */
+        private Map<String, Object> checksum(Jdbc jdbc, String sql, Map<String, Object> params) {
+            if (!TableDiffState.COMPARE_ROW_HASH.equals(tableDiffState.getCompareMode())) {
+                return jdbc.queryFirst(sql, params);
+            }
+            // 读取数据计算每一行的 hash 再求和
+            final long[] result = new long[2];
+            final CRC32 crc32 = new CRC32();
+            jdbc.beginReadOnlyTX(status -> {
+                jdbc.queryForCursor(sql, params, 1000, batchData -> {
+                    for (Map<String, Object> row : batchData.getRowDataList()) {
+                        crc32.reset();
+                        for (String columnName : batchData.getColumnNames()) {
+                            String value = normalizeValue(getColumnValue(row, columnName));
+                            if (value == null) {
+                                crc32.update(0);
+                            } else {
+                                byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+                                crc32.update(1);
+                                crc32.update(ByteBuffer.allocate(4).putInt(bytes.length).array());
+                                crc32.update(bytes);
+                            }
+                        }
+                        result[0]++;
+                        result[1] += crc32.getValue();
+                    }
+                });
+            });
+            final Map<String, Object> checksum = new HashMap<>(2);
+            checksum.put("row_count", result[0]);
+            checksum.put("checksum", result[1]);
+            return checksum;
+        }
+
+        /**
+         * 把不同数据库返回的字段值转换成相同的字符串(如: 数值的精度、空字符串、日期类型、布尔值)
+         */
+        @SneakyThrows
+        private static String normalizeValue(Object value) {
+            if (value == null) {
+                return null;
+            }
+            if (value instanceof Boolean) {
+                return (Boolean) value ? "1" : "0";
+            }
+            if (value instanceof Number) {
+                return new BigDecimal(String.valueOf(value)).stripTrailingZeros().toPlainString();
+            }
+            if (value instanceof java.util.Date) {
+                return String.valueOf(((java.util.Date) value).getTime());
+            }
+            if (value instanceof LocalDateTime) {
+                return String.valueOf(Timestamp.valueOf((LocalDateTime) value).getTime());
+            }
+            if (value instanceof LocalDate) {
+                return String.valueOf(Timestamp.valueOf(((LocalDate) value).atStartOfDay()).getTime());
+            }
+            if (value instanceof OffsetDateTime) {
+                return String.valueOf(((OffsetDateTime) value).toInstant().toEpochMilli());
+            }
+            if (value instanceof byte[]) {
+                return Base64.getEncoder().encodeToString((byte[]) value);
+            }
+            if (value instanceof Blob) {
+                Blob blob = (Blob) value;
+                return Base64.getEncoder().encodeToString(blob.getBytes(1, (int) blob.length()));
+            }
+            if (value instanceof Clob) {
+                Clob clob = (Clob) value;
+                value = clob.getSubString(1, (int) clob.length());
+            }
+            // oracle 的空字符串就是 null
+            String str = String.valueOf(value);
+            return str.isEmpty() ? null : str;
+        }
+
+        /**
+         * 查询主键的最小值或最大值(主键必须是整数)
+         */
+        private static Long queryKey(Jdbc jdbc, String sql, String tableName) {
+            final Map<String, Object> row = jdbc.queryFirst(sql);
+            final Object value = row == null || row.isEmpty() ? null : row.values().iterator().next();
+            if (value == null) {
+                return null;
+            }
+            if (!(value instanceof Number)) {
+                throw new BusinessException("数据比对只支持整数类型的主键 | table=" + tableName + " | key=" + value);
+            }
+            BigDecimal key = new BigDecimal(String.valueOf(value));
+            if (key.stripTrailingZeros().scale() > 0) {
+                throw new BusinessException("数据比对只支持整数类型的主键 | table=" + tableName + " | key=" + value);
+            }
+            return key.longValueExact();
+        }
+
+        /**
+         * 在同一个事务中删除目标表范围内的数据，再从源表复制这个范围的数据
+         */
+        private void repair(String tableName, String where, DiffRange diffRange) {
+            final Map<String, Object> params = new HashMap<>(2);
+            params.put("from", diffRange.getFrom());
+            params.put("to", diffRange.getTo());
+            diffRange.setRepairCount(0);
+            source.beginReadOnlyTX(sourceStatus -> {
+                target.beginTX(status -> {
+                    target.update(String.format("delete from %s where %s", tableName, where), params);
+                    source.queryForCursor(String.format("select * from %s where %s", tableName, where), params, 1000, batchData -> {
+                        if (batchData.getBatchCount() > 0) {
+                            int count = target.batchInsertTable(tableName, batchData.getRowDataList());
+                            diffRange.setRepairCount(diffRange.getRepairCount() + count);
+                        }
+                    });
+                });
+            });
+            diffRange.setRepaired(true);
+        }
+
+        /**
+         * 把 [from, to) 拆分成 count 个范围
+         */
+        private static void splitRange(long from, long to, int count, Deque<long[]> ranges) {
+            final long step = Math.max(1, (to - from + count - 1) / count);
+            List<long[]> list = new ArrayList<>(count);
+            for (long start = from; start < to; start += step) {
+                list.add(new long[]{start, Math.min(to, start + step)});
+            }
+            // 倒序压栈，保证按主键从小到大比对
+            Collections.reverse(list);
+            list.forEach(ranges::push);
+        }
+
+        private static Long minKey(Long a, Long b) {
+            if (a == null) return b;
+            if (b == null) return a;
+            return Math.min(a, b);
+        }
+
+        private static Long maxKey(Long a, Long b) {
+            if (a == null) return b;
+            if (b == null) return a;
+            return Math.max(a, b);
+        }
+
+        private static BigDecimal toNumber(Map<String, Object> row, String column) {
+            Object value = row == null ? null : getColumnValue(row, column);
+            if (value == null) {
+                return BigDecimal.ZERO;
+            }
+            return new BigDecimal(String.valueOf(value));
+        }
     }
 }
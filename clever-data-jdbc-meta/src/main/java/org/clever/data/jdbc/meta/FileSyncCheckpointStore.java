@@ -0,0 +1,66 @@
+package org.clever.data.jdbc.meta;
+
+import lombok.Getter;
+import lombok.SneakyThrows;
+import org.clever.core.Assert;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+
+/**
+ * 使用本地文件保存数据同步检查点(每个检查点一个文件)
+ * <p>
+ * 作者：lizw <br/>
+ * 创建时间：2026/10/19 04:28 <br/>
+ */
+public class FileSyncCheckpointStore implements SyncCheckpointStore {
+    /**
+     * 检查点文件所在的文件夹
+     */
+    @Getter
+    private final Path dir;
+
+    /**
+     * @param dir 检查点文件所在的文件夹
+     */
+    @SneakyThrows
+    public FileSyncCheckpointStore(String dir) {
+        Assert.isNotBlank(dir, "参数 dir 不能为空");
+        this.dir = Paths.get(dir).toAbsolutePath().normalize();
+        Files.createDirectories(this.dir);
+    }
+
+    @SneakyThrows
+    @Override
+    public String load(String name) {
+        Path file = getFile(name);
+        if (!Files.isRegularFile(file)) {
+            return null;
+        }
+        return Files.readString(file, StandardCharsets.UTF_8);
+    }
+
+    @SneakyThrows
+    @Override
+    public void save(String name, String checkpoint) {
+        // 先写临时文件再替换，避免进程中断时留下不完整的检查点
+        Path file = getFile(name);
+        Path tmp = file.resolveSibling(file.getFileName() + ".tmp");
+        Files.writeString(tmp, checkpoint, StandardCharsets.UTF_8);
+        Files.move(tmp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    @SneakyThrows
+    @Override
+    public void remove(String name) {
+        Files.deleteIfExists(getFile(name));
+    }
+
+    private Path getFile(String name) {
+        Assert.isNotBlank(name, "参数 name 不能为空");
+        return dir.resolve(name.replaceAll("[^a-zA-Z0-9_.\\-]", "_") + ".json");
+    }
+}
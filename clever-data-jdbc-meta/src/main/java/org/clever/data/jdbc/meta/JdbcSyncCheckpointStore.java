@@ -0,0 +1,82 @@
+package org.clever.data.jdbc.meta;
+
+import lombok.Getter;
+import org.clever.core.Assert;
+import org.clever.data.jdbc.Jdbc;
+
+import java.util.Date;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 使用数据库表保存数据同步检查点。<br/>
+ * 检查点表保存在目标数据库时，检查点和同步的数据在同一个事务中提交，重新同步时不会重复写入数据。
+ * 检查点表需要提前创建，如:
+ * <pre>{@code
+ * create table data_sync_checkpoint
+ * (
+ *     name        varchar(255)    not null    primary key,
+ *     checkpoint  text            not null,
+ *     update_at   timestamp       not null
+ * );
+ * }</pre>
+ * <p>
+ * 作者：lizw <br/>
+ * 创建时间：2026/10/19 04:28 <br/>
+ */
+public class JdbcSyncCheckpointStore implements SyncCheckpointStore {
+    public static final String DEFAULT_TABLE_NAME = "data_sync_checkpoint";
+
+    /**
+     * 检查点表所在的数据库
+     */
+    @Getter
+    private final Jdbc jdbc;
+    /**
+     * 检查点表名称
+     */
+    @Getter
+    private final String tableName;
+
+    public JdbcSyncCheckpointStore(Jdbc jdbc, String tableName) {
+        Assert.notNull(jdbc, "参数 jdbc 不能为null");
+        Assert.isNotBlank(tableName, "参数 tableName 不能为空");
+        this.jdbc = jdbc;
+        this.tableName = tableName;
+    }
+
+    public JdbcSyncCheckpointStore(Jdbc jdbc) {
+        this(jdbc, DEFAULT_TABLE_NAME);
+    }
+
+    @Override
+    public String load(String name) {
+        Map<String, Object> paramMap = new HashMap<>(1);
+        paramMap.put("name", name);
+        return jdbc.queryFirstString(String.format("select checkpoint from %s where name=:name", tableName), paramMap);
+    }
+
+    @Override
+    public void save(String name, String checkpoint) {
+        Map<String, Object> paramMap = new HashMap<>(3);
+        paramMap.put("name", name);
+        paramMap.put("checkpoint", checkpoint);
+        paramMap.put("updateAt", new Date());
+        int count = jdbc.update(String.format("update %s set checkpoint=:checkpoint, update_at=:updateAt where name=:name", tableName), paramMap);
+        if (count <= 0) {
+            jdbc.update(String.format("insert into %s (name, checkpoint, update_at) values (:name, :checkpoint, :updateAt)", tableName), paramMap);
+        }
+    }
+
+    @Override
+    public void remove(String name) {
+        Map<String, Object> paramMap = new HashMap<>(1);
+        paramMap.put("name", name);
+        jdbc.update(String.format("delete from %s where name=:name", tableName), paramMap);
+    }
+
+    @Override
+    public boolean isTransactional(Jdbc target) {
+        return jdbc == target;
+    }
+}
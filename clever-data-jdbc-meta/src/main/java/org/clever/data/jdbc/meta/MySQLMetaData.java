@@ -10,6 +10,7 @@ import org.clever.data.jdbc.meta.model.*;
 
 import java.nio.charset.StandardCharsets;
 import java.util.*;
+import java.util.stream.Collectors;
 
 /**
  * 获取数据库元数据 MySQL 实现
@@ -41,6 +42,39 @@ public class MySQLMetaData extends AbstractMetaData {
     //  表结构元数据
     // --------------------------------------------------------------------------------------------
 
+    @Override
+    protected Map<String, String> getCatalogVersions(Collection<String> schemasName, Set<String> ignoreSchemas) {
+        // 表的 create_time 在 ALTER TABLE 时不一定变化(只修改注释、重命名索引时不变)，所以使用表、字段、索引定义的校验和
+        // 注意: 外键、触发器、视图定义的变化不会改变版本号
+        final Map<String, Object> params = new HashMap<>();
+        final StringBuilder sql = new StringBuilder();
+        sql.append("select ");
+        sql.append("    s.schema_name as `schemaName`, ");
+        sql.append("    concat_ws('|', coalesce(t.cnt, 0), coalesce(t.ts, ''), coalesce(t.crc, 0), coalesce(c.crc, 0), coalesce(i.cnt, 0), coalesce(i.crc, 0), coalesce(r.ts, '')) as `version` ");
+        sql.append("from information_schema.schemata s ");
+        sql.append("    left join ( ");
+        sql.append("        select table_schema, count(*) cnt, max(create_time) ts, sum(crc32(concat_ws('|', table_name, table_type, engine, table_collation, table_comment))) crc ");
+        sql.append("        from information_schema.tables group by table_schema ");
+        sql.append("    ) t on t.table_schema = s.schema_name ");
+        sql.append("    left join ( ");
+        sql.append("        select table_schema, sum(crc32(concat_ws('|', table_name, column_name, ordinal_position, column_type, is_nullable, column_default, extra, column_comment))) crc ");
+        sql.append("        from information_schema.columns group by table_schema ");
+        sql.append("    ) c on c.table_schema = s.schema_name ");
+        sql.append("    left join ( ");
+        sql.append("        select table_schema, count(*) cnt, sum(crc32(concat_ws('|', table_name, index_name, non_unique, seq_in_index, column_name, index_type))) crc ");
+        sql.append("        from information_schema.statistics group by table_schema ");
+        sql.append("    ) i on i.table_schema = s.schema_name ");
+        sql.append("    left join (select routine_schema, max(last_altered) ts from information_schema.routines group by routine_schema) r on r.routine_schema = s.schema_name ");
+        sql.append("where 1=1 ");
+        if (!schemasName.isEmpty()) {
+            sql.append("and lower(s.schema_name) in (").append(createWhereIn(params, schemasName)).append(") ");
+        }
+        if (!ignoreSchemas.isEmpty()) {
+            sql.append("and lower(s.schema_name) not in (").append(createWhereIn(params, ignoreSchemas)).append(") ");
+        }
+        return toCatalogVersions(jdbc.queryMany(sql.toString(), params, RenameStrategy.None));
+    }
+
     @Override
     protected List<Schema> doGetSchemas(Collection<String> schemasName,
                                         Collection<String> tablesName,
@@ -277,16 +311,20 @@ public class MySQLMetaData extends AbstractMetaData {
             }
             sql.append("order by specific_catalog, specific_schema, routine_type, specific_name, ordinal_position ");
             List<Map<String, Object>> routineParameters = jdbc.queryMany(sql.toString(), params, RenameStrategy.None);
+            // 存储过程&函数的参数 Map<catalog|schema|specific_name|type, List<参数>> (查询结果已按 ordinal_position 排序)
+            Map<String, List<Map<String, Object>>> parametersMap = new HashMap<>();
+            for (Map<String, Object> row : routineParameters) {
+                String key = StringUtils.joinWith("|", row.get("specific_catalog"), row.get("schemaName"), row.get("name"), row.get("type"));
+                parametersMap.computeIfAbsent(key, k -> new ArrayList<>()).add(row);
+            }
             for (Map<String, Object> map : routines) {
                 String schemaName = Conv.asString(map.get("schemaName")).toLowerCase();
                 String name = Conv.asString(map.get("name")).toLowerCase();
                 String type = Conv.asString(map.get("type")).toLowerCase();
-                List<Map<String, Object>> parameters = routineParameters.stream().filter(row ->
-                    Objects.equals(Conv.asString(row.get("specific_catalog")), Conv.asString(map.get("routine_catalog"))) &&
-                        Objects.equals(Conv.asString(row.get("schemaName")), Conv.asString(map.get("schemaName"))) &&
-                        Objects.equals(Conv.asString(row.get("name")), Conv.asString(map.get("specific_name"))) &&
-                        Objects.equals(Conv.asString(row.get("type")), Conv.asString(map.get("type")))
-                ).sorted(Comparator.comparing(o -> Conv.asLong(o.get("ordinal_position")))).toList();
+                List<Map<String, Object>> parameters = parametersMap.getOrDefault(
+                    StringUtils.joinWith("|", map.get("routine_catalog"), map.get("schemaName"), map.get("specific_name"), map.get("type")),
+                    Collections.emptyList()
+                );
                 String body = Conv.asString(map.get("routine_definition"));
                 Schema schema = mapSchema.computeIfAbsent(schemaName, sName -> new Schema(DbType.MYSQL, version, sName));
                 Procedure procedure = new Procedure(schema);
@@ -986,6 +1024,19 @@ public class MySQLMetaData extends AbstractMetaData {
         );
     }
 
+    @Override
+    public String checksumSql(String tableName, Collection<Column> columns, String where) {
+        Assert.isNotBlank(tableName, "参数 tableName 不能为空");
+        // sum(crc32(concat_ws('|', coalesce(a, '#null#'), coalesce(b, '#null#'))))
+        String row = checksumColumns(columns).stream()
+            .map(column -> String.format("coalesce(%s, '#null#')", column))
+            .collect(Collectors.joining(", "));
+        return String.format(
+            "select count(1) as row_count, coalesce(sum(crc32(concat_ws('|', %s))), 0) as checksum from %s%s",
+            row, tableName, toWhere(where)
+        );
+    }
+
     @Override
     public String createProcedure(Procedure newProcedure) {
         Assert.notNull(newProcedure, "参数 newProcedure 不能为空");
@@ -10,6 +10,7 @@ import org.clever.data.jdbc.Jdbc;
 import org.clever.data.jdbc.meta.model.*;
 
 import java.util.*;
+import java.util.stream.Collectors;
 
 /**
  * 获取数据库元数据 Oracle 实现
@@ -67,6 +68,26 @@ public class OracleMetaData extends AbstractMetaData {
     //  表结构元数据
     // --------------------------------------------------------------------------------------------
 
+    @Override
+    protected Map<String, String> getCatalogVersions(Collection<String> schemasName, Set<String> ignoreSchemas) {
+        // DDL、COMMENT 都会更新 all_objects.last_ddl_time
+        final Map<String, Object> params = new HashMap<>();
+        final StringBuilder sql = new StringBuilder();
+        sql.append("select ");
+        sql.append("    u.username as \"schemaName\", ");
+        sql.append("    nvl(o.cnt, 0) || '|' || to_char(o.ts, 'yyyymmddhh24miss') as \"version\" ");
+        sql.append("from sys.all_users u ");
+        sql.append("    left join (select owner, count(*) cnt, max(last_ddl_time) ts from sys.all_objects group by owner) o on o.owner = u.username ");
+        sql.append("where 1=1 ");
+        if (!schemasName.isEmpty()) {
+            sql.append("and lower(u.username) in (").append(createWhereIn(params, schemasName)).append(") ");
+        }
+        if (!ignoreSchemas.isEmpty()) {
+            sql.append("and lower(u.username) not in (").append(createWhereIn(params, ignoreSchemas)).append(") ");
+        }
+        return toCatalogVersions(jdbc.queryMany(sql.toString(), params, RenameStrategy.None));
+    }
+
     @Override
     protected List<Schema> doGetSchemas(Collection<String> schemasName,
                                         Collection<String> tablesName,
@@ -838,6 +859,45 @@ public class OracleMetaData extends AbstractMetaData {
         );
     }
 
+    @Override
+    public String checksumSql(String tableName, Collection<Column> columns, String where) {
+        Assert.isNotBlank(tableName, "参数 tableName 不能为空");
+        Assert.notEmpty(columns, "参数 columns 不能为空");
+        // 每个字段单独计算 hash(拼接字段值会超过 varchar2 的4000长度限制)，再把最多100个字段的 hash 拼接之后计算一次 hash，
+        // 最后把所有分组的 hash 拼接计算出行的 hash: ora_hash(ora_hash(h1 || '|' || h2 ...) || '|' || ...)
+        final List<String> columnHashes = columns.stream()
+            .sorted(Comparator.comparing(column -> column.getName().toLowerCase()))
+            .map(this::columnHash)
+            .filter(Objects::nonNull)
+            .collect(Collectors.toList());
+        final List<String> groupHashes = new ArrayList<>();
+        for (int i = 0; i < columnHashes.size(); i += 100) {
+            groupHashes.add(String.format("ora_hash(%s)", StringUtils.join(columnHashes.subList(i, Math.min(i + 100, columnHashes.size())), " || '|' || ")));
+        }
+        String row = groupHashes.size() == 1 ? groupHashes.get(0) : String.format("ora_hash(%s)", StringUtils.join(groupHashes, " || '|' || "));
+        return String.format(
+            "select count(1) as row_count, nvl(sum(%s), 0) as checksum from %s%s",
+            row, tableName, toWhere(where)
+        );
+    }
+
+    /**
+     * 字段值的 hash 表达式(结果最长10个字符)，不能计算 hash 的 long 字段返回null
+     */
+    private String columnHash(Column column) {
+        final String name = toLiteral(column.getName());
+        final String dataType = column.getDataType();
+        if (StringUtils.startsWithIgnoreCase(dataType, "long")) {
+            // long、long raw 字段不能在表达式中使用
+            return null;
+        }
+        if (StringUtils.containsIgnoreCase(dataType, "lob")) {
+            // ora_hash 不支持大字段，使用长度和前1000个字符(字节)的 hash
+            return String.format("nvl(to_char(dbms_lob.getlength(%s)) || ':' || to_char(ora_hash(dbms_lob.substr(%s, 1000, 1))), '#null#')", name, name);
+        }
+        return String.format("nvl(to_char(ora_hash(%s)), '#null#')", name);
+    }
+
     @Override
     public String createProcedure(Procedure newProcedure) {
         Assert.notNull(newProcedure, "参数 newProcedure 不能为空");
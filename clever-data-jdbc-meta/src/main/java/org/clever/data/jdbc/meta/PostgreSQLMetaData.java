@@ -10,6 +10,7 @@ import org.clever.data.jdbc.Jdbc;
 import org.clever.data.jdbc.meta.model.*;
 
 import java.util.*;
+import java.util.stream.Collectors;
 
 /**
  * 获取数据库元数据 PostgreSQL 实现
@@ -53,6 +54,49 @@ public class PostgreSQLMetaData extends AbstractMetaData {
     //  表结构元数据
     // --------------------------------------------------------------------------------------------
 
+    @Override
+    protected Map<String, String> getCatalogVersions(Collection<String> schemasName, Set<String> ignoreSchemas) {
+        // 使用数据字典内容的摘要作为版本号(xmin 会回卷，并且被 VACUUM FREEZE 之后不再变化，不能作为版本号)
+        final Map<String, Object> params = new HashMap<>();
+        final StringBuilder sql = new StringBuilder();
+        sql.append("select ");
+        sql.append("    n.nspname as \"schemaName\", ");
+        sql.append("    concat_ws('|', cls.cnt, cls.hash, att.hash, idx.hash, des.hash, pro.hash) as \"version\" ");
+        sql.append("from pg_namespace n ");
+        sql.append("    left join ( ");
+        sql.append("        select relnamespace, count(*) cnt, md5(string_agg(concat_ws(',', oid, relname, relkind, relnatts), '|' order by oid)) hash ");
+        sql.append("        from pg_class group by relnamespace ");
+        sql.append("    ) cls on cls.relnamespace = n.oid ");
+        sql.append("    left join ( ");
+        sql.append("        select c.relnamespace, md5(string_agg(concat_ws(',', a.attrelid, a.attnum, a.attname, a.atttypid, a.atttypmod, a.attnotnull, a.attisdropped, ad.oid), '|' order by a.attrelid, a.attnum)) hash ");
+        sql.append("        from pg_attribute a join pg_class c on c.oid = a.attrelid ");
+        sql.append("            left join pg_attrdef ad on ad.adrelid = a.attrelid and ad.adnum = a.attnum ");
+        sql.append("        where a.attnum > 0 group by c.relnamespace ");
+        sql.append("    ) att on att.relnamespace = n.oid ");
+        sql.append("    left join ( ");
+        sql.append("        select c.relnamespace, md5(string_agg(concat_ws(',', i.indexrelid, i.indisunique, i.indisprimary, i.indkey::text), '|' order by i.indexrelid)) hash ");
+        sql.append("        from pg_index i join pg_class c on c.oid = i.indexrelid ");
+        sql.append("        group by c.relnamespace ");
+        sql.append("    ) idx on idx.relnamespace = n.oid ");
+        sql.append("    left join ( ");
+        sql.append("        select c.relnamespace, md5(string_agg(concat_ws(',', d.objoid, d.objsubid, d.description), '|' order by d.objoid, d.objsubid)) hash ");
+        sql.append("        from pg_description d join pg_class c on c.oid = d.objoid ");
+        sql.append("        group by c.relnamespace ");
+        sql.append("    ) des on des.relnamespace = n.oid ");
+        sql.append("    left join ( ");
+        sql.append("        select pronamespace, md5(string_agg(concat_ws(',', oid, proname, md5(prosrc)), '|' order by oid)) hash ");
+        sql.append("        from pg_proc group by pronamespace ");
+        sql.append("    ) pro on pro.pronamespace = n.oid ");
+        sql.append("where 1=1 ");
+        if (!schemasName.isEmpty()) {
+            sql.append("and lower(n.nspname) in (").append(createWhereIn(params, schemasName)).append(") ");
+        }
+        if (!ignoreSchemas.isEmpty()) {
+            sql.append("and lower(n.nspname) not in (").append(createWhereIn(params, ignoreSchemas)).append(") ");
+        }
+        return toCatalogVersions(jdbc.queryMany(sql.toString(), params, RenameStrategy.None));
+    }
+
     @Override
     protected List<Schema> doGetSchemas(Collection<String> schemasName,
                                         Collection<String> tablesName,
@@ -918,6 +962,19 @@ public class PostgreSQLMetaData extends AbstractMetaData {
         );
     }
 
+    @Override
+    public String checksumSql(String tableName, Collection<Column> columns, String where) {
+        Assert.isNotBlank(tableName, "参数 tableName 不能为空");
+        // 取 md5 的前8位十六进制转换成整数: sum(('x' || substr(md5(...), 1, 8))::bit(32)::bigint)
+        String row = checksumColumns(columns).stream()
+            .map(column -> String.format("coalesce(%s::text, '#null#')", column))
+            .collect(Collectors.joining(", "));
+        return String.format(
+            "select count(1) as row_count, coalesce(sum(('x' || substr(md5(concat_ws('|', %s)), 1, 8))::bit(32)::bigint), 0) as checksum from %s%s",
+            row, tableName, toWhere(where)
+        );
+    }
+
     @Override
     public String createProcedure(Procedure newProcedure) {
         Assert.notNull(newProcedure, "参数 newProcedure 不能为空");
@@ -0,0 +1,272 @@
+package org.clever.data.jdbc.meta;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import lombok.Getter;
+import lombok.SneakyThrows;
+import lombok.extern.slf4j.Slf4j;
+import org.clever.core.Assert;
+import org.clever.core.codec.DigestUtils;
+import org.clever.core.codec.EncodeDecodeUtils;
+import org.clever.core.mapper.JacksonMapper;
+import org.clever.data.dynamic.sql.dialect.DbType;
+import org.clever.data.jdbc.meta.model.*;
+import org.springframework.beans.BeanUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Schema 元数据快照缓存(内存 + 可选的本地文件)。<br/>
+ * 每个快照都带有读取时的“数据字典版本号”，版本号不一致时快照失效，需要重新读取对应 Schema 的元数据。<br/>
+ * 读写缓存时都会复制 Schema 对象，调用方修改返回的对象不会影响缓存。<br/>
+ * 版本号只覆盖各数据库 {@code getCatalogVersions} 查询的数据字典内容(如: MySQL 不包含外键、触发器、视图定义)，
+ * 这些对象变化后需要调用 {@link #clear()} 清除快照。
+ * <p>
+ * 作者：lizw <br/>
+ * 创建时间：2026/10/19 04:41 <br/>
+ */
+@Slf4j
+public class SchemaSnapshotCache {
+    /**
+     * 快照文件所在的文件夹(为null时只使用内存缓存)
+     */
+    @Getter
+    private final Path dir;
+    /**
+     * 内存中的快照 {@code Map<key, Snapshot>}
+     */
+    private final Map<String, Snapshot> snapshots = new ConcurrentHashMap<>();
+
+    /**
+     * 只使用内存缓存
+     */
+    public SchemaSnapshotCache() {
+        this.dir = null;
+    }
+
+    /**
+     * @param dir 快照文件所在的文件夹
+     */
+    @SneakyThrows
+    public SchemaSnapshotCache(String dir) {
+        Assert.isNotBlank(dir, "参数 dir 不能为空");
+        this.dir = Paths.get(dir).toAbsolutePath().normalize();
+        Files.createDirectories(this.dir);
+    }
+
+    /**
+     * 获取 Schema 快照，快照不存在或者版本号不一致时返回 null
+     *
+     * @param key     快照key
+     * @param version 当前的数据字典版本号
+     */
+    public Schema get(String key, String version) {
+        Assert.isNotBlank(key, "参数 key 不能为空");
+        Snapshot snapshot = snapshots.get(key);
+        if (snapshot == null && dir != null) {
+            snapshot = readFile(key);
+            if (snapshot != null) {
+                snapshots.put(key, snapshot);
+            }
+        }
+        if (snapshot == null || !Objects.equals(snapshot.version, version)) {
+            return null;
+        }
+        return copy(snapshot.schema);
+    }
+
+    /**
+     * 保存 Schema 快照
+     *
+     * @param key     快照key
+     * @param version 读取 Schema 时的数据字典版本号
+     * @param schema  Schema 元数据
+     */
+    public void put(String key, String version, Schema schema) {
+        Assert.isNotBlank(key, "参数 key 不能为空");
+        Assert.notNull(schema, "参数 schema 不能为 null");
+        Snapshot snapshot = new Snapshot(version, copy(schema));
+        snapshots.put(key, snapshot);
+        if (dir != null) {
+            writeFile(key, snapshot);
+        }
+    }
+
+    /**
+     * 删除 Schema 快照
+     */
+    @SneakyThrows
+    public void remove(String key) {
+        snapshots.remove(key);
+        if (dir != null) {
+            Files.deleteIfExists(getFile(key));
+        }
+    }
+
+    /**
+     * 清空内存中的快照(不删除快照文件)
+     */
+    public void clear() {
+        snapshots.clear();
+    }
+
+    private Path getFile(String key) {
+        // key 中包含数据源名、表名过滤条件等，使用摘要作为文件名
+        String name = EncodeDecodeUtils.encodeHex(DigestUtils.md5(key.getBytes(StandardCharsets.UTF_8)));
+        return dir.resolve(name + ".json");
+    }
+
+    private Snapshot readFile(String key) {
+        Path file = getFile(key);
+        if (!Files.isRegularFile(file)) {
+            return null;
+        }
+        try {
+            ObjectMapper mapper = JacksonMapper.getInstance().getMapper();
+            JsonNode root = mapper.readTree(Files.readString(file, StandardCharsets.UTF_8));
+            if (!Objects.equals(key, root.path("key").asText(null))) {
+                return null;
+            }
+            return new Snapshot(root.path("version").asText(null), toSchema(mapper, root.path("schema")));
+        } catch (Exception e) {
+            log.warn("# 读取 Schema 快照文件失败 | file={}", file, e);
+            return null;
+        }
+    }
+
+    @SneakyThrows
+    private void writeFile(String key, Snapshot snapshot) {
+        ObjectMapper mapper = JacksonMapper.getInstance().getMapper();
+        ObjectNode root = mapper.createObjectNode();
+        root.put("key", key);
+        root.put("version", snapshot.version);
+        root.set("schema", mapper.valueToTree(snapshot.schema));
+        // 先写临时文件再替换，避免进程中断时留下不完整的快照
+        Path file = getFile(key);
+        Path tmp = file.resolveSibling(file.getFileName() + ".tmp");
+        Files.writeString(tmp, mapper.writeValueAsString(root), StandardCharsets.UTF_8);
+        Files.move(tmp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    /**
+     * 深度复制 Schema 对象
+     */
+    public static Schema copy(Schema schema) {
+        Schema newSchema = new Schema(schema.getDbType(), schema.getVersion(), schema.getName());
+        newSchema.getAttributes().putAll(schema.getAttributes());
+        for (Table table : schema.getTables()) {
+            Table newTable = new Table(newSchema);
+            BeanUtils.copyProperties(table, newTable, "primaryKey");
+            newTable.getAttributes().putAll(table.getAttributes());
+            for (Column column : table.getColumns()) {
+                Column newColumn = new Column(newTable);
+                BeanUtils.copyProperties(column, newColumn);
+                newColumn.getAttributes().putAll(column.getAttributes());
+                newTable.addColumn(newColumn);
+            }
+            PrimaryKey primaryKey = table.getPrimaryKey();
+            if (primaryKey != null) {
+                PrimaryKey newPrimaryKey = new PrimaryKey(newTable);
+                newPrimaryKey.setName(primaryKey.getName());
+                newPrimaryKey.getAttributes().putAll(primaryKey.getAttributes());
+                primaryKey.getColumns().forEach(column -> newPrimaryKey.addColumn(newTable.getColumn(column.getName())));
+                newTable.setPrimaryKey(newPrimaryKey);
+            }
+            for (Index index : table.getIndices()) {
+                Index newIndex = new Index(newTable);
+                newIndex.setName(index.getName());
+                newIndex.setUnique(index.isUnique());
+                newIndex.getAttributes().putAll(index.getAttributes());
+                index.getColumns().forEach(column -> newIndex.addColumn(newTable.getColumn(column.getName())));
+                newTable.addIndex(newIndex);
+            }
+            newSchema.addTable(newTable);
+        }
+        for (Sequence sequence : schema.getSequences()) {
+            Sequence newSequence = new Sequence(newSchema);
+            BeanUtils.copyProperties(sequence, newSequence);
+            newSequence.getAttributes().putAll(sequence.getAttributes());
+            newSchema.addSequence(newSequence);
+        }
+        for (Procedure procedure : schema.getProcedures()) {
+            Procedure newProcedure = new Procedure(newSchema);
+            BeanUtils.copyProperties(procedure, newProcedure);
+            newProcedure.getAttributes().putAll(procedure.getAttributes());
+            newSchema.addProcedure(newProcedure);
+        }
+        return newSchema;
+    }
+
+    /**
+     * 把快照文件中的 json 还原成 Schema 对象(属性值 attributes 会丢失原始的数据类型)
+     */
+    private static Schema toSchema(ObjectMapper mapper, JsonNode node) throws Exception {
+        Schema schema = new Schema(mapper.treeToValue(node.get("dbType"), DbType.class));
+        update(mapper, schema, node, "dbType", "tables", "sequences", "procedures");
+        for (JsonNode tableNode : node.path("tables")) {
+            Table table = new Table(schema);
+            update(mapper, table, tableNode, "columns", "primaryKey", "indices");
+            for (JsonNode columnNode : tableNode.path("columns")) {
+                Column column = new Column(table);
+                update(mapper, column, columnNode);
+                table.addColumn(column);
+            }
+            JsonNode primaryKeyNode = tableNode.get("primaryKey");
+            if (primaryKeyNode != null && primaryKeyNode.isObject()) {
+                PrimaryKey primaryKey = new PrimaryKey(table);
+                update(mapper, primaryKey, primaryKeyNode, "columns");
+                primaryKeyNode.path("columns").forEach(column -> primaryKey.addColumn(table.getColumn(column.path("name").asText())));
+                table.setPrimaryKey(primaryKey);
+            }
+            for (JsonNode indexNode : tableNode.path("indices")) {
+                Index index = new Index(table);
+                update(mapper, index, indexNode, "columns");
+                indexNode.path("columns").forEach(column -> index.addColumn(table.getColumn(column.path("name").asText())));
+                table.addIndex(index);
+            }
+            schema.addTable(table);
+        }
+        for (JsonNode sequenceNode : node.path("sequences")) {
+            Sequence sequence = new Sequence(schema);
+            update(mapper, sequence, sequenceNode);
+            schema.addSequence(sequence);
+        }
+        for (JsonNode procedureNode : node.path("procedures")) {
+            Procedure procedure = new Procedure(schema);
+            update(mapper, procedure, procedureNode);
+            schema.addProcedure(procedure);
+        }
+        return schema;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static void update(ObjectMapper mapper, AttributedObject target, JsonNode node, String... excludes) throws Exception {
+        ObjectNode fields = ((ObjectNode) node).deepCopy();
+        fields.remove(Arrays.asList(excludes));
+        // attributes 是 final 字段，需要单独处理(避免被替换成大小写敏感的 Map)
+        JsonNode attributes = fields.remove("attributes");
+        mapper.readerForUpdating(target).readValue(fields);
+        if (attributes != null && attributes.isObject()) {
+            target.getAttributes().putAll(mapper.treeToValue(attributes, Map.class));
+        }
+    }
+
+    private static class Snapshot {
+        private final String version;
+        private final Schema schema;
+
+        private Snapshot(String version, Schema schema) {
+            this.version = version;
+            this.schema = schema;
+        }
+    }
+}
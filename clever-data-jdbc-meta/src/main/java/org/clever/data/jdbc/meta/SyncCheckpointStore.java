@@ -0,0 +1,44 @@
+package org.clever.data.jdbc.meta;
+
+import org.clever.data.jdbc.Jdbc;
+
+/**
+ * 数据同步检查点存储，用于同步任务失败后从中断的位置继续同步
+ * <p>
+ * 作者：lizw <br/>
+ * 创建时间：2026/10/19 04:28 <br/>
+ */
+public interface SyncCheckpointStore {
+    /**
+     * 读取检查点
+     *
+     * @param name 检查点名称
+     * @return 检查点内容，不存在返回 null
+     */
+    String load(String name);
+
+    /**
+     * 保存检查点
+     *
+     * @param name       检查点名称
+     * @param checkpoint 检查点内容
+     */
+    void save(String name, String checkpoint);
+
+    /**
+     * 删除检查点
+     *
+     * @param name 检查点名称
+     */
+    void remove(String name);
+
+    /**
+     * 检查点能否和目标数据库的数据写入在同一个事务中保存。<br/>
+     * 返回 true 时检查点在写入数据的事务中保存(不会重复写入数据)，否则在写入数据的事务提交之后保存(最多重复写入一个批次的数据)
+     *
+     * @param target 目标数据库
+     */
+    default boolean isTransactional(Jdbc target) {
+        return false;
+    }
+}
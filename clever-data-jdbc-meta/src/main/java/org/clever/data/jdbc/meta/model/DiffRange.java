@@ -0,0 +1,37 @@
+package org.clever.data.jdbc.meta.model;
+
+import lombok.Data;
+
+/**
+ * 源表和目标表数据不一致的主键范围: {@code from <= key < to}
+ * <p>
+ * 作者：lizw <br/>
+ * 创建时间：2026/10/19 04:35 <br/>
+ */
+@Data
+public class DiffRange {
+    /**
+     * 主键范围开始值(包含)
+     */
+    private long from;
+    /**
+     * 主键范围结束值(不包含)
+     */
+    private long to;
+    /**
+     * 源表数据量
+     */
+    private long sourceCount;
+    /**
+     * 目标表数据量
+     */
+    private long targetCount;
+    /**
+     * 是否已经重新同步
+     */
+    private boolean repaired;
+    /**
+     * 重新同步的数据量
+     */
+    private Integer repairCount;
+}
@@ -0,0 +1,45 @@
+package org.clever.data.jdbc.meta.model;
+
+import lombok.Data;
+
+import java.math.BigDecimal;
+
+/**
+ * 分区(或查询)数据同步检查点
+ * <p>
+ * 作者：lizw <br/>
+ * 创建时间：2026/10/19 04:28 <br/>
+ */
+@Data
+public class PartitionCheckpoint {
+    /**
+     * 最后一条已提交数据的 keyColumn 值
+     */
+    private Object lastKey;
+    /**
+     * lastKey 是否是数值(数值使用字符串保存，避免json反序列化丢失精度，读取检查点时需要还原成数值)
+     */
+    private boolean numericKey;
+    /**
+     * 已处理的源数据行数(按查询结果的顺序)
+     */
+    private long position;
+    /**
+     * 同步成功数据量
+     */
+    private long syncCount;
+    /**
+     * 是否已经同步完成
+     */
+    private boolean completed;
+
+    /**
+     * 读取 lastKey 的原始值
+     */
+    public Object getKeyValue() {
+        if (numericKey && lastKey != null && !(lastKey instanceof BigDecimal)) {
+            return new BigDecimal(String.valueOf(lastKey));
+        }
+        return lastKey;
+    }
+}
@@ -0,0 +1,62 @@
+package org.clever.data.jdbc.meta.model;
+
+import lombok.Data;
+import org.clever.core.SystemClock;
+
+/**
+ * 表数据分区同步信息(按照主键范围拆分的一段数据)
+ * <p>
+ * 作者：lizw <br/>
+ * 创建时间：2026/10/19 04:22 <br/>
+ */
+@Data
+public class PartitionState {
+    /**
+     * 分区序号
+     */
+    private int index;
+    /**
+     * 分区的 where 条件(为空表示全表)
+     */
+    private String condition;
+    /**
+     * 已读取的数据量
+     */
+    private volatile long readCount;
+    /**
+     * 同步成功数据量
+     */
+    private volatile long syncCount;
+    /**
+     * 最后一条已提交数据的 keyColumn 值(断点续传时使用)
+     */
+    private volatile Object lastKey;
+    /**
+     * 开始时间
+     */
+    private Long startTime;
+    /**
+     * 结束时间
+     */
+    private Long endTime;
+    /**
+     * 是否同步成功
+     */
+    private Boolean success;
+    /**
+     * 同步失败的错误消息
+     */
+    private String errorMsg;
+
+    /**
+     * 同步速度(行/秒)
+     */
+    public Double getThroughput() {
+        if (startTime == null) {
+            return 0D;
+        }
+        long end = endTime == null ? SystemClock.now() : endTime;
+        long cost = Math.max(1, end - startTime);
+        return syncCount * 1000.0D / cost;
+    }
+}
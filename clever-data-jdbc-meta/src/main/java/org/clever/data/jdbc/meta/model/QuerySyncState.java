@@ -15,6 +15,10 @@ public class QuerySyncState {
      * 同步任务ID
      */
     private String jobId = IDCreateUtils.uuid();
+    /**
+     * 检查点名称(需要在多次同步之间保持不变，为空表示不保存检查点)
+     */
+    private String checkpointName;
     /**
      * 同步时跳过所有错误
      */
@@ -23,6 +27,10 @@ public class QuerySyncState {
      * 查询sql
      */
     private String querySql;
+    /**
+     * 断点续传使用的排序字段(查询结果中唯一的非空数值字段)，使用检查点时不能为空
+     */
+    private String keyColumn;
     /**
      * 目标表
      */
@@ -30,15 +38,15 @@ public class QuerySyncState {
     /**
      * 总数据量
      */
-    private Integer dataCount;
+    private Long dataCount;
     /**
      * 当前同步位置
      */
-    private Integer currentIdx;
+    private Long currentIdx;
     /**
      * 同步成功数据量
      */
-    private Integer syncCount;
+    private Long syncCount;
     /**
      * 是否中断
      */
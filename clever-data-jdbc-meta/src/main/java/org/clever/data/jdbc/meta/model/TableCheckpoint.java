@@ -0,0 +1,32 @@
+package org.clever.data.jdbc.meta.model;
+
+import lombok.Data;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 表数据同步检查点
+ * <p>
+ * 作者：lizw <br/>
+ * 创建时间：2026/10/19 04:28 <br/>
+ */
+@Data
+public class TableCheckpoint {
+    /**
+     * 断点续传使用的排序字段(为空表示不能断点续传，只能清空目标表之后整表重新同步)
+     */
+    private String keyColumn;
+    /**
+     * 分区的 where 条件(重新同步时使用相同的分区)
+     */
+    private List<String> conditions = new ArrayList<>();
+    /**
+     * 增量同步时检查点所属的数据范围上限({@link TableWatermark#getPending()})，和当前水位线不一致的检查点不能用于断点续传
+     */
+    private String watermark;
+    /**
+     * 是否已经同步完成(增量同步的表使用水位线表示同步完成，不使用这个字段)
+     */
+    private boolean completed;
+}
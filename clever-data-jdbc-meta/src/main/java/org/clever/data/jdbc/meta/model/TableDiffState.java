@@ -0,0 +1,103 @@
+package org.clever.data.jdbc.meta.model;
+
+import lombok.Data;
+import org.clever.core.id.IDCreateUtils;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * 表数据比对信息(按主键范围计算校验和比对源表和目标表的数据)
+ * <p>
+ * 作者：lizw <br/>
+ * 创建时间：2026/10/19 04:35 <br/>
+ */
+@Data
+public class TableDiffState {
+    /**
+     * 比较方式: 在数据库内计算校验和(源数据库和目标数据库类型相同)
+     */
+    public static final String COMPARE_CHECKSUM = "checksum";
+    /**
+     * 比较方式: 读取数据在程序中计算每一行的 hash(源数据库和目标数据库类型不同)
+     */
+    public static final String COMPARE_ROW_HASH = "rowHash";
+    /**
+     * 比较方式: 只比较数据量(无法发现数据内容不一致)
+     */
+    public static final String COMPARE_COUNT = "count";
+
+    /**
+     * 比对任务ID
+     */
+    private String jobId = IDCreateUtils.uuid();
+    /**
+     * 表名称
+     */
+    private String tableName;
+    /**
+     * 主键字段(必须是整数字段，暂不支持字符串等其它类型的主键，为空时自动使用单字段主键)
+     */
+    private String keyColumn;
+    /**
+     * 第一次比对时拆分的范围数量
+     */
+    private int chunkCount = 16;
+    /**
+     * 校验和不一致时，把范围继续拆分的数量
+     */
+    private int fanout = 4;
+    /**
+     * 主键范围小于等于这个值时不再继续拆分
+     */
+    private long minChunkSize = 1000;
+    /**
+     * 比对完成后是否重新同步不一致的数据
+     */
+    private boolean repair = false;
+    /**
+     * 是否只比较数据量(为 true 时 compareMode 是 {@link #COMPARE_COUNT}，比对结果只能说明数据量一致)
+     */
+    private Boolean countOnly;
+    /**
+     * 比较方式: {@link #COMPARE_CHECKSUM}、{@link #COMPARE_ROW_HASH}、{@link #COMPARE_COUNT}，
+     * 为空时源数据库和目标数据库类型相同使用 {@link #COMPARE_CHECKSUM}，否则使用 {@link #COMPARE_ROW_HASH}
+     */
+    private String compareMode;
+    /**
+     * 主键最小值
+     */
+    private Long minKey;
+    /**
+     * 主键最大值
+     */
+    private Long maxKey;
+    /**
+     * 执行校验和查询的次数(每次查询源表和目标表各一次)
+     */
+    private volatile int checksumCount;
+    /**
+     * 数据不一致的主键范围
+     */
+    private List<DiffRange> diffRanges = new CopyOnWriteArrayList<>();
+    /**
+     * 是否中断
+     */
+    private volatile boolean interrupt = false;
+    /**
+     * 开始时间
+     */
+    private Long startTime;
+    /**
+     * 结束时间
+     */
+    private Long endTime;
+    /**
+     * 是否比对成功
+     */
+    private Boolean success;
+    /**
+     * 比对失败的错误消息
+     */
+    private String errorMsg;
+}
@@ -2,6 +2,8 @@ package org.clever.data.jdbc.meta.model;
 
 import lombok.Data;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Objects;
 
 /**
@@ -16,18 +18,30 @@ public class TableState {
      * 表名称
      */
     private String tableName;
+    /**
+     * 拆分分区使用的字段(必须是非空的数值字段，为空时自动使用单字段数值主键)
+     */
+    private String partitionColumn;
+    /**
+     * 增量同步使用的字段(单调递增的更新时间或者版本号，为空表示全量同步)
+     */
+    private String watermarkColumn;
+    /**
+     * 本次增量同步的数据范围
+     */
+    private String watermarkRange;
     /**
      * 总数据量
      */
-    private Integer dataCount;
+    private Long dataCount;
     /**
      * 当前同步位置
      */
-    private Integer currentIdx;
+    private Long currentIdx;
     /**
      * 同步成功数据量
      */
-    private Integer syncCount;
+    private Long syncCount;
     /**
      * 删除的数据量
      */
@@ -40,6 +54,24 @@ public class TableState {
      * 结束时间
      */
     private Long endTime;
+    /**
+     * 分区同步信息
+     */
+    private List<PartitionState> partitions = new ArrayList<>();
+
+    /**
+     * 增加读取的数据量(多个分区并发调用)
+     */
+    public synchronized void addCurrentIdx(long count) {
+        currentIdx = (currentIdx == null ? 0 : currentIdx) + count;
+    }
+
+    /**
+     * 增加同步成功的数据量(多个分区并发调用)
+     */
+    public synchronized void addSyncCount(long count) {
+        syncCount = (syncCount == null ? 0 : syncCount) + count;
+    }
 
     /**
      * 当前同步进度
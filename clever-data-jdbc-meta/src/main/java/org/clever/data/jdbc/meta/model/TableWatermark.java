@@ -0,0 +1,82 @@
+package org.clever.data.jdbc.meta.model;
+
+import lombok.Data;
+
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Date;
+
+/**
+ * 增量同步的高水位线(watermarkColumn 已经同步到的最大值)
+ * <p>
+ * 作者：lizw <br/>
+ * 创建时间：2026/10/19 04:31 <br/>
+ */
+@Data
+public class TableWatermark {
+    public static final String TYPE_NUMBER = "number";
+    public static final String TYPE_TIMESTAMP = "timestamp";
+    public static final String TYPE_STRING = "string";
+
+    /**
+     * 已经同步完成的水位线(下次同步 watermarkColumn >= value 的数据)
+     */
+    private String value;
+    /**
+     * 正在同步的水位线(同步中断后重新同步时使用相同的上限，同步完成后变成 value)
+     */
+    private String pending;
+    /**
+     * 水位线的数据类型: number、timestamp、string
+     */
+    private String type;
+    /**
+     * 最后一次同步完成的时间
+     */
+    private Long updateAt;
+
+    /**
+     * 把查询到的 watermarkColumn 值转换成可以保存的字符串，同时记录数据类型
+     */
+    public String toValue(Object watermark) {
+        if (watermark == null) {
+            return null;
+        }
+        if (watermark instanceof Number) {
+            type = TYPE_NUMBER;
+            return String.valueOf(watermark);
+        }
+        if (watermark instanceof Date) {
+            type = TYPE_TIMESTAMP;
+            return String.valueOf(((Date) watermark).getTime());
+        }
+        if (watermark instanceof LocalDateTime) {
+            type = TYPE_TIMESTAMP;
+            return String.valueOf(Timestamp.valueOf((LocalDateTime) watermark).getTime());
+        }
+        if (watermark instanceof LocalDate) {
+            type = TYPE_TIMESTAMP;
+            return String.valueOf(Timestamp.valueOf(((LocalDate) watermark).atStartOfDay()).getTime());
+        }
+        type = TYPE_STRING;
+        return String.valueOf(watermark);
+    }
+
+    /**
+     * 把保存的字符串还原成 sql 参数
+     */
+    public Object toParam(String value) {
+        if (value == null) {
+            return null;
+        }
+        if (TYPE_NUMBER.equals(type)) {
+            return new BigDecimal(value);
+        }
+        if (TYPE_TIMESTAMP.equals(type)) {
+            return new Timestamp(Long.parseLong(value));
+        }
+        return value;
+    }
+}
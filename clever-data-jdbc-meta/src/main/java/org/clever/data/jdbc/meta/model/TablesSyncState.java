@@ -18,6 +18,10 @@ public class TablesSyncState {
      * 同步任务ID
      */
     private String jobId = IDCreateUtils.uuid();
+    /**
+     * 检查点名称(需要在多次同步之间保持不变，为空表示不保存检查点)
+     */
+    private String checkpointName;
     /**
      * 同步前清除数据
      */
@@ -26,12 +30,28 @@ public class TablesSyncState {
      * 同步时跳过所有错误
      */
     private boolean skipError = true;
+    /**
+     * 同时同步的表数量
+     */
+    private int tableParallelism = 1;
+    /**
+     * 每张表拆分的分区数量(按主键范围拆分，每个分区一个读线程和一个写线程)
+     */
+    private int partitionCount = 1;
+    /**
+     * 每批次读取/写入的数据量
+     */
+    private int batchSize = 1000;
+    /**
+     * 读写线程之间缓冲的最大批次数量
+     */
+    private int queueCapacity = 4;
     /**
      * 数据表同步信息
      */
     private List<TableState> tableSyncInfos = new ArrayList<>();
     /**
-     * 当前同步的表信息
+     * 当前同步的表信息(只在 tableParallelism=1 时设置，并发同步多张表时使用 tableSyncInfos 中每张表的 startTime/endTime 判断同步进度)
      */
     private TableState currentSync;
     /**
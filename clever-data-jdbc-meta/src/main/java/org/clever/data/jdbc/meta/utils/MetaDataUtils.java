@@ -23,16 +23,58 @@ import java.util.List;
  */
 public class MetaDataUtils {
     /**
-     * 创建一个 DataBaseMetaData 对象
+     * 所有 DataBaseMetaData 共享的 Schema 元数据快照缓存(为null时不使用缓存)
+     */
+    private static volatile SchemaSnapshotCache SNAPSHOT_CACHE = new SchemaSnapshotCache();
+    /**
+     * 并行读取多个 Schema 元数据的线程数(小于等于1时不并行)
+     */
+    private static volatile int PARALLELISM = 1;
+
+    /**
+     * 设置共享的 Schema 元数据快照缓存(默认只使用内存缓存)，为null时不使用缓存
+     *
+     * @see SchemaSnapshotCache#SchemaSnapshotCache(String)
+     */
+    public static void setSnapshotCache(SchemaSnapshotCache snapshotCache) {
+        SNAPSHOT_CACHE = snapshotCache;
+    }
+
+    /**
+     * 共享的 Schema 元数据快照缓存(可能为null)
+     */
+    public static SchemaSnapshotCache getSnapshotCache() {
+        return SNAPSHOT_CACHE;
+    }
+
+    /**
+     * 设置并行读取多个 Schema 元数据的线程数(默认为1，小于等于1时不并行)
+     */
+    public static void setParallelism(int parallelism) {
+        PARALLELISM = parallelism;
+    }
+
+    /**
+     * 并行读取多个 Schema 元数据的线程数
+     */
+    public static int getParallelism() {
+        return PARALLELISM;
+    }
+
+    /**
+     * 创建一个 DataBaseMetaData 对象(使用共享的快照缓存和并行线程数)
      */
     public static AbstractMetaData createMetaData(Jdbc jdbc) {
         Assert.notNull(jdbc, "参数 jdbc 不能为null");
-        return switch (jdbc.getDbType()) {
+        AbstractMetaData metaData = switch (jdbc.getDbType()) {
             case MYSQL -> new MySQLMetaData(jdbc);
             case POSTGRE_SQL -> new PostgreSQLMetaData(jdbc);
             case ORACLE -> new OracleMetaData(jdbc);
             default -> throw new UnsupportedOperationException("不支持的数据库: " + jdbc.getDbType().getDb());
         };
+        metaData.setSnapshotCache(SNAPSHOT_CACHE);
+        metaData.setParallelism(PARALLELISM);
+        return metaData;
     }
 
     /**
@@ -3,12 +3,20 @@ package org.clever.data.jdbc.meta;
 import com.zaxxer.hikari.HikariConfig;
 import lombok.SneakyThrows;
 import lombok.extern.slf4j.Slf4j;
+import org.clever.core.mapper.JacksonMapper;
 import org.clever.data.jdbc.Jdbc;
+import org.clever.data.jdbc.meta.model.PartitionState;
 import org.clever.data.jdbc.meta.model.QuerySyncState;
 import org.clever.data.jdbc.meta.model.Table;
+import org.clever.data.jdbc.meta.model.TableDiffState;
+import org.clever.data.jdbc.meta.model.TableState;
+import org.clever.data.jdbc.meta.model.TableWatermark;
 import org.clever.data.jdbc.meta.model.TablesSyncState;
+import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 
+import java.nio.file.Files;
+
 /**
  * 作者：lizw <br/>
  * 创建时间：2023/11/21 18:15 <br/>
@@ -222,4 +230,168 @@ public class DataSyncJobTest {
 //        d100.close();
 //        d300.close();
 //    }
+
+    @SuppressWarnings("BusyWait")
+    @SneakyThrows
+    @Test
+    public void t10() {
+        Jdbc mysql = BaseTest.newMysql();
+        Jdbc postgresql = BaseTest.newPostgresql();
+        TablesSyncState syncState = new TablesSyncState();
+        syncState.setClearData(true);
+        syncState.setSkipError(false);
+        syncState.setTableParallelism(2);
+        syncState.setPartitionCount(4);
+        syncState.setBatchSize(2000);
+        for (String tableName : new String[]{"auto_increment_id", "biz_code"}) {
+            TableState tableState = new TableState();
+            tableState.setTableName(tableName);
+            syncState.getTableSyncInfos().add(tableState);
+        }
+        DataSyncJob.tableSync(mysql, postgresql, syncState);
+        while (syncState.getSuccess() == null) {
+            Thread.sleep(100);
+        }
+        Assertions.assertTrue(syncState.getSuccess(), syncState.getErrorMsg());
+        // 按分区并发同步之后，目标表的数据量和源表一致(包括分区字段为 null 的数据)
+        for (TableState table : syncState.getTableSyncInfos()) {
+            final String countSql = String.format("select count(1) from %s", table.getTableName());
+            final long sourceCount = mysql.queryLong(countSql);
+            Assertions.assertEquals(sourceCount, postgresql.queryLong(countSql), table.getTableName());
+            Assertions.assertEquals(sourceCount, table.getPartitions().stream().mapToLong(PartitionState::getSyncCount).sum(), table.getTableName());
+        }
+        mysql.close();
+        postgresql.close();
+    }
+
+    @SuppressWarnings("BusyWait")
+    @SneakyThrows
+    @Test
+    public void t11() {
+        Jdbc mysql = BaseTest.newMysql();
+        Jdbc postgresql = BaseTest.newPostgresql();
+        // 检查点和数据保存在同一个事务中，中断后重新执行会从上次的位置继续同步
+        SyncCheckpointStore checkpointStore = new JdbcSyncCheckpointStore(postgresql);
+        TablesSyncState syncState = new TablesSyncState();
+        syncState.setCheckpointName("mysql_to_postgresql");
+        syncState.setClearData(true);
+        syncState.setPartitionCount(4);
+        TableState tableState = new TableState();
+        tableState.setTableName("auto_increment_id");
+        syncState.getTableSyncInfos().add(tableState);
+        DataSyncJob.tableSync(mysql, postgresql, syncState, checkpointStore);
+        while (syncState.getSuccess() == null) {
+            log.info("State={}", syncState);
+            Thread.sleep(1000);
+        }
+        log.info("###完成 -> {}", syncState);
+        mysql.close();
+        postgresql.close();
+    }
+
+    @SuppressWarnings("BusyWait")
+    @SneakyThrows
+    @Test
+    public void t12() {
+        Jdbc mysql = BaseTest.newMysql();
+        Jdbc postgresql = BaseTest.newPostgresql();
+        // 增量同步: 每次只同步 update_at 大于等于上次水位线的数据
+        SyncCheckpointStore checkpointStore = new JdbcSyncCheckpointStore(postgresql);
+        for (int i = 0; i < 2; i++) {
+            TablesSyncState syncState = new TablesSyncState();
+            syncState.setCheckpointName("mysql_to_postgresql_incremental");
+            syncState.setPartitionCount(2);
+            TableState tableState = new TableState();
+            tableState.setTableName("biz_code");
+            tableState.setWatermarkColumn("update_at");
+            syncState.getTableSyncInfos().add(tableState);
+            DataSyncJob.tableSync(mysql, postgresql, syncState, checkpointStore);
+            while (syncState.getSuccess() == null) {
+                Thread.sleep(1000);
+            }
+            log.info("###完成 -> range={} | syncCount={}", tableState.getWatermarkRange(), tableState.getSyncCount());
+        }
+        mysql.close();
+        postgresql.close();
+    }
+
+    @SuppressWarnings("BusyWait")
+    @SneakyThrows
+    @Test
+    public void t14() {
+        Jdbc mysql = BaseTest.newMysql();
+        Jdbc postgresql = BaseTest.newPostgresql();
+        // 其他表同步失败时，增量同步的表仍然提升水位线并删除检查点，下次同步继续增量同步
+        SyncCheckpointStore checkpointStore = new FileSyncCheckpointStore(Files.createTempDirectory("sync-checkpoint").toString());
+        final String checkpointName = "mysql_to_postgresql_fail";
+        for (int i = 0; i < 2; i++) {
+            TablesSyncState syncState = new TablesSyncState();
+            syncState.setCheckpointName(checkpointName);
+            syncState.setSkipError(true);
+            TableState incremental = new TableState();
+            incremental.setTableName("biz_code");
+            incremental.setWatermarkColumn("update_at");
+            syncState.getTableSyncInfos().add(incremental);
+            TableState failing = new TableState();
+            failing.setTableName("table_not_exists");
+            syncState.getTableSyncInfos().add(failing);
+            DataSyncJob.tableSync(mysql, postgresql, syncState, checkpointStore);
+            while (syncState.getSuccess() == null) {
+                Thread.sleep(100);
+            }
+            Assertions.assertTrue(syncState.getSuccess(), syncState.getErrorMsg());
+            // 增量同步的表每次都会同步，不会因为上次其他表失败而跳过
+            Assertions.assertNotNull(incremental.getWatermarkRange());
+            Assertions.assertNotNull(incremental.getSyncCount());
+            Assertions.assertNull(checkpointStore.load(checkpointName + ".biz_code"));
+            TableWatermark watermark = JacksonMapper.getInstance().fromJson(checkpointStore.load(checkpointName + ".biz_code.watermark"), TableWatermark.class);
+            Assertions.assertNotNull(watermark.getValue());
+            Assertions.assertNull(watermark.getPending());
+        }
+        mysql.close();
+        postgresql.close();
+    }
+
+    @SuppressWarnings("BusyWait")
+    @SneakyThrows
+    @Test
+    public void t13() {
+        Jdbc source = BaseTest.newPostgresql();
+        Jdbc target = BaseTest.newPostgresql();
+        TableDiffState diffState = new TableDiffState();
+        diffState.setTableName("auto_increment_id");
+        diffState.setMinChunkSize(100);
+        diffState.setRepair(true);
+        DataSyncJob.tableDiff(source, target, diffState);
+        while (diffState.getSuccess() == null) {
+            Thread.sleep(500);
+        }
+        log.info("###完成 -> checksumCount={} | diffRanges={}", diffState.getChecksumCount(), diffState.getDiffRanges());
+        source.close();
+        target.close();
+    }
+
+    /**
+     * 不同类型的数据库读取数据计算 hash 比对
+     */
+    @SuppressWarnings("BusyWait")
+    @SneakyThrows
+    @Test
+    public void t15() {
+        Jdbc source = BaseTest.newMysql();
+        Jdbc target = BaseTest.newPostgresql();
+        TableDiffState diffState = new TableDiffState();
+        diffState.setTableName("auto_increment_id");
+        diffState.setMinChunkSize(100);
+        DataSyncJob.tableDiff(source, target, diffState);
+        while (diffState.getSuccess() == null) {
+            Thread.sleep(500);
+        }
+        log.info("###完成 -> compareMode={} | checksumCount={} | diffRanges={}", diffState.getCompareMode(), diffState.getChecksumCount(), diffState.getDiffRanges());
+        Assertions.assertTrue(diffState.getSuccess());
+        Assertions.assertEquals(TableDiffState.COMPARE_ROW_HASH, diffState.getCompareMode());
+        Assertions.assertFalse(diffState.getCountOnly());
+        source.close();
+        target.close();
+    }
 }
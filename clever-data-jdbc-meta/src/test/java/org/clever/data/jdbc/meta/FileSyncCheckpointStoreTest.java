@@ -0,0 +1,74 @@
+package org.clever.data.jdbc.meta;
+
+import lombok.SneakyThrows;
+import lombok.extern.slf4j.Slf4j;
+import org.clever.core.mapper.JacksonMapper;
+import org.clever.data.jdbc.meta.model.PartitionCheckpoint;
+import org.clever.data.jdbc.meta.model.TableWatermark;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.sql.Timestamp;
+
+/**
+ * 作者：lizw <br/>
+ * 创建时间：2026/10/19 04:28 <br/>
+ */
+@Slf4j
+public class FileSyncCheckpointStoreTest {
+    @SneakyThrows
+    @Test
+    public void t01() {
+        String dir = Files.createTempDirectory("sync-checkpoint").toString();
+        FileSyncCheckpointStore store = new FileSyncCheckpointStore(dir);
+        String name = "job.schema.tab.0";
+        Assertions.assertNull(store.load(name));
+        PartitionCheckpoint checkpoint = new PartitionCheckpoint();
+        checkpoint.setLastKey(123456789L);
+        checkpoint.setNumericKey(true);
+        checkpoint.setPosition(1000);
+        checkpoint.setSyncCount(1000);
+        store.save(name, JacksonMapper.getInstance().toJson(checkpoint));
+        PartitionCheckpoint loaded = JacksonMapper.getInstance().fromJson(store.load(name), PartitionCheckpoint.class);
+        log.info("--> {}", loaded);
+        Assertions.assertEquals(123456789L, ((Number) loaded.getKeyValue()).longValue());
+        Assertions.assertEquals(1000, loaded.getSyncCount());
+        store.remove(name);
+        Assertions.assertNull(store.load(name));
+    }
+
+    @SneakyThrows
+    @Test
+    public void t02() {
+        String dir = Files.createTempDirectory("sync-checkpoint").toString();
+        FileSyncCheckpointStore store = new FileSyncCheckpointStore(dir);
+        Timestamp updateAt = Timestamp.valueOf("2026-10-19 16:30:15.123");
+        TableWatermark watermark = new TableWatermark();
+        watermark.setPending(watermark.toValue(updateAt));
+        store.save("watermark", JacksonMapper.getInstance().toJson(watermark));
+        TableWatermark loaded = JacksonMapper.getInstance().fromJson(store.load("watermark"), TableWatermark.class);
+        log.info("--> {}", loaded);
+        Assertions.assertEquals(TableWatermark.TYPE_TIMESTAMP, loaded.getType());
+        Assertions.assertEquals(updateAt, loaded.toParam(loaded.getPending()));
+    }
+
+    /**
+     * 数值 lastKey 使用字符串保存，读取时不丢失精度
+     */
+    @SneakyThrows
+    @Test
+    public void t03() {
+        String dir = Files.createTempDirectory("sync-checkpoint").toString();
+        FileSyncCheckpointStore store = new FileSyncCheckpointStore(dir);
+        BigDecimal lastKey = new BigDecimal("9007199254740993.000000001");
+        PartitionCheckpoint checkpoint = new PartitionCheckpoint();
+        checkpoint.setLastKey(lastKey.toPlainString());
+        checkpoint.setNumericKey(true);
+        store.save("key", JacksonMapper.getInstance().toJson(checkpoint));
+        PartitionCheckpoint loaded = JacksonMapper.getInstance().fromJson(store.load("key"), PartitionCheckpoint.class);
+        log.info("--> {}", loaded);
+        Assertions.assertEquals(lastKey, loaded.getKeyValue());
+    }
+}
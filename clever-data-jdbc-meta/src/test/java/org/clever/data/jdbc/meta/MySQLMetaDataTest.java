@@ -4,9 +4,12 @@ import lombok.extern.slf4j.Slf4j;
 import org.clever.data.jdbc.Jdbc;
 import org.clever.data.jdbc.meta.model.Schema;
 import org.clever.data.jdbc.meta.model.Table;
+import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 
 /**
  * 作者：lizw <br/>
@@ -41,4 +44,42 @@ public class MySQLMetaDataTest {
         log.info("--> \n{}", metaData.createProcedure(schemas.get(1).getProcedures().get(0)));
         jdbc.close();
     }
+
+    @Test
+    public void t04() {
+        Jdbc jdbc = BaseTest.newMysql();
+        MySQLMetaData metaData = new MySQLMetaData(jdbc);
+        metaData.setSnapshotCache(new SchemaSnapshotCache());
+        metaData.setParallelism(4);
+        long startTime = System.currentTimeMillis();
+        List<Schema> schemas = metaData.getSchemas(null, null);
+        log.info("--> 读取数据库 schemas={} | 耗时={}ms", schemas.size(), System.currentTimeMillis() - startTime);
+        startTime = System.currentTimeMillis();
+        schemas = metaData.getSchemas(null, null);
+        log.info("--> 读取快照 schemas={} | 耗时={}ms", schemas.size(), System.currentTimeMillis() - startTime);
+        jdbc.close();
+    }
+
+    /**
+     * 只修改注释、重命名索引也会改变数据字典版本号
+     */
+    @Test
+    public void t05() {
+        Jdbc jdbc = BaseTest.newMysql();
+        MySQLMetaData metaData = new MySQLMetaData(jdbc);
+        jdbc.update("drop table if exists snapshot_version_test");
+        jdbc.update("create table snapshot_version_test(id bigint primary key, name varchar(63), index idx_name(name)) comment 'v1'");
+        try {
+            Map<String, String> versions = metaData.getCatalogVersions(Collections.emptyList(), Collections.emptySet());
+            jdbc.update("alter table snapshot_version_test comment 'v2'");
+            Map<String, String> commentVersions = metaData.getCatalogVersions(Collections.emptyList(), Collections.emptySet());
+            Assertions.assertNotEquals(versions, commentVersions);
+            jdbc.update("alter table snapshot_version_test rename index idx_name to idx_name2");
+            Map<String, String> indexVersions = metaData.getCatalogVersions(Collections.emptyList(), Collections.emptySet());
+            Assertions.assertNotEquals(commentVersions, indexVersions);
+        } finally {
+            jdbc.update("drop table if exists snapshot_version_test");
+            jdbc.close();
+        }
+    }
 }
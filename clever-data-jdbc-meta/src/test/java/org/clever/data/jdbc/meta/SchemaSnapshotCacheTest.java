@@ -0,0 +1,82 @@
+package org.clever.data.jdbc.meta;
+
+import lombok.SneakyThrows;
+import lombok.extern.slf4j.Slf4j;
+import org.clever.data.dynamic.sql.dialect.DbType;
+import org.clever.data.jdbc.meta.model.*;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.nio.file.Files;
+
+/**
+ * 作者：lizw <br/>
+ * 创建时间：2026/10/19 04:41 <br/>
+ */
+@Slf4j
+public class SchemaSnapshotCacheTest {
+    private static Schema newSchema() {
+        Schema schema = new Schema(DbType.MYSQL, "8.0.33", "test");
+        Table table = new Table(schema);
+        table.setName("user");
+        table.setComment("用户表");
+        table.setAttribute("engine", "InnoDB");
+        for (String name : new String[]{"id", "name", "age"}) {
+            Column column = new Column(table);
+            column.setName(name);
+            column.setDataType("id".equals(name) ? "bigint" : "varchar");
+            column.setSize(64);
+            column.setOrdinalPosition(table.getColumns().size() + 1);
+            table.addColumn(column);
+        }
+        PrimaryKey primaryKey = new PrimaryKey(table);
+        primaryKey.setName("primary");
+        primaryKey.addColumn(table.getColumn("id"));
+        table.setPrimaryKey(primaryKey);
+        Index index = new Index(table);
+        index.setName("idx_name");
+        index.setUnique(true);
+        index.addColumn(table.getColumn("name"));
+        table.addIndex(index);
+        schema.addTable(table);
+        Procedure procedure = new Procedure(schema);
+        procedure.setName("p_test");
+        procedure.setDefinition("create procedure p_test() begin end;");
+        schema.addProcedure(procedure);
+        return schema;
+    }
+
+    @SneakyThrows
+    @Test
+    public void t01() {
+        String dir = Files.createTempDirectory("schema-snapshot").toString();
+        SchemaSnapshotCache cache = new SchemaSnapshotCache(dir);
+        String key = "mysql@mysql/test/";
+        cache.put(key, "v1", newSchema());
+        // 从快照文件中读取
+        Schema schema = new SchemaSnapshotCache(dir).get(key, "v1");
+        log.info("--> {}", schema);
+        Assertions.assertNotNull(schema);
+        Table table = schema.getTable("user");
+        Assertions.assertEquals(3, table.getColumns().size());
+        Assertions.assertEquals("InnoDB", table.getAttribute("engine"));
+        Assertions.assertSame(table.getColumn("id"), table.getPrimaryKey().getColumns().get(0));
+        Assertions.assertSame(table.getColumn("name"), table.getIndex("idx_name").getColumns().get(0));
+        Assertions.assertTrue(table.getIndex("idx_name").isUnique());
+        Assertions.assertEquals(1, schema.getProcedures().size());
+        // 版本号变化后快照失效
+        Assertions.assertNull(cache.get(key, "v2"));
+        cache.remove(key);
+        Assertions.assertNull(new SchemaSnapshotCache(dir).get(key, "v1"));
+    }
+
+    @Test
+    public void t02() {
+        SchemaSnapshotCache cache = new SchemaSnapshotCache();
+        cache.put("test", "v1", newSchema());
+        Schema schema = cache.get("test", "v1");
+        schema.getTable("user").getColumns().clear();
+        // 修改返回的对象不影响缓存
+        Assertions.assertEquals(3, cache.get("test", "v1").getTable("user").getColumns().size());
+    }
+}
@@ -38,6 +38,7 @@ import org.clever.data.dynamic.sql.dialect.DbType;
 import org.clever.data.jdbc.dialects.DialectFactory;
 import org.clever.data.jdbc.listener.JdbcListeners;
 import org.clever.data.jdbc.listener.OracleDbmsOutputListener;
+import org.clever.data.jdbc.listener.PhaseTimerListener;
 import org.clever.data.jdbc.querydsl.SQLLogListener;
 import org.clever.data.jdbc.support.*;
 import org.clever.data.jdbc.support.features.DataBaseFeatures;
@@ -272,6 +273,7 @@ public class Jdbc extends AbstractDataSource {
      */
     private void init() {
         listeners.add(new OracleDbmsOutputListener(this.enableSqlWarning, this.sqlWarningBuffer));
+        listeners.add(PhaseTimerListener.INSTANCE);
     }
 
     @Override
@@ -124,10 +124,13 @@ public class JdbcBootstrap {
         // 打印配置日志
         List<String> logs = new ArrayList<>();
         logs.add("mybatis: ");
-        logs.add("  enable   : " + mybatisConfig.isEnable());
-        logs.add("  watcher  : " + mybatisConfig.isWatcher());
-        logs.add("  interval : " + StrFormatter.toPlainString(interval));
-        logs.add("  locations: ");
+        logs.add("  enable            : " + mybatisConfig.isEnable());
+        logs.add("  watcher           : " + mybatisConfig.isWatcher());
+        logs.add("  interval          : " + StrFormatter.toPlainString(interval));
+        logs.add("  nativeWatch       : " + mybatisConfig.isNativeWatch());
+        logs.add("  eagerCompile      : " + mybatisConfig.isEagerCompile());
+        logs.add("  compileParallelism: " + mybatisConfig.getCompileParallelism());
+        logs.add("  locations         : ");
         for (MybatisConfig.MapperLocation location : locations) {
             String path = location.getLocation();
             if (MybatisConfig.FileType.FileSystem.equals(location.getFileType())) {
@@ -150,10 +153,12 @@ public class JdbcBootstrap {
         for (MybatisConfig.MapperLocation location : locations) {
             MyBatisMapperSql mybatisMapperSql;
             if (MybatisConfig.FileType.FileSystem.equals(location.getFileType())) {
-                mybatisMapperSql = new FileSystemMyBatisMapperSql(
+                FileSystemMyBatisMapperSql fileSystemMapperSql = new FileSystemMyBatisMapperSql(
                     ResourcePathUtils.getAbsolutePath(rootPath, location.getLocation()),
                     location.getFilter()
                 );
+                fileSystemMapperSql.setNativeWatch(mybatisConfig.isNativeWatch());
+                mybatisMapperSql = fileSystemMapperSql;
             } else if (MybatisConfig.FileType.Jar.equals(location.getFileType())) {
                 mybatisMapperSql = new ClassPathMyBatisMapperSql(
                     location.getLocation(),
@@ -165,7 +170,11 @@ public class JdbcBootstrap {
             mybatisMapperSqlList.add(mybatisMapperSql);
         }
         ComposeMyBatisMapperSql composeMyBatisMapperSql = new ComposeMyBatisMapperSql(mybatisMapperSqlList);
-        composeMyBatisMapperSql.reloadAll();
+        if (mybatisConfig.isEagerCompile()) {
+            composeMyBatisMapperSql.compileAll(mybatisConfig.getCompileParallelism());
+        } else {
+            composeMyBatisMapperSql.reloadAll();
+        }
         if (mybatisConfig.isWatcher() && !interval.isZero()) {
             composeMyBatisMapperSql.startWatch(interval.toMillis());
             AppShutdownHook.addShutdownHook(composeMyBatisMapperSql::stopWatch, OrderIncrement.NORMAL, "停止监听mapper(sql.xml)文件");
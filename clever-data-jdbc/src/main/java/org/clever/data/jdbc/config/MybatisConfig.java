@@ -25,9 +25,21 @@ public class MybatisConfig {
      */
     private boolean watcher = false;
     /**
-     * 文件检查时间间隔(默认1秒)
+     * 文件检查时间间隔(默认1秒)，使用文件系统事件监听时作为防抖动延时时间
      */
     private Duration interval = Duration.ofSeconds(1);
+    /**
+     * FileSystem类型的mapper.xml是否使用操作系统的文件事件监听变化(只重新加载变化的文件)，不支持时退回到定时轮询
+     */
+    private boolean nativeWatch = true;
+    /**
+     * 启动时是否并行预编译所有的 mapper.xml(提前发现错误的SQL，避免首次请求时解析sql.xml)
+     */
+    private boolean eagerCompile = false;
+    /**
+     * 预编译的并行线程数(小于等于0时使用CPU核数)
+     */
+    private int compileParallelism = 0;
     /**
      * mapper.xml文件路径配置
      */
@@ -35,8 +35,21 @@ public class JdbcListeners implements JdbcListener {
 
     @Override
     public void afterExec(DbType dbType, NamedParameterJdbcTemplate jdbcTemplate, Exception exception) {
+        // 某个监听器异常时，仍然调用其它监听器(否则它们在 beforeExec 中保存的状态无法清理)
+        RuntimeException error = null;
         for (JdbcListener listener : listeners) {
-            listener.afterExec(dbType, jdbcTemplate, exception);
+            try {
+                listener.afterExec(dbType, jdbcTemplate, exception);
+            } catch (RuntimeException e) {
+                if (error == null) {
+                    error = e;
+                } else {
+                    error.addSuppressed(e);
+                }
+            }
+        }
+        if (error != null) {
+            throw error;
         }
     }
 }
@@ -0,0 +1,57 @@
+package org.clever.data.jdbc.listener;
+
+import org.clever.core.PhaseTimer;
+import org.clever.data.dynamic.sql.dialect.DbType;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+
+/**
+ * 统计sql执行耗时到当前线程绑定的 {@link PhaseTimer}(阶段名称: {@link #PHASE})
+ * <p>
+ * 作者：lizw <br/>
+ * 创建时间：2026/10/19 05:42 <br/>
+ */
+public class PhaseTimerListener implements JdbcListener {
+    public static final String PHASE = "sql";
+    public static final PhaseTimerListener INSTANCE = new PhaseTimerListener();
+
+    /**
+     * 只统计最外层的数据库操作。嵌套层数属于开始计时的计时器，
+     * 当前线程绑定了新的计时器(新的请求)时重新计数，之前没有配对的 afterExec 不会影响后续请求
+     */
+    private static final ThreadLocal<State> STATE = ThreadLocal.withInitial(State::new);
+
+    @Override
+    public void beforeExec(DbType dbType, NamedParameterJdbcTemplate jdbcTemplate) {
+        final PhaseTimer timer = PhaseTimer.current();
+        if (timer == null) {
+            return;
+        }
+        final State state = STATE.get();
+        if (state.timer != timer) {
+            state.timer = timer;
+            state.depth = 0;
+        }
+        if (state.depth++ == 0) {
+            state.startTime = System.nanoTime();
+        }
+    }
+
+    @Override
+    public void afterExec(DbType dbType, NamedParameterJdbcTemplate jdbcTemplate, Exception exception) {
+        final State state = STATE.get();
+        if (state.timer == null || --state.depth > 0) {
+            return;
+        }
+        final PhaseTimer timer = state.timer;
+        // 不持有已完成请求的计时器
+        state.timer = null;
+        state.depth = 0;
+        timer.add(PHASE, System.nanoTime() - state.startTime);
+    }
+
+    private static class State {
+        private PhaseTimer timer;
+        private int depth;
+        private long startTime;
+    }
+}
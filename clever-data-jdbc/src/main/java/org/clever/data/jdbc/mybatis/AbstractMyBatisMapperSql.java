@@ -68,6 +68,15 @@ public abstract class AbstractMyBatisMapperSql implements MyBatisMapperSql {
      */
     private final DaemonExecutor daemonWatch = new DaemonExecutor(String.format("mybatis-watch-%s", EXECUTOR_COUNT.incrementAndGet()));
     private volatile boolean watch = false;
+    /**
+     * 是否已执行预编译({@link #compileAll(int)})，预编译之后加载的sql.xml文件也会预编译OGNL表达式
+     */
+    private volatile boolean compiled = false;
+    /**
+     * 预编译之后的sqlId索引 {@code ConcurrentMap<stdXmlPath, Set<sqlId>>}，
+     * 预编译之后由 {@link #reloadFile(String, boolean)}(文件监听、reloadAll)更新，查询不存在的sqlId时不需要再读取文件
+     */
+    private final ConcurrentMap<String, Set<String>> sqlIdIndex = new ConcurrentHashMap<>(512);
 
     @Override
     public SqlSource getSqlSource(final String sqlId, final String stdXmlPath, final DbType dbType, String... projects) {
@@ -97,8 +106,16 @@ public abstract class AbstractMyBatisMapperSql implements MyBatisMapperSql {
         }
         SqlSource sqlSource = sqlSourceGroup.getSqlSource(sqlId, dbType, projects);
         if (sqlSource == null) {
+            // 已预编译的sql.xml文件中不存在的sqlId，不需要再读取文件(文件变化之后 reloadFile 会更新索引)
+            final Set<String> sqlIds = compiled ? sqlIdIndex.get(FilenameUtils.normalize(stdXmlPath, true)) : null;
+            if (sqlIds != null && !sqlIds.contains(sqlId)) {
+                return null;
+            }
             // 加载sql -> stdXmlPath, dbType, projects
             loadSqlSourceGroup(sqlSourceGroup, sqlId, stdXmlPath, dbType, projects);
+            if (compiled) {
+                updateSqlIdIndex(stdXmlPath, sqlSourceGroup);
+            }
             sqlSource = sqlSourceGroup.getSqlSource(sqlId, dbType, projects);
         }
         return sqlSource;
@@ -106,6 +123,18 @@ public abstract class AbstractMyBatisMapperSql implements MyBatisMapperSql {
 
     @Override
     public void reloadFile(final String xmlPath, boolean skipException) {
+        reloadFile(xmlPath, skipException, compiled);
+    }
+
+    /**
+     * 重新加载指定文件(文件被删除或者文件更新之后调用)
+     *
+     * @param xmlPath           sql.xml文件同路径，如：“org/clever/biz/dao/UserDao.xml”、“org/clever/biz/dao/UserDao.mysql.xml”
+     * @param skipException     是否跳过异常
+     * @param compileExpression 是否预编译OGNL表达式
+     * @return {@code TupleTwo<加载的SqlSource数量, 是否存在异常>}
+     */
+    protected TupleTwo<Integer, Boolean> reloadFile(final String xmlPath, boolean skipException, boolean compileExpression) {
         final boolean exists = fileExists(xmlPath);
         final String extName = FilenameUtils.getExtension(xmlPath);
         Assert.isTrue("xml".equals(extName), String.format("sql.xml文件后缀名必须是“.xml”：%s", xmlPath));
@@ -118,21 +147,22 @@ public abstract class AbstractMyBatisMapperSql implements MyBatisMapperSql {
         final DbType dbType = DbType.getDbType(project);
         SqlSourceGroup sqlSourceGroup = getSqlSourceGroup(stdXmlPath);
         if (exists && sqlSourceGroup == null) {
-            sqlSourceGroup = new SqlSourceGroup();
-            putSqlSourceGroup(stdXmlPath, sqlSourceGroup);
+            // 同一个sql.xml的多个方言文件可能被并行加载
+            sqlSourceGroup = allSqlSourceGroupMap.computeIfAbsent(FilenameUtils.normalize(stdXmlPath, true), key -> new SqlSourceGroup());
         }
         if (!exists && sqlSourceGroup == null) {
-            return;
+            return TupleTwo.creat(0, false);
         }
+        Map<String, SqlSource> sqlSourceMap = null;
+        boolean hasException = false;
         if (exists) {
             // 文件存在
-            Map<String, SqlSource> sqlSourceMap = null;
-            boolean hasException = false;
             try (InputStream inputStream = openInputStream(xmlPath)) {
-                TupleTwo<Map<String, SqlSource>, Boolean> tupleTwo = loadSqlSource(inputStream, xmlPath);
+                TupleTwo<Map<String, SqlSource>, Boolean> tupleTwo = loadSqlSource(inputStream, xmlPath, compileExpression);
                 sqlSourceMap = tupleTwo.getValue1();
                 hasException = tupleTwo.getValue2();
-            } catch (Exception ignored) {
+            } catch (Exception e) {
+                hasException = true;
             }
             if (sqlSourceMap != null && (!hasException || skipException)) {
                 if (dbType != null) {
@@ -153,6 +183,10 @@ public abstract class AbstractMyBatisMapperSql implements MyBatisMapperSql {
                 sqlSourceGroup.clearStdSqlSource();
             }
         }
+        if (compiled) {
+            updateSqlIdIndex(stdXmlPath, sqlSourceGroup);
+        }
+        return TupleTwo.creat(sqlSourceMap == null ? 0 : sqlSourceMap.size(), hasException);
     }
 
     @Override
@@ -172,8 +206,34 @@ public abstract class AbstractMyBatisMapperSql implements MyBatisMapperSql {
             }
         });
         // 加载文件
-        List<Future<?>> futures = new ArrayList<>(needLoad.size());
-        for (String absolutePath : needLoad) {
+        loadFiles(needLoad);
+        // 更新 sqlXmlLastModifiedMap
+        sqlXmlLastModifiedMap.clear();
+        sqlXmlLastModifiedMap.putAll(newLastModifiedMap);
+    }
+
+    /**
+     * 增量加载发生变化的文件(由文件系统事件触发，不需要扫描所有文件)
+     *
+     * @param changedFiles 发生变化的文件 {@code Map<AbsolutePath, LastModified>}，LastModified为null表示文件被删除
+     */
+    protected synchronized void reloadChangedFiles(Map<String, Long> changedFiles) {
+        if (changedFiles == null || changedFiles.isEmpty()) {
+            return;
+        }
+        loadFiles(changedFiles.keySet());
+        changedFiles.forEach((absolutePath, lastModified) -> {
+            if (lastModified == null) {
+                sqlXmlLastModifiedMap.remove(absolutePath);
+            } else {
+                sqlXmlLastModifiedMap.put(absolutePath, lastModified);
+            }
+        });
+    }
+
+    private void loadFiles(Collection<String> absolutePaths) {
+        List<Future<?>> futures = new ArrayList<>(absolutePaths.size());
+        for (String absolutePath : absolutePaths) {
             Future<?> future = LOAD_XML_EXECUTOR.submit(() -> {
                 log.info("# 解析文件: {}", absolutePath);
                 try {
@@ -191,9 +251,84 @@ public abstract class AbstractMyBatisMapperSql implements MyBatisMapperSql {
             } catch (Exception ignored) {
             }
         }
+    }
+
+    @Override
+    public synchronized void compileAll(int parallelism) {
+        if (parallelism <= 0) {
+            parallelism = Runtime.getRuntime().availableProcessors();
+        }
+        final long startTime = System.currentTimeMillis();
+        final Map<String, Long> newLastModifiedMap = getAllLastModified();
+        final AtomicInteger sqlCount = new AtomicInteger(0);
+        final List<String> failFiles = new CopyOnWriteArrayList<>();
+        final ExecutorService executor = Executors.newFixedThreadPool(
+            Math.max(1, Math.min(parallelism, newLastModifiedMap.size())),
+            new BasicThreadFactory.Builder()
+                .namingPattern("compile-mybatis-%d")
+                .daemon(true)
+                .build()
+        );
+        try {
+            List<Future<?>> futures = new ArrayList<>(newLastModifiedMap.size());
+            for (String absolutePath : newLastModifiedMap.keySet()) {
+                Future<?> future = executor.submit(() -> {
+                    final long start = System.nanoTime();
+                    try {
+                        TupleTwo<Integer, Boolean> result = reloadFile(getXmlPath(absolutePath), true, true);
+                        sqlCount.addAndGet(result.getValue1());
+                        if (result.getValue2()) {
+                            failFiles.add(absolutePath);
+                        }
+                        log.info(
+                            "# 编译文件: {} | sql={} | cost={}ms",
+                            absolutePath, result.getValue1(), TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start)
+                        );
+                    } catch (Exception e) {
+                        failFiles.add(absolutePath);
+                        log.error("# 编译sql.xml文件失败 | path={}", absolutePath, e);
+                    }
+                });
+                futures.add(future);
+            }
+            // 等待编译结束
+            for (Future<?> future : futures) {
+                try {
+                    future.get();
+                } catch (Exception ignored) {
+                }
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        // 构建 sqlId 索引
+        allSqlSourceGroupMap.forEach((stdXmlPath, sqlSourceGroup) -> sqlIdIndex.put(stdXmlPath, Set.copyOf(sqlSourceGroup.getSqlIds())));
+        sqlIdIndex.keySet().retainAll(allSqlSourceGroupMap.keySet());
+        compiled = true;
         // 更新 sqlXmlLastModifiedMap
         sqlXmlLastModifiedMap.clear();
         sqlXmlLastModifiedMap.putAll(newLastModifiedMap);
+        log.info(
+            "# 预编译sql.xml完成 | files={} | sql={} | parallelism={} | cost={}ms",
+            newLastModifiedMap.size(), sqlCount.get(), parallelism, System.currentTimeMillis() - startTime
+        );
+        for (String failFile : failFiles) {
+            log.error("# 预编译sql.xml存在错误 | path={}", failFile);
+        }
+    }
+
+    /**
+     * 是否已执行预编译
+     */
+    public boolean isCompiled() {
+        return compiled;
+    }
+
+    /**
+     * 返回预编译之后的sqlId索引 {@code Map<stdXmlPath, Set<sqlId>>}，未预编译返回null
+     */
+    public Map<String, Set<String>> getSqlIdIndex() {
+        return compiled ? Collections.unmodifiableMap(sqlIdIndex) : null;
     }
 
     @Override
@@ -205,7 +340,10 @@ public abstract class AbstractMyBatisMapperSql implements MyBatisMapperSql {
             if (watch) {
                 return;
             }
-            daemonWatch.scheduleAtFixedRate(this::reloadAll, period);
+            // 优先使用文件系统事件监听，不支持时定时轮询文件的最后修改时间
+            if (!startEventWatch(period)) {
+                daemonWatch.scheduleAtFixedRate(this::reloadAll, period);
+            }
             watch = true;
         }
     }
@@ -219,11 +357,28 @@ public abstract class AbstractMyBatisMapperSql implements MyBatisMapperSql {
             if (!watch) {
                 return;
             }
+            stopEventWatch();
             daemonWatch.stop();
             watch = false;
         }
     }
 
+    /**
+     * 使用文件系统事件监听sql.xml文件变化，文件变化时调用 {@link #reloadChangedFiles(Map)}
+     *
+     * @param delayMillis 防抖动延时时间(单位：毫秒)
+     * @return 不支持文件系统事件监听返回false
+     */
+    protected boolean startEventWatch(long delayMillis) {
+        return false;
+    }
+
+    /**
+     * 停止文件系统事件监听
+     */
+    protected void stopEventWatch() {
+    }
+
     @Override
     public boolean isWatch() {
         return watch;
@@ -237,6 +392,10 @@ public abstract class AbstractMyBatisMapperSql implements MyBatisMapperSql {
         allSqlSourceGroupMap.put(FilenameUtils.normalize(stdXmlPath, true), sqlSourceGroup);
     }
 
+    private void updateSqlIdIndex(final String stdXmlPath, final SqlSourceGroup sqlSourceGroup) {
+        sqlIdIndex.put(FilenameUtils.normalize(stdXmlPath, true), Set.copyOf(sqlSourceGroup.getSqlIds()));
+    }
+
     protected void loadSqlSourceGroup(final SqlSourceGroup sqlSourceGroup, final String sqlId, final String stdXmlPath, final DbType dbType, String... projects) {
         String extName = FilenameUtils.getExtension(stdXmlPath);
         Assert.isTrue("xml".equals(extName), String.format("sql.xml文件后缀名必须是“.xml”：%s", stdXmlPath));
@@ -251,7 +410,7 @@ public abstract class AbstractMyBatisMapperSql implements MyBatisMapperSql {
             if (fileExists(projectXmlPath)) {
                 Map<String, SqlSource> sqlSourceMap = Collections.emptyMap();
                 try (InputStream inputStream = openInputStream(projectXmlPath)) {
-                    sqlSourceMap = loadSqlSource(inputStream, projectXmlPath).getValue1();
+                    sqlSourceMap = loadSqlSource(inputStream, projectXmlPath, compiled).getValue1();
                     sqlSourceGroup.clearAndSetProjectMap(project, sqlSourceMap);
                 } catch (Exception ignored) {
                 }
@@ -265,7 +424,7 @@ public abstract class AbstractMyBatisMapperSql implements MyBatisMapperSql {
         if (fileExists(dbTypeXmlPath)) {
             Map<String, SqlSource> sqlSourceMap = Collections.emptyMap();
             try (InputStream inputStream = openInputStream(dbTypeXmlPath)) {
-                sqlSourceMap = loadSqlSource(inputStream, dbTypeXmlPath).getValue1();
+                sqlSourceMap = loadSqlSource(inputStream, dbTypeXmlPath, compiled).getValue1();
                 sqlSourceGroup.clearAndSetDbTypeMap(dbType, sqlSourceMap);
             } catch (Exception ignored) {
             }
@@ -276,7 +435,7 @@ public abstract class AbstractMyBatisMapperSql implements MyBatisMapperSql {
         // 标准SQL文件
         if (fileExists(stdXmlPath)) {
             try (InputStream inputStream = openInputStream(stdXmlPath)) {
-                Map<String, SqlSource> sqlSourceMap = loadSqlSource(inputStream, stdXmlPath).getValue1();
+                Map<String, SqlSource> sqlSourceMap = loadSqlSource(inputStream, stdXmlPath, compiled).getValue1();
                 sqlSourceGroup.clearAndSetStdSqlSource(sqlSourceMap);
             } catch (Exception ignored) {
             }
@@ -291,6 +450,18 @@ public abstract class AbstractMyBatisMapperSql implements MyBatisMapperSql {
      * @return {@code TupleTwo<Map<sqlId, SqlSource>, 是否存在异常>}
      */
     protected TupleTwo<Map<String, SqlSource>, Boolean> loadSqlSource(final InputStream inputStream, final String xmlPath) {
+        return loadSqlSource(inputStream, xmlPath, false);
+    }
+
+    /**
+     * 加载指定文件
+     *
+     * @param inputStream       文件输入流
+     * @param xmlPath           sql.xml文件同路径，如：“org/clever/biz/dao/UserDao.xml”、“org/clever/biz/dao/UserDao.mysql.xml”
+     * @param compileExpression 是否预编译OGNL表达式
+     * @return {@code TupleTwo<Map<sqlId, SqlSource>, 是否存在异常>}
+     */
+    protected TupleTwo<Map<String, SqlSource>, Boolean> loadSqlSource(final InputStream inputStream, final String xmlPath, final boolean compileExpression) {
         final String absolutePath = getAbsolutePath(xmlPath);
         final Map<String, SqlSource> sqlSourceMap = new HashMap<>();
         final TupleTwo<Map<String, SqlSource>, Boolean> tupleTwo = TupleTwo.creat(sqlSourceMap, false);
@@ -314,7 +485,7 @@ public abstract class AbstractMyBatisMapperSql implements MyBatisMapperSql {
                     continue;
                 }
                 try {
-                    SqlSource sqlSource = DynamicSqlParser.parserSql(node);
+                    SqlSource sqlSource = DynamicSqlParser.parserSql(node, compileExpression);
                     if (sqlSourceMap.containsKey(sqlId)) {
                         log.warn("# SqlId重复(自动覆盖) | sqlId={} | path={}", sqlId, absolutePath);
                     }
@@ -48,6 +48,13 @@ public class ComposeMyBatisMapperSql implements MyBatisMapperSql {
         }
     }
 
+    @Override
+    public void compileAll(int parallelism) {
+        for (MyBatisMapperSql target : targets) {
+            target.compileAll(parallelism);
+        }
+    }
+
     @Override
     public void startWatch(long period) {
         for (MyBatisMapperSql target : targets) {
@@ -1,11 +1,14 @@
 package org.clever.data.jdbc.mybatis;
 
 import lombok.Getter;
+import lombok.Setter;
 import lombok.SneakyThrows;
 import org.apache.commons.io.FileUtils;
 import org.apache.commons.io.FilenameUtils;
 import org.apache.commons.lang3.StringUtils;
 import org.clever.core.Assert;
+import org.clever.core.watch.FileSystemEventWatcher;
+import org.clever.core.watch.MonitorEvent;
 import org.springframework.util.AntPathMatcher;
 
 import java.io.File;
@@ -37,6 +40,16 @@ public class FileSystemMyBatisMapperSql extends AbstractMyBatisMapperSql {
      * ant风格的过滤器(为空则不过滤)
      */
     private final String filter;
+    /**
+     * 是否使用操作系统的文件事件监听文件变化(不支持时退回到定时轮询)
+     */
+    @Getter
+    @Setter
+    private volatile boolean nativeWatch = true;
+    /**
+     * 文件系统事件监听器
+     */
+    private FileSystemEventWatcher eventWatcher;
 
     /**
      * @param rootPath sql.xml文件根路径
@@ -80,14 +93,61 @@ public class FileSystemMyBatisMapperSql extends AbstractMyBatisMapperSql {
         Map<String, Long> result = new HashMap<>();
         Collection<File> files = FileUtils.listFiles(rootPath, new String[]{"xml"}, true);
         for (File file : files) {
-            String xmlPath = getXmlPath(file.getAbsolutePath());
-            if (StringUtils.isBlank(filter) || FILTER_MATCHER.match(filter, xmlPath)) {
+            if (accept(file)) {
                 result.put(file.getAbsolutePath(), file.lastModified());
             }
         }
         return result;
     }
 
+    @Override
+    protected boolean startEventWatch(long delayMillis) {
+        if (!nativeWatch) {
+            return false;
+        }
+        try {
+            eventWatcher = new FileSystemEventWatcher(rootAbsolutePath, this::accept, this::onFileEvents, Math.max(delayMillis, 10));
+            eventWatcher.start();
+            return true;
+        } catch (Exception e) {
+            eventWatcher = null;
+            log.warn("# 文件系统不支持事件监听，使用定时轮询 | path={}", rootAbsolutePath, e);
+            return false;
+        }
+    }
+
+    @Override
+    protected void stopEventWatch() {
+        if (eventWatcher != null) {
+            eventWatcher.stop();
+            eventWatcher = null;
+        }
+    }
+
+    private void onFileEvents(Collection<MonitorEvent> events) {
+        Map<String, Long> changedFiles = new HashMap<>(events.size());
+        for (MonitorEvent event : events) {
+            File file = event.getFileOrDir();
+            switch (event.getEventType()) {
+                case FileCreate, FileChange, FileDelete -> changedFiles.put(file.getAbsolutePath(), file.isFile() ? file.lastModified() : null);
+                default -> {
+                    // 文件夹变化或者事件队列溢出，全量检查文件的最后修改时间
+                    reloadAll();
+                    return;
+                }
+            }
+        }
+        reloadChangedFiles(changedFiles);
+    }
+
+    private boolean accept(File file) {
+        if (!"xml".equals(FilenameUtils.getExtension(file.getName()))) {
+            return false;
+        }
+        String xmlPath = getXmlPath(file.getAbsolutePath());
+        return StringUtils.isBlank(filter) || FILTER_MATCHER.match(filter, xmlPath);
+    }
+
     @Override
     public String getAbsolutePath(String xmlPath) {
         return FilenameUtils.concat(rootAbsolutePath, xmlPath);
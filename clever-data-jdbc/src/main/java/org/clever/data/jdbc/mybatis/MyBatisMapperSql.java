@@ -32,6 +32,13 @@ public interface MyBatisMapperSql {
      */
     void reloadAll();
 
+    /**
+     * 并行解析、预编译所有文件(包含数据库方言、项目方言文件)，并构建sqlId索引
+     *
+     * @param parallelism 并行线程数(小于等于0时使用CPU核数)
+     */
+    void compileAll(int parallelism);
+
     /**
      * 开始监听sql.xml文件变化
      *
@@ -3,7 +3,10 @@ package org.clever.data.jdbc.mybatis;
 import org.clever.data.dynamic.sql.builder.SqlSource;
 import org.clever.data.dynamic.sql.dialect.DbType;
 
+import java.util.Collections;
+import java.util.HashSet;
 import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
 
@@ -26,17 +29,17 @@ public class SqlSourceGroup {
      * 标准的 sql.xml <br/>
      * {@code Map<sqlId, SqlSource>}
      */
-    private final ConcurrentMap<String, SqlSource> stdSqlSource = new ConcurrentHashMap<>();
+    private volatile Map<String, SqlSource> stdSqlSource = Collections.emptyMap();
     /**
      * 项目的数据库方言 sql.projectA.xml <br/>
      * {@code Map<project, Map<sqlId, SqlSource>>}
      */
-    private final ConcurrentMap<String, ConcurrentMap<String, SqlSource>> projectMap = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, Map<String, SqlSource>> projectMap = new ConcurrentHashMap<>();
     /**
      * 数据库方言 sql.dbType.xml <br/>
      * {@code Map<dbType, Map<sqlId, SqlSource>>}
      */
-    private final ConcurrentMap<String, ConcurrentMap<String, SqlSource>> dbTypeMap = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, Map<String, SqlSource>> dbTypeMap = new ConcurrentHashMap<>();
 
     /**
      * 根据优先级获取 SqlSource(项目优先级 > 数据库优先级)
@@ -72,19 +75,19 @@ public class SqlSourceGroup {
         return stdSqlSource.get(sqlId);
     }
 
+    /**
+     * 整体替换为不可变的Map(而不是先clear再putAll)，读线程不会看到sqlId短暂缺失的中间状态
+     */
     public void clearAndSetStdSqlSource(Map<String, SqlSource> sqlSourceMap) {
-        stdSqlSource.clear();
-        stdSqlSource.putAll(sqlSourceMap);
+        stdSqlSource = Map.copyOf(sqlSourceMap);
     }
 
     public void clearStdSqlSource() {
-        stdSqlSource.clear();
+        stdSqlSource = Collections.emptyMap();
     }
 
     public void clearAndSetProjectMap(String project, Map<String, SqlSource> sqlSourceMap) {
-        ConcurrentMap<String, SqlSource> map = projectMap.computeIfAbsent(project, key -> new ConcurrentHashMap<>());
-        map.clear();
-        map.putAll(sqlSourceMap);
+        projectMap.put(project, Map.copyOf(sqlSourceMap));
     }
 
     public void removeProjectMap(String project) {
@@ -92,24 +95,36 @@ public class SqlSourceGroup {
     }
 
     public void clearAndSetDbTypeMap(DbType dbType, Map<String, SqlSource> sqlSourceMap) {
-        ConcurrentMap<String, SqlSource> map = dbTypeMap.computeIfAbsent(dbType.getDb(), db -> new ConcurrentHashMap<>());
-        map.clear();
-        map.putAll(sqlSourceMap);
+        dbTypeMap.put(dbType.getDb(), Map.copyOf(sqlSourceMap));
     }
 
     public void removeDbTypeMap(DbType dbType) {
         dbTypeMap.remove(dbType.getDb());
     }
 
+    /**
+     * 返回所有的 SqlId(包含项目和数据库方言)
+     */
+    public Set<String> getSqlIds() {
+        Set<String> sqlIds = new HashSet<>(stdSqlSource.keySet());
+        for (Map<String, SqlSource> item : projectMap.values()) {
+            sqlIds.addAll(item.keySet());
+        }
+        for (Map<String, SqlSource> item : dbTypeMap.values()) {
+            sqlIds.addAll(item.keySet());
+        }
+        return sqlIds;
+    }
+
     /**
      * 返回当前 SqlSource 对象的数量
      */
     public int getSqlSourceCount() {
         int count = stdSqlSource.size();
-        for (ConcurrentMap<String, SqlSource> item : projectMap.values()) {
+        for (Map<String, SqlSource> item : projectMap.values()) {
             count = count + item.size();
         }
-        for (ConcurrentMap<String, SqlSource> item : dbTypeMap.values()) {
+        for (Map<String, SqlSource> item : dbTypeMap.values()) {
             count = count + item.size();
         }
         return count;
@@ -2,12 +2,17 @@ package org.clever.data.jdbc.mybatis;
 
 import lombok.SneakyThrows;
 import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.io.FileUtils;
 import org.clever.data.dynamic.sql.builder.SqlSource;
 import org.clever.data.dynamic.sql.dialect.DbType;
 import org.junit.jupiter.api.Test;
 
 import java.io.File;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
 import java.util.HashMap;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * 作者：lizw <br/>
@@ -73,4 +78,91 @@ public class FileSystemMyBatisMapperSqlTest {
         Thread.sleep(2_000);
         log.info("### SqlSourceCount={}", myBatisMapperSql.getSqlSourceCount());
     }
+
+    @Test
+    public void t05() {
+        final String absolutePath = new File("./src/test/resources/performance_test").getAbsolutePath();
+        FileSystemMyBatisMapperSql myBatisMapperSql = new FileSystemMyBatisMapperSql(absolutePath);
+        final long startTime = System.currentTimeMillis();
+        myBatisMapperSql.compileAll(0);
+        log.info("### SqlSourceCount={} | 编译时间:{}ms", myBatisMapperSql.getSqlSourceCount(), System.currentTimeMillis() - startTime);
+        log.info("### SqlIdIndex={}", myBatisMapperSql.getSqlIdIndex().size());
+    }
+
+    @Test
+    public void t06() {
+        final String absolutePath = new File("./src/test/resources/dao").getAbsolutePath();
+        FileSystemMyBatisMapperSql myBatisMapperSql = new FileSystemMyBatisMapperSql(absolutePath);
+        myBatisMapperSql.compileAll(2);
+        assert myBatisMapperSql.getSqlSource("t01", "UserDao.xml", DbType.MYSQL) != null;
+        assert myBatisMapperSql.getSqlSource("not_exists_sql_id", "UserDao.xml", DbType.MYSQL) == null;
+    }
+
+    @SneakyThrows
+    @Test
+    public void t07() {
+        final File root = Files.createTempDirectory("mapper").toFile();
+        FileUtils.copyDirectory(new File("./src/test/resources/dao"), root);
+        FileSystemMyBatisMapperSql myBatisMapperSql = new FileSystemMyBatisMapperSql(root.getAbsolutePath());
+        myBatisMapperSql.reloadAll();
+        myBatisMapperSql.startWatch(50);
+        try {
+            final File file = new File(root, "UserDao.xml");
+            String xml = FileUtils.readFileToString(file, StandardCharsets.UTF_8);
+            FileUtils.writeStringToFile(file, xml.replace("id=\"t01\"", "id=\"t01_new\""), StandardCharsets.UTF_8);
+            // 等待文件变化事件被处理(getSqlSource 会懒加载文件，只能检查 SqlSourceGroup)
+            final long deadline = System.currentTimeMillis() + 10_000;
+            while (!myBatisMapperSql.getSqlSourceGroup("UserDao.xml").getSqlIds().contains("t01_new") && System.currentTimeMillis() < deadline) {
+                Thread.sleep(10);
+            }
+            assert myBatisMapperSql.getSqlSourceGroup("UserDao.xml").getSqlIds().contains("t01_new");
+        } finally {
+            myBatisMapperSql.stopWatch();
+            FileUtils.deleteDirectory(root);
+        }
+    }
+
+    @SneakyThrows
+    @Test
+    public void t08() {
+        final File root = Files.createTempDirectory("mapper").toFile();
+        FileUtils.copyDirectory(new File("./src/test/resources/dao"), root);
+        FileSystemMyBatisMapperSql myBatisMapperSql = new FileSystemMyBatisMapperSql(root.getAbsolutePath());
+        myBatisMapperSql.compileAll(2);
+        assert myBatisMapperSql.isCompiled();
+        try {
+            // 预编译之后由索引判断sqlId不存在，不读取文件
+            final File file = new File(root, "UserDao.xml");
+            String xml = FileUtils.readFileToString(file, StandardCharsets.UTF_8);
+            FileUtils.writeStringToFile(file, xml.replace("id=\"t01\"", "id=\"t01_new\""), StandardCharsets.UTF_8);
+            assert myBatisMapperSql.getSqlSource("t01_new", "UserDao.xml", DbType.MYSQL) == null;
+            // 文件变化之后重新加载(文件监听、reloadAll)更新索引
+            myBatisMapperSql.reloadFile("UserDao.xml", false);
+            assert myBatisMapperSql.getSqlSource("t01_new", "UserDao.xml", DbType.MYSQL) != null;
+            assert myBatisMapperSql.getSqlIdIndex().get("UserDao.xml").contains("t01_new");
+        } finally {
+            FileUtils.deleteDirectory(root);
+        }
+    }
+
+    /**
+     * 预编译之后查询不存在的sqlId不读取文件
+     */
+    @Test
+    public void t09() {
+        final AtomicInteger openCount = new AtomicInteger();
+        FileSystemMyBatisMapperSql myBatisMapperSql = new FileSystemMyBatisMapperSql(new File("./src/test/resources/dao").getAbsolutePath()) {
+            @Override
+            public InputStream openInputStream(String xmlPath) {
+                openCount.incrementAndGet();
+                return super.openInputStream(xmlPath);
+            }
+        };
+        myBatisMapperSql.compileAll(2);
+        final int count = openCount.get();
+        for (int i = 0; i < 100; i++) {
+            assert myBatisMapperSql.getSqlSource("not_exists_sql_id", "UserDao.xml", DbType.MYSQL) == null;
+        }
+        assert openCount.get() == count;
+    }
 }
@@ -56,12 +56,17 @@ public class Redis extends AbstractDataSource {
 
     @SuppressWarnings("rawtypes")
     private static final DefaultRedisScript<List> RATE_LIMIT_SCRIPT = new DefaultRedisScript<>();
+    private static final DefaultRedisScript<Long> TOKEN_LEASE_SCRIPT = new DefaultRedisScript<>();
 
     static {
         RATE_LIMIT_SCRIPT.setScriptSource(new ResourceScriptSource(
             new ClassPathResource("scripts/request_rate_limiter.lua")
         ));
         RATE_LIMIT_SCRIPT.setResultType(List.class);
+        TOKEN_LEASE_SCRIPT.setScriptSource(new ResourceScriptSource(
+            new ClassPathResource("scripts/token_lease.lua")
+        ));
+        TOKEN_LEASE_SCRIPT.setResultType(Long.class);
     }
 
     /**
@@ -2555,6 +2560,29 @@ public class Redis extends AbstractDataSource {
         return resList;
     }
 
+    /**
+     * 从令牌桶中批量租借令牌(基于 Lua 脚本)，令牌桶按 ratePerSecond 匀速补充，最多 capacity 个令牌。
+     * 调用方在本地消耗租借的令牌，使 redis 访问次数与请求数无关
+     *
+     * @param key           令牌桶key
+     * @param ratePerSecond 每秒补充的令牌数
+     * @param capacity      令牌桶容量
+     * @param requested     租借的令牌数量
+     * @return 实际租借到的令牌数量(令牌不足时小于 requested)
+     */
+    public long leaseTokens(String key, double ratePerSecond, long capacity, long requested) {
+        Assert.hasText(key, "参数 key 不能为空");
+        Assert.isTrue(ratePerSecond > 0, "参数 ratePerSecond 必须大于0");
+        Assert.isTrue(capacity > 0, "参数 capacity 必须大于0");
+        Assert.isTrue(requested > 0, "参数 requested 必须大于0");
+        Long granted = redisTemplate.execute(
+            TOKEN_LEASE_SCRIPT,
+            Collections.singletonList(key),
+            String.valueOf(ratePerSecond / 1000.0), String.valueOf(capacity), String.valueOf(requested)
+        );
+        return granted == null ? 0 : granted;
+    }
+
     private void checkConfig(List<RateLimitConfig> rateLimitConfigs) {
         if (rateLimitConfigs == null || rateLimitConfigs.isEmpty()) {
             throw new IllegalArgumentException("参数 rateLimitConfigs 不能是null或空");
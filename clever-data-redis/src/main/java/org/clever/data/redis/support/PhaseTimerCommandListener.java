@@ -0,0 +1,51 @@
+package org.clever.data.redis.support;
+
+import io.lettuce.core.event.command.CommandFailedEvent;
+import io.lettuce.core.event.command.CommandListener;
+import io.lettuce.core.event.command.CommandStartedEvent;
+import io.lettuce.core.event.command.CommandSucceededEvent;
+import org.clever.core.PhaseTimer;
+
+import java.util.Map;
+
+/**
+ * 统计redis命令执行耗时到发起命令的线程绑定的 {@link PhaseTimer}(阶段名称: {@link #PHASE})<br/>
+ * 命令在发起命令的线程中开始，在 netty 线程中完成，所以在命令开始时把计时器保存到命令上下文中
+ * <p>
+ * 作者：lizw <br/>
+ * 创建时间：2026/10/19 05:42 <br/>
+ */
+public class PhaseTimerCommandListener implements CommandListener {
+    public static final String PHASE = "redis";
+    public static final PhaseTimerCommandListener INSTANCE = new PhaseTimerCommandListener();
+
+    private static final String TIMER_KEY = PhaseTimerCommandListener.class.getName() + ".TIMER";
+    private static final String START_TIME_KEY = PhaseTimerCommandListener.class.getName() + ".START_TIME";
+
+    @Override
+    public void commandStarted(CommandStartedEvent event) {
+        final PhaseTimer timer = PhaseTimer.current();
+        if (timer == null) {
+            return;
+        }
+        final Map<String, Object> context = event.getContext();
+        context.put(TIMER_KEY, timer);
+        context.put(START_TIME_KEY, System.nanoTime());
+    }
+
+    @Override
+    public void commandSucceeded(CommandSucceededEvent event) {
+        complete(event.getContext());
+    }
+
+    @Override
+    public void commandFailed(CommandFailedEvent event) {
+        complete(event.getContext());
+    }
+
+    private static void complete(Map<String, Object> context) {
+        if (context.get(TIMER_KEY) instanceof PhaseTimer timer && context.get(START_TIME_KEY) instanceof Long startTime) {
+            timer.add(PHASE, System.nanoTime() - startTime);
+        }
+    }
+}
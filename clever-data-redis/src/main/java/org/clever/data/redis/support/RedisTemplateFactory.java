@@ -65,6 +65,10 @@ public class RedisTemplateFactory {
         LettuceConnectionFactory connectionFactory = createConnectionFactory(properties, clientConfiguration);
         connectionFactory.setValidateConnection(properties.isValidateConnection());
         connectionFactory.afterPropertiesSet();
+        // 统计redis命令耗时
+        if (connectionFactory.getNativeClient() != null) {
+            connectionFactory.getNativeClient().addListener(PhaseTimerCommandListener.INSTANCE);
+        }
         return connectionFactory;
     }
 
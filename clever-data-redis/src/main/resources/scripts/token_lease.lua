@@ -0,0 +1,29 @@
+redis.replicate_commands()
+local key = KEYS[1]                     -- 令牌桶key
+local rate = tonumber(ARGV[1])          -- 每毫秒补充的令牌数
+local capacity = tonumber(ARGV[2])      -- 令牌桶容量
+local requested = tonumber(ARGV[3])     -- 租借的令牌数量
+
+-- 当前时间(毫秒)，使用redis服务器时间避免各节点时钟不一致
+local now_time = redis.call('TIME')
+local now = tonumber(now_time[1]) * 1000 + math.floor(tonumber(now_time[2]) / 1000)
+
+-- 令牌桶剩余令牌数量、最后更新时间
+local bucket = redis.call('HMGET', key, 'tokens', 'ts')
+local tokens = tonumber(bucket[1])
+local last_refreshed = tonumber(bucket[2])
+if tokens == nil or last_refreshed == nil then
+    tokens = capacity
+    last_refreshed = now
+end
+
+-- 按时间差补充令牌
+tokens = math.min(capacity, tokens + math.max(0, now - last_refreshed) * rate)
+-- 租借的令牌数量(不超过剩余令牌数量)
+local granted = math.min(requested, math.floor(tokens))
+tokens = tokens - granted
+
+-- 更新令牌桶，过期时间为令牌桶补满所需时间的2倍
+redis.call('HMSET', key, 'tokens', tostring(tokens), 'ts', tostring(now))
+redis.call('PEXPIRE', key, math.ceil(capacity / rate) * 2 + 1000)
+return granted
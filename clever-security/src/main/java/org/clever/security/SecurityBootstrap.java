@@ -1,5 +1,6 @@
 package org.clever.security;
 
+import jakarta.servlet.http.HttpServletRequest;
 import lombok.Getter;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang3.StringUtils;
@@ -26,8 +27,12 @@ import org.clever.security.impl.handler.*;
 import org.clever.security.impl.login.*;
 import org.clever.security.login.*;
 import org.clever.security.logout.LogoutFilter;
+import org.clever.security.model.SecurityContext;
 import org.clever.security.model.jackson2.SecurityJackson2Module;
 import org.clever.security.utils.HttpRespondHandler;
+import org.clever.web.filter.RateLimitFilter;
+import org.clever.web.filter.ResponseCacheFilter;
+import org.clever.web.mvc.AsyncRequest;
 import org.springframework.boot.context.properties.bind.Binder;
 import org.springframework.core.env.Environment;
 
@@ -126,6 +131,20 @@ public class SecurityBootstrap {
         AUTHORIZATION_VOTER_LIST.add(new MvcAuthorizationVoter());
     }
 
+    /**
+     * 在 web 模块中使用登录用户信息: 异步 HandlerMethod 传递用户信息、按登录用户限流、按登录用户缓存响应数据
+     */
+    public static void useWebIntegration() {
+        AsyncRequest.addThreadContextPropagator(AuthenticationFilter.THREAD_CONTEXT_PROPAGATOR);
+        RateLimitFilter.addKeyResolver(RateLimitFilter.KEY_BY_USER, SecurityBootstrap::getUserName);
+        ResponseCacheFilter.setUserResolver(SecurityBootstrap::getUserName);
+    }
+
+    private static String getUserName(HttpServletRequest request) {
+        SecurityContext securityContext = SecurityContextHolder.getContext(request);
+        return securityContext == null ? null : securityContext.getName();
+    }
+
     /**
      * 使用默认的“用户-角色-权限”逻辑实现
      */
@@ -34,6 +34,7 @@ import org.clever.security.utils.HttpRespondHandler;
 import org.clever.security.utils.JwtTokenUtils;
 import org.clever.security.utils.PathFilterUtils;
 import org.clever.web.FilterRegistrar;
+import org.clever.web.mvc.ThreadContextPropagator;
 import org.springframework.http.HttpStatus;
 
 import java.io.IOException;
@@ -49,6 +50,34 @@ import java.util.List;
 @Slf4j
 public class AuthenticationFilter implements FilterRegistrar.FilterFuc {
     public final static String JWT_OBJECT_REQUEST_ATTRIBUTE = AuthenticationFilter.class.getName() + "_JWT_Object";
+
+    /**
+     * 异步 HandlerMethod 使用请求线程中的用户信息(启动时注册，见 {@link org.clever.security.SecurityBootstrap#useWebIntegration()})
+     */
+    public static final ThreadContextPropagator THREAD_CONTEXT_PROPAGATOR = new ThreadContextPropagator() {
+        @Override
+        public Object capture(HttpServletRequest request) {
+            return JwtTokenHolder.get();
+        }
+
+        @Override
+        public void restore(Object context, HttpServletRequest request) {
+            SecurityContext securityContext = SecurityContextHolder.getContext(request);
+            if (securityContext != null) {
+                SecurityContextHolder.setContext(securityContext, request);
+            }
+            if (context != null) {
+                JwtTokenHolder.set((Claims) context);
+            }
+        }
+
+        @Override
+        public void clear() {
+            SecurityContextHolder.clearContext();
+            JwtTokenHolder.clear();
+        }
+    };
+
     /**
      * 全局配置
      */
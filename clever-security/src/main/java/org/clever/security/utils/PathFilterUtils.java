@@ -2,14 +2,12 @@ package org.clever.security.utils;
 
 import jakarta.servlet.http.HttpServletRequest;
 import org.apache.commons.lang3.StringUtils;
-import org.clever.core.http.HttpServletRequestUtils;
 import org.clever.security.config.LoginConfig;
 import org.clever.security.config.LogoutConfig;
 import org.clever.security.config.SecurityConfig;
+import org.clever.web.support.PathPatternMatcher;
 import org.springframework.http.HttpMethod;
-import org.springframework.util.AntPathMatcher;
 
-import java.util.List;
 import java.util.Objects;
 
 /**
@@ -17,10 +15,8 @@ import java.util.Objects;
  * 创建时间：2020/12/06 12:14 <br/>
  */
 public class PathFilterUtils {
-    private static final AntPathMatcher ANT_PATH_MATCHER = new AntPathMatcher();
-
     public static String getPath(HttpServletRequest request) {
-        return HttpServletRequestUtils.getPathWithoutContextPath(request);
+        return PathPatternMatcher.getPath(request);
     }
 
     /**
@@ -137,17 +133,8 @@ public class PathFilterUtils {
             || isRegisterRequest(path, securityConfig)) {
             return false;
         }
-        List<String> ignorePaths = securityConfig.getIgnorePaths();
-        if (ignorePaths == null || ignorePaths.isEmpty()) {
-            return true;
-        }
-        for (String ignorePath : ignorePaths) {
-            if (ANT_PATH_MATCHER.match(ignorePath, path)) {
-                // 忽略当前路径
-                return false;
-            }
-        }
-        return true;
+        // 忽略当前路径
+        return !PathPatternMatcher.of(securityConfig.getIgnorePaths()).matches(path);
     }
 
     /**
@@ -168,17 +155,8 @@ public class PathFilterUtils {
         if (isGetCurrentUserRequest(path, securityConfig)) {
             return false;
         }
-        List<String> ignoreAuthPaths = securityConfig.getIgnoreAuthPaths();
-        if (ignoreAuthPaths == null || ignoreAuthPaths.isEmpty()) {
-            return true;
-        }
-        for (String ignorePath : ignoreAuthPaths) {
-            if (ANT_PATH_MATCHER.match(ignorePath, path)) {
-                // 忽略当前路径
-                return false;
-            }
-        }
-        return true;
+        // 忽略当前路径
+        return !PathPatternMatcher.of(securityConfig.getIgnoreAuthPaths()).matches(path);
     }
 
     /**
@@ -191,11 +169,6 @@ public class PathFilterUtils {
     }
 
     public static boolean isIgnoreAuthFailedRequest(String path, String method, SecurityConfig securityConfig) {
-        for (String ignorePath : securityConfig.getIgnoreAuthFailedPaths()) {
-            if (ANT_PATH_MATCHER.match(ignorePath, path)) {
-                return true;
-            }
-        }
-        return false;
+        return PathPatternMatcher.of(securityConfig.getIgnoreAuthFailedPaths()).matches(path);
     }
 }
@@ -7,7 +7,9 @@ dependencies {
     api("jakarta.validation:jakarta.validation-api")
     api("org.hibernate.validator:hibernate-validator")
     api("org.glassfish:jakarta.el")
+    compileOnly(project(":clever-data-redis"))
     compileOnly("org.jetbrains.kotlinx:kotlinx-coroutines-core-jvm")
     compileOnly("org.jetbrains.kotlinx:kotlinx-coroutines-reactor")
+    testImplementation(project(":clever-data-redis"))
     annotationProcessor("org.springframework.boot:spring-boot-configuration-processor")
 }
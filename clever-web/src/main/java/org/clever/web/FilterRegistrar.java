@@ -4,6 +4,8 @@ import jakarta.servlet.DispatcherType;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.FilterConfig;
 import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletRequest;
+import jakarta.servlet.ServletResponse;
 import jakarta.servlet.http.HttpFilter;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
@@ -13,6 +15,7 @@ import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang3.StringUtils;
 import org.clever.core.Assert;
 import org.clever.core.BannerUtils;
+import org.clever.core.PhaseTimer;
 import org.eclipse.jetty.servlet.FilterHolder;
 import org.eclipse.jetty.servlet.ServletContextHandler;
 
@@ -62,7 +65,7 @@ public class FilterRegistrar {
         Assert.notNull(filter, "filter 不能为 null");
         Assert.isNotBlank(pathSpec, "pathSpec 不能为空");
         Assert.notEmpty(dispatches, "dispatches 不能为空");
-        filters.add(new OrderFilter(new FilterAdapter(filter), pathSpec, dispatches, order, name));
+        filters.add(new OrderFilter(new FilterAdapter(filter, name), pathSpec, dispatches, order, name));
         return this;
     }
 
@@ -116,7 +119,7 @@ public class FilterRegistrar {
     public FilterRegistrar addFilter(FilterFuc filter, String pathSpec, String name, double order) {
         Assert.notNull(filter, "filter 不能为 null");
         Assert.isNotBlank(pathSpec, "pathSpec 不能为空");
-        filters.add(new OrderFilter(new FilterAdapter(filter), pathSpec, order, name));
+        filters.add(new OrderFilter(new FilterAdapter(filter, name), pathSpec, order, name));
         return this;
     }
 
@@ -157,7 +160,10 @@ public class FilterRegistrar {
                 StringUtils.rightPad(item.dispatches.toString(), dispatchesMaxLength),
                 StringUtils.isNoneBlank(item.name) ? String.format(" | %s", item.name) : ""
             ));
-            servletContextHandler.addFilter(new FilterHolder(item.filter), item.pathSpec, item.dispatches);
+            FilterHolder filterHolder = new FilterHolder(item.filter);
+            // 支持 servlet 异步请求(异步 HandlerMethod)
+            filterHolder.setAsyncSupported(true);
+            servletContextHandler.addFilter(filterHolder, item.pathSpec, item.dispatches);
         }
         if (!logs.isEmpty()) {
             BannerUtils.printConfig(log, "自定义Filter", logs.toArray(new String[0]));
@@ -206,10 +212,19 @@ public class FilterRegistrar {
 
     public static class FilterAdapter extends HttpFilter {
         private final FilterFuc fuc;
+        /**
+         * 过滤器名称，当前线程绑定了 {@link PhaseTimer} 时作为阶段名称统计过滤器自身的耗时(不包含后续过滤器的耗时)
+         */
+        private final String name;
 
-        public FilterAdapter(FilterFuc fuc) {
+        public FilterAdapter(FilterFuc fuc, String name) {
             Assert.notNull(fuc, "fuc 不能为 null");
             this.fuc = fuc;
+            this.name = StringUtils.trimToNull(name);
+        }
+
+        public FilterAdapter(FilterFuc fuc) {
+            this(fuc, null);
         }
 
         @Override
@@ -218,7 +233,50 @@ public class FilterRegistrar {
 
         @Override
         protected void doFilter(HttpServletRequest req, HttpServletResponse res, FilterChain chain) throws ServletException, IOException {
-            fuc.doFilter(new Context(req, res, chain));
+            final PhaseTimer timer = name == null ? null : PhaseTimer.current();
+            if (timer == null) {
+                fuc.doFilter(new Context(req, res, chain));
+                return;
+            }
+            final TimedFilterChain timedChain = new TimedFilterChain(chain, timer, name);
+            try {
+                fuc.doFilter(new Context(req, res, timedChain));
+            } finally {
+                timedChain.finish();
+            }
+        }
+    }
+
+    /**
+     * 统计过滤器自身耗时的 FilterChain，调用后续过滤器之前的耗时立即记录(响应提交时 Server-Timing 能包含这部分耗时)，
+     * 后续过滤器返回之后的耗时在过滤器结束时记录
+     */
+    private static class TimedFilterChain implements FilterChain {
+        private final FilterChain chain;
+        private final PhaseTimer timer;
+        private final String name;
+        private long segmentStart = System.nanoTime();
+        private int count = 1;
+
+        private TimedFilterChain(FilterChain chain, PhaseTimer timer, String name) {
+            this.chain = chain;
+            this.timer = timer;
+            this.name = name;
+        }
+
+        @Override
+        public void doFilter(ServletRequest request, ServletResponse response) throws IOException, ServletException {
+            timer.add(name, System.nanoTime() - segmentStart, count);
+            count = 0;
+            try {
+                chain.doFilter(request, response);
+            } finally {
+                segmentStart = System.nanoTime();
+            }
+        }
+
+        private void finish() {
+            timer.add(name, System.nanoTime() - segmentStart, count);
         }
     }
 }
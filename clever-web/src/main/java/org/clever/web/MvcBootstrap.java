@@ -35,6 +35,10 @@ public class MvcBootstrap {
             mvcConfig.setDefTransactional(new MvcConfig.TransactionalConfig());
             return mvcConfig.getDefTransactional();
         });
+        MvcConfig.AsyncConfig async = Optional.ofNullable(mvcConfig.getAsync()).orElseGet(() -> {
+            mvcConfig.setAsync(new MvcConfig.AsyncConfig());
+            return mvcConfig.getAsync();
+        });
         MvcConfig.HotReload hotReload = Optional.ofNullable(mvcConfig.getHotReload()).orElseGet(() -> {
             mvcConfig.setHotReload(new MvcConfig.HotReload());
             return mvcConfig.getHotReload();
@@ -55,6 +59,11 @@ public class MvcBootstrap {
         logs.add("    isolation               : " + defTransactional.getIsolation());
         logs.add("    timeout                 : " + defTransactional.getTimeout() + "s");
         logs.add("    readOnly                : " + defTransactional.isReadOnly());
+        logs.add("    lazy                    : " + defTransactional.isLazy());
+        logs.add("  async: ");
+        logs.add("    useVirtualThreads       : " + async.isUseVirtualThreads());
+        logs.add("    threadPoolMax           : " + async.getThreadPoolMax());
+        logs.add("    timeout                 : " + StrFormatter.toPlainString(async.getTimeout()));
         logs.add("  hotReload: ");
         logs.add("    enable                  : " + hotReload.isEnable());
         logs.add("    watchFile               : " + ResourcePathUtils.getAbsolutePath(rootPath, hotReload.getWatchFile()));
@@ -12,6 +12,7 @@ import org.clever.core.json.jackson.JacksonConfig;
 import org.clever.web.config.HttpConfig;
 import org.clever.web.config.WebConfig;
 import org.clever.web.config.WebSocketConfig;
+import org.clever.web.support.WebSocketBroadcastHub;
 import org.clever.web.utils.ApplyWebConfig;
 import org.springframework.boot.context.properties.bind.Binder;
 import org.springframework.core.env.Environment;
@@ -55,6 +56,10 @@ public class WebServerBootstrap {
             webConfig.setWebsocket(new WebSocketConfig());
             return webConfig.getWebsocket();
         });
+        WebSocketConfig.Broadcast broadcast = Optional.ofNullable(websocket.getBroadcast()).orElseGet(() -> {
+            websocket.setBroadcast(new WebSocketConfig.Broadcast());
+            return websocket.getBroadcast();
+        });
         AppContextHolder.registerBean("webConfig", webConfig, true);
         List<String> logs = new ArrayList<>();
         logs.add("web:");
@@ -116,10 +121,15 @@ public class WebServerBootstrap {
             );
             logs.addAll(staticFile.stream().map(pathMapping).toList());
         }
-        // logs.add("  websocket:");
-        // logs.add("  :");
+        logs.add("  websocket:");
+        logs.add("    broadcast:");
+        logs.add("      maxQueueSize          :" + broadcast.getMaxQueueSize());
+        logs.add("      maxQueueBytes         :" + Optional.ofNullable(broadcast.getMaxQueueBytes()).map(size -> size.toKilobytes() + "KB").orElse(""));
+        logs.add("      overflowPolicy        :" + broadcast.getOverflowPolicy());
         BannerUtils.printConfig(log, "web配置", logs.toArray(new String[0]));
-        return create(rootPath, webConfig);
+        WebServerBootstrap bootstrap = create(rootPath, webConfig);
+        AppContextHolder.registerBean("webSocketBroadcastHub", bootstrap.getBroadcastHub(), true);
+        return bootstrap;
     }
 
     @Getter
@@ -144,12 +154,19 @@ public class WebServerBootstrap {
     private final JavalinPluginRegistrar pluginRegistrar = new JavalinPluginRegistrar();
     @Getter
     private final JavalinEventListenerRegistrar javalinEventListenerRegistrar = new JavalinEventListenerRegistrar();
+    /**
+     * WebSocket 广播
+     */
+    @Getter
+    private final WebSocketBroadcastHub broadcastHub;
 
     public WebServerBootstrap(String rootPath, WebConfig webConfig) {
         Assert.isNotBlank(rootPath, "参数 rootPath 不能为空");
         Assert.notNull(webConfig, "参数 webConfig 不能为 null");
         this.rootPath = rootPath;
         this.webConfig = webConfig;
+        WebSocketConfig websocket = Optional.ofNullable(webConfig.getWebsocket()).orElseGet(WebSocketConfig::new);
+        this.broadcastHub = new WebSocketBroadcastHub(Optional.ofNullable(websocket.getBroadcast()).orElseGet(WebSocketConfig.Broadcast::new));
     }
 
     /**
@@ -0,0 +1,51 @@
+package org.clever.web.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.Deflater;
+
+/**
+ * 响应数据压缩配置
+ * <p>
+ * 作者：lizw <br/>
+ * 创建时间：2026/10/19 05:04 <br/>
+ */
+@ConfigurationProperties(prefix = CompressionConfig.PREFIX)
+@Data
+public class CompressionConfig {
+    public static final String PREFIX = WebConfig.PREFIX + ".compression";
+
+    /**
+     * 启用 CompressionFilter
+     */
+    private boolean enable = false;
+    /**
+     * 响应数据大于等于此值(字节)时才压缩
+     */
+    private int minSize = 1024;
+    /**
+     * 压缩级别(0~9，-1表示默认级别)
+     */
+    private int level = Deflater.DEFAULT_COMPRESSION;
+    /**
+     * 缓存的压缩器(Deflater)数量
+     */
+    private int poolSize = 64;
+    /**
+     * 需要压缩的响应类型(支持“text/*”格式)
+     */
+    private List<String> mimeTypes = new ArrayList<>() {{
+        add("application/json");
+        add("application/javascript");
+        add("application/xml");
+        add("image/svg+xml");
+        add("text/*");
+    }};
+    /**
+     * 忽略地址(支持AntPath风格)
+     */
+    private List<String> ignorePaths = new ArrayList<>();
+}
@@ -0,0 +1,97 @@
+package org.clever.web.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 自适应并发数限制配置(过载保护)
+ * <p>
+ * 作者：lizw <br/>
+ * 创建时间：2026/10/19 05:28 <br/>
+ */
+@ConfigurationProperties(prefix = ConcurrencyLimitConfig.PREFIX)
+@Data
+public class ConcurrencyLimitConfig {
+    public static final String PREFIX = WebConfig.PREFIX + ".concurrency-limit";
+
+    /**
+     * 启用 ConcurrencyLimitFilter
+     */
+    private boolean enable = false;
+    /**
+     * 初始并发数限制
+     */
+    private int initialLimit = 50;
+    /**
+     * 最小并发数限制
+     */
+    private int minLimit = 8;
+    /**
+     * 最大并发数限制
+     */
+    private int maxLimit = 500;
+    /**
+     * 每采集多少个请求的响应时间更新一次并发数限制
+     */
+    private int windowSize = 20;
+    /**
+     * 每隔多少个窗口重新测量一次无负载响应时间(测量时并发数限制临时降到 minLimit)
+     */
+    private int probeInterval = 100;
+    /**
+     * 允许的响应时间增长倍数(短期响应时间/无负载响应时间)，超过时减小并发数限制
+     */
+    private double rttTolerance = 1.5;
+    /**
+     * 并发数限制的平滑系数(0~1)，越大变化越快
+     */
+    private double smoothing = 0.2;
+    /**
+     * 出现过载响应(503、504)时并发数限制的缩小比例
+     */
+    private double backoffRatio = 0.9;
+    /**
+     * 拒绝请求时响应的 Retry-After
+     */
+    private Duration retryAfter = Duration.ofSeconds(1);
+    /**
+     * 获取并发数限制指标数据的请求地址(为空则不提供)
+     */
+    private String metricsPath;
+    /**
+     * 忽略地址(支持AntPath风格)
+     */
+    private List<String> ignorePaths = new ArrayList<>();
+    /**
+     * 路由分组，每个分组使用独立的并发数限制，不属于任何分组的请求使用“default”分组
+     */
+    private List<Group> groups = new ArrayList<>();
+
+    @Data
+    public static class Group {
+        /**
+         * 分组名称
+         */
+        private String name;
+        /**
+         * 分组包含的请求地址(支持AntPath风格)
+         */
+        private List<String> pathPatterns = new ArrayList<>();
+        /**
+         * 初始并发数限制(为空使用全局配置)
+         */
+        private Integer initialLimit;
+        /**
+         * 最小并发数限制(为空使用全局配置)
+         */
+        private Integer minLimit;
+        /**
+         * 最大并发数限制(为空使用全局配置)
+         */
+        private Integer maxLimit;
+    }
+}
@@ -0,0 +1,45 @@
+package org.clever.web.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 基于排队时间的请求丢弃配置(过载后快速恢复)
+ * <p>
+ * 作者：lizw <br/>
+ * 创建时间：2026/10/19 05:32 <br/>
+ */
+@ConfigurationProperties(prefix = LoadSheddingConfig.PREFIX)
+@Data
+public class LoadSheddingConfig {
+    public static final String PREFIX = WebConfig.PREFIX + ".load-shedding";
+
+    /**
+     * 启用 LoadSheddingFilter
+     */
+    private boolean enable = false;
+    /**
+     * 请求允许的最大排队时间，超过后直接丢弃请求(响应503)
+     */
+    private Duration maxQueueTime = Duration.ofSeconds(10);
+    /**
+     * 上游代理记录的请求开始时间请求头，支持格式: “t=1700000000.123”(秒)、毫秒时间戳、微秒时间戳(为空则不使用)
+     */
+    private String requestStartHeader = "X-Request-Start";
+    /**
+     * 客户端传递的请求截止时间请求头(毫秒时间戳)，超过截止时间的请求直接丢弃(为空则不使用)
+     */
+    private String deadlineHeader = "X-Request-Deadline";
+    /**
+     * 丢弃请求时响应的 Retry-After
+     */
+    private Duration retryAfter = Duration.ofSeconds(1);
+    /**
+     * 忽略地址(支持AntPath风格)
+     */
+    private List<String> ignorePaths = new ArrayList<>();
+}
@@ -60,6 +60,11 @@ public class MvcConfig {
      */
     @NestedConfigurationProperty
     private TransactionalConfig defTransactional = new TransactionalConfig();
+    /**
+     * 异步 HandlerMethod 配置
+     */
+    @NestedConfigurationProperty
+    private AsyncConfig async = new AsyncConfig();
     /**
      * 热重载配置
      */
@@ -99,6 +104,26 @@ public class MvcConfig {
          * 是否是只读事务
          */
         private boolean readOnly = false;
+        /**
+         * 是否延迟开启事务(第一次执行SQL时才获取数据库连接并开启事务，未执行SQL的数据源不会获取数据库连接)
+         */
+        private boolean lazy = false;
+    }
+
+    @Data
+    public static class AsyncConfig {
+        /**
+         * 是否使用虚拟线程执行异步 HandlerMethod(需要JDK21+，不支持时使用线程池)
+         */
+        private boolean useVirtualThreads = false;
+        /**
+         * 不能使用虚拟线程时，执行异步 HandlerMethod 的线程池最大线程数(线程池已满时在当前线程中执行)
+         */
+        private int threadPoolMax = 1000;
+        /**
+         * 异步请求的默认超时时间
+         */
+        private Duration timeout = Duration.ofSeconds(60);
     }
 
     @Data
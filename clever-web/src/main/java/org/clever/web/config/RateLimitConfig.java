@@ -0,0 +1,86 @@
+package org.clever.web.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 路由限流配置(从 redis 批量租借令牌到本地)
+ * <p>
+ * 作者：lizw <br/>
+ * 创建时间：2026/10/19 05:52 <br/>
+ */
+@ConfigurationProperties(prefix = RateLimitConfig.PREFIX)
+@Data
+public class RateLimitConfig {
+    public static final String PREFIX = WebConfig.PREFIX + ".rate-limit";
+
+    /**
+     * 启用 RateLimitFilter
+     */
+    private boolean enable = false;
+    /**
+     * 使用的 redis 数据源名称(为空使用默认数据源)
+     */
+    private String redisName;
+    /**
+     * redis 令牌桶 key 前缀
+     */
+    private String keyPrefix = "rate-limit:";
+    /**
+     * 允许的误差比例(0~1)，每次从 redis 租借 {@code limit * tolerance} 个令牌，
+     * 每个节点最多持有这么多未使用的令牌，值越大 redis 访问次数越少
+     */
+    private double tolerance = 0.05;
+    /**
+     * 每个限流规则最多缓存的本地令牌桶数量
+     */
+    private int maxKeys = 100_000;
+    /**
+     * 访问 redis 失败时是否允许请求通过
+     */
+    private boolean failOpen = true;
+    /**
+     * 获取限流指标数据的请求地址(为空则不提供)
+     */
+    private String metricsPath;
+    /**
+     * 忽略地址(支持AntPath风格)
+     */
+    private List<String> ignorePaths = new ArrayList<>();
+    /**
+     * 限流规则，请求使用第一个匹配的规则
+     */
+    private List<Rule> rules = new ArrayList<>();
+
+    @Data
+    public static class Rule {
+        /**
+         * 规则名称
+         */
+        private String name;
+        /**
+         * 规则包含的请求地址(支持AntPath风格)
+         */
+        private List<String> pathPatterns = new ArrayList<>();
+        /**
+         * 限流的key: global(所有请求共用)、ip(客户端IP)、user(登录用户，未登录使用IP)、header:请求头名称
+         */
+        private String keyBy = "ip";
+        /**
+         * 在 period 时间内最多请求 limit 次
+         */
+        private long limit = 100;
+        /**
+         * 限流时间周期
+         */
+        private Duration period = Duration.ofSeconds(1);
+        /**
+         * 令牌桶容量(允许的突发请求数，为空使用 limit)
+         */
+        private Long burst;
+    }
+}
@@ -0,0 +1,44 @@
+package org.clever.web.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+
+/**
+ * 服务端响应缓存配置(缓存使用 {@link org.clever.web.mvc.annotation.ResponseCache} 注解的 HandlerMethod 响应数据)
+ * <p>
+ * 作者：lizw <br/>
+ * 创建时间：2026/10/19 05:58 <br/>
+ */
+@ConfigurationProperties(prefix = ResponseCacheConfig.PREFIX)
+@Data
+public class ResponseCacheConfig {
+    public static final String PREFIX = WebConfig.PREFIX + ".response-cache";
+
+    /**
+     * 启用 ResponseCacheFilter
+     */
+    private boolean enable = false;
+    /**
+     * 默认的缓存过期时间
+     */
+    private Duration ttl = Duration.ofSeconds(60);
+    /**
+     * 能被缓存的最大响应数据大小
+     */
+    private DataSize maxEntrySize = DataSize.ofKilobytes(512);
+    /**
+     * 缓存占用的最大内存
+     */
+    private DataSize maxTotalSize = DataSize.ofMegabytes(64);
+    /**
+     * 相同缓存 key 的请求等待正在生成的响应数据的最长时间，超时后自行处理请求(不使用缓存)
+     */
+    private Duration waitTimeout = Duration.ofSeconds(10);
+    /**
+     * 获取响应缓存指标数据的请求地址(为空则不提供)
+     */
+    private String metricsPath;
+}
@@ -0,0 +1,49 @@
+package org.clever.web.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 请求处理阶段耗时统计配置(Server-Timing)
+ * <p>
+ * 作者：lizw <br/>
+ * 创建时间：2026/10/19 05:42 <br/>
+ */
+@ConfigurationProperties(prefix = ServerTimingConfig.PREFIX)
+@Data
+public class ServerTimingConfig {
+    public static final String PREFIX = WebConfig.PREFIX + ".server-timing";
+
+    /**
+     * 启用 ServerTimingFilter(统计请求各个阶段的耗时，按路由汇总耗时分布)
+     */
+    private boolean enable = false;
+    /**
+     * 是否输出 Server-Timing 响应头(只包含响应提交之前的耗时)
+     */
+    private boolean responseHeader = false;
+    /**
+     * 最多统计的路由数量，超过后新路由的数据汇总到“other”路由
+     */
+    private int maxRoutes = 500;
+    /**
+     * 耗时分布的区间上限
+     */
+    private List<Duration> buckets = new ArrayList<>(List.of(
+        Duration.ofMillis(1), Duration.ofMillis(5), Duration.ofMillis(10), Duration.ofMillis(25), Duration.ofMillis(50),
+        Duration.ofMillis(100), Duration.ofMillis(250), Duration.ofMillis(500), Duration.ofSeconds(1), Duration.ofMillis(2500),
+        Duration.ofSeconds(5), Duration.ofSeconds(10)
+    ));
+    /**
+     * 获取耗时统计数据的请求地址(为空则不提供)
+     */
+    private String metricsPath;
+    /**
+     * 忽略地址(支持AntPath风格)
+     */
+    private List<String> ignorePaths = new ArrayList<>();
+}
@@ -2,8 +2,11 @@ package org.clever.web.config;
 
 import lombok.Data;
 import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.NestedConfigurationProperty;
+import org.springframework.util.unit.DataSize;
 
 import java.time.Duration;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 
@@ -24,6 +27,11 @@ public class StaticResourceConfig {
      * 静态资源映射
      */
     private List<ResourceMapping> mappings = Collections.emptyList();
+    /**
+     * 静态资源内存缓存配置
+     */
+    @NestedConfigurationProperty
+    private ResourceCache cache = new ResourceCache();
 
     @Data
     public static class ResourceMapping {
@@ -57,4 +65,38 @@ public class StaticResourceConfig {
          */
         private Duration cachePeriod = Duration.ofSeconds(0);
     }
+
+    @Data
+    public static class ResourceCache {
+        /**
+         * 是否启用内存缓存(缓存资源内容、gzip压缩内容和基于内容hash的ETag)
+         */
+        private boolean enable = false;
+        /**
+         * 能被缓存的最大文件大小
+         */
+        private DataSize maxFileSize = DataSize.ofKilobytes(512);
+        /**
+         * 缓存占用的最大内存
+         */
+        private DataSize maxTotalSize = DataSize.ofMegabytes(64);
+        /**
+         * 检查资源文件是否变化的时间间隔(小于等于0表示每次请求都检查)
+         */
+        private Duration checkInterval = Duration.ofSeconds(2);
+        /**
+         * 是否预先生成gzip压缩内容
+         */
+        private boolean gzip = true;
+        /**
+         * 需要gzip压缩的资源类型(支持“text/*”格式)
+         */
+        private List<String> gzipMimeTypes = new ArrayList<>() {{
+            add("application/javascript");
+            add("application/json");
+            add("application/xml");
+            add("image/svg+xml");
+            add("text/*");
+        }};
+    }
 }
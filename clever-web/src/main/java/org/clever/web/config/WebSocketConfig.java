@@ -1,6 +1,9 @@
 package org.clever.web.config;
 
 import lombok.Data;
+import org.clever.web.support.WebSocketBroadcastHub;
+import org.springframework.boot.context.properties.NestedConfigurationProperty;
+import org.springframework.util.unit.DataSize;
 
 /**
  * 作者：lizw <br/>
@@ -8,5 +11,26 @@ import lombok.Data;
  */
 @Data
 public class WebSocketConfig {
-    // TODO WebSocket未实现
+    // TODO WebSocket路由配置未实现
+    /**
+     * 广播消息配置({@link WebSocketBroadcastHub})
+     */
+    @NestedConfigurationProperty
+    private Broadcast broadcast = new Broadcast();
+
+    @Data
+    public static class Broadcast {
+        /**
+         * 每个会话最多排队的消息数量
+         */
+        private int maxQueueSize = 256;
+        /**
+         * 每个会话排队消息的最大大小
+         */
+        private DataSize maxQueueBytes = DataSize.ofMegabytes(4);
+        /**
+         * 会话发送队列已满(慢客户端)时的处理策略
+         */
+        private WebSocketBroadcastHub.OverflowPolicy overflowPolicy = WebSocketBroadcastHub.OverflowPolicy.CLOSE;
+    }
 }
@@ -0,0 +1,686 @@
+package org.clever.web.filter;
+
+import jakarta.servlet.*;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletRequestWrapper;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpServletResponseWrapper;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang3.StringUtils;
+import org.apache.commons.lang3.math.NumberUtils;
+import org.clever.core.AppContextHolder;
+import org.clever.core.Assert;
+import org.clever.core.BannerUtils;
+import org.clever.web.FilterRegistrar;
+import org.clever.web.config.CompressionConfig;
+import org.clever.web.support.PathPatternMatcher;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.core.env.Environment;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.PrintWriter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.zip.CRC32;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+
+/**
+ * 响应数据压缩(gzip) Filter<br/>
+ * 只压缩客户端支持(Accept-Encoding)、响应类型在 mimeTypes 中、且数据大小不小于 minSize 的响应。
+ * 数据小于 minSize 之前先缓存在内存中，超过后才决定是否压缩，压缩器(Deflater)使用对象池复用
+ * <p>
+ * 作者：lizw <br/>
+ * 创建时间：2026/10/19 05:04 <br/>
+ */
+@Slf4j
+public class CompressionFilter implements FilterRegistrar.FilterFuc {
+    public static CompressionFilter create(CompressionConfig compressionConfig) {
+        return new CompressionFilter(compressionConfig);
+    }
+
+    public static CompressionFilter create(Environment environment) {
+        CompressionConfig compressionConfig = Binder.get(environment).bind(CompressionConfig.PREFIX, CompressionConfig.class).orElseGet(CompressionConfig::new);
+        AppContextHolder.registerBean("compressionConfig", compressionConfig, true);
+        List<String> logs = new ArrayList<>();
+        logs.add("compression:");
+        logs.add("  enable     : " + compressionConfig.isEnable());
+        logs.add("  minSize    : " + compressionConfig.getMinSize());
+        logs.add("  level      : " + compressionConfig.getLevel());
+        logs.add("  poolSize   : " + compressionConfig.getPoolSize());
+        logs.add("  mimeTypes  : " + StringUtils.join(compressionConfig.getMimeTypes(), " | "));
+        logs.add("  ignorePaths: " + StringUtils.join(compressionConfig.getIgnorePaths(), " | "));
+        if (compressionConfig.isEnable()) {
+            BannerUtils.printConfig(log, "响应压缩配置", logs.toArray(new String[0]));
+        }
+        return create(compressionConfig);
+    }
+
+    public static final String GZIP = "gzip";
+    /**
+     * 不压缩的响应类型(需要实时推送的数据)
+     */
+    private static final String EVENT_STREAM = "text/event-stream";
+    /**
+     * 压缩响应数据的 response 在 request attribute 中的名称
+     */
+    private static final String RESPONSE_ATTRIBUTE = CompressionFilter.class.getName() + "_Response";
+
+    @Getter
+    private final CompressionConfig compressionConfig;
+    /**
+     * 压缩器对象池
+     */
+    private final BlockingQueue<Deflater> deflaterPool;
+
+    public CompressionFilter(CompressionConfig compressionConfig) {
+        Assert.notNull(compressionConfig, "参数 compressionConfig 不能为 null");
+        this.compressionConfig = compressionConfig;
+        this.deflaterPool = new ArrayBlockingQueue<>(Math.max(compressionConfig.getPoolSize(), 1));
+    }
+
+    @Override
+    public void doFilter(FilterRegistrar.Context ctx) throws IOException, ServletException {
+        // 异步请求的 dispatch，继续使用之前的 response 压缩数据
+        final Object current = ctx.req.getAttribute(RESPONSE_ATTRIBUTE);
+        if (current instanceof CompressionResponseWrapper && DispatcherType.ASYNC == ctx.req.getDispatcherType()) {
+            doFilter(ctx, (CompressionResponseWrapper) current);
+            return;
+        }
+        // 是否启用
+        if (!compressionConfig.isEnable() || HttpMethod.HEAD.matches(ctx.req.getMethod())) {
+            ctx.next();
+            return;
+        }
+        // 在 ignore 出现的路径，忽略掉
+        if (PathPatternMatcher.of(compressionConfig.getIgnorePaths()).matches(ctx.req)) {
+            ctx.next();
+            return;
+        }
+        ctx.res.addHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        // 客户端不支持gzip | Range请求
+        if (!acceptsGzip(ctx.req.getHeader(HttpHeaders.ACCEPT_ENCODING)) || ctx.req.getHeader(HttpHeaders.RANGE) != null) {
+            ctx.next();
+            return;
+        }
+        final CompressionResponseWrapper response = new CompressionResponseWrapper(ctx.res);
+        ctx.req.setAttribute(RESPONSE_ATTRIBUTE, response);
+        doFilter(ctx, response);
+    }
+
+    /**
+     * 使用压缩响应数据的 response 执行后续的 Filter。<br/>
+     * 异步请求在 {@link AsyncContext#complete()} 时完成压缩(此时异步线程已经写完数据)，
+     * 开始异步处理之后当前线程不能再访问 response(异步线程可能正在写入数据)
+     */
+    private void doFilter(FilterRegistrar.Context ctx, CompressionResponseWrapper response) throws IOException, ServletException {
+        final CompressionRequestWrapper request = new CompressionRequestWrapper(ctx.req, response);
+        ctx.chain.doFilter(request, response);
+        if (!request.asyncStarted && !ctx.req.isAsyncStarted()) {
+            response.finish();
+        }
+    }
+
+    /**
+     * 客户端是否支持gzip压缩
+     *
+     * @param acceptEncoding 请求头 Accept-Encoding 的值
+     */
+    public static boolean acceptsGzip(String acceptEncoding) {
+        if (StringUtils.isBlank(acceptEncoding)) {
+            return false;
+        }
+        for (String item : StringUtils.split(acceptEncoding, ',')) {
+            final String[] parts = StringUtils.split(item, ';');
+            if (parts.length == 0) {
+                continue;
+            }
+            final String coding = parts[0].trim();
+            if (!GZIP.equalsIgnoreCase(coding) && !"*".equals(coding)) {
+                continue;
+            }
+            // q=0 表示不支持
+            for (int i = 1; i < parts.length; i++) {
+                final String param = parts[i].trim();
+                if (param.startsWith("q=") && NumberUtils.toDouble(param.substring(2), 1) <= 0) {
+                    return false;
+                }
+            }
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * 响应类型是否需要压缩
+     */
+    protected boolean isCompressible(String contentType) {
+        if (StringUtils.isBlank(contentType)) {
+            return false;
+        }
+        final int idx = contentType.indexOf(';');
+        final String mimeType = (idx < 0 ? contentType : contentType.substring(0, idx)).trim().toLowerCase();
+        if (EVENT_STREAM.equals(mimeType)) {
+            return false;
+        }
+        final List<String> mimeTypes = compressionConfig.getMimeTypes();
+        if (mimeTypes == null) {
+            return false;
+        }
+        for (String type : mimeTypes) {
+            if (type.endsWith("/*") ? mimeType.startsWith(type.substring(0, type.length() - 1)) : type.equals(mimeType)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    protected Deflater acquireDeflater() {
+        final Deflater deflater = deflaterPool.poll();
+        return deflater != null ? deflater : new Deflater(compressionConfig.getLevel(), true);
+    }
+
+    protected void releaseDeflater(Deflater deflater) {
+        deflater.reset();
+        if (!deflaterPool.offer(deflater)) {
+            deflater.end();
+        }
+    }
+
+    /**
+     * 支持压缩响应数据的 HttpServletResponse
+     */
+    protected class CompressionResponseWrapper extends HttpServletResponseWrapper {
+        private CompressionOutputStream outputStream;
+        private PrintWriter writer;
+        /**
+         * 业务代码设置的 Content-Length (决定是否压缩之后才写入响应头)
+         */
+        private long contentLength = -1;
+
+        public CompressionResponseWrapper(HttpServletResponse response) {
+            super(response);
+        }
+
+        @Override
+        public ServletOutputStream getOutputStream() throws IOException {
+            if (writer != null) {
+                throw new IllegalStateException("getWriter() has already been called for this response");
+            }
+            return stream();
+        }
+
+        @Override
+        public PrintWriter getWriter() throws IOException {
+            if (writer == null) {
+                if (outputStream != null) {
+                    throw new IllegalStateException("getOutputStream() has already been called for this response");
+                }
+                writer = new PrintWriter(new OutputStreamWriter(stream(), getCharacterEncoding()));
+            }
+            return writer;
+        }
+
+        private CompressionOutputStream stream() {
+            if (outputStream == null) {
+                outputStream = new CompressionOutputStream(this);
+            }
+            return outputStream;
+        }
+
+        @Override
+        public void setContentLength(int len) {
+            setContentLengthLong(len);
+        }
+
+        @Override
+        public void setContentLengthLong(long len) {
+            if (outputStream != null && outputStream.decided()) {
+                if (!outputStream.compressed()) {
+                    super.setContentLengthLong(len);
+                }
+                return;
+            }
+            contentLength = len;
+        }
+
+        @Override
+        public void setHeader(String name, String value) {
+            if (HttpHeaders.CONTENT_LENGTH.equalsIgnoreCase(name)) {
+                setContentLengthLong(NumberUtils.toLong(value, -1));
+            } else {
+                super.setHeader(name, value);
+            }
+        }
+
+        @Override
+        public void addHeader(String name, String value) {
+            if (HttpHeaders.CONTENT_LENGTH.equalsIgnoreCase(name)) {
+                setContentLengthLong(NumberUtils.toLong(value, -1));
+            } else {
+                super.addHeader(name, value);
+            }
+        }
+
+        @Override
+        public void setIntHeader(String name, int value) {
+            if (HttpHeaders.CONTENT_LENGTH.equalsIgnoreCase(name)) {
+                setContentLengthLong(value);
+            } else {
+                super.setIntHeader(name, value);
+            }
+        }
+
+        @Override
+        public void flushBuffer() throws IOException {
+            if (writer != null) {
+                writer.flush();
+            }
+            if (outputStream != null) {
+                outputStream.flush();
+            }
+            super.flushBuffer();
+        }
+
+        @Override
+        public void resetBuffer() {
+            super.resetBuffer();
+            if (outputStream != null) {
+                outputStream.resetBuffer();
+            }
+        }
+
+        @Override
+        public void reset() {
+            super.reset();
+            if (outputStream != null) {
+                outputStream.resetBuffer();
+            }
+            writer = null;
+            contentLength = -1;
+            super.addHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        }
+
+        /**
+         * 完成响应数据输出(写入缓存的数据和gzip结束标识)
+         */
+        protected void finish() throws IOException {
+            if (writer != null) {
+                // 把 writer 中缓存的数据写入输出流，此时不需要根据已写入的数据决定是否压缩
+                outputStream.finishing = true;
+                writer.flush();
+            }
+            if (outputStream != null) {
+                outputStream.finish();
+            } else if (contentLength >= 0) {
+                super.setContentLengthLong(contentLength);
+            }
+        }
+
+        private void setHeaders(boolean compress) {
+            if (compress) {
+                super.setHeader(HttpHeaders.CONTENT_ENCODING, GZIP);
+                // 压缩后的内容与原始内容不同，使用弱ETag
+                final String etag = getHeader(HttpHeaders.ETAG);
+                if (etag != null && !etag.startsWith("W/")) {
+                    super.setHeader(HttpHeaders.ETAG, "W/" + etag);
+                }
+            } else if (contentLength >= 0) {
+                super.setContentLengthLong(contentLength);
+            }
+        }
+
+        private boolean shouldCompress(long size) {
+            if (size < compressionConfig.getMinSize() || (contentLength >= 0 && contentLength < compressionConfig.getMinSize())) {
+                return false;
+            }
+            final int status = getStatus();
+            if (status < 200 || status == HttpServletResponse.SC_NO_CONTENT || status == HttpServletResponse.SC_NOT_MODIFIED) {
+                return false;
+            }
+            // 已经压缩过的数据(如: 预压缩的静态资源)
+            if (containsHeader(HttpHeaders.CONTENT_ENCODING)) {
+                return false;
+            }
+            return isCompressible(getContentType());
+        }
+    }
+
+    /**
+     * 开始异步处理时返回 {@link CompressionAsyncContext} 的 HttpServletRequest
+     */
+    protected static class CompressionRequestWrapper extends HttpServletRequestWrapper {
+        private final CompressionResponseWrapper response;
+        private CompressionAsyncContext asyncContext;
+        /**
+         * 是否通过当前对象开始了异步处理
+         */
+        private boolean asyncStarted;
+
+        public CompressionRequestWrapper(HttpServletRequest request, CompressionResponseWrapper response) {
+            super(request);
+            this.response = response;
+        }
+
+        @Override
+        public AsyncContext startAsync() throws IllegalStateException {
+            return wrap(super.startAsync());
+        }
+
+        @Override
+        public AsyncContext startAsync(ServletRequest servletRequest, ServletResponse servletResponse) throws IllegalStateException {
+            return wrap(super.startAsync(servletRequest, servletResponse));
+        }
+
+        @Override
+        public AsyncContext getAsyncContext() {
+            final AsyncContext context = super.getAsyncContext();
+            if (asyncContext != null && asyncContext.delegate == context) {
+                return asyncContext;
+            }
+            return context;
+        }
+
+        private AsyncContext wrap(AsyncContext context) {
+            asyncStarted = true;
+            if (asyncContext == null || asyncContext.delegate != context) {
+                asyncContext = new CompressionAsyncContext(context, response);
+            }
+            return asyncContext;
+        }
+    }
+
+    /**
+     * 在 {@link #complete()} 时写入缓存的数据和gzip结束标识(业务代码可能不会关闭输出流)
+     */
+    protected static class CompressionAsyncContext implements AsyncContext {
+        private final AsyncContext delegate;
+        private final CompressionResponseWrapper response;
+
+        public CompressionAsyncContext(AsyncContext delegate, CompressionResponseWrapper response) {
+            this.delegate = delegate;
+            this.response = response;
+        }
+
+        @Override
+        public void complete() {
+            try {
+                response.finish();
+            } catch (IOException e) {
+                log.debug("完成响应数据压缩失败", e);
+            } finally {
+                delegate.complete();
+            }
+        }
+
+        @Override
+        public ServletRequest getRequest() {
+            return delegate.getRequest();
+        }
+
+        @Override
+        public ServletResponse getResponse() {
+            return delegate.getResponse();
+        }
+
+        @Override
+        public boolean hasOriginalRequestAndResponse() {
+            return delegate.hasOriginalRequestAndResponse();
+        }
+
+        @Override
+        public void dispatch() {
+            delegate.dispatch();
+        }
+
+        @Override
+        public void dispatch(String path) {
+            delegate.dispatch(path);
+        }
+
+        @Override
+        public void dispatch(ServletContext context, String path) {
+            delegate.dispatch(context, path);
+        }
+
+        @Override
+        public void start(Runnable run) {
+            delegate.start(run);
+        }
+
+        @Override
+        public void addListener(AsyncListener listener) {
+            delegate.addListener(listener);
+        }
+
+        @Override
+        public void addListener(AsyncListener listener, ServletRequest servletRequest, ServletResponse servletResponse) {
+            delegate.addListener(listener, servletRequest, servletResponse);
+        }
+
+        @Override
+        public <T extends AsyncListener> T createListener(Class<T> clazz) throws ServletException {
+            return delegate.createListener(clazz);
+        }
+
+        @Override
+        public void setTimeout(long timeout) {
+            delegate.setTimeout(timeout);
+        }
+
+        @Override
+        public long getTimeout() {
+            return delegate.getTimeout();
+        }
+    }
+
+    /**
+     * 数据小于 minSize 时缓存在内存中，超过 minSize 或者输出结束时决定是否压缩
+     */
+    protected class CompressionOutputStream extends ServletOutputStream {
+        private final CompressionResponseWrapper response;
+        /**
+         * 决定是否压缩之前的数据缓冲区
+         */
+        private byte[] buffer;
+        private int count;
+        /**
+         * 实际写入的输出流(null表示还未决定是否压缩)
+         */
+        private OutputStream target;
+        private GzipOutputStream gzip;
+        private Deflater deflater;
+        private boolean finished;
+        /**
+         * 正在结束输出(此时的 flush 不需要决定是否压缩)
+         */
+        private boolean finishing;
+
+        protected CompressionOutputStream(CompressionResponseWrapper response) {
+            this.response = response;
+        }
+
+        protected boolean decided() {
+            return target != null;
+        }
+
+        protected boolean compressed() {
+            return gzip != null;
+        }
+
+        protected void resetBuffer() {
+            if (target == null) {
+                count = 0;
+            }
+        }
+
+        /**
+         * 决定是否压缩并写入缓存的数据
+         *
+         * @param size 用于判断是否压缩的数据大小
+         */
+        protected void decide(long size) throws IOException {
+            final boolean compress = response.shouldCompress(size);
+            response.setHeaders(compress);
+            final OutputStream out = response.getResponse().getOutputStream();
+            if (compress) {
+                deflater = acquireDeflater();
+                gzip = new GzipOutputStream(out, deflater);
+                target = gzip;
+            } else {
+                target = out;
+            }
+            if (count > 0) {
+                target.write(buffer, 0, count);
+                count = 0;
+            }
+            buffer = null;
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            if (finished) {
+                throw new IOException("stream closed");
+            }
+            if (target == null) {
+                final int minSize = Math.max(compressionConfig.getMinSize(), 1);
+                if (count + 1 < minSize) {
+                    if (buffer == null) {
+                        buffer = new byte[minSize];
+                    }
+                    buffer[count++] = (byte) b;
+                    return;
+                }
+                decide(count + 1);
+            }
+            target.write(b);
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            if (finished) {
+                throw new IOException("stream closed");
+            }
+            if (target == null) {
+                final int minSize = Math.max(compressionConfig.getMinSize(), 1);
+                if (count + len < minSize) {
+                    if (buffer == null) {
+                        buffer = new byte[minSize];
+                    }
+                    System.arraycopy(b, off, buffer, count, len);
+                    count += len;
+                    return;
+                }
+                decide((long) count + len);
+            }
+            target.write(b, off, len);
+        }
+
+        @Override
+        public void flush() throws IOException {
+            if (finished) {
+                return;
+            }
+            if (target == null) {
+                if (finishing) {
+                    return;
+                }
+                // 根据已写入的数据决定是否压缩(数据较少时不压缩)
+                decide(response.contentLength >= 0 ? response.contentLength : count);
+            }
+            target.flush();
+        }
+
+        @Override
+        public void close() throws IOException {
+            if (finished) {
+                return;
+            }
+            finish();
+            response.getResponse().getOutputStream().close();
+        }
+
+        protected void finish() throws IOException {
+            if (finished) {
+                return;
+            }
+            finished = true;
+            if (target == null) {
+                // 数据已全部写入，未设置 Content-Length 时使用实际的数据长度
+                if (response.contentLength < 0) {
+                    response.contentLength = count;
+                }
+                decide(count);
+            }
+            if (gzip != null) {
+                try {
+                    gzip.finish();
+                } finally {
+                    releaseDeflater(deflater);
+                    deflater = null;
+                }
+            }
+        }
+
+        @Override
+        public boolean isReady() {
+            try {
+                return response.getResponse().getOutputStream().isReady();
+            } catch (IOException e) {
+                return false;
+            }
+        }
+
+        @Override
+        public void setWriteListener(WriteListener writeListener) {
+            try {
+                response.getResponse().getOutputStream().setWriteListener(writeListener);
+            } catch (IOException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+    }
+
+    /**
+     * 使用外部 Deflater 的gzip输出流(不会调用 {@link Deflater#end()}，以便复用 Deflater)
+     */
+    protected static class GzipOutputStream extends DeflaterOutputStream {
+        private static final byte[] HEADER = {0x1f, (byte) 0x8b, Deflater.DEFLATED, 0, 0, 0, 0, 0, 0, (byte) 0xff};
+        private final CRC32 crc = new CRC32();
+
+        public GzipOutputStream(OutputStream out, Deflater deflater) throws IOException {
+            super(out, deflater, 8192, true);
+            out.write(HEADER);
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            super.write(b, off, len);
+            crc.update(b, off, len);
+        }
+
+        @Override
+        public void finish() throws IOException {
+            if (def.finished()) {
+                return;
+            }
+            super.finish();
+            final long crcValue = crc.getValue();
+            final long size = def.getBytesRead();
+            final byte[] trailer = new byte[8];
+            for (int i = 0; i < 4; i++) {
+                trailer[i] = (byte) (crcValue >> (8 * i));
+                trailer[i + 4] = (byte) (size >> (8 * i));
+            }
+            out.write(trailer);
+            out.flush();
+        }
+    }
+}
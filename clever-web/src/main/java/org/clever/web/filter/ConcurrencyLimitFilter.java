@@ -0,0 +1,224 @@
+package org.clever.web.filter;
+
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang3.StringUtils;
+import org.clever.core.AppContextHolder;
+import org.clever.core.Assert;
+import org.clever.core.BannerUtils;
+import org.clever.core.StrFormatter;
+import org.clever.core.mapper.JacksonMapper;
+import org.clever.web.FilterRegistrar;
+import org.clever.web.config.ConcurrencyLimitConfig;
+import org.clever.web.support.AdaptiveConcurrencyLimiter;
+import org.clever.web.support.PathPatternMatcher;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.core.env.Environment;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * 自适应并发数限制 Filter(过载保护)<br/>
+ * 每个路由分组使用独立的 {@link AdaptiveConcurrencyLimiter}，并发数超过限制时直接响应 503(不进入后续的处理流程)，
+ * 使过载时的响应时间保持稳定、吞吐量接近峰值
+ * <p>
+ * 作者：lizw <br/>
+ * 创建时间：2026/10/19 05:28 <br/>
+ */
+@Slf4j
+public class ConcurrencyLimitFilter implements FilterRegistrar.FilterFuc {
+    public static final String DEFAULT_GROUP = "default";
+
+    public static ConcurrencyLimitFilter create(ConcurrencyLimitConfig concurrencyLimitConfig) {
+        return new ConcurrencyLimitFilter(concurrencyLimitConfig);
+    }
+
+    public static ConcurrencyLimitFilter create(Environment environment) {
+        ConcurrencyLimitConfig concurrencyLimitConfig = Binder.get(environment).bind(ConcurrencyLimitConfig.PREFIX, ConcurrencyLimitConfig.class).orElseGet(ConcurrencyLimitConfig::new);
+        AppContextHolder.registerBean("concurrencyLimitConfig", concurrencyLimitConfig, true);
+        List<String> logs = new ArrayList<>();
+        logs.add("concurrencyLimit:");
+        logs.add("  enable       : " + concurrencyLimitConfig.isEnable());
+        logs.add("  initialLimit : " + concurrencyLimitConfig.getInitialLimit());
+        logs.add("  minLimit     : " + concurrencyLimitConfig.getMinLimit());
+        logs.add("  maxLimit     : " + concurrencyLimitConfig.getMaxLimit());
+        logs.add("  windowSize   : " + concurrencyLimitConfig.getWindowSize());
+        logs.add("  probeInterval: " + concurrencyLimitConfig.getProbeInterval());
+        logs.add("  rttTolerance : " + concurrencyLimitConfig.getRttTolerance());
+        logs.add("  smoothing    : " + concurrencyLimitConfig.getSmoothing());
+        logs.add("  backoffRatio : " + concurrencyLimitConfig.getBackoffRatio());
+        logs.add("  retryAfter   : " + StrFormatter.toPlainString(concurrencyLimitConfig.getRetryAfter()));
+        logs.add("  metricsPath  : " + Optional.ofNullable(concurrencyLimitConfig.getMetricsPath()).orElse(""));
+        logs.add("  ignorePaths  : " + StringUtils.join(concurrencyLimitConfig.getIgnorePaths(), " | "));
+        logs.add("  groups       : ");
+        for (ConcurrencyLimitConfig.Group group : concurrencyLimitConfig.getGroups()) {
+            logs.add("    " + group.getName() + ": " + StringUtils.join(group.getPathPatterns(), " | "));
+        }
+        if (concurrencyLimitConfig.isEnable()) {
+            BannerUtils.printConfig(log, "并发数限制配置", logs.toArray(new String[0]));
+        }
+        ConcurrencyLimitFilter filter = create(concurrencyLimitConfig);
+        AppContextHolder.registerBean("concurrencyLimitFilter", filter, true);
+        return filter;
+    }
+
+    @Getter
+    private final ConcurrencyLimitConfig concurrencyLimitConfig;
+    /**
+     * 路由分组匹配器(与 groupLimiters 一一对应)
+     */
+    private final PathPatternMatcher[] groupMatchers;
+    private final AdaptiveConcurrencyLimiter[] groupLimiters;
+    private final AdaptiveConcurrencyLimiter defaultLimiter;
+
+    public ConcurrencyLimitFilter(ConcurrencyLimitConfig concurrencyLimitConfig) {
+        Assert.notNull(concurrencyLimitConfig, "参数 concurrencyLimitConfig 不能为 null");
+        this.concurrencyLimitConfig = concurrencyLimitConfig;
+        List<ConcurrencyLimitConfig.Group> groups = Optional.ofNullable(concurrencyLimitConfig.getGroups()).orElseGet(ArrayList::new);
+        this.groupMatchers = new PathPatternMatcher[groups.size()];
+        this.groupLimiters = new AdaptiveConcurrencyLimiter[groups.size()];
+        for (int i = 0; i < groups.size(); i++) {
+            ConcurrencyLimitConfig.Group group = groups.get(i);
+            Assert.isNotBlank(group.getName(), "并发数限制分组名称不能为空");
+            this.groupMatchers[i] = new PathPatternMatcher(Optional.ofNullable(group.getPathPatterns()).orElseGet(ArrayList::new));
+            this.groupLimiters[i] = newLimiter(group.getName(), group.getInitialLimit(), group.getMinLimit(), group.getMaxLimit());
+        }
+        this.defaultLimiter = newLimiter(DEFAULT_GROUP, null, null, null);
+    }
+
+    private AdaptiveConcurrencyLimiter newLimiter(String name, Integer initialLimit, Integer minLimit, Integer maxLimit) {
+        final ConcurrencyLimitConfig config = concurrencyLimitConfig;
+        return new AdaptiveConcurrencyLimiter(
+            name,
+            Objects.requireNonNullElse(initialLimit, config.getInitialLimit()),
+            Objects.requireNonNullElse(minLimit, config.getMinLimit()),
+            Objects.requireNonNullElse(maxLimit, config.getMaxLimit()),
+            config.getWindowSize(),
+            config.getProbeInterval(),
+            config.getRttTolerance(),
+            config.getSmoothing(),
+            config.getBackoffRatio()
+        );
+    }
+
+    @Override
+    public void doFilter(FilterRegistrar.Context ctx) throws IOException, ServletException {
+        // 是否启用
+        if (!concurrencyLimitConfig.isEnable()) {
+            ctx.next();
+            return;
+        }
+        // 获取指标数据
+        final String metricsPath = concurrencyLimitConfig.getMetricsPath();
+        if (StringUtils.isNotBlank(metricsPath) && Objects.equals(metricsPath, PathPatternMatcher.getPath(ctx.req))) {
+            ctx.res.setStatus(HttpStatus.OK.value());
+            ctx.res.setContentType(MediaType.APPLICATION_JSON_VALUE);
+            ctx.res.getOutputStream().write(JacksonMapper.getInstance().toJson(getMetrics()).getBytes(StandardCharsets.UTF_8));
+            return;
+        }
+        // 在 ignore 出现的路径，忽略掉
+        if (PathPatternMatcher.of(concurrencyLimitConfig.getIgnorePaths()).matches(ctx.req)) {
+            ctx.next();
+            return;
+        }
+        final AdaptiveConcurrencyLimiter limiter = getLimiter(ctx);
+        if (!limiter.tryAcquire()) {
+            reject(ctx.res);
+            return;
+        }
+        final long startTime = System.nanoTime();
+        boolean async = false;
+        try {
+            ctx.next();
+            if (ctx.req.isAsyncStarted()) {
+                // 异步请求完成时再释放
+                ctx.req.getAsyncContext().addListener(new ReleaseListener(limiter, startTime, ctx.res));
+                async = true;
+            }
+        } finally {
+            if (!async) {
+                limiter.release(System.nanoTime() - startTime, isDropped(ctx.res));
+            }
+        }
+    }
+
+    /**
+     * 获取请求对应的并发数限制
+     */
+    protected AdaptiveConcurrencyLimiter getLimiter(FilterRegistrar.Context ctx) {
+        for (int i = 0; i < groupMatchers.length; i++) {
+            if (groupMatchers[i].matches(ctx.req)) {
+                return groupLimiters[i];
+            }
+        }
+        return defaultLimiter;
+    }
+
+    /**
+     * 获取所有分组的指标数据
+     */
+    public List<AdaptiveConcurrencyLimiter.Metrics> getMetrics() {
+        List<AdaptiveConcurrencyLimiter.Metrics> metrics = new ArrayList<>(groupLimiters.length + 1);
+        for (AdaptiveConcurrencyLimiter limiter : groupLimiters) {
+            metrics.add(limiter.getMetrics());
+        }
+        metrics.add(defaultLimiter.getMetrics());
+        return metrics;
+    }
+
+    private void reject(HttpServletResponse response) {
+        response.setStatus(HttpStatus.SERVICE_UNAVAILABLE.value());
+        if (concurrencyLimitConfig.getRetryAfter() != null) {
+            response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(Math.max(concurrencyLimitConfig.getRetryAfter().toSeconds(), 1)));
+        }
+    }
+
+    /**
+     * 是否是过载响应
+     */
+    private static boolean isDropped(HttpServletResponse response) {
+        final int status = response.getStatus();
+        return status == HttpStatus.SERVICE_UNAVAILABLE.value() || status == HttpStatus.GATEWAY_TIMEOUT.value();
+    }
+
+    private static class ReleaseListener implements AsyncListener {
+        private final AdaptiveConcurrencyLimiter limiter;
+        private final long startTime;
+        private final HttpServletResponse response;
+
+        private ReleaseListener(AdaptiveConcurrencyLimiter limiter, long startTime, HttpServletResponse response) {
+            this.limiter = limiter;
+            this.startTime = startTime;
+            this.response = response;
+        }
+
+        @Override
+        public void onComplete(AsyncEvent event) {
+            limiter.release(System.nanoTime() - startTime, isDropped(response));
+        }
+
+        @Override
+        public void onTimeout(AsyncEvent event) {
+        }
+
+        @Override
+        public void onError(AsyncEvent event) {
+        }
+
+        @Override
+        public void onStartAsync(AsyncEvent event) {
+        }
+    }
+}
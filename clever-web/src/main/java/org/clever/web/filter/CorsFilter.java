@@ -7,14 +7,12 @@ import org.apache.commons.lang3.StringUtils;
 import org.clever.core.AppContextHolder;
 import org.clever.core.Assert;
 import org.clever.core.BannerUtils;
-import org.clever.core.http.HttpServletRequestUtils;
 import org.clever.web.FilterRegistrar;
 import org.clever.web.config.CorsConfig;
+import org.clever.web.support.PathPatternMatcher;
 import org.springframework.boot.context.properties.bind.Binder;
 import org.springframework.core.env.Environment;
 import org.springframework.http.HttpStatus;
-import org.springframework.util.AntPathMatcher;
-import org.springframework.util.PathMatcher;
 import org.springframework.web.cors.CorsProcessor;
 import org.springframework.web.cors.CorsUtils;
 import org.springframework.web.cors.DefaultCorsProcessor;
@@ -55,8 +53,6 @@ public class CorsFilter implements FilterRegistrar.FilterFuc {
         return create(corsConfig);
     }
 
-    private static final PathMatcher MATCHER = new AntPathMatcher();
-
     @Getter
     private final CorsConfig corsConfig;
     private final CorsProcessor corsProcessor = new DefaultCorsProcessor();
@@ -73,19 +69,8 @@ public class CorsFilter implements FilterRegistrar.FilterFuc {
             ctx.next();
             return;
         }
-        final String reqPath = HttpServletRequestUtils.getPathWithoutContextPath(ctx.req);
         // 当前请求路径是否支持跨域
-        boolean match = false;
-        List<String> pathPattern = corsConfig.getPathPattern();
-        if (pathPattern != null && !pathPattern.isEmpty()) {
-            for (String path : pathPattern) {
-                if (MATCHER.match(path, reqPath)) {
-                    match = true;
-                    break;
-                }
-            }
-        }
-        if (!match) {
+        if (!PathPatternMatcher.of(corsConfig.getPathPattern()).matches(ctx.req)) {
             ctx.next();
             return;
         }
@@ -8,15 +8,13 @@ import org.clever.core.AppContextHolder;
 import org.clever.core.Assert;
 import org.clever.core.BannerUtils;
 import org.clever.core.SystemClock;
-import org.clever.core.http.HttpServletRequestUtils;
 import org.clever.web.FilterRegistrar;
 import org.clever.web.config.EchoConfig;
+import org.clever.web.support.PathPatternMatcher;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.boot.context.properties.bind.Binder;
 import org.springframework.core.env.Environment;
-import org.springframework.util.AntPathMatcher;
-import org.springframework.util.PathMatcher;
 
 import java.io.IOException;
 import java.util.ArrayList;
@@ -49,7 +47,6 @@ public class EchoFilter implements FilterRegistrar.FilterFuc {
     }
 
     private static final Logger LOGGER = LoggerFactory.getLogger("ECHO");
-    private static final PathMatcher MATCHER = new AntPathMatcher();
 
     private final EchoConfig echoConfig;
 
@@ -64,16 +61,10 @@ public class EchoFilter implements FilterRegistrar.FilterFuc {
             ctx.next();
             return;
         }
-        final String reqPath = HttpServletRequestUtils.getPathWithoutContextPath(ctx.req);
         // 在 ignore 出现的路径，忽略掉
-        List<String> ignore = echoConfig.getIgnorePaths();
-        if (ignore != null && !ignore.isEmpty()) {
-            for (String path : ignore) {
-                if (MATCHER.match(path, reqPath)) {
-                    ctx.next();
-                    return;
-                }
-            }
+        if (PathPatternMatcher.of(echoConfig.getIgnorePaths()).matches(ctx.req)) {
+            ctx.next();
+            return;
         }
         // ECHO 逻辑
         StringBuilder sb = new StringBuilder();
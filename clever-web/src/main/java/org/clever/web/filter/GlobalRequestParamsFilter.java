@@ -1,12 +1,15 @@
 package org.clever.web.filter;
 
 import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang3.StringUtils;
 import org.clever.core.Conv;
 import org.clever.core.model.request.QueryByPage;
 import org.clever.core.model.request.QueryBySort;
 import org.clever.web.FilterRegistrar;
+import org.clever.web.mvc.AsyncRequest;
+import org.clever.web.mvc.ThreadContextPropagator;
 import org.clever.web.utils.GlobalExceptionHandler;
 
 import java.io.IOException;
@@ -22,6 +25,28 @@ import java.util.Arrays;
 public class GlobalRequestParamsFilter implements FilterRegistrar.FilterFuc {
     public static final GlobalRequestParamsFilter INSTANCE = new GlobalRequestParamsFilter();
 
+    /**
+     * 异步 HandlerMethod 使用请求线程中的分页、排序参数(启动时通过 {@link AsyncRequest#addThreadContextPropagator(ThreadContextPropagator)} 注册)
+     */
+    public static final ThreadContextPropagator THREAD_CONTEXT_PROPAGATOR = new ThreadContextPropagator() {
+        @Override
+        public Object capture(HttpServletRequest request) {
+            return QueryByPage.getCurrent();
+        }
+
+        @Override
+        public void restore(Object context, HttpServletRequest request) {
+            QueryBySort.setCurrent((QueryByPage) context);
+            QueryByPage.setCurrent((QueryByPage) context);
+        }
+
+        @Override
+        public void clear() {
+            QueryBySort.clearCurrent();
+            QueryByPage.clearCurrent();
+        }
+    };
+
     @Override
     public void doFilter(FilterRegistrar.Context ctx) throws IOException, ServletException {
         try {
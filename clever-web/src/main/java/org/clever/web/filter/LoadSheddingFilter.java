@@ -0,0 +1,223 @@
+package org.clever.web.filter;
+
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang3.StringUtils;
+import org.clever.core.AppContextHolder;
+import org.clever.core.Assert;
+import org.clever.core.BannerUtils;
+import org.clever.core.PhaseTimer;
+import org.clever.core.StrFormatter;
+import org.clever.web.FilterRegistrar;
+import org.clever.web.config.LoadSheddingConfig;
+import org.clever.web.support.PathPatternMatcher;
+import org.clever.web.support.QueueTimeThreadPool;
+import org.eclipse.jetty.server.Request;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.core.env.Environment;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 基于排队时间的请求丢弃 Filter(过载后快速恢复)<br/>
+ * 请求的等待时间取以下时间的最大值: Jetty 解析完请求头到现在的时间、请求在 Jetty 线程池队列中的等待时间({@link QueueTimeThreadPool})、
+ * 上游代理记录的请求开始时间到现在的时间。等待时间超过 maxQueueTime 或者已经超过客户端的截止时间时直接响应 503(带 Retry-After)，
+ * 避免处理客户端已经放弃的请求(不进入认证、数据库访问等后续的处理流程)
+ * <p>
+ * 作者：lizw <br/>
+ * 创建时间：2026/10/19 05:32 <br/>
+ */
+@Slf4j
+public class LoadSheddingFilter implements FilterRegistrar.FilterFuc {
+    /**
+     * 请求的等待时间(毫秒)，请求属性
+     */
+    public static final String QUEUE_TIME_ATTRIBUTE = LoadSheddingFilter.class.getName() + ".QUEUE_TIME";
+    /**
+     * {@link PhaseTimer} 阶段名称: 请求的等待时间
+     */
+    public static final String PHASE_QUEUE = "queue";
+
+    public static LoadSheddingFilter create(LoadSheddingConfig loadSheddingConfig) {
+        return new LoadSheddingFilter(loadSheddingConfig);
+    }
+
+    public static LoadSheddingFilter create(Environment environment) {
+        LoadSheddingConfig loadSheddingConfig = Binder.get(environment).bind(LoadSheddingConfig.PREFIX, LoadSheddingConfig.class).orElseGet(LoadSheddingConfig::new);
+        AppContextHolder.registerBean("loadSheddingConfig", loadSheddingConfig, true);
+        List<String> logs = new ArrayList<>();
+        logs.add("loadShedding:");
+        logs.add("  enable            : " + loadSheddingConfig.isEnable());
+        logs.add("  maxQueueTime      : " + Optional.ofNullable(loadSheddingConfig.getMaxQueueTime()).map(StrFormatter::toPlainString).orElse(""));
+        logs.add("  requestStartHeader: " + Optional.ofNullable(loadSheddingConfig.getRequestStartHeader()).orElse(""));
+        logs.add("  deadlineHeader    : " + Optional.ofNullable(loadSheddingConfig.getDeadlineHeader()).orElse(""));
+        logs.add("  retryAfter        : " + Optional.ofNullable(loadSheddingConfig.getRetryAfter()).map(StrFormatter::toPlainString).orElse(""));
+        logs.add("  ignorePaths       : " + StringUtils.join(loadSheddingConfig.getIgnorePaths(), " | "));
+        if (loadSheddingConfig.isEnable()) {
+            BannerUtils.printConfig(log, "请求丢弃配置", logs.toArray(new String[0]));
+        }
+        LoadSheddingFilter filter = create(loadSheddingConfig);
+        AppContextHolder.registerBean("loadSheddingFilter", filter, true);
+        return filter;
+    }
+
+    @Getter
+    private final LoadSheddingConfig loadSheddingConfig;
+    /**
+     * 等待时间超过 maxQueueTime 被丢弃的请求数
+     */
+    private final LongAdder queueTimeShed = new LongAdder();
+    /**
+     * 超过客户端截止时间被丢弃的请求数
+     */
+    private final LongAdder deadlineShed = new LongAdder();
+
+    public LoadSheddingFilter(LoadSheddingConfig loadSheddingConfig) {
+        Assert.notNull(loadSheddingConfig, "参数 loadSheddingConfig 不能为 null");
+        this.loadSheddingConfig = loadSheddingConfig;
+    }
+
+    @Override
+    public void doFilter(FilterRegistrar.Context ctx) throws IOException, ServletException {
+        // 是否启用
+        if (!loadSheddingConfig.isEnable()) {
+            ctx.next();
+            return;
+        }
+        final long now = System.currentTimeMillis();
+        final long queueTime = getQueueTime(ctx.req, now);
+        ctx.req.setAttribute(QUEUE_TIME_ATTRIBUTE, queueTime);
+        PhaseTimer.record(PHASE_QUEUE, TimeUnit.MILLISECONDS.toNanos(queueTime));
+        // 在 ignore 出现的路径，忽略掉
+        if (PathPatternMatcher.of(loadSheddingConfig.getIgnorePaths()).matches(ctx.req)) {
+            ctx.next();
+            return;
+        }
+        if (loadSheddingConfig.getMaxQueueTime() != null && queueTime > loadSheddingConfig.getMaxQueueTime().toMillis()) {
+            queueTimeShed.increment();
+            log.warn("请求等待时间过长，丢弃请求 | queueTime={}ms | {}", queueTime, PathPatternMatcher.getPath(ctx.req));
+            reject(ctx.res);
+            return;
+        }
+        final long deadline = getDeadline(ctx.req);
+        if (deadline > 0 && deadline <= now) {
+            deadlineShed.increment();
+            log.warn("请求已超过客户端截止时间，丢弃请求 | queueTime={}ms | {}", queueTime, PathPatternMatcher.getPath(ctx.req));
+            reject(ctx.res);
+            return;
+        }
+        ctx.next();
+    }
+
+    /**
+     * 获取请求的等待时间(毫秒)
+     */
+    protected long getQueueTime(HttpServletRequest request, long now) {
+        long queueTime = 0;
+        // Jetty 线程池队列中的等待时间
+        final long poolQueueTime = QueueTimeThreadPool.takeQueueTime();
+        if (poolQueueTime > 0) {
+            queueTime = TimeUnit.NANOSECONDS.toMillis(poolQueueTime);
+        }
+        // Jetty 解析完请求头的时间(不包括建立连接、等待请求头到达的时间)
+        final Request baseRequest = Request.getBaseRequest(request);
+        if (baseRequest != null && baseRequest.getTimeStamp() > 0) {
+            queueTime = Math.max(queueTime, now - baseRequest.getTimeStamp());
+        }
+        // 上游代理记录的请求开始时间
+        final long requestStart = parseRequestStart(getHeader(request, loadSheddingConfig.getRequestStartHeader()));
+        if (requestStart > 0) {
+            queueTime = Math.max(queueTime, now - requestStart);
+        }
+        return queueTime;
+    }
+
+    private void reject(HttpServletResponse response) {
+        response.setStatus(HttpStatus.SERVICE_UNAVAILABLE.value());
+        if (loadSheddingConfig.getRetryAfter() != null) {
+            response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(Math.max(loadSheddingConfig.getRetryAfter().toSeconds(), 1)));
+        }
+    }
+
+    /**
+     * 获取客户端的截止时间(毫秒时间戳)，不存在返回 -1
+     */
+    protected long getDeadline(HttpServletRequest request) {
+        final String deadline = getHeader(request, loadSheddingConfig.getDeadlineHeader());
+        if (deadline == null) {
+            return -1;
+        }
+        try {
+            return Long.parseLong(deadline);
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+
+    /**
+     * 被丢弃的请求数
+     */
+    public long getShedCount() {
+        return queueTimeShed.sum() + deadlineShed.sum();
+    }
+
+    /**
+     * 等待时间超过 maxQueueTime 被丢弃的请求数
+     */
+    public long getQueueTimeShedCount() {
+        return queueTimeShed.sum();
+    }
+
+    /**
+     * 超过客户端截止时间被丢弃的请求数
+     */
+    public long getDeadlineShedCount() {
+        return deadlineShed.sum();
+    }
+
+    private static String getHeader(HttpServletRequest request, String name) {
+        if (StringUtils.isBlank(name)) {
+            return null;
+        }
+        return StringUtils.trimToNull(request.getHeader(name));
+    }
+
+    /**
+     * 解析请求开始时间(毫秒时间戳)，支持格式: “t=1700000000.123”(秒)、毫秒时间戳、微秒时间戳，解析失败返回 -1
+     */
+    static long parseRequestStart(String value) {
+        if (value == null) {
+            return -1;
+        }
+        if (value.startsWith("t=")) {
+            value = value.substring(2);
+        }
+        try {
+            if (value.indexOf('.') >= 0) {
+                return (long) (Double.parseDouble(value) * 1000);
+            }
+            final long time = Long.parseLong(value);
+            if (time > 100_000_000_000_000L) {
+                // 微秒
+                return time / 1000;
+            } else if (time > 100_000_000_000L) {
+                // 毫秒
+                return time;
+            }
+            // 秒
+            return time * 1000;
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+}
@@ -1,22 +1,32 @@
 package org.clever.web.filter;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SequenceWriter;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import io.javalin.config.JavalinConfig;
 import io.javalin.plugin.Plugin;
+import io.javalin.util.ConcurrencyUtil;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import org.apache.commons.lang3.StringUtils;
+import org.apache.commons.lang3.concurrent.BasicThreadFactory;
 import org.clever.core.AppContextHolder;
 import org.clever.core.Assert;
+import org.clever.core.PhaseTimer;
 import org.clever.core.mapper.JacksonMapper;
-import org.clever.core.tuples.TupleTwo;
 import org.clever.web.FilterRegistrar;
 import org.clever.web.JavalinAppDataKey;
 import org.clever.web.config.MvcConfig;
 import org.clever.web.exception.MultiExceptionWrapper;
+import org.clever.web.mvc.AsyncRequest;
 import org.clever.web.mvc.HandlerContext;
 import org.clever.web.mvc.HandlerMethod;
+import org.clever.web.mvc.HandlerMethodInvoker;
+import org.clever.web.mvc.HttpRouteRegistry;
+import org.clever.web.mvc.annotation.Async;
 import org.clever.web.mvc.argument.*;
 import org.clever.web.mvc.interceptor.ArgumentsValidated;
 import org.clever.web.mvc.interceptor.HandlerInterceptor;
@@ -31,12 +41,14 @@ import org.springframework.util.ObjectUtils;
 import org.springframework.web.servlet.mvc.method.annotation.RequestMappingHandlerAdapter;
 
 import java.io.IOException;
-import java.lang.reflect.InvocationTargetException;
+import java.io.OutputStream;
 import java.lang.reflect.Method;
+import java.time.Duration;
 import java.util.*;
-import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.*;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
+import java.util.stream.Stream;
 
 /**
  * 定义MVC规则的Filter
@@ -53,6 +65,18 @@ public class MvcFilter extends Plugin<Void> implements FilterRegistrar.FilterFuc
      * 默认的 ObjectMapper
      */
     protected static final ObjectMapper DEF_OBJECT_MAPPER = JacksonMapper.getInstance().getMapper();
+    /**
+     * {@link PhaseTimer} 阶段名称: 解析 HandlerMethod 参数
+     */
+    public static final String PHASE_ARGS = "mvc-args";
+    /**
+     * {@link PhaseTimer} 阶段名称: 执行拦截器和 HandlerMethod
+     */
+    public static final String PHASE_HANDLER = "mvc-handler";
+    /**
+     * {@link PhaseTimer} 阶段名称: 序列化返回值并响应客户端
+     */
+    public static final String PHASE_WRITE = "mvc-write";
     protected final String rootPath;
     /**
      * 默认使用 {@code "jdbc.defaultName"} 配置的数据源
@@ -62,8 +86,28 @@ public class MvcFilter extends Plugin<Void> implements FilterRegistrar.FilterFuc
     protected JavalinConfig javalinConfig;
     protected ObjectMapper objectMapper;
     protected HandlerMethodResolver handlerMethodResolver;
+    /**
+     * 序列化 Handler Method 返回值的 ObjectWriter 缓存 {@code Cache<返回值类型, ObjectWriter>}(弱引用 key，支持热重载后回收 class)
+     */
+    protected final Cache<Class<?>, ObjectWriter> objectWriterCache = Caffeine.newBuilder().weakKeys().maximumSize(4096).build();
+    /**
+     * 显式注册的MVC路由(支持路径变量)
+     */
+    protected final HttpRouteRegistry routeRegistry = new HttpRouteRegistry();
     protected final List<HandlerMethodArgumentResolver> argumentResolvers = new CopyOnWriteArrayList<>();
+    /**
+     * argumentResolvers 的快照，argumentResolvers 变化时重新创建(HandlerMethod 据此判断是否需要重新绑定参数解析器)
+     */
+    protected volatile HandlerMethodArgumentResolver[] argumentResolverSnapshot = new HandlerMethodArgumentResolver[0];
     protected final List<HandlerInterceptor> interceptors = new CopyOnWriteArrayList<>();
+    /**
+     * 拦截器快照(拦截器变化时重新生成)，用于判断 HandlerMethod 的拦截器链是否需要重新生成
+     */
+    protected volatile HandlerInterceptor[] interceptorSnapshot = new HandlerInterceptor[0];
+    /**
+     * 执行异步 HandlerMethod 的线程池，第一次使用时创建
+     */
+    protected volatile ExecutorService asyncExecutor;
 
     public MvcFilter(String rootPath, String jdbcDefaultName, MvcConfig mvcConfig, ObjectMapper objectMapper) {
         Assert.isNotBlank(rootPath, "参数 rootPath 不能为空");
@@ -77,7 +121,9 @@ public class MvcFilter extends Plugin<Void> implements FilterRegistrar.FilterFuc
         this.jdbcDefaultName = jdbcDefaultName;
         this.mvcConfig = mvcConfig;
         this.objectMapper = Optional.ofNullable(objectMapper).orElse(DEF_OBJECT_MAPPER);
-        this.handlerMethodResolver = new DefaultHandlerMethodResolver(rootPath, hotReload);
+        DefaultHandlerMethodResolver defaultHandlerMethodResolver = new DefaultHandlerMethodResolver(rootPath, hotReload);
+        defaultHandlerMethodResolver.setRouteRegistry(routeRegistry);
+        this.handlerMethodResolver = defaultHandlerMethodResolver;
     }
 
     public MvcFilter(String rootPath, String jdbcDefaultName, MvcConfig mvcConfig) {
@@ -86,7 +132,9 @@ public class MvcFilter extends Plugin<Void> implements FilterRegistrar.FilterFuc
 
     protected void initialize() {
         this.argumentResolvers.addAll(this.getDefaultArgumentResolvers());
+        this.argumentResolverSnapshot = this.argumentResolvers.toArray(new HandlerMethodArgumentResolver[0]);
         this.interceptors.addAll(this.getDefaultHandlerInterceptors());
+        this.interceptorSnapshot = this.interceptors.toArray(new HandlerInterceptor[0]);
     }
 
     /**
@@ -102,6 +150,7 @@ public class MvcFilter extends Plugin<Void> implements FilterRegistrar.FilterFuc
         // Annotation-based argument resolution
         resolvers.add(new RequestParamMethodArgumentResolver(useCache, false));
         resolvers.add(new RequestParamMapMethodArgumentResolver());
+        resolvers.add(new PathVariableMethodArgumentResolver(useCache));
         resolvers.add(new ServletModelAttributeMethodProcessor(false));
         resolvers.add(new RequestBodyMethodProcessor(objectMapper));
         resolvers.add(new RequestPartMethodArgumentResolver(objectMapper));
@@ -134,6 +183,7 @@ public class MvcFilter extends Plugin<Void> implements FilterRegistrar.FilterFuc
     public void onStart(@NotNull JavalinConfig config) {
         this.javalinConfig = config;
         this.objectMapper = Optional.ofNullable(config.pvt.appDataManager.get(JavalinAppDataKey.OBJECT_MAPPER_KEY)).orElse(DEF_OBJECT_MAPPER);
+        config.events(event -> event.serverStopped(this::shutdownAsyncExecutor));
         initialize();
     }
 
@@ -150,23 +200,20 @@ public class MvcFilter extends Plugin<Void> implements FilterRegistrar.FilterFuc
                 ctx.next();
                 return;
             }
-            // 解析 HandlerMethod args
-            final Object[] args = getMethodArgumentValues(ctx, handlerMethod);
-            // 创建 HandlerContext
-            final HandlerContext handlerContext = new HandlerContext(ctx.req, ctx.res, handlerMethod, args);
-            // 执行 HandlerInterceptor
-            TupleTwo<Object, Throwable> result = executeInterceptor(handlerContext);
-            // 处理返回值
-            Object returnValue = result.getValue1();
-            Throwable exception = result.getValue2();
-            if (exception != null) {
-                throw exception;
+            // 异步 HandlerMethod 在独立的线程中执行
+            if (handlerMethod.getAsync() != null && ctx.req.isAsyncSupported()) {
+                final AsyncRequest asyncRequest = startAsync(ctx, handlerMethod);
+                executeAsync(asyncRequest, () -> handleAsyncResult(asyncRequest, invokeHandler(ctx, handlerMethod)));
+                return;
             }
-            // 响应客户端数据
-            if (returnValue != null && !ctx.res.isCommitted()) {
-                handleReturnValue(returnValue, ctx.req, ctx.res);
-                ctx.res.flushBuffer();
+            final Object returnValue = invokeHandler(ctx, handlerMethod);
+            // 返回值是 CompletionStage 或者 Future 时异步响应客户端
+            if ((returnValue instanceof CompletionStage || returnValue instanceof Future) && ctx.req.isAsyncSupported()) {
+                handleAsyncResult(startAsync(ctx, handlerMethod), returnValue);
+                return;
             }
+            // 响应客户端数据
+            writeReturnValue(returnValue, ctx.req, ctx.res);
         } catch (Throwable e) {
             if (e instanceof IOException) {
                 throw (IOException) e;
@@ -181,31 +228,186 @@ public class MvcFilter extends Plugin<Void> implements FilterRegistrar.FilterFuc
         }
     }
 
+    /**
+     * 解析参数、执行拦截器和 HandlerMethod，返回 HandlerMethod 的返回值
+     */
+    protected Object invokeHandler(FilterRegistrar.Context ctx, HandlerMethod handlerMethod) throws Throwable {
+        // 解析 HandlerMethod args
+        long startTime = PhaseTimer.start();
+        final Object[] args = getMethodArgumentValues(ctx, handlerMethod);
+        PhaseTimer.stop(PHASE_ARGS, startTime);
+        // 创建 HandlerContext
+        final HandlerContext handlerContext = new HandlerContext(ctx.req, ctx.res, handlerMethod, args);
+        // 执行 HandlerInterceptor
+        startTime = PhaseTimer.start();
+        try {
+            return executeInterceptor(handlerContext);
+        } finally {
+            PhaseTimer.stop(PHASE_HANDLER, startTime);
+        }
+    }
+
+    /**
+     * 开始 servlet 异步请求
+     */
+    protected AsyncRequest startAsync(FilterRegistrar.Context ctx, HandlerMethod handlerMethod) {
+        final Async async = handlerMethod.getAsync();
+        long timeout = async == null ? -1 : async.timeout();
+        if (timeout <= 0) {
+            timeout = Optional.ofNullable(mvcConfig.getAsync()).map(MvcConfig.AsyncConfig::getTimeout).map(Duration::toMillis).orElse(0L);
+        }
+        return AsyncRequest.start(ctx.req, ctx.res, timeout);
+    }
+
+    /**
+     * 在异步线程池中执行任务，线程池已满时在当前线程中执行。任务异常时响应客户端并结束异步请求
+     */
+    protected void executeAsync(AsyncRequest asyncRequest, AsyncRequest.ResponseWriter task) {
+        final Runnable runnable = AsyncRequest.propagateThreadContext(asyncRequest.getRequest(), () -> {
+            try {
+                task.write();
+            } catch (Throwable e) {
+                asyncRequest.complete(e, null);
+            }
+        });
+        try {
+            getAsyncExecutor().execute(runnable);
+        } catch (RejectedExecutionException e) {
+            runnable.run();
+        }
+    }
+
+    /**
+     * 异步响应客户端数据。CompletionStage 完成时响应(不占用线程)，Future 在异步线程中等待完成后响应。<br/>
+     * 注意: 同步执行的 HandlerMethod 返回 CompletionStage 或 Future 时，拦截器(包括事务)在 HandlerMethod 返回时就已经执行完成
+     */
+    protected void handleAsyncResult(AsyncRequest asyncRequest, Object returnValue) {
+        final HttpServletRequest request = asyncRequest.getRequest();
+        final HttpServletResponse response = asyncRequest.getResponse();
+        if (returnValue instanceof CompletionStage<?> stage) {
+            stage.whenComplete((value, error) -> asyncRequest.complete(error, () -> writeReturnValue(value, request, response)));
+        } else if (returnValue instanceof Future<?> future) {
+            if (future.isDone()) {
+                asyncRequest.complete(null, () -> writeReturnValue(future.get(), request, response));
+                return;
+            }
+            // Future 没有完成回调，只能占用一个异步线程等待完成，最多等待异步请求的超时时间(超时后取消 Future)。
+            // 需要异步执行的业务代码应该返回 CompletableFuture，不会占用线程
+            final long timeout = asyncRequest.getAsyncContext().getTimeout();
+            executeAsync(asyncRequest, () -> {
+                final Object value;
+                try {
+                    value = timeout > 0 ? future.get(timeout, TimeUnit.MILLISECONDS) : future.get();
+                } catch (TimeoutException e) {
+                    future.cancel(true);
+                    throw e;
+                }
+                asyncRequest.complete(null, () -> writeReturnValue(value, request, response));
+            });
+        } else {
+            asyncRequest.complete(null, () -> writeReturnValue(returnValue, request, response));
+        }
+    }
+
+    /**
+     * 获取执行异步 HandlerMethod 的线程池
+     */
+    protected ExecutorService getAsyncExecutor() {
+        if (asyncExecutor == null) {
+            synchronized (this) {
+                if (asyncExecutor == null) {
+                    asyncExecutor = createAsyncExecutor();
+                }
+            }
+        }
+        return asyncExecutor;
+    }
+
+    /**
+     * 关闭执行异步 HandlerMethod 的线程池(web服务停止时调用)，等待正在执行的任务完成
+     */
+    public void shutdownAsyncExecutor() {
+        final ExecutorService executor;
+        synchronized (this) {
+            executor = asyncExecutor;
+            asyncExecutor = null;
+        }
+        if (executor == null) {
+            return;
+        }
+        executor.shutdown();
+        try {
+            if (!executor.awaitTermination(10, TimeUnit.SECONDS)) {
+                executor.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            executor.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * 创建执行异步 HandlerMethod 的线程池(配置使用虚拟线程且 JDK21+ 时使用虚拟线程)
+     */
+    protected ExecutorService createAsyncExecutor() {
+        final MvcConfig.AsyncConfig async = Optional.ofNullable(mvcConfig.getAsync()).orElseGet(MvcConfig.AsyncConfig::new);
+        if (async.isUseVirtualThreads() && ConcurrencyUtil.isLoomAvailable()) {
+            return ConcurrencyUtil.executorService("mvc-async", true);
+        }
+        return new ThreadPoolExecutor(
+            0, Math.max(async.getThreadPoolMax(), 1), 60, TimeUnit.SECONDS,
+            new SynchronousQueue<>(),
+            new BasicThreadFactory.Builder()
+                .namingPattern("mvc-async-%d")
+                .daemon(true)
+                .build()
+        );
+    }
+
     /**
      * 解析 HandlerMethod 的调用参数
      */
     protected Object[] getMethodArgumentValues(FilterRegistrar.Context ctx, HandlerMethod handlerMethod) throws Exception {
-        Object[] args = EMPTY_ARGS;
-        MethodParameter[] parameters = handlerMethod.getParameters();
-        if (!ObjectUtils.isEmpty(parameters)) {
-            args = new Object[parameters.length];
-            for (int i = 0; i < parameters.length; i++) {
-                MethodParameter parameter = parameters[i];
-                boolean resolved = false;
-                for (HandlerMethodArgumentResolver argumentResolver : argumentResolvers) {
-                    if (!argumentResolver.supportsParameter(parameter, ctx.req)) {
-                        continue;
-                    }
-                    args[i] = argumentResolver.resolveArgument(parameter, ctx.req, ctx.res);
-                    resolved = true;
+        final MethodParameter[] parameters = handlerMethod.getParameters();
+        if (ObjectUtils.isEmpty(parameters)) {
+            return EMPTY_ARGS;
+        }
+        final HandlerMethodArgumentResolver[] resolvers = getArgumentBinding(handlerMethod, ctx.req).getResolvers();
+        final Object[] args = new Object[parameters.length];
+        for (int i = 0; i < parameters.length; i++) {
+            final HandlerMethodArgumentResolver argumentResolver = resolvers[i];
+            if (argumentResolver == null) {
+                args[i] = resolveArgumentFromIOC(parameters[i]);
+            } else {
+                args[i] = argumentResolver.resolveArgument(parameters[i], ctx.req, ctx.res);
+            }
+        }
+        return args;
+    }
+
+    /**
+     * 获取 HandlerMethod 参数与参数解析器的绑定关系，不存在或者参数解析器变化时重新绑定。<br/>
+     * {@link HandlerMethodArgumentResolver#supportsParameter} 的结果只与参数定义有关，所以每个 HandlerMethod 只需要绑定一次
+     */
+    protected HandlerMethod.ArgumentBinding getArgumentBinding(HandlerMethod handlerMethod, HttpServletRequest request) {
+        final HandlerMethodArgumentResolver[] snapshot = argumentResolverSnapshot;
+        HandlerMethod.ArgumentBinding binding = handlerMethod.getArgumentBinding();
+        if (binding != null && binding.getSource() == snapshot) {
+            return binding;
+        }
+        final MethodParameter[] parameters = handlerMethod.getParameters();
+        final HandlerMethodArgumentResolver[] resolvers = new HandlerMethodArgumentResolver[parameters.length];
+        for (int i = 0; i < parameters.length; i++) {
+            for (HandlerMethodArgumentResolver argumentResolver : snapshot) {
+                if (argumentResolver.supportsParameter(parameters[i], request)) {
+                    resolvers[i] = argumentResolver;
                     break;
                 }
-                if (!resolved) {
-                    args[i] = resolveArgumentFromIOC(parameter);
-                }
             }
         }
-        return args;
+        binding = new HandlerMethod.ArgumentBinding(snapshot, resolvers);
+        handlerMethod.setArgumentBinding(binding);
+        return binding;
     }
 
     /**
@@ -229,20 +431,48 @@ public class MvcFilter extends Plugin<Void> implements FilterRegistrar.FilterFuc
         return arg;
     }
 
+    /**
+     * 获取 HandlerMethod 的拦截器链，不存在或者拦截器变化时重新生成。<br/>
+     * 生成拦截器链时会过滤掉不需要拦截当前 HandlerMethod 的拦截器({@link HandlerInterceptor#supports})
+     */
+    protected HandlerMethod.InterceptorChain getInterceptorChain(HandlerMethod handlerMethod) {
+        final HandlerInterceptor[] snapshot = interceptorSnapshot;
+        HandlerMethod.InterceptorChain chain = handlerMethod.getInterceptorChain();
+        if (chain != null && chain.getSource() == snapshot) {
+            return chain;
+        }
+        final List<HandlerInterceptor> supported = new ArrayList<>(snapshot.length);
+        for (HandlerInterceptor interceptor : snapshot) {
+            if (interceptor.supports(handlerMethod)) {
+                supported.add(interceptor);
+            }
+        }
+        chain = new HandlerMethod.InterceptorChain(snapshot, supported.toArray(new HandlerInterceptor[0]));
+        handlerMethod.setInterceptorChain(chain);
+        return chain;
+    }
+
     /**
      * 执行mvc拦截器
      *
-     * @return {@code TupleTwo<Handler Method返回值, 出现的异常>}
+     * @return Handler Method返回值
+     * @throws Throwable 执行拦截器或者 Handler Method 出现的异常
      */
-    protected TupleTwo<Object, Throwable> executeInterceptor(HandlerContext handlerContext) {
+    protected Object executeInterceptor(HandlerContext handlerContext) throws Throwable {
+        final HandlerInterceptor[] chain = getInterceptorChain(handlerContext.getHandleMethod()).getInterceptors();
+        // 没有拦截器直接执行 Handler Method
+        if (chain.length == 0) {
+            return invokeHandlerMethod(handlerContext);
+        }
         boolean goOn = true;
         Object returnValue = null;
         Throwable exception = null;
-        List<HandlerInterceptor> excInterceptor = new ArrayList<>(interceptors.size());
+        // 已执行 beforeHandle 的拦截器数量(chain[0, executed))
+        int executed = 0;
         // 执行 HandlerInterceptor-before
-        for (HandlerInterceptor interceptor : interceptors) {
+        while (executed < chain.length) {
+            final HandlerInterceptor interceptor = chain[executed++];
             try {
-                excInterceptor.add(interceptor);
                 goOn = interceptor.beforeHandle(handlerContext);
             } catch (Throwable e) {
                 exception = e;
@@ -253,14 +483,8 @@ public class MvcFilter extends Plugin<Void> implements FilterRegistrar.FilterFuc
                 break;
             }
         }
-        Collections.reverse(excInterceptor);
-        // 异常处理
-        if (exception != null) {
-            List<Throwable> errList = triggerFinallyHandle(excInterceptor, handlerContext, null, exception);
-            return TupleTwo.creat(null, getException(errList, exception));
-        }
         // 执行 Handler Method | 未中断 & 未异常
-        if (goOn) {
+        if (exception == null && goOn) {
             try {
                 returnValue = invokeHandlerMethod(handlerContext);
             } catch (Throwable e) {
@@ -269,14 +493,13 @@ public class MvcFilter extends Plugin<Void> implements FilterRegistrar.FilterFuc
         }
         // 异常处理
         if (exception != null) {
-            List<Throwable> errList = triggerFinallyHandle(excInterceptor, handlerContext, null, exception);
-            return TupleTwo.creat(null, getException(errList, exception));
+            throw triggerFinallyHandle(chain, executed, handlerContext, null, exception);
         }
-        // 执行 HandlerInterceptor-after
+        // 执行 HandlerInterceptor-after(与 beforeHandle 相反的顺序)
         final HandlerContext.After afterContext = new HandlerContext.After(handlerContext, returnValue);
-        for (HandlerInterceptor interceptor : excInterceptor) {
+        for (int i = executed - 1; i >= 0; i--) {
             try {
-                interceptor.afterHandle(afterContext);
+                chain[i].afterHandle(afterContext);
             } catch (Throwable e) {
                 exception = e;
                 break;
@@ -285,52 +508,62 @@ public class MvcFilter extends Plugin<Void> implements FilterRegistrar.FilterFuc
         // 更新 Handler Method 返回值
         returnValue = afterContext.getResult();
         // 执行 HandlerInterceptor-finally
-        List<Throwable> errList = triggerFinallyHandle(excInterceptor, handlerContext, returnValue, exception);
-        return TupleTwo.creat(returnValue, getException(errList, exception));
+        exception = triggerFinallyHandle(chain, executed, handlerContext, returnValue, exception);
+        if (exception != null) {
+            throw exception;
+        }
+        return returnValue;
     }
 
     /**
-     * 执行 HandlerInterceptor-finally
+     * 以与 beforeHandle 相反的顺序执行 HandlerInterceptor-finally
+     *
+     * @param chain    拦截器链
+     * @param executed 已执行 beforeHandle 的拦截器数量
+     * @return 合并后的异常(exception优先)，没有异常返回 null
      */
-    protected List<Throwable> triggerFinallyHandle(List<HandlerInterceptor> interceptors, HandlerContext handlerContext, Object returnValue, Throwable exception) {
-        final List<Throwable> errList = new ArrayList<>(interceptors.size());
+    protected Throwable triggerFinallyHandle(HandlerInterceptor[] chain, int executed, HandlerContext handlerContext, Object returnValue, Throwable exception) {
+        if (executed <= 0) {
+            return exception;
+        }
+        List<Throwable> errList = null;
         final HandlerContext.Finally finallyContext = new HandlerContext.Finally(handlerContext, returnValue, exception);
-        for (HandlerInterceptor interceptor : interceptors) {
+        for (int i = executed - 1; i >= 0; i--) {
             try {
-                interceptor.finallyHandle(finallyContext);
+                chain[i].finallyHandle(finallyContext);
             } catch (Throwable e) {
+                if (errList == null) {
+                    errList = new ArrayList<>(executed);
+                }
                 errList.add(e);
             }
         }
-        return errList;
+        if (errList == null) {
+            return exception;
+        }
+        return exception == null ? getException(errList) : getException(errList, exception);
     }
 
     /**
      * 执行 Handler Method
      */
     protected Object invokeHandlerMethod(HandlerContext handlerContext) throws Exception {
-        final Method method = handlerContext.getHandleMethod().getMethod();
+        final HandlerMethodInvoker invoker = handlerContext.getHandleMethod().getInvoker();
+        final Method method = invoker.getMethod();
         final Object[] args = handlerContext.getArgs();
+        final String error = invoker.checkArguments(args);
+        if (error != null) {
+            throw new IllegalStateException(formatInvokeError(error, method, args));
+        }
         try {
             // if (KotlinDetector.isSuspendingFunction(method)) {
             //     return CoroutinesUtils.invokeSuspendingFunction(method, getBean(), args);
             // }
-            return method.invoke(null, args);
-        } catch (IllegalArgumentException ex) {
-            String text = (ex.getMessage() != null ? ex.getMessage() : "Illegal argument");
-            throw new IllegalStateException(formatInvokeError(text, method, args), ex);
-        } catch (InvocationTargetException ex) {
-            // Unwrap for HandlerExceptionResolvers ...
-            Throwable targetException = ex.getTargetException();
-            if (targetException instanceof RuntimeException) {
-                throw (RuntimeException) targetException;
-            } else if (targetException instanceof Error) {
-                throw (Error) targetException;
-            } else if (targetException instanceof Exception) {
-                throw (Exception) targetException;
-            } else {
-                throw new IllegalStateException(formatInvokeError("Invocation failure", method, args), targetException);
-            }
+            return invoker.invoke(args);
+        } catch (Exception | Error ex) {
+            throw ex;
+        } catch (Throwable ex) {
+            throw new IllegalStateException(formatInvokeError("Invocation failure", method, args), ex);
         }
     }
 
@@ -350,6 +583,21 @@ public class MvcFilter extends Plugin<Void> implements FilterRegistrar.FilterFuc
             + formattedArgs;
     }
 
+    /**
+     * 响应客户端数据(返回值不为 null 且未响应时)
+     */
+    protected void writeReturnValue(Object returnValue, HttpServletRequest request, HttpServletResponse response) throws IOException {
+        if (returnValue != null && !response.isCommitted()) {
+            final long startTime = PhaseTimer.start();
+            try {
+                handleReturnValue(returnValue, request, response);
+                response.flushBuffer();
+            } finally {
+                PhaseTimer.stop(PHASE_WRITE, startTime);
+            }
+        }
+    }
+
     /**
      * 响应客户端数据
      */
@@ -358,7 +606,39 @@ public class MvcFilter extends Plugin<Void> implements FilterRegistrar.FilterFuc
             response.setStatus(HttpStatus.OK.value());
         }
         response.setContentType(MediaType.APPLICATION_JSON_VALUE);
-        objectMapper.writeValue(response.getWriter(), returnValue);
+        final OutputStream out;
+        try {
+            out = response.getOutputStream();
+        } catch (IllegalStateException e) {
+            // Handler Method 已经使用了 response.getWriter()
+            objectMapper.writeValue(response.getWriter(), returnValue);
+            return;
+        }
+        writeJson(returnValue, out);
+    }
+
+    /**
+     * 以 UTF-8 编码把返回值直接序列化到输出流(不会在内存中生成完整的响应数据)，
+     * {@link Stream} 类型的返回值会一边读取一边序列化成 JSON 数组
+     */
+    protected void writeJson(Object returnValue, OutputStream out) throws IOException {
+        if (returnValue instanceof Stream<?> stream) {
+            try (stream; SequenceWriter sequenceWriter = objectMapper.writer().writeValuesAsArray(out)) {
+                Iterator<?> iterator = stream.iterator();
+                while (iterator.hasNext()) {
+                    sequenceWriter.write(iterator.next());
+                }
+            }
+            return;
+        }
+        getObjectWriter(returnValue.getClass()).writeValue(out, returnValue);
+    }
+
+    /**
+     * 获取序列化返回值的 ObjectWriter(预先解析了返回值类型的序列化器)
+     */
+    protected ObjectWriter getObjectWriter(Class<?> type) {
+        return objectWriterCache.get(type, objectMapper::writerFor);
     }
 
     protected Throwable getException(List<Throwable> errList, Throwable... errs) {
@@ -396,12 +676,20 @@ public class MvcFilter extends Plugin<Void> implements FilterRegistrar.FilterFuc
         this.handlerMethodResolver = handlerMethodResolver;
     }
 
+    /**
+     * 获取显式注册的MVC路由(使用自定义 HandlerMethodResolver 时需要自行处理路由)
+     */
+    public HttpRouteRegistry getRouteRegistry() {
+        return routeRegistry;
+    }
+
     /**
      * 增加 mvc 参数解析器
      */
     public void addArgumentResolver(HandlerMethodArgumentResolver argumentResolver) {
         Assert.notNull(argumentResolver, "参数 argumentResolver 不能为 null");
         argumentResolvers.add(argumentResolver);
+        argumentResolverSnapshot = argumentResolvers.toArray(new HandlerMethodArgumentResolver[0]);
     }
 
     /**
@@ -411,5 +699,6 @@ public class MvcFilter extends Plugin<Void> implements FilterRegistrar.FilterFuc
         Assert.notNull(interceptor, "参数 interceptor 不能为 null");
         interceptors.add(interceptor);
         interceptors.sort(Comparator.comparingDouble(HandlerInterceptor::getOrder));
+        interceptorSnapshot = interceptors.toArray(new HandlerInterceptor[0]);
     }
 }
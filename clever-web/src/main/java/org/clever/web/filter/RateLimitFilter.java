@@ -0,0 +1,260 @@
+package org.clever.web.filter;
+
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang3.StringUtils;
+import org.apache.commons.lang3.concurrent.BasicThreadFactory;
+import org.clever.core.*;
+import org.clever.core.http.HttpServletRequestUtils;
+import org.clever.core.mapper.JacksonMapper;
+import org.clever.web.FilterRegistrar;
+import org.clever.web.config.RateLimitConfig;
+import org.clever.web.support.LeasedRateLimiter;
+import org.clever.web.support.PathPatternMatcher;
+import org.clever.web.support.RedisTokenSource;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.core.env.Environment;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.util.ClassUtils;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+import java.util.concurrent.*;
+
+/**
+ * 路由限流 Filter<br/>
+ * 按路径匹配限流规则，每个规则按 keyBy(IP、用户、请求头等)分别限流。令牌从 redis 批量租借到本地({@link LeasedRateLimiter})，
+ * 请求只消耗本地令牌，被限流时响应 429
+ * <p>
+ * 作者：lizw <br/>
+ * 创建时间：2026/10/19 05:52 <br/>
+ */
+@Slf4j
+public class RateLimitFilter implements FilterRegistrar.FilterFuc {
+    public static final String KEY_BY_GLOBAL = "global";
+    public static final String KEY_BY_IP = "ip";
+    public static final String KEY_BY_USER = "user";
+    public static final String KEY_BY_HEADER_PREFIX = "header:";
+    /**
+     * 异步租借令牌的最大线程数
+     */
+    private static final int LEASE_THREADS = 4;
+    /**
+     * 限流 key 解析器 {@code Map<keyBy, KeyResolver>}
+     */
+    private static final ConcurrentMap<String, KeyResolver> KEY_RESOLVERS = new ConcurrentHashMap<>();
+
+    static {
+        KEY_RESOLVERS.put(KEY_BY_GLOBAL, request -> KEY_BY_GLOBAL);
+        KEY_RESOLVERS.put(KEY_BY_IP, HttpServletRequestUtils::getIpAddress);
+    }
+
+    /**
+     * 增加限流 key 解析器(例如: 登录用户 {@link #KEY_BY_USER})
+     */
+    public static void addKeyResolver(String keyBy, KeyResolver keyResolver) {
+        Assert.isNotBlank(keyBy, "参数 keyBy 不能为空");
+        Assert.notNull(keyResolver, "参数 keyResolver 不能为 null");
+        KEY_RESOLVERS.put(keyBy, keyResolver);
+    }
+
+    public static RateLimitFilter create(RateLimitConfig rateLimitConfig, LeasedRateLimiter.TokenSource tokenSource) {
+        return new RateLimitFilter(rateLimitConfig, tokenSource);
+    }
+
+    public static RateLimitFilter create(Environment environment) {
+        RateLimitConfig rateLimitConfig = Binder.get(environment).bind(RateLimitConfig.PREFIX, RateLimitConfig.class).orElseGet(RateLimitConfig::new);
+        AppContextHolder.registerBean("rateLimitConfig", rateLimitConfig, true);
+        List<String> logs = new ArrayList<>();
+        logs.add("rateLimit:");
+        logs.add("  enable     : " + rateLimitConfig.isEnable());
+        logs.add("  redisName  : " + Optional.ofNullable(rateLimitConfig.getRedisName()).orElse(""));
+        logs.add("  keyPrefix  : " + rateLimitConfig.getKeyPrefix());
+        logs.add("  tolerance  : " + rateLimitConfig.getTolerance());
+        logs.add("  maxKeys    : " + rateLimitConfig.getMaxKeys());
+        logs.add("  failOpen   : " + rateLimitConfig.isFailOpen());
+        logs.add("  metricsPath: " + Optional.ofNullable(rateLimitConfig.getMetricsPath()).orElse(""));
+        logs.add("  ignorePaths: " + StringUtils.join(rateLimitConfig.getIgnorePaths(), " | "));
+        logs.add("  rules      : ");
+        for (RateLimitConfig.Rule rule : rateLimitConfig.getRules()) {
+            logs.add(String.format(
+                "    %s: %s/%s | keyBy=%s | %s",
+                rule.getName(),
+                rule.getLimit(),
+                StrFormatter.toPlainString(rule.getPeriod()),
+                rule.getKeyBy(),
+                StringUtils.join(rule.getPathPatterns(), " | ")
+            ));
+        }
+        RateLimitFilter filter;
+        if (rateLimitConfig.isEnable()) {
+            BannerUtils.printConfig(log, "路由限流配置", logs.toArray(new String[0]));
+            filter = create(rateLimitConfig, createRedisTokenSource(rateLimitConfig.getRedisName()));
+            AppShutdownHook.addShutdownHook(filter::shutdown, OrderIncrement.NORMAL + 100, "停止限流令牌租借线程池");
+        } else {
+            filter = create(rateLimitConfig, (key, ratePerSecond, capacity, requested) -> requested);
+        }
+        AppContextHolder.registerBean("rateLimitFilter", filter, true);
+        return filter;
+    }
+
+    /**
+     * 使用 redis 全局令牌桶(clever-data-redis 是可选依赖，先检查是否存在)
+     */
+    private static LeasedRateLimiter.TokenSource createRedisTokenSource(String redisName) {
+        if (!ClassUtils.isPresent("org.clever.data.redis.Redis", RateLimitFilter.class.getClassLoader())) {
+            throw new IllegalStateException("启用路由限流(" + RateLimitConfig.PREFIX + ".enable=true)需要依赖 clever-data-redis 模块");
+        }
+        return new RedisTokenSource(redisName);
+    }
+
+    @Getter
+    private final RateLimitConfig rateLimitConfig;
+    /**
+     * 限流规则匹配器(与 limiters、keyBys 一一对应)
+     */
+    private final PathPatternMatcher[] matchers;
+    private final LeasedRateLimiter[] limiters;
+    private final String[] keyBys;
+    /**
+     * 异步租借令牌的线程池(没有限流规则时为 null)
+     */
+    private final ThreadPoolExecutor leaseExecutor;
+
+    public RateLimitFilter(RateLimitConfig rateLimitConfig, LeasedRateLimiter.TokenSource tokenSource) {
+        Assert.notNull(rateLimitConfig, "参数 rateLimitConfig 不能为 null");
+        Assert.notNull(tokenSource, "参数 tokenSource 不能为 null");
+        this.rateLimitConfig = rateLimitConfig;
+        final List<RateLimitConfig.Rule> rules = Optional.ofNullable(rateLimitConfig.getRules()).orElseGet(ArrayList::new);
+        this.matchers = new PathPatternMatcher[rules.size()];
+        this.limiters = new LeasedRateLimiter[rules.size()];
+        this.keyBys = new String[rules.size()];
+        this.leaseExecutor = rules.isEmpty() ? null : createLeaseExecutor();
+        for (int i = 0; i < rules.size(); i++) {
+            final RateLimitConfig.Rule rule = rules.get(i);
+            Assert.isNotBlank(rule.getName(), "限流规则名称不能为空");
+            this.matchers[i] = new PathPatternMatcher(Optional.ofNullable(rule.getPathPatterns()).orElseGet(ArrayList::new));
+            this.keyBys[i] = StringUtils.defaultIfBlank(rule.getKeyBy(), KEY_BY_IP);
+            this.limiters[i] = new LeasedRateLimiter(
+                rule.getName(),
+                rateLimitConfig.getKeyPrefix(),
+                rule.getLimit(),
+                rule.getPeriod(),
+                Objects.requireNonNullElse(rule.getBurst(), rule.getLimit()),
+                rateLimitConfig.getTolerance(),
+                rateLimitConfig.getMaxKeys(),
+                rateLimitConfig.isFailOpen(),
+                tokenSource,
+                leaseExecutor
+            );
+        }
+    }
+
+    /**
+     * 异步租借令牌的线程池(队列满时丢弃任务，本地令牌用完后会同步租借)<br/>
+     * 使用有界队列时线程数只有队列满了才会超过 corePoolSize，所以 core 与 max 相同，空闲线程超时回收
+     */
+    private static ThreadPoolExecutor createLeaseExecutor() {
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(
+            LEASE_THREADS, LEASE_THREADS, 60, TimeUnit.SECONDS,
+            new ArrayBlockingQueue<>(1024),
+            new BasicThreadFactory.Builder()
+                .namingPattern("rate-limit-%d")
+                .daemon(true)
+                .build(),
+            new ThreadPoolExecutor.AbortPolicy()
+        );
+        executor.allowCoreThreadTimeOut(true);
+        return executor;
+    }
+
+    /**
+     * 停止异步租借令牌的线程池(应用停止时调用)，未执行的租借直接丢弃，之后的租借都同步执行
+     */
+    public void shutdown() {
+        if (leaseExecutor != null) {
+            leaseExecutor.shutdownNow();
+        }
+    }
+
+    @Override
+    public void doFilter(FilterRegistrar.Context ctx) throws IOException, ServletException {
+        // 是否启用
+        if (!rateLimitConfig.isEnable() || limiters.length == 0) {
+            ctx.next();
+            return;
+        }
+        // 获取指标数据
+        final String metricsPath = rateLimitConfig.getMetricsPath();
+        if (StringUtils.isNotBlank(metricsPath) && Objects.equals(metricsPath, PathPatternMatcher.getPath(ctx.req))) {
+            ctx.res.setStatus(HttpStatus.OK.value());
+            ctx.res.setContentType(MediaType.APPLICATION_JSON_VALUE);
+            ctx.res.getOutputStream().write(JacksonMapper.getInstance().toJson(getMetrics()).getBytes(StandardCharsets.UTF_8));
+            return;
+        }
+        // 在 ignore 出现的路径，忽略掉
+        if (PathPatternMatcher.of(rateLimitConfig.getIgnorePaths()).matches(ctx.req)) {
+            ctx.next();
+            return;
+        }
+        for (int i = 0; i < matchers.length; i++) {
+            if (!matchers[i].matches(ctx.req)) {
+                continue;
+            }
+            final String key = resolveKey(keyBys[i], ctx.req);
+            if (!limiters[i].tryAcquire(key)) {
+                ctx.res.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+                ctx.res.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(limiters[i].getRetryAfterSeconds()));
+                return;
+            }
+            break;
+        }
+        ctx.next();
+    }
+
+    /**
+     * 获取限流 key，解析失败时使用客户端IP
+     */
+    protected String resolveKey(String keyBy, HttpServletRequest request) {
+        String key = null;
+        if (keyBy.startsWith(KEY_BY_HEADER_PREFIX)) {
+            key = request.getHeader(keyBy.substring(KEY_BY_HEADER_PREFIX.length()));
+        } else {
+            final KeyResolver keyResolver = KEY_RESOLVERS.get(keyBy);
+            if (keyResolver != null) {
+                key = keyResolver.resolve(request);
+            }
+        }
+        if (StringUtils.isBlank(key)) {
+            key = HttpServletRequestUtils.getIpAddress(request);
+        }
+        return StringUtils.defaultString(key);
+    }
+
+    /**
+     * 获取所有限流规则的指标数据
+     */
+    public List<LeasedRateLimiter.Metrics> getMetrics() {
+        List<LeasedRateLimiter.Metrics> metrics = new ArrayList<>(limiters.length);
+        for (LeasedRateLimiter limiter : limiters) {
+            metrics.add(limiter.getMetrics());
+        }
+        return metrics;
+    }
+
+    /**
+     * 限流 key 解析器
+     */
+    @FunctionalInterface
+    public interface KeyResolver {
+        /**
+         * 返回请求的限流 key，返回空时使用客户端IP
+         */
+        String resolve(HttpServletRequest request);
+    }
+}
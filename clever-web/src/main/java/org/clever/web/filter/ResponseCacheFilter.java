@@ -0,0 +1,708 @@
+package org.clever.web.filter;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.WriteListener;
+import jakarta.servlet.http.Cookie;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpServletResponseWrapper;
+import lombok.Data;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang3.StringUtils;
+import org.clever.core.AppContextHolder;
+import org.clever.core.Assert;
+import org.clever.core.BannerUtils;
+import org.clever.core.StrFormatter;
+import org.clever.core.mapper.JacksonMapper;
+import org.clever.web.FilterRegistrar;
+import org.clever.web.config.ResponseCacheConfig;
+import org.clever.web.mvc.HandlerMethod;
+import org.clever.web.mvc.annotation.ResponseCache;
+import org.clever.web.support.PathPatternMatcher;
+import org.clever.web.support.StaticResourceHandler;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.core.env.Environment;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.util.DigestUtils;
+import org.springframework.util.LinkedCaseInsensitiveMap;
+
+import java.io.*;
+import java.net.URLEncoder;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.security.Principal;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 服务端响应缓存 Filter<br/>
+ * 缓存使用 {@link ResponseCache} 注解的 HandlerMethod 处理 GET 请求的响应数据(序列化后的字节)，缓存命中时不再执行 HandlerMethod。
+ * 相同缓存 key 的并发请求只有一个会执行 HandlerMethod，其他请求等待它的结果；
+ * 响应数据使用基于内容hash的ETag，客户端缓存未变化时响应 304。<br/>
+ * 缓存响应状态码、Content-Type、HandlerMethod 设置的响应头和响应内容，设置了 Cookie 的响应不缓存。
+ * 需要放在认证、授权 Filter 之后(缓存命中的请求同样需要校验权限)
+ * <p>
+ * 作者：lizw <br/>
+ * 创建时间：2026/10/19 05:58 <br/>
+ */
+@Slf4j
+public class ResponseCacheFilter implements FilterRegistrar.FilterFuc {
+    /**
+     * 不缓存的响应头(由 Filter 根据缓存数据生成，或者与每次请求相关)
+     */
+    private static final Set<String> IGNORE_HEADERS = new TreeSet<>(String.CASE_INSENSITIVE_ORDER);
+    private static final DateTimeFormatter HTTP_DATE_FORMAT = DateTimeFormatter.ofPattern("EEE, dd MMM yyyy HH:mm:ss 'GMT'", Locale.US).withZone(ZoneOffset.UTC);
+
+    static {
+        IGNORE_HEADERS.add(HttpHeaders.CONTENT_TYPE);
+        IGNORE_HEADERS.add(HttpHeaders.CONTENT_LENGTH);
+        IGNORE_HEADERS.add(HttpHeaders.ETAG);
+        IGNORE_HEADERS.add(HttpHeaders.LAST_MODIFIED);
+        IGNORE_HEADERS.add(HttpHeaders.DATE);
+        IGNORE_HEADERS.add(HttpHeaders.TRANSFER_ENCODING);
+        IGNORE_HEADERS.add(HttpHeaders.CONNECTION);
+    }
+
+    /**
+     * 获取登录用户(按用户缓存时使用)
+     */
+    private static volatile UserResolver USER_RESOLVER = request -> {
+        final Principal principal = request.getUserPrincipal();
+        return principal == null ? null : principal.getName();
+    };
+
+    /**
+     * 设置获取登录用户的方式，默认使用 {@link HttpServletRequest#getUserPrincipal()}
+     */
+    public static void setUserResolver(UserResolver userResolver) {
+        Assert.notNull(userResolver, "参数 userResolver 不能为 null");
+        USER_RESOLVER = userResolver;
+    }
+
+    public static ResponseCacheFilter create(ResponseCacheConfig responseCacheConfig) {
+        return new ResponseCacheFilter(responseCacheConfig);
+    }
+
+    public static ResponseCacheFilter create(Environment environment) {
+        ResponseCacheConfig responseCacheConfig = Binder.get(environment).bind(ResponseCacheConfig.PREFIX, ResponseCacheConfig.class).orElseGet(ResponseCacheConfig::new);
+        AppContextHolder.registerBean("responseCacheConfig", responseCacheConfig, true);
+        List<String> logs = new ArrayList<>();
+        logs.add("responseCache:");
+        logs.add("  enable      : " + responseCacheConfig.isEnable());
+        logs.add("  ttl         : " + StrFormatter.toPlainString(responseCacheConfig.getTtl()));
+        logs.add("  maxEntrySize: " + responseCacheConfig.getMaxEntrySize());
+        logs.add("  maxTotalSize: " + responseCacheConfig.getMaxTotalSize());
+        logs.add("  waitTimeout : " + StrFormatter.toPlainString(responseCacheConfig.getWaitTimeout()));
+        logs.add("  metricsPath : " + Optional.ofNullable(responseCacheConfig.getMetricsPath()).orElse(""));
+        if (responseCacheConfig.isEnable()) {
+            BannerUtils.printConfig(log, "响应缓存配置", logs.toArray(new String[0]));
+        }
+        ResponseCacheFilter filter = create(responseCacheConfig);
+        AppContextHolder.registerBean("responseCacheFilter", filter, true);
+        return filter;
+    }
+
+    @Getter
+    private final ResponseCacheConfig responseCacheConfig;
+    private final long defaultTtl;
+    private final int maxEntrySize;
+    private final long waitTimeout;
+    /**
+     * 响应数据缓存 {@code Cache<缓存key, 响应数据>}
+     */
+    private final Cache<String, CachedResponse> cache;
+    /**
+     * 正在生成的响应数据 {@code ConcurrentMap<缓存key, 响应数据>}(不能缓存时为 null)
+     */
+    private final ConcurrentMap<String, CompletableFuture<CachedResponse>> loading = new ConcurrentHashMap<>();
+    /**
+     * 清除缓存的次数，生成响应数据期间清除过缓存时不保存生成的数据(避免缓存过期数据)
+     */
+    private final AtomicLong evictCount = new AtomicLong();
+    /**
+     * 保存响应数据(检查 evictCount 并写入缓存)使用读锁，清除缓存使用写锁
+     */
+    private final ReadWriteLock evictLock = new ReentrantReadWriteLock();
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder waits = new LongAdder();
+    private final LongAdder notModified = new LongAdder();
+
+    public ResponseCacheFilter(ResponseCacheConfig responseCacheConfig) {
+        Assert.notNull(responseCacheConfig, "参数 responseCacheConfig 不能为 null");
+        this.responseCacheConfig = responseCacheConfig;
+        this.defaultTtl = Optional.ofNullable(responseCacheConfig.getTtl()).map(Duration::toNanos).orElse(0L);
+        this.maxEntrySize = (int) Math.min(responseCacheConfig.getMaxEntrySize().toBytes(), Integer.MAX_VALUE - 8);
+        this.waitTimeout = Optional.ofNullable(responseCacheConfig.getWaitTimeout()).map(Duration::toNanos).orElse(0L);
+        this.cache = Caffeine.newBuilder()
+            .maximumWeight(responseCacheConfig.getMaxTotalSize().toBytes())
+            .weigher((String key, CachedResponse cached) -> key.length() * 2 + cached.weight())
+            .expireAfter(new Expiry<String, CachedResponse>() {
+                @Override
+                public long expireAfterCreate(String key, CachedResponse cached, long currentTime) {
+                    return cached.ttl;
+                }
+
+                @Override
+                public long expireAfterUpdate(String key, CachedResponse cached, long currentTime, long currentDuration) {
+                    return cached.ttl;
+                }
+
+                @Override
+                public long expireAfterRead(String key, CachedResponse cached, long currentTime, long currentDuration) {
+                    return currentDuration;
+                }
+            })
+            .build();
+    }
+
+    @Override
+    public void doFilter(FilterRegistrar.Context ctx) throws IOException, ServletException {
+        // 是否启用
+        if (!responseCacheConfig.isEnable()) {
+            ctx.next();
+            return;
+        }
+        // 获取指标数据
+        final String metricsPath = responseCacheConfig.getMetricsPath();
+        if (StringUtils.isNotBlank(metricsPath) && Objects.equals(metricsPath, PathPatternMatcher.getPath(ctx.req))) {
+            ctx.res.setStatus(HttpStatus.OK.value());
+            ctx.res.setContentType(MediaType.APPLICATION_JSON_VALUE);
+            ctx.res.getOutputStream().write(JacksonMapper.getInstance().toJson(getMetrics()).getBytes(StandardCharsets.UTF_8));
+            return;
+        }
+        // 只缓存使用了 @ResponseCache 的 GET 请求
+        final HandlerMethod handlerMethod = HttpMethod.GET.matches(ctx.req.getMethod()) ? MvcHandlerMethodFilter.getHandleMethod(ctx.req) : null;
+        final ResponseCache responseCache = handlerMethod == null ? null : handlerMethod.getResponseCache();
+        if (responseCache == null) {
+            ctx.next();
+            return;
+        }
+        final String name = StringUtils.defaultIfBlank(responseCache.name(), handlerMethod.getMatcherPath());
+        final String key = getCacheKey(name, responseCache.perUser(), ctx.req);
+        CachedResponse cached = cache.getIfPresent(key);
+        if (cached != null) {
+            hits.increment();
+            writeCached(ctx, cached);
+            return;
+        }
+        // 同一个缓存 key 只有一个请求生成响应数据，其他请求等待结果
+        final CompletableFuture<CachedResponse> future = new CompletableFuture<>();
+        final CompletableFuture<CachedResponse> running = loading.putIfAbsent(key, future);
+        if (running != null) {
+            waits.increment();
+            cached = await(running);
+            if (cached != null) {
+                writeCached(ctx, cached);
+            } else {
+                ctx.next();
+            }
+            return;
+        }
+        misses.increment();
+        final long evictCountBefore = evictCount.get();
+        final CaptureResponseWrapper response = new CaptureResponseWrapper(ctx.req, ctx.res);
+        cached = null;
+        try {
+            ctx.chain.doFilter(ctx.req, response);
+            cached = response.toCachedResponse(name, responseCache.ttl() > 0 ? TimeUnit.MILLISECONDS.toNanos(responseCache.ttl()) : defaultTtl);
+            if (cached != null) {
+                put(key, cached, evictCountBefore);
+            }
+        } finally {
+            loading.remove(key, future);
+            future.complete(cached);
+        }
+        if (cached != null) {
+            writeCached(ctx, cached);
+        } else {
+            // 不能缓存的响应数据(包括异步请求)直接响应客户端
+            response.passThrough();
+        }
+    }
+
+    /**
+     * 保存响应数据，生成响应数据期间清除过缓存时不保存
+     */
+    private void put(String key, CachedResponse cached, long evictCountBefore) {
+        evictLock.readLock().lock();
+        try {
+            if (evictCountBefore == evictCount.get()) {
+                cache.put(key, cached);
+            }
+        } finally {
+            evictLock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 获取缓存 key(缓存名称 + 请求路径 + 排序后的请求参数 [+ 登录用户])，各部分都使用 URL 编码，避免参数值中的分隔符导致不同请求的 key 相同
+     */
+    protected String getCacheKey(String name, boolean perUser, HttpServletRequest request) {
+        final StringBuilder key = new StringBuilder(128).append(encode(name)).append('\n').append(encode(PathPatternMatcher.getPath(request)));
+        final Map<String, String[]> params = request.getParameterMap();
+        if (params != null && !params.isEmpty()) {
+            key.append('?');
+            new TreeMap<>(params).forEach((param, values) -> {
+                if (values == null) {
+                    return;
+                }
+                final String encodedParam = encode(param);
+                for (String value : values) {
+                    key.append(encodedParam).append('=').append(encode(value)).append('&');
+                }
+            });
+        }
+        if (perUser) {
+            key.append('\n').append(encode(USER_RESOLVER.resolve(request)));
+        }
+        return key.toString();
+    }
+
+    private static String encode(String value) {
+        return value == null ? "" : URLEncoder.encode(value, StandardCharsets.UTF_8);
+    }
+
+    private CachedResponse await(CompletableFuture<CachedResponse> running) {
+        try {
+            return running.get(waitTimeout, TimeUnit.NANOSECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return null;
+        } catch (ExecutionException | TimeoutException e) {
+            return null;
+        }
+    }
+
+    /**
+     * 使用缓存的数据响应客户端，客户端缓存未变化时响应 304
+     */
+    protected void writeCached(FilterRegistrar.Context ctx, CachedResponse cached) throws IOException {
+        ctx.res.setStatus(HttpStatus.OK.value());
+        if (cached.contentType != null) {
+            ctx.res.setContentType(cached.contentType);
+        }
+        cached.headers.forEach((name, values) -> {
+            for (int i = 0; i < values.size(); i++) {
+                if (i == 0) {
+                    ctx.res.setHeader(name, values.get(i));
+                } else {
+                    ctx.res.addHeader(name, values.get(i));
+                }
+            }
+        });
+        if (new StaticResourceHandler.CheckResourceModified(ctx.req, ctx.res).checkNotModified(cached.etag, -1)) {
+            notModified.increment();
+            return;
+        }
+        ctx.res.setContentLength(cached.body.length);
+        ctx.res.getOutputStream().write(cached.body);
+    }
+
+    /**
+     * 清除指定名称的缓存
+     *
+     * @param name {@link ResponseCache#name()}，为空时是 HandlerMethod 的匹配路径
+     */
+    public void evict(String name) {
+        evictLock.writeLock().lock();
+        try {
+            evictCount.incrementAndGet();
+            cache.asMap().values().removeIf(cached -> Objects.equals(cached.name, name));
+        } finally {
+            evictLock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 清除所有缓存
+     */
+    public void evictAll() {
+        evictLock.writeLock().lock();
+        try {
+            evictCount.incrementAndGet();
+            cache.invalidateAll();
+        } finally {
+            evictLock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 获取指标数据
+     */
+    public Metrics getMetrics() {
+        Metrics metrics = new Metrics();
+        metrics.setEntries(cache.estimatedSize());
+        metrics.setSize(cache.policy().eviction().map(eviction -> eviction.weightedSize().orElse(0)).orElse(0L));
+        metrics.setHits(hits.sum());
+        metrics.setMisses(misses.sum());
+        metrics.setWaits(waits.sum());
+        metrics.setNotModified(notModified.sum());
+        return metrics;
+    }
+
+    /**
+     * 缓存的响应数据
+     */
+    protected static class CachedResponse {
+        private final String name;
+        private final String contentType;
+        /**
+         * 响应头 {@code Map<name, values>}(不包含 Content-Type)
+         */
+        private final Map<String, List<String>> headers;
+        private final byte[] body;
+        private final String etag;
+        /**
+         * 缓存过期时间(纳秒)
+         */
+        private final long ttl;
+
+        protected CachedResponse(String name, String contentType, Map<String, List<String>> headers, byte[] body, long ttl) {
+            this.name = name;
+            this.contentType = contentType;
+            this.headers = headers;
+            this.body = body;
+            this.etag = "\"" + DigestUtils.md5DigestAsHex(body) + "\"";
+            this.ttl = ttl;
+        }
+
+        private int weight() {
+            int weight = body.length + 128;
+            for (Map.Entry<String, List<String>> entry : headers.entrySet()) {
+                weight += entry.getKey().length() * 2;
+                for (String value : entry.getValue()) {
+                    weight += value.length() * 2;
+                }
+            }
+            return weight;
+        }
+    }
+
+    /**
+     * 把响应内容写入内存的 HttpServletResponse(响应内容超过 maxEntrySize 或者异步请求时直接响应客户端)
+     */
+    protected class CaptureResponseWrapper extends HttpServletResponseWrapper {
+        private final HttpServletRequest request;
+        private final CaptureOutputStream outputStream = new CaptureOutputStream();
+        /**
+         * HandlerMethod 设置的响应头(同时写入被包装的 response)
+         */
+        private final Map<String, List<String>> headers = new LinkedCaseInsensitiveMap<>();
+        /**
+         * 是否设置了 Cookie(设置了 Cookie 的响应不缓存)
+         */
+        private boolean hasCookie;
+        private PrintWriter writer;
+
+        protected CaptureResponseWrapper(HttpServletRequest request, HttpServletResponse response) {
+            super(response);
+            this.request = request;
+        }
+
+        @Override
+        public ServletOutputStream getOutputStream() {
+            if (writer != null) {
+                throw new IllegalStateException("getWriter() has already been called for this response");
+            }
+            return outputStream;
+        }
+
+        @Override
+        public PrintWriter getWriter() {
+            if (writer == null) {
+                final String encoding = getCharacterEncoding();
+                final Charset charset = StringUtils.isBlank(encoding) ? StandardCharsets.ISO_8859_1 : Charset.forName(encoding);
+                writer = new PrintWriter(new OutputStreamWriter(outputStream, charset));
+            }
+            return writer;
+        }
+
+        @Override
+        public void addCookie(Cookie cookie) {
+            hasCookie = true;
+            super.addCookie(cookie);
+        }
+
+        @Override
+        public void setHeader(String name, String value) {
+            captureHeader(name, value, false);
+            super.setHeader(name, value);
+        }
+
+        @Override
+        public void addHeader(String name, String value) {
+            captureHeader(name, value, true);
+            super.addHeader(name, value);
+        }
+
+        @Override
+        public void setIntHeader(String name, int value) {
+            captureHeader(name, String.valueOf(value), false);
+            super.setIntHeader(name, value);
+        }
+
+        @Override
+        public void addIntHeader(String name, int value) {
+            captureHeader(name, String.valueOf(value), true);
+            super.addIntHeader(name, value);
+        }
+
+        @Override
+        public void setDateHeader(String name, long date) {
+            captureHeader(name, HTTP_DATE_FORMAT.format(Instant.ofEpochMilli(date)), false);
+            super.setDateHeader(name, date);
+        }
+
+        @Override
+        public void addDateHeader(String name, long date) {
+            captureHeader(name, HTTP_DATE_FORMAT.format(Instant.ofEpochMilli(date)), true);
+            super.addDateHeader(name, date);
+        }
+
+        private void captureHeader(String name, String value, boolean add) {
+            if (name == null) {
+                return;
+            }
+            if (HttpHeaders.SET_COOKIE.equalsIgnoreCase(name) || "Set-Cookie2".equalsIgnoreCase(name)) {
+                hasCookie = true;
+                return;
+            }
+            if (IGNORE_HEADERS.contains(name)) {
+                return;
+            }
+            if (value == null) {
+                headers.remove(name);
+            } else if (add) {
+                headers.computeIfAbsent(name, key -> new ArrayList<>(1)).add(value);
+            } else {
+                final List<String> values = new ArrayList<>(1);
+                values.add(value);
+                headers.put(name, values);
+            }
+        }
+
+        @Override
+        public void setContentLength(int len) {
+            if (outputStream.isPassThrough()) {
+                super.setContentLength(len);
+            }
+        }
+
+        @Override
+        public void setContentLengthLong(long len) {
+            if (outputStream.isPassThrough()) {
+                super.setContentLengthLong(len);
+            }
+        }
+
+        @Override
+        public void flushBuffer() throws IOException {
+            if (writer != null) {
+                writer.flush();
+            }
+            if (outputStream.isPassThrough()) {
+                super.flushBuffer();
+            }
+        }
+
+        @Override
+        public void resetBuffer() {
+            outputStream.reset();
+            super.resetBuffer();
+        }
+
+        @Override
+        public void reset() {
+            outputStream.reset();
+            headers.clear();
+            hasCookie = false;
+            super.reset();
+        }
+
+        @Override
+        public void sendError(int sc, String msg) throws IOException {
+            outputStream.reset();
+            super.sendError(sc, msg);
+        }
+
+        @Override
+        public void sendError(int sc) throws IOException {
+            outputStream.reset();
+            super.sendError(sc);
+        }
+
+        @Override
+        public void sendRedirect(String location) throws IOException {
+            outputStream.reset();
+            super.sendRedirect(location);
+        }
+
+        /**
+         * 把内存中的响应内容写入客户端，之后的响应内容直接写入客户端
+         */
+        protected void passThrough() throws IOException {
+            if (writer != null) {
+                writer.flush();
+            }
+            outputStream.passThrough();
+        }
+
+        /**
+         * 获取可以缓存的响应数据，不能缓存时返回 null
+         */
+        protected CachedResponse toCachedResponse(String name, long ttl) {
+            if (writer != null) {
+                writer.flush();
+            }
+            if (ttl <= 0 || hasCookie || request.isAsyncStarted() || getStatus() != HttpStatus.OK.value()) {
+                return null;
+            }
+            final byte[] body = outputStream.toByteArray();
+            if (body == null || body.length == 0) {
+                return null;
+            }
+            final Map<String, List<String>> cachedHeaders = new LinkedCaseInsensitiveMap<>(headers.size());
+            headers.forEach((header, values) -> cachedHeaders.put(header, List.copyOf(values)));
+            return new CachedResponse(name, getContentType(), Collections.unmodifiableMap(cachedHeaders), body, ttl);
+        }
+
+        private class CaptureOutputStream extends ServletOutputStream {
+            private ByteArrayOutputStream buffer = new ByteArrayOutputStream(1024);
+            private ServletOutputStream target;
+
+            private synchronized boolean isPassThrough() {
+                return target != null;
+            }
+
+            private synchronized void passThrough() throws IOException {
+                if (target != null) {
+                    return;
+                }
+                target = getResponse().getOutputStream();
+                if (buffer.size() > 0) {
+                    buffer.writeTo(target);
+                }
+                buffer = null;
+            }
+
+            private synchronized byte[] toByteArray() {
+                return buffer == null ? null : buffer.toByteArray();
+            }
+
+            private synchronized void reset() {
+                if (buffer != null) {
+                    buffer.reset();
+                }
+            }
+
+            @Override
+            public synchronized void write(int b) throws IOException {
+                if (target == null && (request.isAsyncStarted() || buffer.size() + 1 > maxEntrySize)) {
+                    passThrough();
+                }
+                if (target != null) {
+                    target.write(b);
+                } else {
+                    buffer.write(b);
+                }
+            }
+
+            @Override
+            public synchronized void write(byte[] b, int off, int len) throws IOException {
+                if (target == null && (request.isAsyncStarted() || buffer.size() + len > maxEntrySize)) {
+                    passThrough();
+                }
+                if (target != null) {
+                    target.write(b, off, len);
+                } else {
+                    buffer.write(b, off, len);
+                }
+            }
+
+            @Override
+            public synchronized void flush() throws IOException {
+                if (target != null) {
+                    target.flush();
+                }
+            }
+
+            @Override
+            public synchronized void close() throws IOException {
+                if (target != null) {
+                    target.close();
+                }
+            }
+
+            @Override
+            public synchronized boolean isReady() {
+                return target == null || target.isReady();
+            }
+
+            @Override
+            public void setWriteListener(WriteListener writeListener) {
+                try {
+                    passThrough();
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+                target.setWriteListener(writeListener);
+            }
+        }
+    }
+
+    @Data
+    public static class Metrics {
+        /**
+         * 缓存的响应数据数量
+         */
+        private long entries;
+        /**
+         * 缓存占用的内存(字节)
+         */
+        private long size;
+        /**
+         * 缓存命中次数
+         */
+        private long hits;
+        /**
+         * 缓存未命中次数(执行 HandlerMethod 生成响应数据)
+         */
+        private long misses;
+        /**
+         * 等待其他请求生成响应数据的次数
+         */
+        private long waits;
+        /**
+         * 响应 304 的次数
+         */
+        private long notModified;
+    }
+
+    /**
+     * 获取登录用户
+     */
+    @FunctionalInterface
+    public interface UserResolver {
+        /**
+         * 返回请求的登录用户，未登录返回空
+         */
+        String resolve(HttpServletRequest request);
+    }
+}
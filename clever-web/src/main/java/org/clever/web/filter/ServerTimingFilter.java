@@ -0,0 +1,290 @@
+package org.clever.web.filter;
+
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpServletResponseWrapper;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang3.StringUtils;
+import org.clever.core.AppContextHolder;
+import org.clever.core.Assert;
+import org.clever.core.BannerUtils;
+import org.clever.core.PhaseTimer;
+import org.clever.core.StrFormatter;
+import org.clever.core.mapper.JacksonMapper;
+import org.clever.web.FilterRegistrar;
+import org.clever.web.config.ServerTimingConfig;
+import org.clever.web.mvc.AsyncRequest;
+import org.clever.web.mvc.HandlerMethod;
+import org.clever.web.mvc.ThreadContextPropagator;
+import org.clever.web.support.PathPatternMatcher;
+import org.clever.web.support.RouteTimingMetrics;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.core.env.Environment;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+/**
+ * 请求处理阶段耗时统计 Filter<br/>
+ * 为每个请求创建 {@link PhaseTimer} 并绑定到处理请求的线程，Filter、mvc(参数解析、HandlerMethod、序列化)、sql、redis 等模块把各自的耗时记录到计时器中。
+ * 请求完成后按路由汇总耗时分布({@link RouteTimingMetrics})，可选输出 Server-Timing 响应头(响应提交时输出，只包含提交之前的耗时)
+ * <p>
+ * 作者：lizw <br/>
+ * 创建时间：2026/10/19 05:42 <br/>
+ */
+@Slf4j
+public class ServerTimingFilter implements FilterRegistrar.FilterFuc {
+    public static final String SERVER_TIMING_HEADER = "Server-Timing";
+
+    static {
+        // 异步 HandlerMethod 的耗时记录到请求的计时器
+        AsyncRequest.addThreadContextPropagator(new ThreadContextPropagator() {
+            @Override
+            public Object capture(HttpServletRequest request) {
+                return PhaseTimer.current();
+            }
+
+            @Override
+            public void restore(Object context, HttpServletRequest request) {
+                PhaseTimer.bind((PhaseTimer) context);
+            }
+
+            @Override
+            public void clear() {
+                PhaseTimer.unbind();
+            }
+        });
+    }
+
+    public static ServerTimingFilter create(ServerTimingConfig serverTimingConfig) {
+        return new ServerTimingFilter(serverTimingConfig);
+    }
+
+    public static ServerTimingFilter create(Environment environment) {
+        ServerTimingConfig serverTimingConfig = Binder.get(environment).bind(ServerTimingConfig.PREFIX, ServerTimingConfig.class).orElseGet(ServerTimingConfig::new);
+        AppContextHolder.registerBean("serverTimingConfig", serverTimingConfig, true);
+        List<String> logs = new ArrayList<>();
+        logs.add("serverTiming:");
+        logs.add("  enable        : " + serverTimingConfig.isEnable());
+        logs.add("  responseHeader: " + serverTimingConfig.isResponseHeader());
+        logs.add("  maxRoutes     : " + serverTimingConfig.getMaxRoutes());
+        logs.add("  buckets       : " + Optional.ofNullable(serverTimingConfig.getBuckets()).orElseGet(ArrayList::new).stream().map(StrFormatter::toPlainString).collect(Collectors.joining(" | ")));
+        logs.add("  metricsPath   : " + Optional.ofNullable(serverTimingConfig.getMetricsPath()).orElse(""));
+        logs.add("  ignorePaths   : " + StringUtils.join(serverTimingConfig.getIgnorePaths(), " | "));
+        if (serverTimingConfig.isEnable()) {
+            BannerUtils.printConfig(log, "请求耗时统计配置", logs.toArray(new String[0]));
+        }
+        ServerTimingFilter filter = create(serverTimingConfig);
+        AppContextHolder.registerBean("serverTimingFilter", filter, true);
+        return filter;
+    }
+
+    @Getter
+    private final ServerTimingConfig serverTimingConfig;
+    @Getter
+    private final RouteTimingMetrics routeTimingMetrics;
+
+    public ServerTimingFilter(ServerTimingConfig serverTimingConfig) {
+        Assert.notNull(serverTimingConfig, "参数 serverTimingConfig 不能为 null");
+        this.serverTimingConfig = serverTimingConfig;
+        this.routeTimingMetrics = new RouteTimingMetrics(serverTimingConfig.getMaxRoutes(), serverTimingConfig.getBuckets());
+    }
+
+    @Override
+    public void doFilter(FilterRegistrar.Context ctx) throws IOException, ServletException {
+        // 是否启用
+        if (!serverTimingConfig.isEnable()) {
+            ctx.next();
+            return;
+        }
+        // 获取耗时统计数据
+        final String metricsPath = serverTimingConfig.getMetricsPath();
+        if (StringUtils.isNotBlank(metricsPath) && Objects.equals(metricsPath, PathPatternMatcher.getPath(ctx.req))) {
+            ctx.res.setStatus(HttpStatus.OK.value());
+            ctx.res.setContentType(MediaType.APPLICATION_JSON_VALUE);
+            ctx.res.getOutputStream().write(JacksonMapper.getInstance().toJson(routeTimingMetrics.getMetrics()).getBytes(StandardCharsets.UTF_8));
+            return;
+        }
+        // 在 ignore 出现的路径，忽略掉
+        if (PathPatternMatcher.of(serverTimingConfig.getIgnorePaths()).matches(ctx.req)) {
+            ctx.next();
+            return;
+        }
+        final PhaseTimer timer = new PhaseTimer();
+        final HttpServletResponse response = serverTimingConfig.isResponseHeader() ? new ServerTimingResponse(ctx.res, timer) : ctx.res;
+        final PhaseTimer previous = PhaseTimer.bind(timer);
+        boolean async = false;
+        try {
+            ctx.chain.doFilter(ctx.req, response);
+            if (ctx.req.isAsyncStarted()) {
+                // 异步请求完成时再统计
+                ctx.req.getAsyncContext().addListener(new RecordListener(ctx.req, timer));
+                async = true;
+            }
+        } finally {
+            PhaseTimer.bind(previous);
+            if (!async) {
+                if (response instanceof ServerTimingResponse serverTimingResponse) {
+                    serverTimingResponse.writeHeader();
+                }
+                record(ctx.req, timer);
+            }
+        }
+    }
+
+    /**
+     * 获取所有路由的耗时分布
+     */
+    public List<RouteTimingMetrics.RouteMetrics> getMetrics() {
+        return routeTimingMetrics.getMetrics();
+    }
+
+    /**
+     * 获取请求的路由(mvc 请求使用 HandlerMethod 匹配的路径)
+     */
+    protected String getRoute(HttpServletRequest request) {
+        final HandlerMethod handlerMethod = MvcHandlerMethodFilter.getHandleMethod(request);
+        final String path = handlerMethod != null ? handlerMethod.getMatcherPath() : PathPatternMatcher.getPath(request);
+        return request.getMethod() + " " + path;
+    }
+
+    private void record(HttpServletRequest request, PhaseTimer timer) {
+        try {
+            routeTimingMetrics.record(getRoute(request), timer.getElapsed(), timer.getPhases());
+        } catch (Exception e) {
+            log.warn("统计请求耗时失败", e);
+        }
+    }
+
+    /**
+     * 生成 Server-Timing 响应头
+     */
+    static String toServerTiming(PhaseTimer timer) {
+        final List<PhaseTimer.Phase> phases = timer.getPhases();
+        final StringBuilder sb = new StringBuilder(phases.size() * 32 + 24);
+        for (PhaseTimer.Phase phase : phases) {
+            appendMetric(sb, phase.getName(), phase.getDuration());
+            if (phase.getCount() > 1) {
+                sb.append(";desc=\"").append(phase.getCount()).append(" calls\"");
+            }
+            sb.append(", ");
+        }
+        appendMetric(sb, RouteTimingMetrics.TOTAL_PHASE, timer.getElapsed());
+        return sb.toString();
+    }
+
+    private static void appendMetric(StringBuilder sb, String name, long nanos) {
+        // metric name 只能使用 token 字符
+        for (int i = 0; i < name.length(); i++) {
+            final char ch = name.charAt(i);
+            sb.append(Character.isLetterOrDigit(ch) || ch == '-' || ch == '_' || ch == '.' ? ch : '_');
+        }
+        sb.append(";dur=").append(Math.round(nanos / 1000.0) / 1000.0);
+    }
+
+    /**
+     * 响应提交之前输出 Server-Timing 响应头
+     */
+    private static class ServerTimingResponse extends HttpServletResponseWrapper {
+        private final PhaseTimer timer;
+        private boolean headerWritten;
+
+        private ServerTimingResponse(HttpServletResponse response, PhaseTimer timer) {
+            super(response);
+            this.timer = timer;
+        }
+
+        private void writeHeader() {
+            if (headerWritten) {
+                return;
+            }
+            headerWritten = true;
+            final HttpServletResponse response = (HttpServletResponse) getResponse();
+            if (!response.isCommitted()) {
+                response.setHeader(SERVER_TIMING_HEADER, toServerTiming(timer));
+            }
+        }
+
+        @Override
+        public ServletOutputStream getOutputStream() throws IOException {
+            writeHeader();
+            return super.getOutputStream();
+        }
+
+        @Override
+        public PrintWriter getWriter() throws IOException {
+            writeHeader();
+            return super.getWriter();
+        }
+
+        @Override
+        public void flushBuffer() throws IOException {
+            writeHeader();
+            super.flushBuffer();
+        }
+
+        @Override
+        public void sendError(int sc, String msg) throws IOException {
+            writeHeader();
+            super.sendError(sc, msg);
+        }
+
+        @Override
+        public void sendError(int sc) throws IOException {
+            writeHeader();
+            super.sendError(sc);
+        }
+
+        @Override
+        public void sendRedirect(String location) throws IOException {
+            writeHeader();
+            super.sendRedirect(location);
+        }
+
+        @Override
+        public void reset() {
+            super.reset();
+            headerWritten = false;
+        }
+    }
+
+    private class RecordListener implements AsyncListener {
+        private final HttpServletRequest request;
+        private final PhaseTimer timer;
+
+        private RecordListener(HttpServletRequest request, PhaseTimer timer) {
+            this.request = request;
+            this.timer = timer;
+        }
+
+        @Override
+        public void onComplete(AsyncEvent event) {
+            record(request, timer);
+        }
+
+        @Override
+        public void onTimeout(AsyncEvent event) {
+        }
+
+        @Override
+        public void onError(AsyncEvent event) {
+        }
+
+        @Override
+        public void onStartAsync(AsyncEvent event) {
+        }
+    }
+}
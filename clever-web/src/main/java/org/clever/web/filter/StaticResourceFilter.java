@@ -11,6 +11,7 @@ import org.clever.core.BannerUtils;
 import org.clever.web.FilterRegistrar;
 import org.clever.web.config.StaticResourceConfig;
 import org.clever.web.exception.GenericHttpException;
+import org.clever.web.support.FileRegionWriter;
 import org.clever.web.support.StaticResourceHandler;
 import org.clever.web.utils.WebUtils;
 import org.springframework.boot.context.properties.bind.Binder;
@@ -28,6 +29,7 @@ import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
+import java.nio.channels.FileChannel;
 import java.nio.charset.StandardCharsets;
 import java.util.*;
 
@@ -49,10 +51,11 @@ public class StaticResourceFilter implements FilterRegistrar.FilterFuc {
     public static StaticResourceFilter create(String rootPath, Environment environment) {
         StaticResourceConfig staticResourceConfig = Binder.get(environment).bind(StaticResourceConfig.PREFIX, StaticResourceConfig.class).orElseGet(StaticResourceConfig::new);
         AppContextHolder.registerBean("staticResourceConfig", staticResourceConfig, true);
-        List<StaticResourceHandler> handlers = createHandler(rootPath, staticResourceConfig.getMappings());
+        List<StaticResourceHandler> handlers = createHandler(rootPath, staticResourceConfig.getMappings(), staticResourceConfig.getCache());
         int maxLength = handlers.stream().map(StaticResourceHandler::getHostedPath).max(Comparator.comparingInt(String::length)).orElse("").length() + 6;
         List<String> logs = new ArrayList<>();
         logs.add(org.apache.commons.lang3.StringUtils.rightPad("enable", maxLength) + ": " + staticResourceConfig.isEnable());
+        logs.add(org.apache.commons.lang3.StringUtils.rightPad("cache", maxLength) + ": " + staticResourceConfig.getCache().isEnable());
         logs.addAll(handlers.stream().map(handler -> org.apache.commons.lang3.StringUtils.rightPad(handler.getHostedPath(), maxLength) + ": " + handler.getLocationAbsPath()).toList());
         if (staticResourceConfig.isEnable()) {
             BannerUtils.printConfig(log, "StaticResource配置", logs.toArray(new String[0]));
@@ -60,12 +63,12 @@ public class StaticResourceFilter implements FilterRegistrar.FilterFuc {
         return create(rootPath, staticResourceConfig);
     }
 
-    private static List<StaticResourceHandler> createHandler(String rootPath, List<StaticResourceConfig.ResourceMapping> mappings) {
+    private static List<StaticResourceHandler> createHandler(String rootPath, List<StaticResourceConfig.ResourceMapping> mappings, StaticResourceConfig.ResourceCache cacheConfig) {
         Assert.isNotBlank(rootPath, "参数 rootPath 不能为 null");
         Assert.notNull(mappings, "参数 mappings 不能为 null");
         List<StaticResourceHandler> handlers = new ArrayList<>(mappings.size());
         for (StaticResourceConfig.ResourceMapping mapping : mappings) {
-            handlers.add(new StaticResourceHandler(rootPath, mapping));
+            handlers.add(new StaticResourceHandler(rootPath, mapping, cacheConfig));
         }
         return handlers;
     }
@@ -82,7 +85,7 @@ public class StaticResourceFilter implements FilterRegistrar.FilterFuc {
         Assert.isNotBlank(rootPath, "参数 rootPath 不能为空");
         Assert.notNull(staticResourceConfig, "参数 staticResourceConfig 不能为 null");
         this.staticResourceConfig = staticResourceConfig;
-        this.staticResourceHandlers = createHandler(rootPath, staticResourceConfig.getMappings());
+        this.staticResourceHandlers = createHandler(rootPath, staticResourceConfig.getMappings(), staticResourceConfig.getCache());
     }
 
     @Override
@@ -93,23 +96,29 @@ public class StaticResourceFilter implements FilterRegistrar.FilterFuc {
             return;
         }
         // 处理请求
-        Resource resource = null;
+        StaticResourceHandler.CachedResource cached = null;
         StaticResourceHandler useHandler = null;
         for (StaticResourceHandler handler : staticResourceHandlers) {
-            resource = handler.getResource(ctx.req);
-            if (resource != null) {
+            cached = handler.getCachedResource(ctx.req);
+            if (cached != null) {
                 useHandler = handler;
                 break;
             }
         }
         // 未找到静态资源
-        if (resource == null) {
+        if (cached == null) {
             ctx.next();
             return;
         }
         // transformer(EncodedResourceResolver.EncodedResource | GzipResourceResolver.GzippedResource)
         // Supported methods
         checkRequest(ctx.req);
+        // 使用内存中缓存的资源内容
+        if (cached.getContent() != null && ctx.req.getHeader(HttpHeaders.RANGE) == null) {
+            writeCached(ctx.req, ctx.res, useHandler, cached);
+            return;
+        }
+        final Resource resource = cached.getResource();
         // Header phase 判断资源是否发生变化
         if (useHandler.checkNotModified(ctx.req, ctx.res, resource.lastModified())) {
             log.trace("Resource not modified");
@@ -150,7 +159,50 @@ public class StaticResourceFilter implements FilterRegistrar.FilterFuc {
         }
     }
 
+    private void writeCached(HttpServletRequest request, HttpServletResponse response, StaticResourceHandler handler, StaticResourceHandler.CachedResource cached) throws IOException {
+        // 根据 Accept-Encoding 选择gzip压缩内容或原始内容
+        boolean useGzip = false;
+        if (cached.getGzipContent() != null) {
+            addVaryAcceptEncoding(response);
+            useGzip = CompressionFilter.acceptsGzip(request.getHeader(HttpHeaders.ACCEPT_ENCODING));
+        }
+        // Header phase 判断资源是否发生变化
+        if (handler.checkNotModified(request, response, useGzip ? cached.getGzipEtag() : cached.getEtag(), cached.getLastModified())) {
+            log.trace("Resource not modified");
+            return;
+        }
+        handler.applyCacheControl(response);
+        handler.setMediaType(response, cached);
+        final byte[] content = useGzip ? cached.getGzipContent() : cached.getContent();
+        if (useGzip) {
+            response.setHeader(HttpHeaders.CONTENT_ENCODING, CompressionFilter.GZIP);
+        }
+        response.setContentLength(content.length);
+        if (!"HEAD".equalsIgnoreCase(request.getMethod())) {
+            response.getOutputStream().write(content);
+            response.getOutputStream().flush();
+        }
+    }
+
+    private static void addVaryAcceptEncoding(HttpServletResponse response) {
+        for (String vary : response.getHeaders(HttpHeaders.VARY)) {
+            if (org.apache.commons.lang3.StringUtils.containsIgnoreCase(vary, HttpHeaders.ACCEPT_ENCODING)) {
+                return;
+            }
+        }
+        response.addHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+    }
+
     private void write(HttpServletResponse response, Resource resource) throws IOException {
+        // 大文件直接从 FileChannel 输出
+        if (FileRegionWriter.isSupported(resource)) {
+            try (FileChannel channel = FileRegionWriter.open(resource)) {
+                final long size = channel.size();
+                response.setContentLengthLong(size);
+                FileRegionWriter.send(channel, 0, size, response);
+            }
+            return;
+        }
         try {
             try (InputStream in = resource.getInputStream()) {
                 StreamUtils.copy(in, response.getOutputStream());
@@ -171,7 +223,13 @@ public class StaticResourceFilter implements FilterRegistrar.FilterFuc {
         end = Math.min(end, resourceLength - 1);
         long rangeLength = end - start + 1;
         response.addHeader("Content-Range", "bytes " + start + '-' + end + '/' + resourceLength);
-        response.setContentLength((int) rangeLength);
+        response.setContentLengthLong(rangeLength);
+        if (FileRegionWriter.isSupported(region.getResource())) {
+            try (FileChannel channel = FileRegionWriter.open(region.getResource())) {
+                FileRegionWriter.send(channel, start, rangeLength, response);
+            }
+            return;
+        }
         try (InputStream in = region.getResource().getInputStream()) {
             StreamUtils.copyRange(in, response.getOutputStream(), start, end);
         }
@@ -184,6 +242,23 @@ public class StaticResourceFilter implements FilterRegistrar.FilterFuc {
         String boundaryString = MimeTypeUtils.generateMultipartBoundaryString();
         response.setHeader(HttpHeaders.CONTENT_TYPE, "multipart/byteranges; boundary=" + boundaryString);
         OutputStream out = response.getOutputStream();
+        // 所有区域都属于同一个大文件时直接从 FileChannel 输出
+        Resource first = resourceRegions.isEmpty() ? null : resourceRegions.iterator().next().getResource();
+        if (FileRegionWriter.isSupported(first) && resourceRegions.stream().allMatch(region -> region.getResource() == first)) {
+            final long resourceLength = first.contentLength();
+            try (FileChannel channel = FileRegionWriter.open(first)) {
+                for (ResourceRegion region : resourceRegions) {
+                    final long start = region.getPosition();
+                    final long end = Math.min(start + region.getCount(), resourceLength) - 1;
+                    writeRegionHeader(out, boundaryString, contentType, start + "-" + end + "/" + resourceLength);
+                    FileRegionWriter.write(channel, start, end - start + 1, out);
+                }
+            }
+            println(out);
+            print(out, "--" + boundaryString + "--");
+            out.flush();
+            return;
+        }
         Resource resource = null;
         InputStream in = null;
         long inputStreamPosition = 0;
@@ -231,6 +306,19 @@ public class StaticResourceFilter implements FilterRegistrar.FilterFuc {
         out.flush();
     }
 
+    private static void writeRegionHeader(OutputStream out, String boundaryString, MediaType contentType, String contentRange) throws IOException {
+        println(out);
+        print(out, "--" + boundaryString);
+        println(out);
+        if (contentType != null) {
+            print(out, "Content-Type: " + contentType);
+            println(out);
+        }
+        print(out, "Content-Range: bytes " + contentRange);
+        println(out);
+        println(out);
+    }
+
     private static void println(OutputStream os) throws IOException {
         os.write('\r');
         os.write('\n');
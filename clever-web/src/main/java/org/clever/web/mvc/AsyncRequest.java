@@ -0,0 +1,164 @@
+package org.clever.web.mvc;
+
+import jakarta.servlet.AsyncContext;
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.clever.core.Assert;
+import org.clever.web.exception.GenericHttpException;
+import org.clever.web.utils.GlobalExceptionHandler;
+import org.springframework.http.HttpStatus;
+
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 异步处理中的 mvc 请求(servlet 异步请求)，保证请求只会被响应一次(处理完成、处理异常、请求超时)
+ * <p>
+ * 作者：lizw <br/>
+ * 创建时间：2026/10/19 05:22 <br/>
+ */
+@Slf4j
+public class AsyncRequest {
+    /**
+     * 异步线程的线程上下文传递
+     */
+    private static final CopyOnWriteArrayList<ThreadContextPropagator> THREAD_CONTEXT_PROPAGATORS = new CopyOnWriteArrayList<>();
+
+    /**
+     * 增加异步线程的线程上下文传递(在系统启动时注册，重复注册同一个对象会被忽略)
+     */
+    public static void addThreadContextPropagator(ThreadContextPropagator propagator) {
+        Assert.notNull(propagator, "参数 propagator 不能为 null");
+        THREAD_CONTEXT_PROPAGATORS.addIfAbsent(propagator);
+    }
+
+    /**
+     * 在请求线程中获取线程上下文数据，返回的任务在异步线程中执行时会恢复这些数据，执行完成后清除
+     */
+    public static Runnable propagateThreadContext(HttpServletRequest request, Runnable task) {
+        final ThreadContextPropagator[] propagators = THREAD_CONTEXT_PROPAGATORS.toArray(new ThreadContextPropagator[0]);
+        if (propagators.length == 0) {
+            return task;
+        }
+        final Object[] contexts = new Object[propagators.length];
+        for (int i = 0; i < propagators.length; i++) {
+            contexts[i] = propagators[i].capture(request);
+        }
+        return () -> {
+            for (int i = 0; i < propagators.length; i++) {
+                propagators[i].restore(contexts[i], request);
+            }
+            try {
+                task.run();
+            } finally {
+                for (ThreadContextPropagator propagator : propagators) {
+                    propagator.clear();
+                }
+            }
+        };
+    }
+
+    /**
+     * 开始异步处理请求
+     *
+     * @param timeout 超时时间(毫秒)
+     */
+    public static AsyncRequest start(HttpServletRequest request, HttpServletResponse response, long timeout) {
+        final AsyncContext asyncContext = request.isAsyncStarted() ? request.getAsyncContext() : request.startAsync(request, response);
+        asyncContext.setTimeout(timeout);
+        final AsyncRequest asyncRequest = new AsyncRequest(asyncContext, request, response);
+        asyncContext.addListener(asyncRequest.new Listener());
+        return asyncRequest;
+    }
+
+    @Getter
+    private final AsyncContext asyncContext;
+    @Getter
+    private final HttpServletRequest request;
+    @Getter
+    private final HttpServletResponse response;
+    /**
+     * 请求是否已经响应完成
+     */
+    private final AtomicBoolean completed = new AtomicBoolean(false);
+
+    public AsyncRequest(AsyncContext asyncContext, HttpServletRequest request, HttpServletResponse response) {
+        this.asyncContext = asyncContext;
+        this.request = request;
+        this.response = response;
+    }
+
+    /**
+     * 请求是否已经响应完成(包括超时)
+     */
+    public boolean isCompleted() {
+        return completed.get();
+    }
+
+    /**
+     * 响应请求并结束异步处理，请求已经响应完成时什么也不做
+     *
+     * @param error  处理请求时的异常，不为 null 时使用 {@link GlobalExceptionHandler} 响应客户端
+     * @param writer 响应客户端数据
+     */
+    public void complete(Throwable error, ResponseWriter writer) {
+        if (!completed.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            if (error == null && writer != null) {
+                writer.write();
+            }
+        } catch (Throwable e) {
+            error = e;
+        }
+        try {
+            if (error != null) {
+                error = unwrap(error);
+                log.error(error.getMessage(), error);
+                GlobalExceptionHandler.handle(error, request, response);
+            }
+        } finally {
+            asyncContext.complete();
+        }
+    }
+
+    private static Throwable unwrap(Throwable error) {
+        while ((error instanceof CompletionException || error instanceof ExecutionException) && error.getCause() != null) {
+            error = error.getCause();
+        }
+        return error;
+    }
+
+    private class Listener implements AsyncListener {
+        @Override
+        public void onComplete(AsyncEvent event) {
+            completed.set(true);
+        }
+
+        @Override
+        public void onTimeout(AsyncEvent event) {
+            complete(new GenericHttpException(HttpStatus.SERVICE_UNAVAILABLE.value(), "请求处理超时"), null);
+        }
+
+        @Override
+        public void onError(AsyncEvent event) {
+            complete(event.getThrowable(), null);
+        }
+
+        @Override
+        public void onStartAsync(AsyncEvent event) {
+        }
+    }
+
+    @FunctionalInterface
+    public interface ResponseWriter {
+        void write() throws Throwable;
+    }
+}
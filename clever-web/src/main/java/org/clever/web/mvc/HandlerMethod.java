@@ -1,6 +1,13 @@
 package org.clever.web.mvc;
 
 import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.ToString;
+import org.clever.web.mvc.annotation.Async;
+import org.clever.web.mvc.annotation.ResponseCache;
+import org.clever.web.mvc.argument.HandlerMethodArgumentResolver;
+import org.clever.web.mvc.interceptor.HandlerInterceptor;
 import org.springframework.core.MethodParameter;
 
 import java.lang.reflect.Method;
@@ -29,11 +36,84 @@ public class HandlerMethod {
      * 处理请求程序method的参数类型
      */
     private final MethodParameter[] parameters;
+    /**
+     * 直接调用 handler method 的调用器
+     */
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
+    private final HandlerMethodInvoker invoker;
+    /**
+     * 异步执行配置，为 null 表示同步执行
+     */
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
+    private final Async async;
+    /**
+     * 响应数据缓存配置，为 null 表示不缓存
+     */
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
+    private final ResponseCache responseCache;
+    /**
+     * 参数绑定(每个参数对应的参数解析器)，第一次处理请求时生成
+     */
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
+    private volatile ArgumentBinding argumentBinding;
+    /**
+     * 拦截器链(需要拦截当前 handler method 的拦截器)，第一次处理请求时生成
+     */
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
+    private volatile InterceptorChain interceptorChain;
 
     public HandlerMethod(String matcherPath, Class<?> handlerClass, Method method, MethodParameter[] parameters) {
         this.matcherPath = matcherPath;
         this.handlerClass = handlerClass;
         this.method = method;
         this.parameters = parameters;
+        this.invoker = HandlerMethodInvoker.create(method);
+        this.async = method.getAnnotation(Async.class);
+        this.responseCache = method.getAnnotation(ResponseCache.class);
+    }
+
+    /**
+     * handler method 参数与参数解析器的绑定关系
+     */
+    @Getter
+    public static final class ArgumentBinding {
+        /**
+         * 生成绑定关系时使用的参数解析器集合(集合变化后需要重新绑定)
+         */
+        private final Object source;
+        /**
+         * 每个参数对应的参数解析器，为 null 表示从IOC容器中获取
+         */
+        private final HandlerMethodArgumentResolver[] resolvers;
+
+        public ArgumentBinding(Object source, HandlerMethodArgumentResolver[] resolvers) {
+            this.source = source;
+            this.resolvers = resolvers;
+        }
+    }
+
+    /**
+     * 拦截当前 handler method 的拦截器链
+     */
+    @Getter
+    public static final class InterceptorChain {
+        /**
+         * 生成拦截器链时使用的拦截器集合(集合变化后需要重新生成)
+         */
+        private final Object source;
+        /**
+         * 按执行顺序排列的拦截器
+         */
+        private final HandlerInterceptor[] interceptors;
+
+        public InterceptorChain(Object source, HandlerInterceptor[] interceptors) {
+            this.source = source;
+            this.interceptors = interceptors;
+        }
     }
 }
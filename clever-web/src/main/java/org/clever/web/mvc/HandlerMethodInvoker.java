@@ -0,0 +1,310 @@
+package org.clever.web.mvc;
+
+import lombok.Getter;
+
+import java.lang.invoke.*;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+
+/**
+ * 直接调用 Handler Method(静态函数)的调用器。<br/>
+ * 参数数量不超过 {@value #MAX_LAMBDA_ARITY} 的函数通过 {@link LambdaMetafactory} 生成函数式接口的实现类直接调用(与普通的静态函数调用一样可以被JIT内联)，
+ * 参数更多的函数使用 {@link MethodHandle#asSpreader(Class, int)} 调用，无法生成时(如: JDK模块内未开放的类)退回到反射调用。
+ * 函数抛出的异常原样抛出，没有 {@link InvocationTargetException} 包装。
+ * <p>
+ * 作者：lizw <br/>
+ * 创建时间：2026/10/19 04:50 <br/>
+ */
+public final class HandlerMethodInvoker {
+    /**
+     * 使用 {@link LambdaMetafactory} 生成调用器的最大参数数量
+     */
+    public static final int MAX_LAMBDA_ARITY = 6;
+    private static final MethodHandles.Lookup LOOKUP = MethodHandles.lookup();
+    private static final MethodType SPREADER_TYPE = MethodType.methodType(Object.class, Object[].class);
+    private static final Class<?>[] FUNCTIONS = {Function0.class, Function1.class, Function2.class, Function3.class, Function4.class, Function5.class, Function6.class};
+    private static final Class<?>[] PROCEDURES = {Procedure0.class, Procedure1.class, Procedure2.class, Procedure3.class, Procedure4.class, Procedure5.class, Procedure6.class};
+
+    /**
+     * 被调用的函数
+     */
+    @Getter
+    private final Method method;
+    /**
+     * 函数参数类型(基本类型转换成包装类型)
+     */
+    private final Class<?>[] parameterTypes;
+    /**
+     * 函数参数是否是基本类型
+     */
+    private final boolean[] primitives;
+    /**
+     * 调用函数
+     */
+    private final Call call;
+
+    private HandlerMethodInvoker(Method method, Call call) {
+        this.method = method;
+        this.call = call;
+        Class<?>[] types = method.getParameterTypes();
+        this.parameterTypes = new Class<?>[types.length];
+        this.primitives = new boolean[types.length];
+        for (int i = 0; i < types.length; i++) {
+            this.parameterTypes[i] = MethodType.methodType(types[i]).wrap().returnType();
+            this.primitives[i] = types[i].isPrimitive();
+        }
+    }
+
+    /**
+     * 创建 Handler Method 调用器
+     */
+    public static HandlerMethodInvoker create(Method method) {
+        Call call = null;
+        if (Modifier.isStatic(method.getModifiers())) {
+            try {
+                final MethodHandles.Lookup lookup = MethodHandles.privateLookupIn(method.getDeclaringClass(), LOOKUP);
+                final MethodHandle handle = lookup.unreflect(method);
+                if (method.getParameterCount() <= MAX_LAMBDA_ARITY) {
+                    call = lambdaCall(lookup, handle, method);
+                } else {
+                    final MethodHandle spreader = handle.asSpreader(Object[].class, method.getParameterCount()).asType(SPREADER_TYPE);
+                    call = args -> (Object) spreader.invokeExact(args);
+                }
+            } catch (Throwable ignored) {
+                // 退回到反射调用
+            }
+        }
+        if (call == null) {
+            method.trySetAccessible();
+            call = args -> {
+                try {
+                    return method.invoke(null, args);
+                } catch (InvocationTargetException e) {
+                    throw e.getTargetException();
+                }
+            };
+        }
+        return new HandlerMethodInvoker(method, call);
+    }
+
+    /**
+     * 检查调用参数与函数参数类型是否匹配
+     *
+     * @return 匹配返回 null，否则返回错误信息
+     */
+    public String checkArguments(Object[] args) {
+        if (args.length != parameterTypes.length) {
+            return "wrong number of arguments: " + args.length + " expected: " + parameterTypes.length;
+        }
+        for (int i = 0; i < args.length; i++) {
+            Object arg = args[i];
+            if (arg == null) {
+                if (primitives[i]) {
+                    return "argument [" + i + "] is null for primitive type " + method.getParameterTypes()[i].getName();
+                }
+            } else if (!parameterTypes[i].isInstance(arg)) {
+                return "argument type mismatch";
+            }
+        }
+        return null;
+    }
+
+    /**
+     * 调用 Handler Method，函数抛出的异常原样抛出
+     *
+     * @param args 调用参数(需要先通过 {@link #checkArguments(Object[])} 检查)
+     */
+    public Object invoke(Object[] args) throws Throwable {
+        return call.call(args);
+    }
+
+    /**
+     * 使用 {@link LambdaMetafactory} 生成 FunctionN/ProcedureN 的实现，参数的类型转换和拆箱在生成的类中完成
+     */
+    private static Call lambdaCall(MethodHandles.Lookup lookup, MethodHandle handle, Method method) throws Throwable {
+        final int arity = method.getParameterCount();
+        final boolean isVoid = method.getReturnType() == void.class;
+        final Class<?> functionType = isVoid ? PROCEDURES[arity] : FUNCTIONS[arity];
+        final MethodType erasedType = isVoid ? MethodType.genericMethodType(arity).changeReturnType(void.class) : MethodType.genericMethodType(arity);
+        final MethodType instantiatedType = isVoid ? handle.type().wrap().changeReturnType(void.class) : handle.type().wrap();
+        final CallSite callSite = LambdaMetafactory.metafactory(
+            lookup,
+            "invoke",
+            MethodType.methodType(functionType),
+            erasedType,
+            handle,
+            instantiatedType
+        );
+        final Object target = callSite.getTarget().invoke();
+        return isVoid ? procedureCall(arity, target) : functionCall(arity, target);
+    }
+
+    private static Call functionCall(int arity, Object target) {
+        switch (arity) {
+            case 0: {
+                final Function0 fn = (Function0) target;
+                return args -> fn.invoke();
+            }
+            case 1: {
+                final Function1 fn = (Function1) target;
+                return args -> fn.invoke(args[0]);
+            }
+            case 2: {
+                final Function2 fn = (Function2) target;
+                return args -> fn.invoke(args[0], args[1]);
+            }
+            case 3: {
+                final Function3 fn = (Function3) target;
+                return args -> fn.invoke(args[0], args[1], args[2]);
+            }
+            case 4: {
+                final Function4 fn = (Function4) target;
+                return args -> fn.invoke(args[0], args[1], args[2], args[3]);
+            }
+            case 5: {
+                final Function5 fn = (Function5) target;
+                return args -> fn.invoke(args[0], args[1], args[2], args[3], args[4]);
+            }
+            case 6: {
+                final Function6 fn = (Function6) target;
+                return args -> fn.invoke(args[0], args[1], args[2], args[3], args[4], args[5]);
+            }
+            default:
+                throw new IllegalArgumentException("arity: " + arity);
+        }
+    }
+
+    private static Call procedureCall(int arity, Object target) {
+        switch (arity) {
+            case 0: {
+                final Procedure0 fn = (Procedure0) target;
+                return args -> {
+                    fn.invoke();
+                    return null;
+                };
+            }
+            case 1: {
+                final Procedure1 fn = (Procedure1) target;
+                return args -> {
+                    fn.invoke(args[0]);
+                    return null;
+                };
+            }
+            case 2: {
+                final Procedure2 fn = (Procedure2) target;
+                return args -> {
+                    fn.invoke(args[0], args[1]);
+                    return null;
+                };
+            }
+            case 3: {
+                final Procedure3 fn = (Procedure3) target;
+                return args -> {
+                    fn.invoke(args[0], args[1], args[2]);
+                    return null;
+                };
+            }
+            case 4: {
+                final Procedure4 fn = (Procedure4) target;
+                return args -> {
+                    fn.invoke(args[0], args[1], args[2], args[3]);
+                    return null;
+                };
+            }
+            case 5: {
+                final Procedure5 fn = (Procedure5) target;
+                return args -> {
+                    fn.invoke(args[0], args[1], args[2], args[3], args[4]);
+                    return null;
+                };
+            }
+            case 6: {
+                final Procedure6 fn = (Procedure6) target;
+                return args -> {
+                    fn.invoke(args[0], args[1], args[2], args[3], args[4], args[5]);
+                    return null;
+                };
+            }
+            default:
+                throw new IllegalArgumentException("arity: " + arity);
+        }
+    }
+
+    @FunctionalInterface
+    private interface Call {
+        Object call(Object[] args) throws Throwable;
+    }
+
+    // 以下是 LambdaMetafactory 生成调用器使用的函数式接口(生成的类在 Handler Class 中定义，所以必须是 public)
+
+    @FunctionalInterface
+    public interface Function0 {
+        Object invoke() throws Throwable;
+    }
+
+    @FunctionalInterface
+    public interface Function1 {
+        Object invoke(Object a0) throws Throwable;
+    }
+
+    @FunctionalInterface
+    public interface Function2 {
+        Object invoke(Object a0, Object a1) throws Throwable;
+    }
+
+    @FunctionalInterface
+    public interface Function3 {
+        Object invoke(Object a0, Object a1, Object a2) throws Throwable;
+    }
+
+    @FunctionalInterface
+    public interface Function4 {
+        Object invoke(Object a0, Object a1, Object a2, Object a3) throws Throwable;
+    }
+
+    @FunctionalInterface
+    public interface Function5 {
+        Object invoke(Object a0, Object a1, Object a2, Object a3, Object a4) throws Throwable;
+    }
+
+    @FunctionalInterface
+    public interface Function6 {
+        Object invoke(Object a0, Object a1, Object a2, Object a3, Object a4, Object a5) throws Throwable;
+    }
+
+    @FunctionalInterface
+    public interface Procedure0 {
+        void invoke() throws Throwable;
+    }
+
+    @FunctionalInterface
+    public interface Procedure1 {
+        void invoke(Object a0) throws Throwable;
+    }
+
+    @FunctionalInterface
+    public interface Procedure2 {
+        void invoke(Object a0, Object a1) throws Throwable;
+    }
+
+    @FunctionalInterface
+    public interface Procedure3 {
+        void invoke(Object a0, Object a1, Object a2) throws Throwable;
+    }
+
+    @FunctionalInterface
+    public interface Procedure4 {
+        void invoke(Object a0, Object a1, Object a2, Object a3) throws Throwable;
+    }
+
+    @FunctionalInterface
+    public interface Procedure5 {
+        void invoke(Object a0, Object a1, Object a2, Object a3, Object a4) throws Throwable;
+    }
+
+    @FunctionalInterface
+    public interface Procedure6 {
+        void invoke(Object a0, Object a1, Object a2, Object a3, Object a4, Object a5) throws Throwable;
+    }
+}
@@ -9,12 +9,10 @@ import org.clever.core.http.HttpServletRequestUtils;
 import org.springframework.http.HttpMethod;
 import org.springframework.util.Assert;
 
-import java.util.ArrayList;
-import java.util.Collection;
-import java.util.Comparator;
-import java.util.List;
+import java.util.*;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * 作者：lizw <br/>
@@ -22,18 +20,43 @@ import java.util.concurrent.ConcurrentMap;
  */
 @Slf4j
 public class HttpRouteRegistry {
+    /**
+     * 当前请求匹配的路径变量 {@code Map<变量名, 变量值>} 在 request attribute 中的名称
+     */
+    public static final String PATH_VARIABLES_ATTRIBUTE = HttpRouteRegistry.class.getName() + ".pathVariables";
+
+    /**
+     * 获取当前请求匹配的路径变量
+     *
+     * @return 不存在返回空集合
+     */
+    @SuppressWarnings("unchecked")
+    public static Map<String, String> getPathVariables(HttpServletRequest request) {
+        Object pathVariables = request.getAttribute(PATH_VARIABLES_ATTRIBUTE);
+        return pathVariables instanceof Map ? (Map<String, String>) pathVariables : Collections.emptyMap();
+    }
+
     /**
      * 注册的路由信息 {@code ConcurrentMap<routeInfo.getRouteKey(), routeInfo>}
      */
     private final ConcurrentMap<String, RouteInfo> routeInfoMap = new ConcurrentHashMap<>();
+    /**
+     * 路由前缀树(用于匹配请求)
+     */
+    private final HttpRouteTrie routeTrie = new HttpRouteTrie();
+    /**
+     * 路由版本号(每次注册或取消注册路由都会增加)
+     */
+    private final AtomicLong version = new AtomicLong();
 
     /**
-     * 注册MVC路由
+     * 注册MVC路由，path 支持路径变量和通配符，如: “/api/user/{id}”、“/api/files/**”、“/api/files/{*path}”
      *
      * @param path       请求路径
      * @param httpMethod 请求Method
      * @param clazz      class类全名
      * @param method     class函数名
+     * @see HttpRouteTrie
      */
     public HttpRouteRegistry register(String path, HttpMethod httpMethod, String clazz, String method) {
         Assert.hasText(path, "参数 path 不能为空");
@@ -41,11 +64,14 @@ public class HttpRouteRegistry {
         Assert.hasText(clazz, "参数 clazz 不能为空");
         Assert.hasText(method, "参数 method 不能为空");
         RouteInfo routeInfo = new RouteInfo(path, httpMethod, clazz, method);
-        RouteInfo old = routeInfoMap.get(routeInfo.getKey());
+        // 与已注册的路由冲突时抛出异常
+        RouteInfo old = routeTrie.add(routeInfo);
         if (old != null) {
             log.warn("Route被替换 | {} -> {}", old, routeInfo);
+            routeInfoMap.remove(old.getKey());
         }
         routeInfoMap.put(routeInfo.getKey(), routeInfo);
+        version.incrementAndGet();
         return this;
     }
 
@@ -70,9 +96,18 @@ public class HttpRouteRegistry {
      */
     public HttpRouteRegistry unregister(String path, String httpMethod) {
         routeInfoMap.remove(RouteInfo.getRouteKey(path, httpMethod));
+        routeTrie.remove(path, httpMethod);
+        version.incrementAndGet();
         return this;
     }
 
+    /**
+     * 路由版本号，用于判断注册的路由是否变化(如: 清除路由相关的缓存)
+     */
+    public long getVersion() {
+        return version.get();
+    }
+
     /**
      * 根据请求信息匹配MVC路由信息
      *
@@ -81,17 +116,35 @@ public class HttpRouteRegistry {
      * @return 未匹配返回 null
      */
     public RouteInfo match(String path, String httpMethod) {
-        return routeInfoMap.get(RouteInfo.getRouteKey(path, httpMethod));
+        RouteMatch routeMatch = routeTrie.match(path, httpMethod);
+        return routeMatch == null ? null : routeMatch.getRouteInfo();
     }
 
     /**
-     * 根据请求信息匹配MVC路由信息
+     * 根据请求信息匹配MVC路由信息，并提取路径变量
+     *
+     * @param path       请求路径
+     * @param httpMethod 请求Method
+     * @return 未匹配返回 null
+     */
+    public RouteMatch matchRoute(String path, String httpMethod) {
+        return routeTrie.match(path, httpMethod);
+    }
+
+    /**
+     * 根据请求信息匹配MVC路由信息，匹配成功时把路径变量保存到 request attribute 中
      *
      * @param request 请求对象
      * @return 未匹配返回 null
+     * @see #getPathVariables(HttpServletRequest)
      */
     public RouteInfo match(HttpServletRequest request) {
-        return match(HttpServletRequestUtils.getPathWithoutContextPath(request), request.getMethod());
+        RouteMatch routeMatch = matchRoute(HttpServletRequestUtils.getPathWithoutContextPath(request), request.getMethod());
+        if (routeMatch == null) {
+            return null;
+        }
+        request.setAttribute(PATH_VARIABLES_ATTRIBUTE, routeMatch.getPathVariables());
+        return routeMatch.getRouteInfo();
     }
 
     /**
@@ -0,0 +1,256 @@
+package org.clever.web.mvc;
+
+import org.apache.commons.lang3.StringUtils;
+import org.springframework.util.Assert;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 基于路径段(path segment)的前缀树路由，查找耗时只与请求路径长度相关，与路由数量无关。<br/>
+ * 支持的路径段:
+ * <pre>{@code
+ *   /api/user           字面量
+ *   /api/user/{id}      路径变量，匹配一个路径段
+ *   /api/user/*         通配符，匹配一个路径段
+ *   /api/files/**       通配符，匹配剩余的所有路径段(只能是最后一个路径段)
+ *   /api/files/{*path}  路径变量，匹配剩余的所有路径段(只能是最后一个路径段)
+ * }</pre>
+ * 匹配优先级: 字面量 > 路径变量 > 单段通配符 > 多段通配符，高优先级的分支匹配失败时回溯到低优先级的分支
+ * <p>
+ * 作者：lizw <br/>
+ * 创建时间：2026/10/19 04:44 <br/>
+ */
+public class HttpRouteTrie {
+    private static final String WILDCARD = "*";
+    private static final String CATCH_ALL = "**";
+
+    private final Node root = new Node();
+
+    /**
+     * 路径中是否包含路径变量或者通配符
+     */
+    public static boolean isPattern(String path) {
+        return path != null && (path.indexOf('{') >= 0 || path.indexOf('*') >= 0);
+    }
+
+    /**
+     * 增加路由，相同的 path 和 httpMethod 会替换之前的路由。<br/>
+     * 路径变量名或通配符写法不同但匹配的请求相同的路由(如: “/a/{id}”和“/a/{uid}”)相互冲突，会抛出异常
+     *
+     * @return 被替换的路由，不存在返回 null
+     */
+    public synchronized RouteInfo add(RouteInfo routeInfo) {
+        Assert.notNull(routeInfo, "参数 routeInfo 不能为null");
+        final String[] segments = split(routeInfo.getPath());
+        final List<String> varNames = new ArrayList<>();
+        final List<Integer> varIndexes = new ArrayList<>();
+        String catchAllName = null;
+        Node node = root;
+        for (int idx = 0; idx < segments.length; idx++) {
+            final String segment = segments[idx];
+            final boolean last = (idx + 1) == segments.length;
+            if (CATCH_ALL.equals(segment) || (segment.startsWith("{*") && segment.endsWith("}"))) {
+                Assert.isTrue(last, "多段通配符只能是最后一个路径段: " + routeInfo.getPath());
+                catchAllName = CATCH_ALL.equals(segment) ? null : segment.substring(2, segment.length() - 1);
+                Route route = new Route(routeInfo, toArray(varNames), toIntArray(varIndexes), catchAllName, idx);
+                return putRoute(node.catchAllRoutes, route);
+            }
+            if (WILDCARD.equals(segment)) {
+                if (node.wildcardChild == null) {
+                    node.wildcardChild = new Node();
+                }
+                node = node.wildcardChild;
+            } else if (segment.startsWith("{") && segment.endsWith("}")) {
+                String varName = segment.substring(1, segment.length() - 1);
+                Assert.hasText(varName, "路径变量名不能为空: " + routeInfo.getPath());
+                Assert.isTrue(!varNames.contains(varName), "路径变量名重复: " + routeInfo.getPath());
+                varNames.add(varName);
+                varIndexes.add(idx);
+                if (node.varChild == null) {
+                    node.varChild = new Node();
+                }
+                node = node.varChild;
+            } else {
+                Assert.isTrue(segment.indexOf('{') < 0 && segment.indexOf('*') < 0, "不支持的路径段: " + segment + " | path=" + routeInfo.getPath());
+                node = node.children.computeIfAbsent(segment, key -> new Node());
+            }
+        }
+        Route route = new Route(routeInfo, toArray(varNames), toIntArray(varIndexes), null, -1);
+        return putRoute(node.routes, route);
+    }
+
+    /**
+     * 删除路由(path 必须与注册时的路由路径一致，不会删除与之冲突的其它路由)
+     *
+     * @param path       注册时的路由路径
+     * @param httpMethod 请求Method
+     * @return 被删除的路由，不存在返回 null
+     */
+    public synchronized RouteInfo remove(String path, String httpMethod) {
+        final String[] segments = split(path);
+        Node node = root;
+        for (int idx = 0; idx < segments.length && node != null; idx++) {
+            final String segment = segments[idx];
+            if (CATCH_ALL.equals(segment) || (segment.startsWith("{*") && segment.endsWith("}"))) {
+                return removeRoute(node.catchAllRoutes, path, httpMethod);
+            }
+            if (WILDCARD.equals(segment)) {
+                node = node.wildcardChild;
+            } else if (segment.startsWith("{") && segment.endsWith("}")) {
+                node = node.varChild;
+            } else {
+                node = node.children.get(segment);
+            }
+        }
+        if (node == null) {
+            return null;
+        }
+        return removeRoute(node.routes, path, httpMethod);
+    }
+
+    /**
+     * 匹配路由
+     *
+     * @param path       请求路径
+     * @param httpMethod 请求Method
+     * @return 未匹配返回 null
+     */
+    public RouteMatch match(String path, String httpMethod) {
+        if (path == null || httpMethod == null) {
+            return null;
+        }
+        final String[] segments = split(path);
+        final Route route = find(root, segments, 0, httpMethod);
+        if (route == null) {
+            return null;
+        }
+        final Map<String, String> pathVariables;
+        if (route.varNames.length == 0 && route.catchAllName == null) {
+            pathVariables = Collections.emptyMap();
+        } else {
+            pathVariables = new HashMap<>(route.varNames.length + 1);
+            for (int i = 0; i < route.varNames.length; i++) {
+                pathVariables.put(route.varNames[i], segments[route.varIndexes[i]]);
+            }
+            if (route.catchAllName != null) {
+                pathVariables.put(route.catchAllName, StringUtils.join(segments, '/', route.catchAllIndex, segments.length));
+            }
+        }
+        return new RouteMatch(route.routeInfo, pathVariables);
+    }
+
+    private static Route find(Node node, String[] segments, int idx, String httpMethod) {
+        if (idx == segments.length) {
+            Route route = node.routes.get(httpMethod);
+            if (route != null) {
+                return route;
+            }
+            // 多段通配符可以匹配0个路径段
+            return node.catchAllRoutes.get(httpMethod);
+        }
+        Route route;
+        final Node child = node.children.get(segments[idx]);
+        if (child != null && (route = find(child, segments, idx + 1, httpMethod)) != null) {
+            return route;
+        }
+        final Node varChild = node.varChild;
+        if (varChild != null && (route = find(varChild, segments, idx + 1, httpMethod)) != null) {
+            return route;
+        }
+        final Node wildcardChild = node.wildcardChild;
+        if (wildcardChild != null && (route = find(wildcardChild, segments, idx + 1, httpMethod)) != null) {
+            return route;
+        }
+        return node.catchAllRoutes.get(httpMethod);
+    }
+
+    private static RouteInfo putRoute(Map<String, Route> routes, Route route) {
+        final RouteInfo routeInfo = route.routeInfo;
+        final Route old = routes.get(routeInfo.getHttpMethod().name());
+        Assert.isTrue(
+            old == null || samePath(old.routeInfo.getPath(), routeInfo.getPath()),
+            () -> "路由冲突 | " + routeInfo.getHttpMethod() + " " + routeInfo.getPath() + " 与已注册的 " + old.routeInfo.getPath() + " 匹配相同的请求"
+        );
+        routes.put(routeInfo.getHttpMethod().name(), route);
+        return old == null ? null : old.routeInfo;
+    }
+
+    private static RouteInfo removeRoute(Map<String, Route> routes, String path, String httpMethod) {
+        final Route old = routes.get(httpMethod);
+        if (old == null || !samePath(old.routeInfo.getPath(), path)) {
+            return null;
+        }
+        return routes.remove(httpMethod, old) ? old.routeInfo : null;
+    }
+
+    private static boolean samePath(String a, String b) {
+        return Arrays.equals(split(a), split(b));
+    }
+
+    /**
+     * 拆分路径段(忽略空的路径段，如: “/a//b/” 等价于 “/a/b”)
+     */
+    private static String[] split(String path) {
+        return StringUtils.split(path, '/');
+    }
+
+    private static String[] toArray(List<String> list) {
+        return list.toArray(new String[0]);
+    }
+
+    private static int[] toIntArray(List<Integer> list) {
+        return list.stream().mapToInt(Integer::intValue).toArray();
+    }
+
+    private static final class Node {
+        /**
+         * 字面量子节点 {@code Map<路径段, Node>}
+         */
+        private final Map<String, Node> children = new ConcurrentHashMap<>();
+        /**
+         * 路径变量子节点
+         */
+        private volatile Node varChild;
+        /**
+         * 单段通配符子节点
+         */
+        private volatile Node wildcardChild;
+        /**
+         * 在当前节点结束的路由 {@code Map<httpMethod, Route>}
+         */
+        private final Map<String, Route> routes = new ConcurrentHashMap<>();
+        /**
+         * 当前节点之后是多段通配符的路由 {@code Map<httpMethod, Route>}
+         */
+        private final Map<String, Route> catchAllRoutes = new ConcurrentHashMap<>();
+    }
+
+    private static final class Route {
+        private final RouteInfo routeInfo;
+        /**
+         * 路径变量名
+         */
+        private final String[] varNames;
+        /**
+         * 路径变量对应的路径段位置
+         */
+        private final int[] varIndexes;
+        /**
+         * 多段通配符的变量名(为null表示不需要提取)
+         */
+        private final String catchAllName;
+        /**
+         * 多段通配符开始的路径段位置
+         */
+        private final int catchAllIndex;
+
+        private Route(RouteInfo routeInfo, String[] varNames, int[] varIndexes, String catchAllName, int catchAllIndex) {
+            this.routeInfo = routeInfo;
+            this.varNames = varNames;
+            this.varIndexes = varIndexes;
+            this.catchAllName = catchAllName;
+            this.catchAllIndex = catchAllIndex;
+        }
+    }
+}
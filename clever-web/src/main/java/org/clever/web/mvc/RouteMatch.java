@@ -0,0 +1,28 @@
+package org.clever.web.mvc;
+
+import lombok.Data;
+
+import java.util.Map;
+
+/**
+ * 路由匹配结果
+ * <p>
+ * 作者：lizw <br/>
+ * 创建时间：2026/10/19 04:44 <br/>
+ */
+@Data
+public class RouteMatch {
+    /**
+     * 匹配的路由
+     */
+    private final RouteInfo routeInfo;
+    /**
+     * 从请求路径中提取的路径变量 {@code Map<变量名, 变量值>}
+     */
+    private final Map<String, String> pathVariables;
+
+    public RouteMatch(RouteInfo routeInfo, Map<String, String> pathVariables) {
+        this.routeInfo = routeInfo;
+        this.pathVariables = pathVariables;
+    }
+}
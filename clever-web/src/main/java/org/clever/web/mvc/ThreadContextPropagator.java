@@ -0,0 +1,28 @@
+package org.clever.web.mvc;
+
+import jakarta.servlet.http.HttpServletRequest;
+
+/**
+ * 异步 HandlerMethod 的线程上下文传递(把请求线程中的 ThreadLocal 数据传递到异步线程)
+ * <p>
+ * 作者：lizw <br/>
+ * 创建时间：2026/10/19 05:22 <br/>
+ */
+public interface ThreadContextPropagator {
+    /**
+     * 在请求线程中获取线程上下文数据
+     */
+    Object capture(HttpServletRequest request);
+
+    /**
+     * 在异步线程中恢复线程上下文数据
+     *
+     * @param context {@link #capture(HttpServletRequest)} 的返回值
+     */
+    void restore(Object context, HttpServletRequest request);
+
+    /**
+     * 异步线程执行完成后清除线程上下文数据
+     */
+    void clear();
+}
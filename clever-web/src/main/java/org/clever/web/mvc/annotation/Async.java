@@ -0,0 +1,21 @@
+package org.clever.web.mvc.annotation;
+
+import java.lang.annotation.*;
+
+/**
+ * 当前 HandlerMethod 使用 servlet 异步请求，在独立的线程(JDK21+ 使用虚拟线程)中执行，不占用 Jetty 的请求处理线程。
+ * 适用于耗时较长的 IO 密集型 HandlerMethod
+ * <p>
+ * 作者：lizw <br/>
+ * 创建时间：2026/10/19 05:22 <br/>
+ */
+@Target({ElementType.METHOD})
+@Retention(RetentionPolicy.RUNTIME)
+@Inherited
+@Documented
+public @interface Async {
+    /**
+     * 请求超时时间(毫秒)，小于等于0表示使用 {@code "web.mvc.async.timeout"} 配置
+     */
+    long timeout() default -1;
+}
@@ -0,0 +1,35 @@
+package org.clever.web.mvc.annotation;
+
+import org.springframework.core.annotation.AliasFor;
+
+import java.lang.annotation.*;
+
+/**
+ * 将路由路径变量绑定到参数，如: 路由 “/api/user/{id}” 中的 “id”
+ * <p>
+ * 作者：lizw <br/>
+ * 创建时间：2026/10/19 04:44 <br/>
+ *
+ * @see org.clever.web.mvc.HttpRouteRegistry
+ */
+@Target(ElementType.PARAMETER)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface PathVariable {
+    /**
+     * {@link #name} 的别名。
+     */
+    @AliasFor("name")
+    String value() default "";
+
+    /**
+     * 要绑定到的路径变量的名称
+     */
+    @AliasFor("value")
+    String name() default "";
+
+    /**
+     * 是否是必须的
+     */
+    boolean required() default true;
+}
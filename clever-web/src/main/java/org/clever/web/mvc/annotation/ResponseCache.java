@@ -0,0 +1,33 @@
+package org.clever.web.mvc.annotation;
+
+import java.lang.annotation.*;
+
+/**
+ * 在服务端缓存当前 HandlerMethod 的响应数据(序列化后的字节)，只缓存 GET 请求的 200 响应。
+ * 缓存 key 由缓存名称、请求路径、请求参数(以及登录用户)组成，适用于读多写少、结果与调用者无关的接口(例如: 字典、菜单、配置)
+ * <p>
+ * 作者：lizw <br/>
+ * 创建时间：2026/10/19 05:58 <br/>
+ *
+ * @see org.clever.web.filter.ResponseCacheFilter
+ */
+@Target({ElementType.METHOD})
+@Retention(RetentionPolicy.RUNTIME)
+@Inherited
+@Documented
+public @interface ResponseCache {
+    /**
+     * 缓存名称(用于按名称清除缓存)，默认使用 HandlerMethod 的匹配路径
+     */
+    String name() default "";
+
+    /**
+     * 缓存过期时间(毫秒)，小于等于0表示使用 {@code "web.response-cache.ttl"} 配置
+     */
+    long ttl() default -1;
+
+    /**
+     * 是否按登录用户分别缓存
+     */
+    boolean perUser() default false;
+}
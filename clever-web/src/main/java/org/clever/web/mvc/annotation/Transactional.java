@@ -53,4 +53,10 @@ public @interface Transactional {
      * @see org.springframework.transaction.support.TransactionSynchronizationManager#isCurrentTransactionReadOnly()
      */
     boolean readOnly() default false;
+
+    /**
+     * 是否延迟开启事务。
+     * <p>为 {@code true} 时，第一次执行SQL时才获取数据库连接并开启事务，未执行SQL的数据源不会获取数据库连接，也不需要提交或回滚事务
+     */
+    boolean lazy() default false;
 }
@@ -0,0 +1,67 @@
+package org.clever.web.mvc.argument;
+
+import jakarta.servlet.http.HttpServletRequest;
+import org.clever.core.Assert;
+import org.clever.web.mvc.HttpRouteRegistry;
+import org.clever.web.mvc.annotation.PathVariable;
+import org.springframework.core.MethodParameter;
+import org.springframework.web.bind.MissingPathVariableException;
+import org.springframework.web.bind.ServletRequestBindingException;
+import org.springframework.web.bind.annotation.ValueConstants;
+
+import java.util.Map;
+
+/**
+ * 解析使用 {@code @PathVariable} 注释的方法参数，{@link Map} 参数除外。
+ * <p>路径变量由 {@link HttpRouteRegistry} 匹配路由时提取，保存在 request attribute 中。
+ * <p>
+ * 作者：lizw <br/>
+ * 创建时间：2026/10/19 04:44 <br/>
+ */
+public class PathVariableMethodArgumentResolver extends AbstractNamedValueMethodArgumentResolver {
+    private static final Class<org.springframework.web.bind.annotation.PathVariable> SPRING_ANNOTATION = org.springframework.web.bind.annotation.PathVariable.class;
+
+    public PathVariableMethodArgumentResolver(boolean useCache) {
+        super(useCache);
+    }
+
+    @Override
+    public boolean supportsParameter(MethodParameter parameter, HttpServletRequest request) {
+        boolean hasAnnotation = parameter.hasParameterAnnotation(PathVariable.class) || parameter.hasParameterAnnotation(SPRING_ANNOTATION);
+        return (hasAnnotation && !Map.class.isAssignableFrom(parameter.nestedIfOptional().getNestedParameterType()));
+    }
+
+    @Override
+    protected Object resolveValue(String name, MethodParameter parameter, HttpServletRequest request) throws Exception {
+        return HttpRouteRegistry.getPathVariables(request).get(name);
+    }
+
+    @Override
+    protected NamedValueInfo createNamedValueInfo(MethodParameter parameter) {
+        PathVariable ann = parameter.getParameterAnnotation(PathVariable.class);
+        if (ann == null) {
+            org.springframework.web.bind.annotation.PathVariable springPathVariable = parameter.getParameterAnnotation(SPRING_ANNOTATION);
+            if (springPathVariable != null) {
+                return new PathVariableNamedValueInfo(springPathVariable.name(), springPathVariable.required());
+            }
+        }
+        Assert.state(ann != null, "No PathVariable annotation");
+        return new PathVariableNamedValueInfo(ann.name(), ann.required());
+    }
+
+    @Override
+    protected void handleMissingValue(String name, MethodParameter parameter) throws ServletRequestBindingException {
+        throw new MissingPathVariableException(name, parameter);
+    }
+
+    @Override
+    protected void handleMissingValueAfterConversion(String name, MethodParameter parameter, HttpServletRequest request) throws Exception {
+        throw new MissingPathVariableException(name, parameter, true);
+    }
+
+    private static final class PathVariableNamedValueInfo extends NamedValueInfo {
+        private PathVariableNamedValueInfo(String name, boolean required) {
+            super(name, required, ValueConstants.DEFAULT_NONE);
+        }
+    }
+}
@@ -3,6 +3,7 @@ package org.clever.web.mvc.interceptor;
 import org.clever.core.OrderIncrement;
 import org.clever.core.validator.BaseValidatorUtils;
 import org.clever.web.mvc.HandlerContext;
+import org.clever.web.mvc.HandlerMethod;
 import org.clever.web.mvc.annotation.Validated;
 import org.springframework.core.MethodParameter;
 
@@ -15,6 +16,17 @@ import org.springframework.core.MethodParameter;
 public class ArgumentsValidated implements HandlerInterceptor {
     private static final Class<org.springframework.validation.annotation.Validated> SPRING_ANNOTATION = org.springframework.validation.annotation.Validated.class;
 
+    @Override
+    public boolean supports(HandlerMethod handlerMethod) {
+        // 只拦截存在 Validated 注解参数的 Handler Method
+        for (MethodParameter parameter : handlerMethod.getParameters()) {
+            if (parameter.hasParameterAnnotation(Validated.class) || parameter.hasParameterAnnotation(SPRING_ANNOTATION)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
     @Override
     public boolean beforeHandle(HandlerContext context) {
         final MethodParameter[] parameters = context.getHandleMethod().getParameters();
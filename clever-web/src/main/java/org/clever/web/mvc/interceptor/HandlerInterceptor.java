@@ -2,6 +2,7 @@ package org.clever.web.mvc.interceptor;
 
 import org.clever.core.Ordered;
 import org.clever.web.mvc.HandlerContext;
+import org.clever.web.mvc.HandlerMethod;
 
 /**
  * mvc拦截器
@@ -10,6 +11,17 @@ import org.clever.web.mvc.HandlerContext;
  * 创建时间：2022/07/24 15:28 <br/>
  */
 public interface HandlerInterceptor extends Ordered {
+    /**
+     * 当前拦截器是否需要拦截 Handler Method<br/>
+     * 每个 Handler Method 只会判断一次(结果会缓存到拦截器链中)，所以返回值只能与 Handler Method 的定义有关
+     *
+     * @param handlerMethod Handler Method
+     * @return false: 当前拦截器不会出现在 Handler Method 的拦截器链中
+     */
+    default boolean supports(HandlerMethod handlerMethod) {
+        return true;
+    }
+
     /**
      * Handler Method 执行之前回调<br/>
      * 当前函数异常之后会中断Interceptor调用链
@@ -1,5 +1,7 @@
 package org.clever.web.mvc.interceptor;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import lombok.Data;
 import lombok.Getter;
 import lombok.extern.slf4j.Slf4j;
@@ -12,13 +14,17 @@ import org.clever.data.jdbc.Jdbc;
 import org.clever.web.config.MvcConfig;
 import org.clever.web.exception.MultiExceptionWrapper;
 import org.clever.web.mvc.HandlerContext;
+import org.clever.web.mvc.HandlerMethod;
 import org.clever.web.mvc.annotation.Transactional;
+import org.springframework.core.InfrastructureProxy;
 import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
 import org.springframework.transaction.TransactionStatus;
 import org.springframework.transaction.annotation.Isolation;
 import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.support.DefaultTransactionDefinition;
 
+import javax.sql.DataSource;
 import java.lang.reflect.Method;
 import java.util.*;
 import java.util.stream.Collectors;
@@ -51,6 +57,10 @@ public class TransactionInterceptor implements HandlerInterceptor {
      */
     @Getter
     private final List<String> defDatasource;
+    /**
+     * 延迟开启事务使用的事务管理器 {@code Cache<Jdbc的事务管理器, 延迟开启事务的事务管理器>}(弱引用 key，删除 Jdbc 之后可以回收)
+     */
+    private final Cache<DataSourceTransactionManager, DataSourceTransactionManager> lazyTransactionManagers = Caffeine.newBuilder().weakKeys().build();
 
     public TransactionInterceptor(String jdbcDefaultName, MvcConfig mvcConfig) {
         Assert.isNotBlank(jdbcDefaultName, "参数 jdbcDefaultName 不能为空");
@@ -72,7 +82,8 @@ public class TransactionInterceptor implements HandlerInterceptor {
                 tx.propagation(),
                 tx.isolation(),
                 tx.timeout(),
-                tx.readOnly()
+                tx.readOnly(),
+                tx.lazy()
             );
         }
         org.springframework.transaction.annotation.Transactional springTX = method.getAnnotation(SPRING_ANNOTATION);
@@ -83,12 +94,24 @@ public class TransactionInterceptor implements HandlerInterceptor {
                 springTX.propagation(),
                 springTX.isolation(),
                 NumberUtils.toInt(springTX.timeoutString(), springTX.timeout()),
-                springTX.readOnly()
+                springTX.readOnly(),
+                false
             );
         }
         return null;
     }
 
+    @Override
+    public boolean supports(HandlerMethod handlerMethod) {
+        final TransactionalAnnotation tx = readTransactionalConfig(handlerMethod.getMethod());
+        if (tx != null) {
+            return !tx.disabled;
+        }
+        // 没有 @Transactional 注解时，只有配置了默认事务的数据源才需要拦截
+        final List<String> datasource = defTransactional.getDatasource();
+        return datasource != null && datasource.stream().anyMatch(StringUtils::isNotBlank);
+    }
+
     @Override
     public boolean beforeHandle(HandlerContext context) {
         boolean disabledTX;
@@ -122,6 +145,7 @@ public class TransactionInterceptor implements HandlerInterceptor {
             txConfig.setIsolation(tx.isolation);
             txConfig.setTimeout(tx.timeout);
             txConfig.setReadOnly(tx.readOnly);
+            txConfig.setLazy(tx.lazy);
             disabledTX = tx.disabled;
         }
         // 未启用事务
@@ -148,7 +172,7 @@ public class TransactionInterceptor implements HandlerInterceptor {
         TX_INFO.set(txInfos);
         for (String ds : datasource) {
             Jdbc jdbc = DataSourceAdmin.getJdbc(ds);
-            DataSourceTransactionManager transactionManager = jdbc.getTransactionManager();
+            DataSourceTransactionManager transactionManager = getTransactionManager(jdbc, txConfig.isLazy());
             DefaultTransactionDefinition txDefinition = new DefaultTransactionDefinition();
             txDefinition.setName(jdbc.getNextTransactionName());
             txDefinition.setPropagationBehavior(txConfig.getPropagation().value());
@@ -162,6 +186,40 @@ public class TransactionInterceptor implements HandlerInterceptor {
         return true;
     }
 
+    /**
+     * 获取开启事务使用的事务管理器
+     *
+     * @param lazy 是否延迟开启事务
+     */
+    protected DataSourceTransactionManager getTransactionManager(Jdbc jdbc, boolean lazy) {
+        final DataSourceTransactionManager transactionManager = jdbc.getTransactionManager();
+        if (!lazy) {
+            return transactionManager;
+        }
+        final DataSource dataSource = transactionManager.getDataSource();
+        Assert.notNull(dataSource, "数据源不能为null: " + jdbc.getDataSourceName());
+        return lazyTransactionManagers.get(transactionManager, tm -> {
+            DataSourceTransactionManager lazyTransactionManager = new DataSourceTransactionManager(new LazyTransactionDataSource(dataSource));
+            copyConfig(tm, lazyTransactionManager);
+            return lazyTransactionManager;
+        });
+    }
+
+    /**
+     * 复制事务管理器的配置(默认超时时间、提交失败时回滚等)
+     */
+    protected static void copyConfig(DataSourceTransactionManager source, DataSourceTransactionManager target) {
+        target.setEnforceReadOnly(source.isEnforceReadOnly());
+        target.setTransactionSynchronization(source.getTransactionSynchronization());
+        target.setDefaultTimeout(source.getDefaultTimeout());
+        target.setNestedTransactionAllowed(source.isNestedTransactionAllowed());
+        target.setValidateExistingTransaction(source.isValidateExistingTransaction());
+        target.setGlobalRollbackOnParticipationFailure(source.isGlobalRollbackOnParticipationFailure());
+        target.setFailEarlyOnGlobalRollbackOnly(source.isFailEarlyOnGlobalRollbackOnly());
+        target.setRollbackOnCommitFailure(source.isRollbackOnCommitFailure());
+        target.setTransactionExecutionListeners(source.getTransactionExecutionListeners());
+    }
+
     @Override
     public void finallyHandle(HandlerContext.Finally context) throws Exception {
         final List<TransactionInfo> txInfos = TX_INFO.get();
@@ -239,6 +297,24 @@ public class TransactionInterceptor implements HandlerInterceptor {
         Propagation propagation,
         Isolation isolation,
         int timeout,
-        boolean readOnly) {
+        boolean readOnly,
+        boolean lazy) {
+    }
+
+    /**
+     * 延迟获取数据库连接的数据源，第一次创建 Statement 时才从目标数据源获取物理连接(开启事务)。
+     * 没有物理连接时 commit/rollback/close 不会访问数据库。<br/>
+     * 实现 {@link InfrastructureProxy} 使事务资源绑定到目标数据源上，
+     * 这样通过目标数据源执行的SQL(如: {@link Jdbc}、QueryDSL、MyBatis)能够获取到当前事务的连接
+     */
+    protected static class LazyTransactionDataSource extends LazyConnectionDataSourceProxy implements InfrastructureProxy {
+        public LazyTransactionDataSource(DataSource targetDataSource) {
+            super(targetDataSource);
+        }
+
+        @Override
+        public Object getWrappedObject() {
+            return obtainTargetDataSource();
+        }
     }
 }
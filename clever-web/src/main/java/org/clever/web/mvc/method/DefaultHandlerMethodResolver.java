@@ -1,8 +1,11 @@
 package org.clever.web.mvc.method;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.Getter;
+import lombok.Setter;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.io.FileUtils;
 import org.apache.commons.lang3.StringUtils;
@@ -13,6 +16,9 @@ import org.clever.core.job.DaemonExecutor;
 import org.clever.core.reflection.ReflectionsUtils;
 import org.clever.web.config.MvcConfig;
 import org.clever.web.mvc.HandlerMethod;
+import org.clever.web.mvc.HttpRouteRegistry;
+import org.clever.web.mvc.RouteInfo;
+import org.clever.web.mvc.RouteMatch;
 import org.springframework.core.DefaultParameterNameDiscoverer;
 import org.springframework.core.MethodParameter;
 import org.springframework.core.ParameterNameDiscoverer;
@@ -24,6 +30,8 @@ import java.nio.charset.StandardCharsets;
 import java.util.*;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
 
 /**
  * 作者：lizw <br/>
@@ -31,6 +39,12 @@ import java.util.concurrent.ConcurrentMap;
  */
 @Slf4j
 public class DefaultHandlerMethodResolver implements HandlerMethodResolver {
+    /**
+     * 默认的 HandlerMethod 缓存最大数量
+     */
+    public static final long DEFAULT_MAX_CACHE_SIZE = 10_000;
+    private static final String ROUTE_KEY_PREFIX = "route:";
+
     @Getter
     protected final String rootPath;
     /**
@@ -72,11 +86,36 @@ public class DefaultHandlerMethodResolver implements HandlerMethodResolver {
      * class文件的最后修改时间搓 {@code ConcurrentMap<AbsolutePath, LastModified>}
      */
     protected final ConcurrentMap<String, Long> classLastModifiedMap = new ConcurrentHashMap<>();
+    /**
+     * 显式注册的MVC路由(优先于基于包名的路由规则)
+     */
+    @Getter
+    @Setter
+    protected HttpRouteRegistry routeRegistry;
+    /**
+     * 已解析的 HandlerMethod 缓存(包含未匹配的结果) {@code Cache<reqPath, ResolvedHandlerMethod>}
+     */
+    protected final Cache<String, ResolvedHandlerMethod> resolvedCache;
+    /**
+     * 解析 HandlerMethod 使用的 mvc 配置快照，配置变化时 resolvedCache 失效
+     */
+    protected volatile MvcConfigSnapshot configSnapshot;
+    /**
+     * resolvedCache 中的路由缓存对应的路由版本号，路由变化时删除路由缓存
+     */
+    protected volatile long routeVersion = -1;
 
-    public DefaultHandlerMethodResolver(String rootPath, MvcConfig.HotReload hotReload) {
+    /**
+     * @param rootPath     项目根路径
+     * @param hotReload    热重载配置
+     * @param maxCacheSize HandlerMethod 缓存的最大数量(包含未匹配的请求路径)
+     */
+    public DefaultHandlerMethodResolver(String rootPath, MvcConfig.HotReload hotReload, long maxCacheSize) {
         Assert.isNotBlank(rootPath, "参数 rootPath 不能为空");
         Assert.notNull(hotReload, "参数 hotReload 不能为 null");
+        Assert.isTrue(maxCacheSize > 0, "参数 maxCacheSize 必须大于0");
         this.rootPath = rootPath;
+        this.resolvedCache = Caffeine.newBuilder().maximumSize(maxCacheSize).build();
         this.locationMap = Collections.unmodifiableMap(ResourcePathUtils.getAbsolutePath(rootPath, hotReload.getLocations()));
         if (StringUtils.isBlank(hotReload.getWatchFile())) {
             this.watchFile = null;
@@ -126,9 +165,91 @@ public class DefaultHandlerMethodResolver implements HandlerMethodResolver {
         this.parameterNameDiscoverer = new DefaultParameterNameDiscoverer();
     }
 
+    public DefaultHandlerMethodResolver(String rootPath, MvcConfig.HotReload hotReload) {
+        this(rootPath, hotReload, DEFAULT_MAX_CACHE_SIZE);
+    }
+
     @Override
     public HandlerMethod getHandleMethod(HttpServletRequest request, HttpServletResponse response, MvcConfig mvcConfig) {
         final String reqPath = HttpServletRequestUtils.getPathWithoutContextPath(request);
+        final MvcConfigSnapshot snapshot = checkConfig(mvcConfig);
+        // 优先匹配显式注册的路由
+        if (routeRegistry != null) {
+            checkRouteVersion(routeRegistry.getVersion());
+            final RouteMatch routeMatch = routeRegistry.matchRoute(reqPath, request.getMethod());
+            if (routeMatch != null) {
+                request.setAttribute(HttpRouteRegistry.PATH_VARIABLES_ATTRIBUTE, routeMatch.getPathVariables());
+                final RouteInfo routeInfo = routeMatch.getRouteInfo();
+                // 同一个路由的请求路径不同(路径变量)，使用路由作为缓存key
+                final String key = ROUTE_KEY_PREFIX + routeInfo.getKey() + "->" + routeInfo.getClazz() + "@" + routeInfo.getMethod();
+                return getResolved(key, snapshot, () -> createHandlerMethod(routeInfo.getPath(), routeInfo.getClazz(), routeInfo.getMethod(), mvcConfig), mvcConfig);
+            }
+        }
+        return getResolved(reqPath, snapshot, () -> resolveHandlerMethod(reqPath, mvcConfig), mvcConfig);
+    }
+
+    private HandlerMethod getResolved(String key, MvcConfigSnapshot snapshot, Supplier<HandlerMethod> loader, MvcConfig mvcConfig) {
+        ResolvedHandlerMethod resolved = resolvedCache.get(key, k -> resolved(loader.get(), mvcConfig, snapshot));
+        if (resolved.configSnapshot != snapshot) {
+            // 配置变化之前解析的结果(与清空缓存并发写入的数据)
+            resolved = resolved(loader.get(), mvcConfig, snapshot);
+            resolvedCache.put(key, resolved);
+        }
+        return resolved.handlerMethod;
+    }
+
+    /**
+     * 检查影响 HandlerMethod 解析结果的 mvc 配置是否变化，变化了就清空缓存
+     */
+    protected MvcConfigSnapshot checkConfig(MvcConfig mvcConfig) {
+        MvcConfigSnapshot snapshot = configSnapshot;
+        if (snapshot != null && snapshot.matches(mvcConfig)) {
+            return snapshot;
+        }
+        synchronized (this) {
+            snapshot = configSnapshot;
+            if (snapshot == null || !snapshot.matches(mvcConfig)) {
+                if (snapshot != null) {
+                    log.info("mvc配置变化，清空 HandlerMethod 缓存");
+                    resolvedCache.invalidateAll();
+                }
+                snapshot = new MvcConfigSnapshot(mvcConfig);
+                configSnapshot = snapshot;
+            }
+            return snapshot;
+        }
+    }
+
+    /**
+     * 注册的路由变化时删除路由相关的缓存(未注册路由的请求路径不受影响)
+     */
+    protected void checkRouteVersion(long version) {
+        if (routeVersion == version) {
+            return;
+        }
+        synchronized (this) {
+            if (routeVersion != version) {
+                resolvedCache.asMap().keySet().removeIf(key -> key.startsWith(ROUTE_KEY_PREFIX));
+                routeVersion = version;
+            }
+        }
+    }
+
+    /**
+     * 清空已解析的 HandlerMethod 缓存(mvc 配置和注册的路由变化时会自动清空)
+     */
+    public void clearCache() {
+        resolvedCache.invalidateAll();
+    }
+
+    /**
+     * 根据请求路径解析 HandlerMethod(基于包名的路由规则)
+     *
+     * @param reqPath   请求路径
+     * @param mvcConfig mvc配置
+     * @return 未匹配返回 null
+     */
+    protected HandlerMethod resolveHandlerMethod(String reqPath, MvcConfig mvcConfig) {
         final List<MvcConfig.PackageMapping> packageMapping = mvcConfig.getPackageMapping();
         // 验证 path 前缀
         if (!reqPath.startsWith(mvcConfig.getPath())) {
@@ -178,6 +299,19 @@ public class DefaultHandlerMethodResolver implements HandlerMethodResolver {
         if (!allowInvoke) {
             return null;
         }
+        return createHandlerMethod(reqPath, className, methodName, mvcConfig);
+    }
+
+    /**
+     * 加载 handlerClass 以及 method，创建 HandlerMethod
+     *
+     * @param reqPath    请求路径
+     * @param className  class 全名称
+     * @param methodName 函数名称
+     * @param mvcConfig  mvc配置
+     * @return class或者method不存在返回 null
+     */
+    protected HandlerMethod createHandlerMethod(String reqPath, String className, String methodName, MvcConfig mvcConfig) {
         // 加载 handlerClass 以及 method
         final Class<?> handlerClass = loadClass(className, mvcConfig.getHotReload().getExcludePackages());
         if (handlerClass == null) {
@@ -205,15 +339,7 @@ public class DefaultHandlerMethodResolver implements HandlerMethodResolver {
      * @return class不存在返回 null
      */
     protected Class<?> loadClass(final String className, Set<String> excludePackages) {
-        boolean useHotReload = enableHotReload;
-        if (useHotReload && excludePackages != null) {
-            for (String excludePackage : excludePackages) {
-                if (className.startsWith(excludePackage)) {
-                    useHotReload = false;
-                    break;
-                }
-            }
-        }
+        final boolean useHotReload = useHotReload(className, excludePackages);
         Class<?> handlerClass = null;
         try {
             if (useHotReload) {
@@ -248,6 +374,33 @@ public class DefaultHandlerMethodResolver implements HandlerMethodResolver {
         return handlerMethod;
     }
 
+    /**
+     * 是否使用热重载加载 class
+     *
+     * @param className       class 全名称
+     * @param excludePackages 不使用热重载的package前缀
+     */
+    protected boolean useHotReload(String className, Set<String> excludePackages) {
+        if (!enableHotReload) {
+            return false;
+        }
+        if (excludePackages != null) {
+            for (String excludePackage : excludePackages) {
+                if (className.startsWith(excludePackage)) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    private ResolvedHandlerMethod resolved(HandlerMethod handlerMethod, MvcConfig mvcConfig, MvcConfigSnapshot snapshot) {
+        boolean hotReload = enableHotReload && (
+            handlerMethod == null || useHotReload(handlerMethod.getHandlerClass().getName(), mvcConfig.getHotReload().getExcludePackages())
+        );
+        return new ResolvedHandlerMethod(handlerMethod, hotReload, snapshot);
+    }
+
     /**
      * 监听class文件变化
      */
@@ -291,6 +444,8 @@ public class DefaultHandlerMethodResolver implements HandlerMethodResolver {
             }
             final Map<String, Long> latest = getAllLastModified();
             hotReloadClassLoader.unloadAllClass();
+            // 只需要删除热重载的class对应的缓存(未匹配的结果也要删除，可能新增了class)
+            resolvedCache.asMap().values().removeIf(resolved -> resolved.hotReload);
             classLastModifiedMap.clear();
             classLastModifiedMap.putAll(latest);
         }
@@ -308,4 +463,54 @@ public class DefaultHandlerMethodResolver implements HandlerMethodResolver {
         });
         return fileLastModifiedMap;
     }
+
+    /**
+     * 已解析的 HandlerMethod(handlerMethod 为 null 表示未匹配)
+     */
+    protected static final class ResolvedHandlerMethod {
+        private final HandlerMethod handlerMethod;
+        /**
+         * 热重载时是否需要删除
+         */
+        private final boolean hotReload;
+        /**
+         * 解析时使用的 mvc 配置快照
+         */
+        private final MvcConfigSnapshot configSnapshot;
+
+        private ResolvedHandlerMethod(HandlerMethod handlerMethod, boolean hotReload, MvcConfigSnapshot configSnapshot) {
+            this.handlerMethod = handlerMethod;
+            this.hotReload = hotReload;
+            this.configSnapshot = configSnapshot;
+        }
+    }
+
+    /**
+     * 影响 HandlerMethod 解析结果的 mvc 配置(path、packageMapping、allowPackages、hotReload.excludePackages)的副本
+     */
+    protected static final class MvcConfigSnapshot {
+        private final String path;
+        private final List<MvcConfig.PackageMapping> packageMapping;
+        private final Set<String> allowPackages;
+        private final Set<String> excludePackages;
+
+        private MvcConfigSnapshot(MvcConfig mvcConfig) {
+            this.path = mvcConfig.getPath();
+            this.packageMapping = mvcConfig.getPackageMapping() == null ? null : mvcConfig.getPackageMapping().stream().map(mapping -> {
+                MvcConfig.PackageMapping copy = new MvcConfig.PackageMapping();
+                copy.setPathPrefix(mapping.getPathPrefix());
+                copy.setPackagePrefix(mapping.getPackagePrefix());
+                return copy;
+            }).collect(Collectors.toList());
+            this.allowPackages = mvcConfig.getAllowPackages() == null ? null : new HashSet<>(mvcConfig.getAllowPackages());
+            this.excludePackages = mvcConfig.getHotReload().getExcludePackages() == null ? null : new HashSet<>(mvcConfig.getHotReload().getExcludePackages());
+        }
+
+        private boolean matches(MvcConfig mvcConfig) {
+            return Objects.equals(path, mvcConfig.getPath())
+                && Objects.equals(packageMapping, mvcConfig.getPackageMapping())
+                && Objects.equals(allowPackages, mvcConfig.getAllowPackages())
+                && Objects.equals(excludePackages, mvcConfig.getHotReload().getExcludePackages());
+        }
+    }
 }
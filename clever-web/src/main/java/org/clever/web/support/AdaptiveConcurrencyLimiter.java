@@ -0,0 +1,218 @@
+package org.clever.web.support;
+
+import lombok.Data;
+import lombok.Getter;
+import org.clever.core.Assert;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 自适应并发数限制(梯度算法 + AIMD)<br/>
+ * 比较短期响应时间(最近一个窗口的最小值)与无负载响应时间(观测到的最小值)，
+ * 每个窗口按 {@code limit * gradient + sqrt(limit)} 更新并发数限制，其中 {@code gradient = rttTolerance * noLoadRtt / shortRtt}(0.5~1)，
+ * 出现过载响应时按 backoffRatio 成倍减小。请求数未达到并发数限制的一半时不增加并发数限制(避免空闲时限制无限增长)。<br/>
+ * 每隔 probeInterval 个窗口把并发数限制临时降到 minLimit 一个窗口，重新测量无负载响应时间(避免使用过期的最小值)
+ * <p>
+ * 作者：lizw <br/>
+ * 创建时间：2026/10/19 05:28 <br/>
+ */
+public class AdaptiveConcurrencyLimiter {
+    @Getter
+    private final String name;
+    private final int minLimit;
+    private final int maxLimit;
+    private final int windowSize;
+    private final int probeInterval;
+    private final double rttTolerance;
+    private final double smoothing;
+    private final double backoffRatio;
+    /**
+     * 当前并发数限制
+     */
+    private volatile double limit;
+    /**
+     * 当前并发数
+     */
+    private final AtomicInteger inflight = new AtomicInteger();
+    private final LongAdder accepted = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+    private final LongAdder dropped = new LongAdder();
+    /**
+     * 无负载响应时间(纳秒)
+     */
+    private volatile long noLoadRtt;
+    /**
+     * 最近一个窗口的最小响应时间(纳秒)
+     */
+    private volatile long shortRtt;
+    // 当前窗口数据
+    private long windowMinRtt = Long.MAX_VALUE;
+    private int windowCount;
+    private int windowMaxInflight;
+    private boolean windowDropped;
+    // 无负载响应时间探测
+    private long windowNumber;
+    private boolean probing;
+    private double limitBeforeProbe;
+
+    public AdaptiveConcurrencyLimiter(String name, int initialLimit, int minLimit, int maxLimit, int windowSize, int probeInterval, double rttTolerance, double smoothing, double backoffRatio) {
+        Assert.isTrue(minLimit > 0 && minLimit <= maxLimit, "参数 minLimit 必须大于0且小于等于 maxLimit");
+        Assert.isTrue(rttTolerance >= 1, "参数 rttTolerance 必须大于等于1");
+        Assert.isTrue(smoothing > 0 && smoothing <= 1, "参数 smoothing 必须在(0, 1]范围内");
+        Assert.isTrue(backoffRatio > 0 && backoffRatio < 1, "参数 backoffRatio 必须在(0, 1)范围内");
+        this.name = name;
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.windowSize = Math.max(windowSize, 1);
+        this.probeInterval = Math.max(probeInterval, 2);
+        this.rttTolerance = rttTolerance;
+        this.smoothing = smoothing;
+        this.backoffRatio = backoffRatio;
+        this.limit = Math.min(Math.max(initialLimit, minLimit), maxLimit);
+    }
+
+    /**
+     * 获取执行许可，当前并发数已达到限制时返回 false(需要拒绝请求)
+     */
+    public boolean tryAcquire() {
+        while (true) {
+            final int current = inflight.get();
+            if (current >= getLimit()) {
+                rejected.increment();
+                return false;
+            }
+            if (inflight.compareAndSet(current, current + 1)) {
+                accepted.increment();
+                return true;
+            }
+        }
+    }
+
+    /**
+     * 释放执行许可并采集响应时间
+     *
+     * @param rttNanos  响应时间(纳秒)
+     * @param isDropped 是否是过载响应(例如: 503、504)
+     */
+    public void release(long rttNanos, boolean isDropped) {
+        final int current = inflight.getAndDecrement();
+        if (isDropped) {
+            dropped.increment();
+        }
+        synchronized (this) {
+            windowMinRtt = Math.min(windowMinRtt, Math.max(rttNanos, 1));
+            windowMaxInflight = Math.max(windowMaxInflight, current);
+            windowDropped = windowDropped || isDropped;
+            windowCount++;
+            if (windowCount >= windowSize) {
+                updateLimit(windowMinRtt, windowMaxInflight, windowDropped);
+                windowMinRtt = Long.MAX_VALUE;
+                windowMaxInflight = 0;
+                windowDropped = false;
+                windowCount = 0;
+            }
+        }
+    }
+
+    private void updateLimit(long rtt, int maxInflight, boolean isDropped) {
+        shortRtt = rtt;
+        windowNumber++;
+        if (probing) {
+            // 探测结束，恢复并发数限制
+            probing = false;
+            noLoadRtt = rtt;
+            limit = limitBeforeProbe;
+            return;
+        }
+        noLoadRtt = noLoadRtt <= 0 ? rtt : Math.min(noLoadRtt, rtt);
+        if (windowNumber % probeInterval == 0) {
+            // 开始探测无负载响应时间
+            probing = true;
+            limitBeforeProbe = limit;
+            limit = minLimit;
+            return;
+        }
+        final double current = limit;
+        double newLimit;
+        if (isDropped) {
+            // AIMD: 过载时成倍减小
+            newLimit = current * backoffRatio;
+        } else {
+            // 请求数不足时不增加并发数限制
+            if (maxInflight < current / 2) {
+                return;
+            }
+            final double gradient = Math.max(0.5, Math.min(1.0, rttTolerance * noLoadRtt / rtt));
+            newLimit = current * gradient + Math.sqrt(current);
+            newLimit = current * (1 - smoothing) + newLimit * smoothing;
+        }
+        limit = Math.min(Math.max(newLimit, minLimit), maxLimit);
+    }
+
+    /**
+     * 当前并发数限制
+     */
+    public int getLimit() {
+        return (int) limit;
+    }
+
+    /**
+     * 当前并发数
+     */
+    public int getInflight() {
+        return inflight.get();
+    }
+
+    /**
+     * 获取指标数据
+     */
+    public Metrics getMetrics() {
+        Metrics metrics = new Metrics();
+        metrics.setName(name);
+        metrics.setLimit(getLimit());
+        metrics.setInflight(getInflight());
+        metrics.setAccepted(accepted.sum());
+        metrics.setRejected(rejected.sum());
+        metrics.setDropped(dropped.sum());
+        metrics.setShortRtt(shortRtt / 1_000_000.0);
+        metrics.setNoLoadRtt(noLoadRtt / 1_000_000.0);
+        return metrics;
+    }
+
+    @Data
+    public static class Metrics {
+        /**
+         * 分组名称
+         */
+        private String name;
+        /**
+         * 当前并发数限制
+         */
+        private int limit;
+        /**
+         * 当前并发数
+         */
+        private int inflight;
+        /**
+         * 接受的请求数
+         */
+        private long accepted;
+        /**
+         * 拒绝的请求数
+         */
+        private long rejected;
+        /**
+         * 过载响应(503、504)数
+         */
+        private long dropped;
+        /**
+         * 短期响应时间(毫秒)
+         */
+        private double shortRtt;
+        /**
+         * 无负载响应时间(毫秒)
+         */
+        private double noLoadRtt;
+    }
+}
@@ -0,0 +1,149 @@
+package org.clever.web.support;
+
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.ServletResponse;
+import org.clever.core.Assert;
+import org.eclipse.jetty.server.HttpOutput;
+import org.springframework.core.io.Resource;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * 直接从 {@link FileChannel} 输出文件内容(或者文件的一部分)，不需要 InputStream 的读取和跳过<br/>
+ * 输出流是 Jetty 的 {@link HttpOutput} 时使用 {@link HttpOutput#sendContent(ReadableByteChannel)} 输出(使用 Jetty 缓冲池中的 direct buffer，不经过堆内存)，
+ * 否则使用 {@link FileChannel#transferTo(long, long, WritableByteChannel)} 输出
+ * <p>
+ * 作者：lizw <br/>
+ * 创建时间：2026/10/19 05:10 <br/>
+ */
+public class FileRegionWriter {
+    /**
+     * 小于此值的文件使用普通的流复制
+     */
+    public static final long MIN_FILE_SIZE = 64 * 1024;
+
+    /**
+     * 资源是否支持直接从 FileChannel 输出(本地文件且不小于 {@link #MIN_FILE_SIZE})
+     */
+    public static boolean isSupported(Resource resource) {
+        if (resource == null || !resource.isFile()) {
+            return false;
+        }
+        try {
+            return resource.contentLength() >= MIN_FILE_SIZE;
+        } catch (IOException e) {
+            return false;
+        }
+    }
+
+    /**
+     * 打开资源文件的 FileChannel
+     */
+    public static FileChannel open(Resource resource) throws IOException {
+        Assert.notNull(resource, "参数 resource 不能为 null");
+        return FileChannel.open(resource.getFile().toPath(), StandardOpenOption.READ);
+    }
+
+    /**
+     * 输出文件区域作为完整的响应数据(输出完成后响应结束，不能再写入其他数据)<br/>
+     * 包装的 response 没有替换输出流时(如: 只在获取输出流时写入响应头)，
+     * {@link ServletResponse#getOutputStream()} 返回的就是 Jetty 的 {@link HttpOutput}；
+     * 替换了输出流的 response(如: 压缩、缓存响应数据)需要处理写入的数据，不能绕过
+     *
+     * @param channel  文件
+     * @param position 开始位置
+     * @param count    输出的字节数
+     * @param response 响应对象
+     */
+    public static void send(FileChannel channel, long position, long count, ServletResponse response) throws IOException {
+        Assert.notNull(channel, "参数 channel 不能为 null");
+        Assert.notNull(response, "参数 response 不能为 null");
+        final ServletOutputStream out = response.getOutputStream();
+        if (out instanceof HttpOutput httpOutput) {
+            httpOutput.sendContent(new RegionChannel(channel, position, count));
+            return;
+        }
+        write(channel, position, count, out);
+        out.flush();
+    }
+
+    /**
+     * 输出文件区域(之后还可以继续写入其他数据)
+     *
+     * @param channel  文件
+     * @param position 开始位置
+     * @param count    输出的字节数
+     * @param out      输出流
+     */
+    public static void write(FileChannel channel, long position, long count, OutputStream out) throws IOException {
+        Assert.notNull(channel, "参数 channel 不能为 null");
+        Assert.notNull(out, "参数 out 不能为 null");
+        final WritableByteChannel target = Channels.newChannel(out);
+        while (count > 0) {
+            final long size = channel.transferTo(position, count, target);
+            if (size <= 0) {
+                // 文件已被截断
+                throw new IOException("文件内容不足，剩余 " + count + " 字节未输出");
+            }
+            position += size;
+            count -= size;
+        }
+    }
+
+    /**
+     * 读取文件区域的 ReadableByteChannel(不会关闭文件)
+     */
+    private static class RegionChannel implements ReadableByteChannel {
+        private final FileChannel channel;
+        private long position;
+        private long remaining;
+        private boolean open = true;
+
+        private RegionChannel(FileChannel channel, long position, long count) {
+            this.channel = channel;
+            this.position = position;
+            this.remaining = count;
+        }
+
+        @Override
+        public int read(ByteBuffer dst) throws IOException {
+            if (remaining <= 0) {
+                return -1;
+            }
+            final int limit = dst.limit();
+            if (dst.remaining() > remaining) {
+                dst.limit(dst.position() + (int) remaining);
+            }
+            final int size;
+            try {
+                size = channel.read(dst, position);
+            } finally {
+                dst.limit(limit);
+            }
+            if (size < 0) {
+                // 文件已被截断
+                throw new IOException("文件内容不足，剩余 " + remaining + " 字节未输出");
+            }
+            position += size;
+            remaining -= size;
+            return size;
+        }
+
+        @Override
+        public boolean isOpen() {
+            return open;
+        }
+
+        @Override
+        public void close() {
+            open = false;
+        }
+    }
+}
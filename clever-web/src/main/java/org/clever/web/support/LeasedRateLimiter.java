@@ -0,0 +1,325 @@
+package org.clever.web.support;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.Data;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.clever.core.Assert;
+
+import java.time.Duration;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 租借令牌的限流器<br/>
+ * 全局令牌桶保存在 {@link TokenSource}(redis)中，每个限流 key 在本地维护一个令牌桶，每次从全局令牌桶租借 batchSize 个令牌，
+ * 请求只消耗本地令牌。本地令牌剩余一半时异步租借下一批令牌，全局令牌不足时在一个批次的补充时间内直接拒绝请求(不访问 redis)，
+ * 所以访问 redis 的次数与限流 key 的数量成正比，而不是与请求数成正比。
+ * 每个节点最多持有 batchSize 个未使用的令牌，限流误差不超过 {@code 节点数 * batchSize}
+ * <p>
+ * 作者：lizw <br/>
+ * 创建时间：2026/10/19 05:52 <br/>
+ */
+@Slf4j
+public class LeasedRateLimiter {
+    @Getter
+    private final String name;
+    private final String keyPrefix;
+    /**
+     * 每秒补充的令牌数
+     */
+    private final double ratePerSecond;
+    /**
+     * 全局令牌桶容量
+     */
+    private final long capacity;
+    /**
+     * 每次租借的令牌数量
+     */
+    @Getter
+    private final long batchSize;
+    /**
+     * 租借的令牌有效时间(纳秒)，过期未使用的令牌作废
+     */
+    private final long leaseTimeout;
+    /**
+     * 补充一个批次令牌所需的时间(纳秒)
+     */
+    private final long batchRefillTime;
+    private final boolean failOpen;
+    private final TokenSource tokenSource;
+    private final Executor executor;
+    /**
+     * 本地令牌桶 {@code Cache<限流key, Bucket>}
+     */
+    private final Cache<String, Bucket> buckets;
+    private final LongAdder allowed = new LongAdder();
+    private final LongAdder limited = new LongAdder();
+    private final LongAdder leases = new LongAdder();
+    private final LongAdder leaseErrors = new LongAdder();
+
+    /**
+     * @param name        限流规则名称
+     * @param keyPrefix   全局令牌桶 key 前缀
+     * @param limit       在 period 时间内最多请求 limit 次
+     * @param period      限流时间周期
+     * @param burst       全局令牌桶容量
+     * @param tolerance   允许的误差比例(0~1)，每次租借 {@code limit * tolerance} 个令牌
+     * @param maxKeys     最多缓存的本地令牌桶数量
+     * @param failOpen    访问 {@link TokenSource} 失败时是否允许请求通过
+     * @param tokenSource 全局令牌桶
+     * @param executor    异步租借令牌的线程池
+     */
+    public LeasedRateLimiter(String name,
+                             String keyPrefix,
+                             long limit,
+                             Duration period,
+                             long burst,
+                             double tolerance,
+                             int maxKeys,
+                             boolean failOpen,
+                             TokenSource tokenSource,
+                             Executor executor) {
+        Assert.isNotBlank(name, "参数 name 不能为空");
+        Assert.isTrue(limit > 0, "参数 limit 必须大于0");
+        Assert.isTrue(period != null && !period.isNegative() && !period.isZero(), "参数 period 必须大于0");
+        Assert.isTrue(tolerance > 0 && tolerance <= 1, "参数 tolerance 必须在(0, 1]范围内");
+        Assert.notNull(tokenSource, "参数 tokenSource 不能为 null");
+        Assert.notNull(executor, "参数 executor 不能为 null");
+        this.name = name;
+        this.keyPrefix = (keyPrefix == null ? "" : keyPrefix) + name + ":";
+        this.ratePerSecond = limit * 1_000_000_000.0 / period.toNanos();
+        this.capacity = Math.max(burst, 1);
+        this.batchSize = Math.max(1, Math.min(Math.round(limit * tolerance), this.capacity));
+        this.leaseTimeout = period.toNanos();
+        this.batchRefillTime = (long) (batchSize / ratePerSecond * 1_000_000_000L);
+        this.failOpen = failOpen;
+        this.tokenSource = tokenSource;
+        this.executor = executor;
+        this.buckets = Caffeine.newBuilder()
+            .maximumSize(Math.max(maxKeys, 1))
+            .expireAfterAccess(Math.max(leaseTimeout, batchRefillTime) * 2, TimeUnit.NANOSECONDS)
+            .build();
+    }
+
+    /**
+     * 获取一个令牌，返回 false 表示需要拒绝请求
+     *
+     * @param key 限流key(例如: 客户端IP、用户ID)
+     */
+    public boolean tryAcquire(String key) {
+        final Bucket bucket = buckets.get(key, k -> new Bucket(keyPrefix + k));
+        final boolean acquired = bucket.tryAcquire();
+        if (acquired) {
+            allowed.increment();
+        } else {
+            limited.increment();
+        }
+        return acquired;
+    }
+
+    /**
+     * 全局令牌不足时，多久之后再请求(秒)
+     */
+    public long getRetryAfterSeconds() {
+        return Math.max(1, (long) Math.ceil(batchRefillTime / 1_000_000_000.0));
+    }
+
+    /**
+     * 获取指标数据
+     */
+    public Metrics getMetrics() {
+        Metrics metrics = new Metrics();
+        metrics.setName(name);
+        metrics.setBatchSize(batchSize);
+        metrics.setKeys(buckets.estimatedSize());
+        metrics.setAllowed(allowed.sum());
+        metrics.setLimited(limited.sum());
+        metrics.setLeases(leases.sum());
+        metrics.setLeaseErrors(leaseErrors.sum());
+        return metrics;
+    }
+
+    private class Bucket {
+        private final String redisKey;
+        /**
+         * 本地剩余令牌数量
+         */
+        private final AtomicLong tokens = new AtomicLong();
+        /**
+         * 是否正在异步租借令牌
+         */
+        private final AtomicBoolean leasing = new AtomicBoolean(false);
+        /**
+         * 本地令牌的过期时间(纳秒)
+         */
+        private volatile long expireAt;
+        /**
+         * 全局令牌不足时，在这个时间之前直接拒绝请求(纳秒)
+         */
+        private volatile long deniedUntil;
+        /**
+         * 访问 {@link TokenSource} 失败时，在这个时间之前不再访问(纳秒)
+         */
+        private volatile long failedUntil;
+
+        private Bucket(String redisKey) {
+            this.redisKey = redisKey;
+            // nanoTime 可能是负数，时间都使用与创建时间的差值比较，不能使用 0 作为初始值
+            final long now = System.nanoTime();
+            this.expireAt = now;
+            this.deniedUntil = now;
+            this.failedUntil = now;
+        }
+
+        private boolean tryAcquire() {
+            final long now = System.nanoTime();
+            if (takeLocal(now)) {
+                return true;
+            }
+            if (now - deniedUntil < 0) {
+                return false;
+            }
+            if (now - failedUntil < 0) {
+                return failOpen;
+            }
+            // 本地令牌已用完，同步租借令牌(同一个 key 只有一个线程访问 redis)
+            synchronized (this) {
+                if (takeLocal(now)) {
+                    return true;
+                }
+                if (now - deniedUntil < 0) {
+                    return false;
+                }
+                if (now - failedUntil < 0) {
+                    return failOpen;
+                }
+                final Boolean leased = lease();
+                if (leased == null) {
+                    return failOpen;
+                }
+                return leased && takeLocal(System.nanoTime());
+            }
+        }
+
+        /**
+         * 消耗一个本地令牌，本地令牌剩余一半时异步租借下一批令牌
+         */
+        private boolean takeLocal(long now) {
+            while (true) {
+                final long current = tokens.get();
+                if (current <= 0) {
+                    return false;
+                }
+                if (now - expireAt > 0) {
+                    // 本地令牌过期作废
+                    tokens.compareAndSet(current, 0);
+                    return false;
+                }
+                if (tokens.compareAndSet(current, current - 1)) {
+                    if (current - 1 <= batchSize / 2) {
+                        leaseAsync();
+                    }
+                    return true;
+                }
+            }
+        }
+
+        private void leaseAsync() {
+            if (!leasing.compareAndSet(false, true)) {
+                return;
+            }
+            try {
+                executor.execute(() -> {
+                    try {
+                        lease();
+                    } finally {
+                        leasing.set(false);
+                    }
+                });
+            } catch (RejectedExecutionException e) {
+                leasing.set(false);
+            }
+        }
+
+        /**
+         * 从全局令牌桶租借令牌
+         *
+         * @return 是否租借到令牌，访问 {@link TokenSource} 失败返回 null
+         */
+        private Boolean lease() {
+            final long granted;
+            try {
+                leases.increment();
+                granted = tokenSource.lease(redisKey, ratePerSecond, capacity, batchSize);
+            } catch (Exception e) {
+                leaseErrors.increment();
+                log.warn("租借限流令牌失败 | key={}", redisKey, e);
+                failedUntil = System.nanoTime() + batchRefillTime;
+                return null;
+            }
+            final long now = System.nanoTime();
+            if (granted <= 0) {
+                deniedUntil = now + batchRefillTime;
+                return false;
+            }
+            expireAt = now + leaseTimeout;
+            tokens.addAndGet(granted);
+            return true;
+        }
+    }
+
+    /**
+     * 全局令牌桶
+     */
+    @FunctionalInterface
+    public interface TokenSource {
+        /**
+         * 从全局令牌桶租借令牌
+         *
+         * @param key           令牌桶key
+         * @param ratePerSecond 每秒补充的令牌数
+         * @param capacity      令牌桶容量
+         * @param requested     租借的令牌数量
+         * @return 实际租借到的令牌数量
+         */
+        long lease(String key, double ratePerSecond, long capacity, long requested) throws Exception;
+    }
+
+    @Data
+    public static class Metrics {
+        /**
+         * 规则名称
+         */
+        private String name;
+        /**
+         * 每次租借的令牌数量
+         */
+        private long batchSize;
+        /**
+         * 本地令牌桶数量
+         */
+        private long keys;
+        /**
+         * 通过的请求数
+         */
+        private long allowed;
+        /**
+         * 被限流的请求数
+         */
+        private long limited;
+        /**
+         * 租借令牌次数(访问 redis 次数)
+         */
+        private long leases;
+        /**
+         * 租借令牌失败次数
+         */
+        private long leaseErrors;
+    }
+}
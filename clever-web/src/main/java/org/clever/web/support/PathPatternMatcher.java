@@ -0,0 +1,360 @@
+package org.clever.web.support;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import jakarta.servlet.DispatcherType;
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.Getter;
+import org.clever.core.Assert;
+import org.clever.core.http.HttpServletRequestUtils;
+
+import java.util.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 预编译的多路径匹配器(Ant风格)，替代对每个 pattern 循环调用 {@code AntPathMatcher.match}。<br/>
+ * 所有 pattern 在创建时编译成一颗按路径段(path segment)组织的前缀树，匹配时只需遍历一次请求路径，
+ * 耗时只与请求路径长度相关，与 pattern 数量基本无关。支持的语法与 {@code AntPathMatcher} 一致:
+ * <pre>{@code
+ *   /api/user        字面量
+ *   /api/*.json      “?”匹配一个字符，“*”匹配零个或多个字符
+ *   /api/{name}      路径变量，匹配一个路径段
+ *   /api/**          匹配零个或多个路径段
+ * }</pre>
+ * 内容相同的 pattern 列表只会编译一次，见 {@link #of(List)}
+ * <p>
+ * 作者：lizw <br/>
+ * 创建时间：2026/10/19 05:15 <br/>
+ */
+public class PathPatternMatcher {
+    private static final String SEPARATOR = "/";
+    private static final String CATCH_ALL = "**";
+    /**
+     * 请求路径(不含 contextPath)在 request attribute 中的名称
+     */
+    private static final String PATH_ATTRIBUTE = PathPatternMatcher.class.getName() + ".PATH";
+    private static final AtomicInteger ID = new AtomicInteger();
+    private static final PathPatternMatcher EMPTY = new PathPatternMatcher(Collections.emptyList());
+    /**
+     * 已编译的匹配器 {@code List<String>(不可变的副本) -> PathPatternMatcher}
+     */
+    private static final Cache<List<String>, PathPatternMatcher> MATCHER_CACHE = Caffeine.newBuilder().maximumSize(256).build();
+
+    /**
+     * 获取 pattern 列表对应的匹配器(按 List 的内容缓存，配置中的 List 被修改后会重新编译)
+     */
+    public static PathPatternMatcher of(List<String> patterns) {
+        if (patterns == null || patterns.isEmpty()) {
+            return EMPTY;
+        }
+        // List 的 equals/hashCode 按内容比较，缓存命中时不需要复制 List
+        PathPatternMatcher matcher = MATCHER_CACHE.getIfPresent(patterns);
+        if (matcher == null) {
+            matcher = MATCHER_CACHE.get(List.copyOf(patterns), PathPatternMatcher::new);
+        }
+        return matcher;
+    }
+
+    /**
+     * 获取请求路径(不含 contextPath)，同一个请求只计算一次。<br/>
+     * 只缓存 REQUEST 类型的计算结果，FORWARD、INCLUDE、ERROR、ASYNC 分发时请求路径可能已经变化
+     */
+    public static String getPath(HttpServletRequest request) {
+        if (!isRequestDispatch(request)) {
+            return HttpServletRequestUtils.getPathWithoutContextPath(request);
+        }
+        Object path = request.getAttribute(PATH_ATTRIBUTE);
+        if (path instanceof String) {
+            return (String) path;
+        }
+        String reqPath = HttpServletRequestUtils.getPathWithoutContextPath(request);
+        request.setAttribute(PATH_ATTRIBUTE, reqPath);
+        return reqPath;
+    }
+
+    private static boolean isRequestDispatch(HttpServletRequest request) {
+        return DispatcherType.REQUEST == request.getDispatcherType();
+    }
+
+    /**
+     * 所有的 pattern
+     */
+    @Getter
+    private final List<String> patterns;
+    private final Node root = new Node();
+    /**
+     * 当前匹配器的匹配结果在 request attribute 中的名称
+     */
+    private final String matchAttribute;
+
+    public PathPatternMatcher(Collection<String> patterns) {
+        Assert.notNull(patterns, "参数 patterns 不能为 null");
+        this.patterns = List.copyOf(patterns);
+        this.matchAttribute = PathPatternMatcher.class.getName() + ".MATCH_" + ID.incrementAndGet();
+        for (int idx = 0; idx < this.patterns.size(); idx++) {
+            add(idx, this.patterns.get(idx));
+        }
+    }
+
+    private void add(int index, String pattern) {
+        Assert.notNull(pattern, "pattern 不能为 null");
+        final String[] segments = split(pattern);
+        Node node = root;
+        for (String segment : segments) {
+            if (CATCH_ALL.equals(segment)) {
+                if (node.catchAllChild == null) {
+                    node.catchAllChild = new Node();
+                    node.catchAllChild.catchAll = true;
+                }
+                node = node.catchAllChild;
+            } else if (isLiteral(segment)) {
+                node = node.children.computeIfAbsent(segment, key -> new Node());
+            } else {
+                Node child = null;
+                for (SegmentPattern segmentPattern : node.patternChildren) {
+                    if (segmentPattern.source.equals(segment)) {
+                        child = segmentPattern.node;
+                        break;
+                    }
+                }
+                if (child == null) {
+                    child = new Node();
+                    node.patternChildren.add(new SegmentPattern(segment, child));
+                }
+                node = child;
+            }
+        }
+        final boolean lastIsCatchAll = segments.length > 0 && CATCH_ALL.equals(segments[segments.length - 1]);
+        final boolean lastIsWildcard = segments.length > 0 && "*".equals(segments[segments.length - 1]);
+        node.terminals.add(new Terminal(index, pattern.startsWith(SEPARATOR), pattern.endsWith(SEPARATOR), lastIsCatchAll, lastIsWildcard));
+    }
+
+    /**
+     * 路径是否匹配任意一个 pattern
+     */
+    public boolean matches(String path) {
+        if (patterns.isEmpty() || path == null) {
+            return false;
+        }
+        return !match(path, true).isEmpty();
+    }
+
+    /**
+     * 请求路径(不含 contextPath)是否匹配任意一个 pattern，同一个请求只匹配一次(只缓存 REQUEST 类型的匹配结果)
+     */
+    public boolean matches(HttpServletRequest request) {
+        if (patterns.isEmpty()) {
+            return false;
+        }
+        if (!isRequestDispatch(request)) {
+            return matches(getPath(request));
+        }
+        Object matched = request.getAttribute(matchAttribute);
+        if (matched instanceof Boolean) {
+            return (Boolean) matched;
+        }
+        boolean result = matches(getPath(request));
+        request.setAttribute(matchAttribute, result);
+        return result;
+    }
+
+    /**
+     * 获取匹配路径的所有 pattern(按 pattern 的定义顺序)
+     */
+    public List<String> getMatchPatterns(String path) {
+        if (patterns.isEmpty() || path == null) {
+            return Collections.emptyList();
+        }
+        BitSet matched = match(path, false);
+        List<String> result = new ArrayList<>(matched.cardinality());
+        for (int idx = matched.nextSetBit(0); idx >= 0; idx = matched.nextSetBit(idx + 1)) {
+            result.add(patterns.get(idx));
+        }
+        return result;
+    }
+
+    private BitSet match(String path, boolean any) {
+        final BitSet matched = new BitSet(patterns.size());
+        final boolean absolute = path.startsWith(SEPARATOR);
+        final boolean endsWithSeparator = path.endsWith(SEPARATOR);
+        List<Node> active = new ArrayList<>(4);
+        addActive(active, root);
+        int start = 0;
+        final int length = path.length();
+        while (start < length) {
+            int end = path.indexOf('/', start);
+            if (end < 0) {
+                end = length;
+            }
+            if (end > start) {
+                final String segment = path.substring(start, end);
+                final List<Node> next = new ArrayList<>(4);
+                for (Node node : active) {
+                    // “**”可以匹配任意个路径段
+                    if (node.catchAll) {
+                        addActive(next, node);
+                    }
+                    Node child = node.children.get(segment);
+                    if (child != null) {
+                        addActive(next, child);
+                    }
+                    for (SegmentPattern segmentPattern : node.patternChildren) {
+                        if (segmentPattern.matches(segment)) {
+                            addActive(next, segmentPattern.node);
+                        }
+                    }
+                }
+                if (next.isEmpty()) {
+                    return matched;
+                }
+                active = next;
+            }
+            start = end + 1;
+        }
+        for (Node node : active) {
+            collect(node, absolute, endsWithSeparator, false, matched);
+            if (endsWithSeparator) {
+                // “/a/*”可以匹配“/a/”
+                for (SegmentPattern segmentPattern : node.patternChildren) {
+                    if ("*".equals(segmentPattern.source)) {
+                        collect(segmentPattern.node, absolute, true, true, matched);
+                    }
+                }
+            }
+            if (any && !matched.isEmpty()) {
+                break;
+            }
+        }
+        return matched;
+    }
+
+    private static void collect(Node node, boolean absolute, boolean endsWithSeparator, boolean wildcardOnly, BitSet matched) {
+        for (Terminal terminal : node.terminals) {
+            if (terminal.absolute != absolute) {
+                continue;
+            }
+            if (wildcardOnly) {
+                if (terminal.wildcard) {
+                    matched.set(terminal.index);
+                }
+            } else if (terminal.catchAll || terminal.endsWithSeparator == endsWithSeparator) {
+                matched.set(terminal.index);
+            }
+        }
+    }
+
+    /**
+     * 增加活动节点，“**”可以匹配零个路径段，所以需要同时增加“**”节点
+     */
+    private static void addActive(List<Node> active, Node node) {
+        while (node != null) {
+            for (Node exists : active) {
+                if (exists == node) {
+                    return;
+                }
+            }
+            active.add(node);
+            node = node.catchAllChild;
+        }
+    }
+
+    private static String[] split(String path) {
+        List<String> segments = new ArrayList<>();
+        for (String segment : path.split(SEPARATOR)) {
+            if (!segment.isEmpty()) {
+                segments.add(segment);
+            }
+        }
+        return segments.toArray(new String[0]);
+    }
+
+    private static boolean isLiteral(String segment) {
+        return segment.indexOf('*') < 0 && segment.indexOf('?') < 0 && segment.indexOf('{') < 0;
+    }
+
+    private static final class Node {
+        /**
+         * 是否是“**”节点
+         */
+        private boolean catchAll;
+        /**
+         * 字面量子节点
+         */
+        private final Map<String, Node> children = new HashMap<>();
+        /**
+         * 通配符(“*”、“?”、“{name}”)子节点
+         */
+        private final List<SegmentPattern> patternChildren = new ArrayList<>(1);
+        /**
+         * “**”子节点
+         */
+        private Node catchAllChild;
+        /**
+         * 在当前节点结束的 pattern
+         */
+        private final List<Terminal> terminals = new ArrayList<>(1);
+    }
+
+    private static final class SegmentPattern {
+        private static final Pattern GLOB_PATTERN = Pattern.compile("\\?|\\*|\\{((?:\\{[^/]+?}|[^/{}]|\\\\[{}])+?)}");
+
+        private final String source;
+        private final Node node;
+        /**
+         * “*”匹配任意路径段，不需要正则表达式
+         */
+        private final boolean matchAll;
+        private final Pattern pattern;
+
+        private SegmentPattern(String source, Node node) {
+            this.source = source;
+            this.node = node;
+            this.matchAll = "*".equals(source) || (source.startsWith("{") && source.endsWith("}") && source.indexOf(':') < 0 && source.indexOf('{', 1) < 0);
+            this.pattern = matchAll ? null : compile(source);
+        }
+
+        private boolean matches(String segment) {
+            return matchAll || pattern.matcher(segment).matches();
+        }
+
+        /**
+         * 与 {@code AntPathMatcher.AntPathStringMatcher} 相同的转换规则
+         */
+        private static Pattern compile(String source) {
+            StringBuilder regex = new StringBuilder();
+            Matcher matcher = GLOB_PATTERN.matcher(source);
+            int end = 0;
+            while (matcher.find()) {
+                regex.append(quote(source, end, matcher.start()));
+                String match = matcher.group();
+                if ("?".equals(match)) {
+                    regex.append('.');
+                } else if ("*".equals(match)) {
+                    regex.append(".*");
+                } else {
+                    int colonIdx = match.indexOf(':');
+                    if (colonIdx < 0) {
+                        regex.append("(.*)");
+                    } else {
+                        regex.append('(').append(match, colonIdx + 1, match.length() - 1).append(')');
+                    }
+                }
+                end = matcher.end();
+            }
+            regex.append(quote(source, end, source.length()));
+            return Pattern.compile(regex.toString(), Pattern.DOTALL);
+        }
+
+        private static String quote(String s, int start, int end) {
+            if (start == end) {
+                return "";
+            }
+            return Pattern.quote(s.substring(start, end));
+        }
+    }
+
+    private record Terminal(int index, boolean absolute, boolean endsWithSeparator, boolean catchAll, boolean wildcard) {
+    }
+}
@@ -0,0 +1,66 @@
+package org.clever.web.support;
+
+import org.eclipse.jetty.util.thread.QueuedThreadPool;
+
+/**
+ * 记录任务排队时间的 Jetty 线程池<br/>
+ * 任务在线程池队列中等待的时间(从提交到开始执行)保存在执行任务的线程中，
+ * 由任务中处理的第一个请求通过 {@link #takeQueueTime()} 获取(只能获取一次，避免同一个任务中后续的请求使用过期的排队时间)。<br/>
+ * 注意: 只有通过 {@link #execute(Runnable)} 提交的任务才有排队时间。Jetty 交给预留线程(ReservedThreadExecutor，通过 tryExecute 提交)
+ * 或者在 IO 线程中直接执行(执行策略的 produce-execute-consume 模式)的任务不经过 execute，这些请求获取不到排队时间，
+ * 只能使用 {@code Request#getTimeStamp()} 等其他方式计算等待时间
+ * <p>
+ * 作者：lizw <br/>
+ * 创建时间：2026/10/19 05:32 <br/>
+ */
+public class QueueTimeThreadPool extends QueuedThreadPool {
+    /**
+     * 当前任务的排队时间(纳秒)，小于0表示没有排队时间
+     */
+    private static final ThreadLocal<long[]> QUEUE_TIME = ThreadLocal.withInitial(() -> new long[]{-1});
+
+    /**
+     * 获取当前线程正在执行的任务在线程池队列中的等待时间(纳秒)，每个任务只能获取一次，不存在返回 -1
+     */
+    public static long takeQueueTime() {
+        final long[] queueTime = QUEUE_TIME.get();
+        final long nanos = queueTime[0];
+        queueTime[0] = -1;
+        return nanos;
+    }
+
+    public QueueTimeThreadPool(int maxThreads, int minThreads, int idleTimeout) {
+        super(maxThreads, minThreads, idleTimeout);
+    }
+
+    @Override
+    public void execute(Runnable job) {
+        super.execute(new QueueTimeJob(job, System.nanoTime()));
+    }
+
+    private static final class QueueTimeJob implements Runnable {
+        private final Runnable job;
+        private final long submitTime;
+
+        private QueueTimeJob(Runnable job, long submitTime) {
+            this.job = job;
+            this.submitTime = submitTime;
+        }
+
+        @Override
+        public void run() {
+            final long[] queueTime = QUEUE_TIME.get();
+            queueTime[0] = System.nanoTime() - submitTime;
+            try {
+                job.run();
+            } finally {
+                queueTime[0] = -1;
+            }
+        }
+
+        @Override
+        public String toString() {
+            return job.toString();
+        }
+    }
+}
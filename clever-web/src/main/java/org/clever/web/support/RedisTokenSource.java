@@ -0,0 +1,38 @@
+package org.clever.web.support;
+
+import org.apache.commons.lang3.StringUtils;
+import org.clever.core.Assert;
+import org.clever.data.redis.Redis;
+import org.clever.data.redis.RedisAdmin;
+
+/**
+ * 基于 {@link Redis#leaseTokens(String, double, long, long)} 的全局令牌桶(使用时才获取 redis 数据源)
+ * <p>
+ * 作者：lizw <br/>
+ * 创建时间：2026/10/19 05:52 <br/>
+ */
+public class RedisTokenSource implements LeasedRateLimiter.TokenSource {
+    /**
+     * redis 数据源名称(为空使用默认数据源)
+     */
+    private final String redisName;
+    private volatile Redis redis;
+
+    public RedisTokenSource(String redisName) {
+        this.redisName = redisName;
+    }
+
+    @Override
+    public long lease(String key, double ratePerSecond, long capacity, long requested) {
+        return getRedis().leaseTokens(key, ratePerSecond, capacity, requested);
+    }
+
+    private Redis getRedis() {
+        if (redis == null) {
+            Redis tmp = StringUtils.isBlank(redisName) ? RedisAdmin.getRedis() : RedisAdmin.getRedis(redisName);
+            Assert.notNull(tmp, "redis 数据源不存在: " + StringUtils.defaultIfBlank(redisName, RedisAdmin.getDefaultRedisName()));
+            redis = tmp;
+        }
+        return redis;
+    }
+}
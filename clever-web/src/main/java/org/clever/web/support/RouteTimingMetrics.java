@@ -0,0 +1,201 @@
+package org.clever.web.support;
+
+import lombok.Data;
+import org.clever.core.Assert;
+import org.clever.core.PhaseTimer;
+
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 按路由汇总请求各个阶段的耗时分布(固定区间的直方图)
+ * <p>
+ * 作者：lizw <br/>
+ * 创建时间：2026/10/19 05:42 <br/>
+ */
+public class RouteTimingMetrics {
+    /**
+     * 路由数量超过限制后使用的路由名称
+     */
+    public static final String OTHER_ROUTE = "other";
+    /**
+     * 请求总耗时的阶段名称
+     */
+    public static final String TOTAL_PHASE = "total";
+
+    private final int maxRoutes;
+    /**
+     * 区间上限(纳秒，升序)
+     */
+    private final long[] bounds;
+    /**
+     * {@code ConcurrentMap<路由, ConcurrentMap<阶段名称, Histogram>>}
+     */
+    private final ConcurrentMap<String, ConcurrentMap<String, Histogram>> routes = new ConcurrentHashMap<>();
+
+    public RouteTimingMetrics(int maxRoutes, List<Duration> buckets) {
+        Assert.isTrue(maxRoutes > 0, "参数 maxRoutes 必须大于0");
+        Assert.notEmpty(buckets, "参数 buckets 不能为空");
+        this.maxRoutes = maxRoutes;
+        this.bounds = buckets.stream().filter(Objects::nonNull).mapToLong(Duration::toNanos).sorted().distinct().toArray();
+    }
+
+    /**
+     * 记录一个请求的耗时
+     *
+     * @param route      路由
+     * @param totalNanos 请求总耗时(纳秒)
+     * @param phases     各个阶段的耗时
+     */
+    public void record(String route, long totalNanos, List<PhaseTimer.Phase> phases) {
+        ConcurrentMap<String, Histogram> histograms = routes.get(route);
+        if (histograms == null) {
+            if (routes.size() >= maxRoutes) {
+                route = OTHER_ROUTE;
+            }
+            histograms = routes.computeIfAbsent(route, key -> new ConcurrentHashMap<>());
+        }
+        histograms.computeIfAbsent(TOTAL_PHASE, key -> new Histogram(bounds)).add(totalNanos);
+        for (PhaseTimer.Phase phase : phases) {
+            histograms.computeIfAbsent(phase.getName(), key -> new Histogram(bounds)).add(phase.getDuration());
+        }
+    }
+
+    /**
+     * 获取所有路由的耗时分布
+     */
+    public List<RouteMetrics> getMetrics() {
+        List<RouteMetrics> result = new ArrayList<>(routes.size());
+        routes.forEach((route, histograms) -> {
+            RouteMetrics routeMetrics = new RouteMetrics();
+            routeMetrics.setRoute(route);
+            histograms.forEach((phase, histogram) -> routeMetrics.getPhases().put(phase, histogram.getMetrics()));
+            result.add(routeMetrics);
+        });
+        result.sort(Comparator.comparing(RouteMetrics::getRoute));
+        return result;
+    }
+
+    /**
+     * 清空统计数据
+     */
+    public void reset() {
+        routes.clear();
+    }
+
+    private static class Histogram {
+        private final long[] bounds;
+        /**
+         * 每个区间的数量，最后一个区间没有上限
+         */
+        private final LongAdder[] counts;
+        private final LongAdder sum = new LongAdder();
+        private final AtomicLong max = new AtomicLong();
+
+        private Histogram(long[] bounds) {
+            this.bounds = bounds;
+            this.counts = new LongAdder[bounds.length + 1];
+            for (int i = 0; i < counts.length; i++) {
+                counts[i] = new LongAdder();
+            }
+        }
+
+        private void add(long nanos) {
+            int idx = Arrays.binarySearch(bounds, nanos);
+            if (idx < 0) {
+                idx = -idx - 1;
+            }
+            counts[idx].increment();
+            sum.add(nanos);
+            max.accumulateAndGet(nanos, Math::max);
+        }
+
+        private PhaseMetrics getMetrics() {
+            final long[] snapshot = new long[counts.length];
+            long count = 0;
+            for (int i = 0; i < counts.length; i++) {
+                snapshot[i] = counts[i].sum();
+                count += snapshot[i];
+            }
+            PhaseMetrics metrics = new PhaseMetrics();
+            metrics.setCount(count);
+            metrics.setAvg(count <= 0 ? 0 : sum.sum() / count / 1_000_000.0);
+            metrics.setMax(max.get() / 1_000_000.0);
+            metrics.setP50(percentile(snapshot, count, 0.5));
+            metrics.setP90(percentile(snapshot, count, 0.9));
+            metrics.setP99(percentile(snapshot, count, 0.99));
+            Map<String, Long> buckets = new LinkedHashMap<>();
+            for (int i = 0; i < snapshot.length; i++) {
+                buckets.put(i < bounds.length ? String.valueOf(bounds[i] / 1_000_000.0) : "+Inf", snapshot[i]);
+            }
+            metrics.setBuckets(buckets);
+            return metrics;
+        }
+
+        /**
+         * 估算百分位数(毫秒)，返回所在区间的上限(最后一个区间返回最大值)
+         */
+        private double percentile(long[] snapshot, long count, double rank) {
+            if (count <= 0) {
+                return 0;
+            }
+            final long target = (long) Math.ceil(count * rank);
+            long accumulated = 0;
+            for (int i = 0; i < snapshot.length; i++) {
+                accumulated += snapshot[i];
+                if (accumulated >= target) {
+                    return (i < bounds.length ? Math.min(bounds[i], max.get()) : max.get()) / 1_000_000.0;
+                }
+            }
+            return max.get() / 1_000_000.0;
+        }
+    }
+
+    @Data
+    public static class RouteMetrics {
+        /**
+         * 路由
+         */
+        private String route;
+        /**
+         * 各个阶段的耗时分布
+         */
+        private Map<String, PhaseMetrics> phases = new TreeMap<>();
+    }
+
+    @Data
+    public static class PhaseMetrics {
+        /**
+         * 请求数
+         */
+        private long count;
+        /**
+         * 平均耗时(毫秒)
+         */
+        private double avg;
+        /**
+         * 最大耗时(毫秒)
+         */
+        private double max;
+        /**
+         * 耗时中位数(毫秒，估算值)
+         */
+        private double p50;
+        /**
+         * 90%的请求耗时(毫秒，估算值)
+         */
+        private double p90;
+        /**
+         * 99%的请求耗时(毫秒，估算值)
+         */
+        private double p99;
+        /**
+         * {@code Map<区间上限(毫秒), 数量>}
+         */
+        private Map<String, Long> buckets;
+    }
+}
@@ -1,5 +1,7 @@
 package org.clever.web.support;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.Getter;
@@ -7,6 +9,7 @@ import lombok.Setter;
 import lombok.extern.slf4j.Slf4j;
 import org.clever.core.Assert;
 import org.clever.core.ResourcePathUtils;
+import org.clever.core.SystemClock;
 import org.clever.core.http.HttpServletRequestUtils;
 import org.clever.web.config.StaticResourceConfig;
 import org.springframework.core.io.ClassPathResource;
@@ -14,12 +17,15 @@ import org.springframework.core.io.Resource;
 import org.springframework.core.io.UrlResource;
 import org.springframework.http.*;
 import org.springframework.util.CollectionUtils;
+import org.springframework.util.DigestUtils;
 import org.springframework.util.ResourceUtils;
 import org.springframework.util.StringUtils;
 import org.springframework.web.servlet.resource.HttpResource;
 import org.springframework.web.util.UriUtils;
 
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.io.InputStream;
 import java.net.URLDecoder;
 import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
@@ -29,6 +35,8 @@ import java.time.Duration;
 import java.util.*;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
+import java.util.zip.Deflater;
+import java.util.zip.GZIPOutputStream;
 
 /**
  * 服务端静态资源处理
@@ -67,8 +75,21 @@ public class StaticResourceHandler {
      * 用于自定义“Content-Type” {@code Map<资源后缀名(全小写), MediaType>}
      */
     private final Map<String, MediaType> mediaTypes = new HashMap<>(4);
+    /**
+     * 内存缓存配置
+     */
+    @Getter
+    private final StaticResourceConfig.ResourceCache cacheConfig;
+    /**
+     * 静态资源内存缓存 {@code Cache<请求路径, CachedResource>}，为 null 表示不使用缓存
+     */
+    private final Cache<String, CachedResource> resourceCache;
 
     public StaticResourceHandler(String rootPath, StaticResourceConfig.ResourceMapping resourceMapping) {
+        this(rootPath, resourceMapping, null);
+    }
+
+    public StaticResourceHandler(String rootPath, StaticResourceConfig.ResourceMapping resourceMapping, StaticResourceConfig.ResourceCache cacheConfig) {
         Assert.isNotBlank(rootPath, "参数 rootPath 不能为空");
         Assert.notNull(resourceMapping, "参数 resourceMapping 不能为 null");
         this.hostedPath = resourceMapping.getHostedPath();
@@ -76,6 +97,118 @@ public class StaticResourceHandler {
         Duration cachePeriod = Optional.ofNullable(resourceMapping.getCachePeriod()).orElse(Duration.ofSeconds(0));
         CacheControl cacheControl = cachePeriod.isZero() ? CacheControl.noStore() : CacheControl.maxAge(cachePeriod);
         this.resourceCacheControl = new ResourceCacheControl(cacheControl);
+        this.cacheConfig = cacheConfig;
+        if (cacheConfig != null && cacheConfig.isEnable()) {
+            this.resourceCache = Caffeine.newBuilder()
+                .maximumWeight(cacheConfig.getMaxTotalSize().toBytes())
+                .weigher((String path, CachedResource cached) -> cached.weight())
+                .build();
+        } else {
+            this.resourceCache = null;
+        }
+    }
+
+    /**
+     * 是否启用了内存缓存
+     */
+    public boolean isCacheEnabled() {
+        return resourceCache != null;
+    }
+
+    /**
+     * 从内存缓存中获取静态资源，缓存中不存在或者资源文件已变化时重新加载<br/>
+     * 资源大于 maxFileSize 时不会缓存，此时返回的 {@link CachedResource#getContent()} 为 null
+     *
+     * @param request http请求
+     * @return 不匹配或者不存在则返回 null
+     */
+    public CachedResource getCachedResource(HttpServletRequest request) throws IOException {
+        if (resourceCache == null) {
+            Resource resource = getResource(request);
+            return resource == null ? null : new CachedResource(resource);
+        }
+        final String path = HttpServletRequestUtils.getPathWithoutContextPath(request);
+        if (org.apache.commons.lang3.StringUtils.isBlank(path) || !path.startsWith(hostedPath)) {
+            return null;
+        }
+        final long now = SystemClock.now();
+        CachedResource cached = resourceCache.getIfPresent(path);
+        if (cached != null) {
+            if (now - cached.checkTime < cacheConfig.getCheckInterval().toMillis()) {
+                return cached;
+            }
+            if (!cached.isModified()) {
+                cached.checkTime = now;
+                return cached;
+            }
+            resourceCache.invalidate(path);
+        }
+        final Resource resource = getResource(request);
+        if (resource == null) {
+            return null;
+        }
+        cached = loadCachedResource(request, resource);
+        if (cached.content != null) {
+            resourceCache.put(path, cached);
+        }
+        return cached;
+    }
+
+    /**
+     * 读取资源内容，生成gzip压缩内容和ETag
+     */
+    protected CachedResource loadCachedResource(HttpServletRequest request, Resource resource) throws IOException {
+        final long lastModified = resource.lastModified();
+        final long contentLength = resource.contentLength();
+        if (contentLength > cacheConfig.getMaxFileSize().toBytes()) {
+            return new CachedResource(resource);
+        }
+        final byte[] content;
+        try (InputStream in = resource.getInputStream()) {
+            content = in.readAllBytes();
+        }
+        final MediaType mediaType = getMediaType(request, resource);
+        byte[] gzipContent = null;
+        if (cacheConfig.isGzip() && isGzipMediaType(mediaType)) {
+            gzipContent = gzip(content);
+            // 压缩效果不明显时不使用gzip
+            if (gzipContent.length >= content.length) {
+                gzipContent = null;
+            }
+        }
+        final String hash = DigestUtils.md5DigestAsHex(content);
+        return new CachedResource(resource, mediaType, content, gzipContent, "\"" + hash + "\"", "\"" + hash + "-gzip\"", lastModified, contentLength);
+    }
+
+    private boolean isGzipMediaType(MediaType mediaType) {
+        if (mediaType == null || cacheConfig.getGzipMimeTypes() == null) {
+            return false;
+        }
+        for (String type : cacheConfig.getGzipMimeTypes()) {
+            if (MediaType.parseMediaType(type).includes(mediaType)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static byte[] gzip(byte[] content) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(Math.max(content.length / 4, 64));
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out) {{
+            def.setLevel(Deflater.BEST_COMPRESSION);
+        }}) {
+            gzip.write(content);
+        }
+        return out.toByteArray();
+    }
+
+    /**
+     * 清空内存缓存
+     */
+    public void clearCache() {
+        if (resourceCache != null) {
+            resourceCache.invalidateAll();
+        }
     }
 
     /**
@@ -133,6 +266,20 @@ public class StaticResourceHandler {
         return useLastModified && new CheckResourceModified(req, res).checkNotModified(lastModifiedTimestamp);
     }
 
+    /**
+     * 判断资源是否发生变化(同时使用ETag和最后修改时间)，如果未发送变化直接响应客户端。<br/>
+     * ETag 始终参与判断，最后修改时间只在 useLastModified=true 时参与判断
+     */
+    public boolean checkNotModified(HttpServletRequest req, HttpServletResponse res, String etag, long lastModifiedTimestamp) {
+        if (!useLastModified) {
+            lastModifiedTimestamp = -1;
+            if (!StringUtils.hasLength(etag)) {
+                return false;
+            }
+        }
+        return new CheckResourceModified(req, res).checkNotModified(etag, lastModifiedTimestamp);
+    }
+
     /**
      * 根据此生成器的设置准备给定的响应。应用为此生成器指定的缓存秒数。
      */
@@ -154,6 +301,18 @@ public class StaticResourceHandler {
         }
     }
 
+    /**
+     * 为当前请求设置 MediaType(使用缓存的 MediaType)
+     *
+     * @param response http响应
+     * @param cached   已缓存的资源
+     */
+    public void setMediaType(HttpServletResponse response, CachedResource cached) {
+        if (cached.mediaType != null) {
+            setHeaders(response, cached.resource, cached.mediaType);
+        }
+    }
+
     /**
      * 获取当前Resource对应的MediaType
      *
@@ -350,6 +509,83 @@ public class StaticResourceHandler {
         return (slash ? "/" : "");
     }
 
+    /**
+     * 内存中缓存的静态资源
+     */
+    @Getter
+    public static class CachedResource {
+        /**
+         * 静态资源
+         */
+        private final Resource resource;
+        /**
+         * 资源的 MediaType
+         */
+        private final MediaType mediaType;
+        /**
+         * 资源内容(为null表示资源太大，未缓存)
+         */
+        private final byte[] content;
+        /**
+         * gzip压缩后的资源内容(为null表示不使用gzip)
+         */
+        private final byte[] gzipContent;
+        /**
+         * 基于资源内容hash的强ETag
+         */
+        private final String etag;
+        /**
+         * gzip压缩内容的强ETag
+         */
+        private final String gzipEtag;
+        /**
+         * 加载时资源的最后修改时间
+         */
+        private final long lastModified;
+        /**
+         * 加载时资源的大小
+         */
+        private final long contentLength;
+        /**
+         * 最后一次检查资源是否变化的时间
+         */
+        private volatile long checkTime;
+
+        public CachedResource(Resource resource, MediaType mediaType, byte[] content, byte[] gzipContent, String etag, String gzipEtag, long lastModified, long contentLength) {
+            this.resource = resource;
+            this.mediaType = mediaType;
+            this.content = content;
+            this.gzipContent = gzipContent;
+            this.etag = etag;
+            this.gzipEtag = gzipEtag;
+            this.lastModified = lastModified;
+            this.contentLength = contentLength;
+            this.checkTime = SystemClock.now();
+        }
+
+        /**
+         * 未缓存内容的资源
+         */
+        public CachedResource(Resource resource) {
+            this(resource, null, null, null, null, null, -1, -1);
+        }
+
+        /**
+         * 资源文件是否已变化(修改或删除)
+         */
+        public boolean isModified() {
+            try {
+                return resource.lastModified() != lastModified || resource.contentLength() != contentLength;
+            } catch (IOException e) {
+                return true;
+            }
+        }
+
+        private int weight() {
+            return (content == null ? 0 : content.length) + (gzipContent == null ? 0 : gzipContent.length);
+        }
+    }
+
     /**
      * 检查资源是否被修改过
      */
@@ -0,0 +1,572 @@
+package org.clever.web.support;
+
+import io.javalin.websocket.WsContext;
+import lombok.Data;
+import lombok.extern.slf4j.Slf4j;
+import org.clever.core.Assert;
+import org.clever.core.mapper.JacksonMapper;
+import org.clever.web.config.WebSocketConfig;
+import org.eclipse.jetty.websocket.api.Session;
+import org.eclipse.jetty.websocket.api.WriteCallback;
+import org.eclipse.jetty.websocket.common.WebSocketSession;
+import org.eclipse.jetty.websocket.core.OpCode;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
+import java.util.Collection;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * WebSocket 广播<br/>
+ * 每条消息只序列化一次，所有会话共享同一份帧数据({@link ByteBuffer#duplicate()})。
+ * 每个会话有独立的有界发送队列，调用者线程只负责把消息放入队列，同一会话的消息按顺序异步发送(上一条发送完成后才发送下一条)；
+ * 慢客户端的队列满时按 {@link OverflowPolicy} 丢弃消息或者关闭会话，不会阻塞调用者和其他会话
+ * <pre>{@code
+ * javalin.ws("/ws/news", ws -> {
+ *     ws.onConnect(ctx -> hub.join(ctx, "news"));
+ *     ws.onClose(ctx -> hub.leave(ctx.sessionId()));
+ * });
+ * hub.broadcast("news", data);
+ * }</pre>
+ * <p>
+ * 作者：lizw <br/>
+ * 创建时间：2026/10/19 06:06 <br/>
+ */
+@Slf4j
+public class WebSocketBroadcastHub {
+    /**
+     * 发送队列已满时关闭会话使用的状态码(Try Again Later)
+     */
+    public static final int CLOSE_STATUS_QUEUE_FULL = 1013;
+
+    private final int maxQueueSize;
+    private final long maxQueueBytes;
+    private final OverflowPolicy overflowPolicy;
+    /**
+     * 所有会话 {@code ConcurrentMap<sessionId, Subscriber>}
+     */
+    private final ConcurrentMap<String, Subscriber> sessions = new ConcurrentHashMap<>();
+    /**
+     * 订阅了主题的会话 {@code ConcurrentMap<topic, Set<Subscriber>>}
+     */
+    private final ConcurrentMap<String, Set<Subscriber>> topics = new ConcurrentHashMap<>();
+    private final LongAdder broadcasts = new LongAdder();
+    private final LongAdder sent = new LongAdder();
+    private final LongAdder dropped = new LongAdder();
+    private final LongAdder closed = new LongAdder();
+    private final LongAdder failed = new LongAdder();
+
+    public WebSocketBroadcastHub(int maxQueueSize, long maxQueueBytes, OverflowPolicy overflowPolicy) {
+        Assert.isTrue(maxQueueSize > 0, "参数 maxQueueSize 必须大于0");
+        Assert.isTrue(maxQueueBytes > 0, "参数 maxQueueBytes 必须大于0");
+        Assert.notNull(overflowPolicy, "参数 overflowPolicy 不能为 null");
+        this.maxQueueSize = maxQueueSize;
+        this.maxQueueBytes = maxQueueBytes;
+        this.overflowPolicy = overflowPolicy;
+    }
+
+    public WebSocketBroadcastHub(WebSocketConfig.Broadcast broadcast) {
+        this(broadcast.getMaxQueueSize(), toBytes(broadcast), broadcast.getOverflowPolicy());
+    }
+
+    private static long toBytes(WebSocketConfig.Broadcast broadcast) {
+        Assert.notNull(broadcast, "参数 broadcast 不能为 null");
+        Assert.notNull(broadcast.getMaxQueueBytes(), "配置 web.websocket.broadcast.max-queue-bytes 不能为空");
+        return broadcast.getMaxQueueBytes().toBytes();
+    }
+
+    /**
+     * 加入广播(会话已存在时增加订阅的主题)
+     *
+     * @param peer   WebSocket 会话
+     * @param topics 订阅的主题
+     */
+    public void join(Peer peer, String... topics) {
+        Assert.notNull(peer, "参数 peer 不能为 null");
+        final Subscriber subscriber = sessions.computeIfAbsent(peer.getId(), id -> new Subscriber(peer));
+        if (topics != null) {
+            for (String topic : topics) {
+                subscribe(subscriber, topic);
+            }
+        }
+    }
+
+    /**
+     * 加入广播(会话已存在时增加订阅的主题)
+     *
+     * @param ctx    javalin WebSocket 会话
+     * @param topics 订阅的主题
+     */
+    public void join(WsContext ctx, String... topics) {
+        join(new JettyPeer(ctx), topics);
+    }
+
+    /**
+     * 订阅主题，会话不存在时什么也不做
+     */
+    public void subscribe(String sessionId, String topic) {
+        final Subscriber subscriber = sessions.get(sessionId);
+        if (subscriber != null) {
+            subscribe(subscriber, topic);
+        }
+    }
+
+    private void subscribe(Subscriber subscriber, String topic) {
+        Assert.isNotBlank(topic, "参数 topic 不能为空");
+        subscriber.topics.add(topic);
+        topics.computeIfAbsent(topic, t -> ConcurrentHashMap.newKeySet()).add(subscriber);
+    }
+
+    /**
+     * 取消订阅主题
+     */
+    public void unsubscribe(String sessionId, String topic) {
+        final Subscriber subscriber = sessions.get(sessionId);
+        if (subscriber == null) {
+            return;
+        }
+        subscriber.topics.remove(topic);
+        final Set<Subscriber> subscribers = topics.get(topic);
+        if (subscribers != null) {
+            subscribers.remove(subscriber);
+        }
+    }
+
+    /**
+     * 离开广播(会话关闭时调用)，丢弃未发送的消息
+     */
+    public void leave(String sessionId) {
+        final Subscriber subscriber = sessions.remove(sessionId);
+        if (subscriber == null) {
+            return;
+        }
+        for (String topic : subscriber.topics) {
+            final Set<Subscriber> subscribers = topics.get(topic);
+            if (subscribers != null) {
+                subscribers.remove(subscriber);
+            }
+        }
+        subscriber.discard();
+    }
+
+    /**
+     * 向所有会话广播消息
+     *
+     * @param message 消息内容，参考 {@link Message#of(Object)}
+     * @return 消息进入发送队列的会话数量
+     */
+    public int broadcast(Object message) {
+        return broadcast(sessions.values(), Message.of(message));
+    }
+
+    /**
+     * 向订阅了主题的会话广播消息
+     *
+     * @param topic   主题
+     * @param message 消息内容，参考 {@link Message#of(Object)}
+     * @return 消息进入发送队列的会话数量
+     */
+    public int broadcast(String topic, Object message) {
+        final Set<Subscriber> subscribers = topics.get(topic);
+        if (subscribers == null || subscribers.isEmpty()) {
+            return 0;
+        }
+        return broadcast(subscribers, Message.of(message));
+    }
+
+    private int broadcast(Collection<Subscriber> subscribers, Message message) {
+        broadcasts.increment();
+        int count = 0;
+        for (Subscriber subscriber : subscribers) {
+            if (subscriber.offer(message)) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * 获取指标数据
+     */
+    public Metrics getMetrics() {
+        long queued = 0;
+        long queuedBytes = 0;
+        for (Subscriber subscriber : sessions.values()) {
+            synchronized (subscriber) {
+                queued += subscriber.queue.size();
+                queuedBytes += subscriber.queueBytes;
+            }
+        }
+        Metrics metrics = new Metrics();
+        metrics.setSessions(sessions.size());
+        metrics.setTopics(topics.size());
+        metrics.setBroadcasts(broadcasts.sum());
+        metrics.setSent(sent.sum());
+        metrics.setQueued(queued);
+        metrics.setQueuedBytes(queuedBytes);
+        metrics.setDropped(dropped.sum());
+        metrics.setClosed(closed.sum());
+        metrics.setFailed(failed.sum());
+        return metrics;
+    }
+
+    /**
+     * 会话及其发送队列
+     */
+    private final class Subscriber {
+        private final Peer peer;
+        private final Set<String> topics = ConcurrentHashMap.newKeySet();
+        /**
+         * 等待发送的消息(不包括正在发送的消息)
+         */
+        private final ArrayDeque<Message> queue = new ArrayDeque<>();
+        private long queueBytes;
+        /**
+         * 是否有正在发送的消息
+         */
+        private boolean sending;
+        private boolean discarded;
+
+        private Subscriber(Peer peer) {
+            this.peer = peer;
+        }
+
+        /**
+         * 把消息放入发送队列，没有正在发送的消息时立即发送
+         */
+        private boolean offer(Message message) {
+            if (!peer.isOpen()) {
+                leave(peer.getId());
+                return false;
+            }
+            boolean overflow = false;
+            synchronized (this) {
+                if (discarded) {
+                    return false;
+                }
+                if (sending) {
+                    if (isFull(message)) {
+                        if (overflowPolicy == OverflowPolicy.DROP_OLDEST) {
+                            while (!queue.isEmpty() && isFull(message)) {
+                                queueBytes -= queue.poll().size();
+                                dropped.increment();
+                            }
+                        }
+                        if (overflowPolicy == OverflowPolicy.CLOSE) {
+                            overflow = true;
+                        } else if (isFull(message)) {
+                            dropped.increment();
+                            return false;
+                        }
+                    }
+                    if (!overflow) {
+                        queue.add(message);
+                        queueBytes += message.size();
+                        return true;
+                    }
+                } else {
+                    sending = true;
+                }
+            }
+            if (overflow) {
+                // 慢客户端，关闭会话(客户端重连后重新获取数据)
+                closed.increment();
+                leave(peer.getId());
+                try {
+                    peer.close(CLOSE_STATUS_QUEUE_FULL, "send queue is full");
+                } catch (Exception e) {
+                    log.debug("关闭 WebSocket 会话失败", e);
+                }
+                return false;
+            }
+            drain(message);
+            return true;
+        }
+
+        private boolean isFull(Message message) {
+            return queue.size() >= maxQueueSize || queueBytes + message.size() > maxQueueBytes;
+        }
+
+        /**
+         * 依次发送消息，直到队列为空或者消息需要异步发送(发送完成后由回调继续发送)
+         */
+        private void drain(Message message) {
+            while (message != null) {
+                final SendCallback callback = new SendCallback(this);
+                try {
+                    peer.send(message, callback);
+                } catch (Throwable e) {
+                    callback.failed(e);
+                }
+                if (!callback.completedInline()) {
+                    return;
+                }
+                message = next();
+            }
+        }
+
+        /**
+         * 获取下一条要发送的消息，没有时结束发送
+         */
+        private synchronized Message next() {
+            final Message message = discarded ? null : queue.poll();
+            if (message == null) {
+                sending = false;
+                return null;
+            }
+            queueBytes -= message.size();
+            return message;
+        }
+
+        /**
+         * 丢弃未发送的消息，不再接收新消息
+         */
+        private synchronized void discard() {
+            discarded = true;
+            queue.clear();
+            queueBytes = 0;
+        }
+    }
+
+    /**
+     * 发送完成回调(可能在发送线程中同步回调，也可能在IO线程中异步回调)
+     */
+    private final class SendCallback implements Peer.Callback {
+        private static final int SENDING = 0;
+        private static final int RETURNED = 1;
+        private static final int COMPLETED = 2;
+        private final Subscriber subscriber;
+        private final AtomicInteger state = new AtomicInteger(SENDING);
+
+        private SendCallback(Subscriber subscriber) {
+            this.subscriber = subscriber;
+        }
+
+        /**
+         * 发送方法返回时调用，返回 true 表示已经同步发送完成(由发送线程继续发送下一条消息)
+         */
+        private boolean completedInline() {
+            return !state.compareAndSet(SENDING, RETURNED);
+        }
+
+        @Override
+        public void succeeded() {
+            sent.increment();
+            if (!state.compareAndSet(SENDING, COMPLETED)) {
+                // 异步发送完成，继续发送下一条消息
+                subscriber.drain(subscriber.next());
+            }
+        }
+
+        @Override
+        public void failed(Throwable error) {
+            failed.increment();
+            log.debug("发送 WebSocket 消息失败", error);
+            leave(subscriber.peer.getId());
+            if (!state.compareAndSet(SENDING, COMPLETED)) {
+                subscriber.next();
+            }
+        }
+    }
+
+    /**
+     * 序列化后的消息(所有会话共享)
+     */
+    public static final class Message {
+        private final boolean text;
+        private final ByteBuffer payload;
+
+        private Message(boolean text, byte[] payload) {
+            this.text = text;
+            this.payload = ByteBuffer.wrap(payload).asReadOnlyBuffer();
+        }
+
+        /**
+         * 文本消息
+         */
+        public static Message text(String text) {
+            return new Message(true, text.getBytes(StandardCharsets.UTF_8));
+        }
+
+        /**
+         * 二进制消息
+         */
+        public static Message binary(byte[] data) {
+            return new Message(false, data);
+        }
+
+        /**
+         * 创建消息: String 是文本消息，byte[] 是二进制消息，Message 直接使用，其他类型序列化成 JSON 文本消息
+         */
+        public static Message of(Object message) {
+            Assert.notNull(message, "参数 message 不能为 null");
+            if (message instanceof Message msg) {
+                return msg;
+            }
+            if (message instanceof String str) {
+                return text(str);
+            }
+            if (message instanceof byte[] data) {
+                return binary(data);
+            }
+            return text(JacksonMapper.getInstance().toJson(message));
+        }
+
+        public boolean isText() {
+            return text;
+        }
+
+        /**
+         * 消息内容(共享数据的只读 ByteBuffer，每次调用返回独立的读写位置)
+         */
+        public ByteBuffer getPayload() {
+            return payload.duplicate();
+        }
+
+        public int size() {
+            return payload.remaining();
+        }
+    }
+
+    /**
+     * 广播使用的 WebSocket 会话
+     */
+    public interface Peer {
+        String getId();
+
+        boolean isOpen();
+
+        /**
+         * 异步发送消息，发送完成(成功或失败)后必须调用 callback
+         */
+        void send(Message message, Callback callback);
+
+        void close(int statusCode, String reason);
+
+        interface Callback {
+            void succeeded();
+
+            void failed(Throwable error);
+        }
+    }
+
+    /**
+     * 基于 javalin(jetty) WebSocket 会话的 Peer，直接发送共享的帧数据(不会再次编码文本消息)
+     */
+    public static class JettyPeer implements Peer {
+        private final WsContext ctx;
+
+        public JettyPeer(WsContext ctx) {
+            Assert.notNull(ctx, "参数 ctx 不能为 null");
+            this.ctx = ctx;
+        }
+
+        @Override
+        public String getId() {
+            return ctx.sessionId();
+        }
+
+        @Override
+        public boolean isOpen() {
+            return ctx.session.isOpen();
+        }
+
+        @Override
+        public void send(Message message, Peer.Callback callback) {
+            final Session session = ctx.session;
+            if (session instanceof WebSocketSession webSocketSession) {
+                final byte opCode = message.isText() ? OpCode.TEXT : OpCode.BINARY;
+                webSocketSession.getCoreSession().sendFrame(
+                    new org.eclipse.jetty.websocket.core.Frame(opCode, message.getPayload()),
+                    org.eclipse.jetty.util.Callback.from(callback::succeeded, callback::failed),
+                    false
+                );
+                return;
+            }
+            final WriteCallback writeCallback = new WriteCallback() {
+                @Override
+                public void writeFailed(Throwable error) {
+                    callback.failed(error);
+                }
+
+                @Override
+                public void writeSuccess() {
+                    callback.succeeded();
+                }
+            };
+            if (message.isText()) {
+                session.getRemote().sendString(StandardCharsets.UTF_8.decode(message.getPayload()).toString(), writeCallback);
+            } else {
+                session.getRemote().sendBytes(message.getPayload(), writeCallback);
+            }
+        }
+
+        @Override
+        public void close(int statusCode, String reason) {
+            ctx.closeSession(statusCode, reason);
+        }
+    }
+
+    /**
+     * 会话发送队列已满时的处理策略
+     */
+    public enum OverflowPolicy {
+        /**
+         * 丢弃队列中最早的消息
+         */
+        DROP_OLDEST,
+        /**
+         * 丢弃新消息
+         */
+        DROP_NEWEST,
+        /**
+         * 关闭会话
+         */
+        CLOSE,
+    }
+
+    @Data
+    public static class Metrics {
+        /**
+         * 会话数量
+         */
+        private int sessions;
+        /**
+         * 主题数量
+         */
+        private int topics;
+        /**
+         * 广播次数
+         */
+        private long broadcasts;
+        /**
+         * 发送成功的消息数量
+         */
+        private long sent;
+        /**
+         * 当前排队的消息数量
+         */
+        private long queued;
+        /**
+         * 当前排队的消息大小(字节，共享的消息重复计算)
+         */
+        private long queuedBytes;
+        /**
+         * 队列已满时丢弃的消息数量
+         */
+        private long dropped;
+        /**
+         * 队列已满时关闭的会话数量
+         */
+        private long closed;
+        /**
+         * 发送失败的消息数量
+         */
+        private long failed;
+    }
+}
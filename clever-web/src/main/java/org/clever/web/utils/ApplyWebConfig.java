@@ -17,6 +17,7 @@ import org.clever.web.JavalinAppDataKey;
 import org.clever.web.config.HttpConfig;
 import org.clever.web.config.WebConfig;
 import org.clever.web.config.WebSocketConfig;
+import org.clever.web.support.QueueTimeThreadPool;
 import org.springframework.util.unit.DataSize;
 
 import java.util.Optional;
@@ -61,12 +62,19 @@ public abstract class ApplyWebConfig {
         config.jetty.defaultPort = webConfig.getPort();
         config.showJavalinBanner = webConfig.isShowJavalinBanner();
         config.useVirtualThreads = webConfig.isUseVirtualThreads();
-        config.jetty.threadPool = ConcurrencyUtil.jettyThreadPool(
-            webConfig.getThreadPoolName(),
-            webConfig.getThreadPoolMin(),
-            webConfig.getThreadPoolMax(),
-            webConfig.isUseVirtualThreads()
-        );
+        if (webConfig.isUseVirtualThreads() && ConcurrencyUtil.isLoomAvailable()) {
+            config.jetty.threadPool = ConcurrencyUtil.jettyThreadPool(
+                webConfig.getThreadPoolName(),
+                webConfig.getThreadPoolMin(),
+                webConfig.getThreadPoolMax(),
+                true
+            );
+        } else {
+            // 记录请求在线程池队列中的等待时间
+            QueueTimeThreadPool threadPool = new QueueTimeThreadPool(webConfig.getThreadPoolMax(), webConfig.getThreadPoolMin(), 60_000);
+            threadPool.setName(webConfig.getThreadPoolName());
+            config.jetty.threadPool = threadPool;
+        }
         config.startupWatcherEnabled = false;
         // jackson
         ObjectMapper webServerMapper = JacksonMapper.newObjectMapper();
@@ -0,0 +1,349 @@
+package org.clever.web;
+
+import jakarta.servlet.*;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletRequestWrapper;
+import org.springframework.util.LinkedCaseInsensitiveMap;
+
+import java.lang.reflect.Proxy;
+import java.security.Principal;
+import java.util.*;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * 测试使用的 HttpServletRequest(未实现的函数抛出 {@link UnsupportedOperationException})
+ * <p>
+ * 作者：lizw <br/>
+ * 创建时间：2026/10/19 06:47 <br/>
+ */
+public class MockRequest extends HttpServletRequestWrapper {
+    private static final HttpServletRequest UNSUPPORTED = (HttpServletRequest) Proxy.newProxyInstance(
+        MockRequest.class.getClassLoader(),
+        new Class[]{HttpServletRequest.class},
+        (proxy, m, args) -> {
+            throw new UnsupportedOperationException(m.getName());
+        }
+    );
+
+    private final String method;
+    private String requestURI;
+    private final Map<String, List<String>> headers = new LinkedCaseInsensitiveMap<>();
+    private final Map<String, String[]> parameters = new LinkedHashMap<>();
+    private final Map<String, Object> attributes = new LinkedHashMap<>();
+    private Principal userPrincipal;
+    private String remoteAddr = "127.0.0.1";
+    private DispatcherType dispatcherType = DispatcherType.REQUEST;
+    private boolean asyncSupported;
+    private MockAsyncContext asyncContext;
+    private ServletContext servletContext;
+
+    public MockRequest(String method, String requestURI) {
+        super(UNSUPPORTED);
+        this.method = method;
+        this.requestURI = requestURI;
+    }
+
+    public MockRequest requestURI(String requestURI) {
+        this.requestURI = requestURI;
+        return this;
+    }
+
+    public MockRequest header(String name, String value) {
+        headers.computeIfAbsent(name, key -> new ArrayList<>()).add(value);
+        return this;
+    }
+
+    public MockRequest param(String name, String... values) {
+        parameters.put(name, values);
+        return this;
+    }
+
+    public MockRequest params(Map<String, String[]> params) {
+        parameters.putAll(params);
+        return this;
+    }
+
+    public MockRequest user(String name) {
+        userPrincipal = name == null ? null : () -> name;
+        return this;
+    }
+
+    public MockRequest remoteAddr(String remoteAddr) {
+        this.remoteAddr = remoteAddr;
+        return this;
+    }
+
+    public MockRequest dispatcherType(DispatcherType dispatcherType) {
+        this.dispatcherType = dispatcherType;
+        return this;
+    }
+
+    public MockRequest asyncSupported(boolean asyncSupported) {
+        this.asyncSupported = asyncSupported;
+        return this;
+    }
+
+    public MockRequest servletContext(ServletContext servletContext) {
+        this.servletContext = servletContext;
+        return this;
+    }
+
+    @Override
+    public String getMethod() {
+        return method;
+    }
+
+    @Override
+    public String getRequestURI() {
+        return requestURI;
+    }
+
+    @Override
+    public StringBuffer getRequestURL() {
+        return new StringBuffer("http://localhost").append(requestURI);
+    }
+
+    @Override
+    public String getContextPath() {
+        return "";
+    }
+
+    @Override
+    public String getServletPath() {
+        return "";
+    }
+
+    @Override
+    public String getPathInfo() {
+        return requestURI;
+    }
+
+    @Override
+    public String getQueryString() {
+        return null;
+    }
+
+    @Override
+    public String getHeader(String name) {
+        final List<String> values = headers.get(name);
+        return values == null || values.isEmpty() ? null : values.get(0);
+    }
+
+    @Override
+    public Enumeration<String> getHeaders(String name) {
+        return Collections.enumeration(headers.getOrDefault(name, Collections.emptyList()));
+    }
+
+    @Override
+    public long getDateHeader(String name) {
+        final String value = getHeader(name);
+        return value == null ? -1 : Long.parseLong(value);
+    }
+
+    @Override
+    public Enumeration<String> getHeaderNames() {
+        return Collections.enumeration(headers.keySet());
+    }
+
+    @Override
+    public String getParameter(String name) {
+        final String[] values = parameters.get(name);
+        return values == null || values.length == 0 ? null : values[0];
+    }
+
+    @Override
+    public String[] getParameterValues(String name) {
+        return parameters.get(name);
+    }
+
+    @Override
+    public Map<String, String[]> getParameterMap() {
+        return Collections.unmodifiableMap(parameters);
+    }
+
+    @Override
+    public Enumeration<String> getParameterNames() {
+        return Collections.enumeration(parameters.keySet());
+    }
+
+    @Override
+    public Object getAttribute(String name) {
+        return attributes.get(name);
+    }
+
+    @Override
+    public Enumeration<String> getAttributeNames() {
+        return Collections.enumeration(attributes.keySet());
+    }
+
+    @Override
+    public void setAttribute(String name, Object o) {
+        if (o == null) {
+            attributes.remove(name);
+        } else {
+            attributes.put(name, o);
+        }
+    }
+
+    @Override
+    public void removeAttribute(String name) {
+        attributes.remove(name);
+    }
+
+    @Override
+    public Principal getUserPrincipal() {
+        return userPrincipal;
+    }
+
+    @Override
+    public String getRemoteUser() {
+        return userPrincipal == null ? null : userPrincipal.getName();
+    }
+
+    @Override
+    public String getRemoteAddr() {
+        return remoteAddr;
+    }
+
+    @Override
+    public String getCharacterEncoding() {
+        return "UTF-8";
+    }
+
+    @Override
+    public ServletContext getServletContext() {
+        return servletContext == null ? super.getServletContext() : servletContext;
+    }
+
+    @Override
+    public DispatcherType getDispatcherType() {
+        return dispatcherType;
+    }
+
+    @Override
+    public boolean isAsyncSupported() {
+        return asyncSupported;
+    }
+
+    @Override
+    public boolean isAsyncStarted() {
+        return asyncContext != null && !asyncContext.completed;
+    }
+
+    @Override
+    public AsyncContext startAsync() {
+        return startAsync(this, null);
+    }
+
+    @Override
+    public AsyncContext startAsync(ServletRequest servletRequest, ServletResponse servletResponse) {
+        if (!asyncSupported) {
+            throw new IllegalStateException("Async not supported");
+        }
+        asyncContext = new MockAsyncContext(servletRequest, servletResponse);
+        return asyncContext;
+    }
+
+    @Override
+    public AsyncContext getAsyncContext() {
+        if (asyncContext == null) {
+            throw new IllegalStateException("Async not started");
+        }
+        return asyncContext;
+    }
+
+    /**
+     * complete() 时通知 AsyncListener，不支持 dispatch
+     */
+    public static class MockAsyncContext implements AsyncContext {
+        private final ServletRequest request;
+        private final ServletResponse response;
+        private final List<AsyncListener> listeners = new CopyOnWriteArrayList<>();
+        private volatile boolean completed;
+        private long timeout;
+
+        public MockAsyncContext(ServletRequest request, ServletResponse response) {
+            this.request = request;
+            this.response = response;
+        }
+
+        public boolean isCompleted() {
+            return completed;
+        }
+
+        @Override
+        public void complete() {
+            if (completed) {
+                return;
+            }
+            completed = true;
+            for (AsyncListener listener : listeners) {
+                try {
+                    listener.onComplete(new AsyncEvent(this, request, response));
+                } catch (Exception e) {
+                    throw new IllegalStateException(e);
+                }
+            }
+        }
+
+        @Override
+        public ServletRequest getRequest() {
+            return request;
+        }
+
+        @Override
+        public ServletResponse getResponse() {
+            return response;
+        }
+
+        @Override
+        public boolean hasOriginalRequestAndResponse() {
+            return false;
+        }
+
+        @Override
+        public void dispatch() {
+            throw new UnsupportedOperationException("dispatch");
+        }
+
+        @Override
+        public void dispatch(String path) {
+            throw new UnsupportedOperationException("dispatch");
+        }
+
+        @Override
+        public void dispatch(ServletContext context, String path) {
+            throw new UnsupportedOperationException("dispatch");
+        }
+
+        @Override
+        public void start(Runnable run) {
+            new Thread(run).start();
+        }
+
+        @Override
+        public void addListener(AsyncListener listener) {
+            listeners.add(listener);
+        }
+
+        @Override
+        public void addListener(AsyncListener listener, ServletRequest servletRequest, ServletResponse servletResponse) {
+            listeners.add(listener);
+        }
+
+        @Override
+        public <T extends AsyncListener> T createListener(Class<T> clazz) {
+            throw new UnsupportedOperationException("createListener");
+        }
+
+        @Override
+        public void setTimeout(long timeout) {
+            this.timeout = timeout;
+        }
+
+        @Override
+        public long getTimeout() {
+            return timeout;
+        }
+    }
+}
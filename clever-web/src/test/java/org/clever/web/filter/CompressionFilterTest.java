@@ -0,0 +1,139 @@
+package org.clever.web.filter;
+
+import jakarta.servlet.AsyncContext;
+import jakarta.servlet.FilterChain;
+import lombok.SneakyThrows;
+import lombok.extern.slf4j.Slf4j;
+import org.clever.core.mapper.JacksonMapper;
+import org.clever.web.FilterRegistrar;
+import org.clever.web.MockRequest;
+import org.clever.web.MockResponse;
+import org.clever.web.config.CompressionConfig;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPInputStream;
+
+/**
+ * 作者：lizw <br/>
+ * 创建时间：2026/10/19 05:04 <br/>
+ */
+@Slf4j
+public class CompressionFilterTest {
+    private static MockRequest newRequest(String acceptEncoding) {
+        MockRequest request = new MockRequest("GET", "/api/test");
+        if (acceptEncoding != null) {
+            request.header("Accept-Encoding", acceptEncoding);
+        }
+        return request;
+    }
+
+    private static String newJson(int size) {
+        List<Map<String, Object>> list = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            Map<String, Object> item = new LinkedHashMap<>();
+            item.put("id", i);
+            item.put("name", "用户" + i);
+            item.put("email", "user" + i + "@example.com");
+            list.add(item);
+        }
+        return JacksonMapper.getInstance().toJson(list);
+    }
+
+    @SneakyThrows
+    private static MockResponse doFilter(CompressionFilter filter, String acceptEncoding, String json, boolean useWriter) {
+        MockResponse response = new MockResponse();
+        FilterChain chain = (req, res) -> {
+            res.setContentType("application/json");
+            if (useWriter) {
+                res.getWriter().write(json);
+            } else {
+                res.getOutputStream().write(json.getBytes(StandardCharsets.UTF_8));
+            }
+        };
+        filter.doFilter(new FilterRegistrar.Context(newRequest(acceptEncoding), response, chain));
+        return response;
+    }
+
+    private static MockResponse doFilter(CompressionFilter filter, String acceptEncoding, String json) {
+        return doFilter(filter, acceptEncoding, json, false);
+    }
+
+    @SneakyThrows
+    private static String gunzip(byte[] data) {
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(data))) {
+            return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        }
+    }
+
+    @Test
+    public void t01() {
+        CompressionConfig config = new CompressionConfig();
+        config.setEnable(true);
+        CompressionFilter filter = new CompressionFilter(config);
+        Assertions.assertTrue(CompressionFilter.acceptsGzip("gzip, deflate, br"));
+        Assertions.assertFalse(CompressionFilter.acceptsGzip("gzip;q=0, deflate"));
+        Assertions.assertFalse(CompressionFilter.acceptsGzip("identity"));
+        // 大于 minSize 的数据需要压缩
+        String json = newJson(200);
+        MockResponse response = doFilter(filter, "gzip", json);
+        byte[] data = response.getBody();
+        log.info("--> 原始大小={} | 压缩后大小={}", json.getBytes(StandardCharsets.UTF_8).length, data.length);
+        Assertions.assertEquals("gzip", response.getHeader("Content-Encoding"));
+        Assertions.assertNull(response.getHeader("Content-Length"));
+        Assertions.assertEquals("Accept-Encoding", response.getHeader("Vary"));
+        Assertions.assertEquals(json, gunzip(data));
+        // 压缩器可以复用
+        Assertions.assertEquals(json, gunzip(doFilter(filter, "gzip", json, true).getBody()));
+        // 小于 minSize 的数据不压缩
+        String small = newJson(1);
+        response = doFilter(filter, "gzip", small, true);
+        data = response.getBody();
+        Assertions.assertNull(response.getHeader("Content-Encoding"));
+        Assertions.assertEquals(data.length, response.getContentLengthLong());
+        Assertions.assertEquals(small, new String(data, StandardCharsets.UTF_8));
+        // 客户端不支持gzip
+        response = doFilter(filter, null, json);
+        Assertions.assertNull(response.getHeader("Content-Encoding"));
+        Assertions.assertEquals(json, new String(response.getBody(), StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 异步请求的业务代码不关闭输出流，在 AsyncContext.complete() 时完成压缩
+     */
+    @SneakyThrows
+    @Test
+    public void t02() {
+        CompressionConfig config = new CompressionConfig();
+        config.setEnable(true);
+        CompressionFilter filter = new CompressionFilter(config);
+        final String json = newJson(500);
+        final MockRequest request = newRequest("gzip");
+        request.asyncSupported(true);
+        final MockResponse response = new MockResponse();
+        final CountDownLatch written = new CountDownLatch(1);
+        FilterChain chain = (req, res) -> {
+            final AsyncContext asyncContext = req.startAsync(req, res);
+            new Thread(() -> {
+                try {
+                    res.setContentType("application/json");
+                    res.getOutputStream().write(json.getBytes(StandardCharsets.UTF_8));
+                    asyncContext.complete();
+                } catch (Exception e) {
+                    log.error(e.getMessage(), e);
+                } finally {
+                    written.countDown();
+                }
+            }).start();
+        };
+        filter.doFilter(new FilterRegistrar.Context(request, response, chain));
+        Assertions.assertTrue(written.await(10, TimeUnit.SECONDS));
+        Assertions.assertEquals("gzip", response.getHeader("Content-Encoding"));
+        Assertions.assertEquals(json, gunzip(response.getBody()));
+    }
+}
@@ -0,0 +1,114 @@
+package org.clever.web.filter;
+
+import jakarta.servlet.FilterChain;
+import lombok.SneakyThrows;
+import lombok.extern.slf4j.Slf4j;
+import org.clever.web.FilterRegistrar;
+import org.clever.web.MockRequest;
+import org.clever.web.MockResponse;
+import org.clever.web.config.ConcurrencyLimitConfig;
+import org.clever.web.support.AdaptiveConcurrencyLimiter;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 作者：lizw <br/>
+ * 创建时间：2026/10/19 05:28 <br/>
+ */
+@Slf4j
+public class ConcurrencyLimitFilterTest {
+    /**
+     * 模拟处理能力为 20 个并发的服务(超过后响应时间线性增长)，持续 300 个并发请求
+     */
+    @Test
+    public void t01() {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter("test", 50, 8, 500, 20, 100, 1.5, 0.2, 0.9);
+        final int capacity = 20;
+        final long noLoadRtt = 10_000_000L;
+        List<Integer> limits = new ArrayList<>();
+        for (int round = 0; round < 1000; round++) {
+            int inflight = 0;
+            while (inflight < 300 && limiter.tryAcquire()) {
+                inflight++;
+            }
+            final long rtt = (long) (noLoadRtt * Math.max(1.0, (double) inflight / capacity));
+            for (int i = 0; i < inflight; i++) {
+                limiter.release(rtt, false);
+            }
+            limits.add(limiter.getLimit());
+        }
+        limits.sort(Integer::compareTo);
+        final int median = limits.get(limits.size() / 2);
+        log.info("--> 并发数限制中位数={} | {}", median, limiter.getMetrics());
+        // 并发数限制收敛到处理能力附近，响应时间不超过无负载响应时间的 2 倍
+        Assertions.assertTrue(median >= capacity && median <= capacity * 2);
+        Assertions.assertTrue(limiter.getMetrics().getShortRtt() <= 2 * noLoadRtt / 1_000_000.0);
+        // 过载响应时成倍减小
+        final int before = limiter.getLimit();
+        for (int i = 0; i < 20 && limiter.tryAcquire(); i++) {
+            limiter.release(noLoadRtt, true);
+        }
+        Assertions.assertTrue(limiter.getLimit() < before);
+    }
+
+    @SneakyThrows
+    @Test
+    public void t02() {
+        ConcurrencyLimitConfig config = new ConcurrencyLimitConfig();
+        config.setEnable(true);
+        ConcurrencyLimitConfig.Group group = new ConcurrencyLimitConfig.Group();
+        group.setName("slow");
+        group.setPathPatterns(List.of("/api/slow/**"));
+        group.setInitialLimit(1);
+        group.setMinLimit(1);
+        group.setMaxLimit(1);
+        config.getGroups().add(group);
+        ConcurrencyLimitFilter filter = new ConcurrencyLimitFilter(config);
+        // 第一个请求占用并发数
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch finish = new CountDownLatch(1);
+        FilterChain slowChain = (req, res) -> {
+            started.countDown();
+            try {
+                finish.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                throw new RuntimeException(e);
+            }
+        };
+        Thread thread = new Thread(() -> {
+            try {
+                filter.doFilter(new FilterRegistrar.Context(new MockRequest("GET", "/api/slow/a"), new MockResponse(), slowChain));
+            } catch (Exception e) {
+                throw new RuntimeException(e);
+            }
+        });
+        thread.start();
+        Assertions.assertTrue(started.await(5, TimeUnit.SECONDS));
+        // 同一分组的请求被拒绝
+        MockResponse response = new MockResponse();
+        filter.doFilter(new FilterRegistrar.Context(new MockRequest("GET", "/api/slow/b"), response, (req, res) -> Assertions.fail("请求应该被拒绝")));
+        Assertions.assertEquals(503, response.getStatus());
+        Assertions.assertEquals("1", response.getHeader("Retry-After"));
+        // 其他分组的请求不受影响
+        response = new MockResponse();
+        filter.doFilter(new FilterRegistrar.Context(new MockRequest("GET", "/api/fast"), response, (req, res) -> {
+        }));
+        Assertions.assertEquals(200, response.getStatus());
+        Assertions.assertNull(response.getHeader("Retry-After"));
+        finish.countDown();
+        thread.join();
+        List<AdaptiveConcurrencyLimiter.Metrics> metrics = filter.getMetrics();
+        log.info("--> {}", metrics);
+        Assertions.assertEquals("slow", metrics.get(0).getName());
+        Assertions.assertEquals(1, metrics.get(0).getAccepted());
+        Assertions.assertEquals(1, metrics.get(0).getRejected());
+        Assertions.assertEquals(0, metrics.get(0).getInflight());
+        Assertions.assertEquals(ConcurrencyLimitFilter.DEFAULT_GROUP, metrics.get(1).getName());
+        Assertions.assertEquals(1, metrics.get(1).getAccepted());
+    }
+}
@@ -0,0 +1,120 @@
+package org.clever.web.filter;
+
+import lombok.SneakyThrows;
+import lombok.extern.slf4j.Slf4j;
+import org.clever.web.FilterRegistrar;
+import org.clever.web.MockRequest;
+import org.clever.web.MockResponse;
+import org.clever.web.config.LoadSheddingConfig;
+import org.clever.web.support.QueueTimeThreadPool;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 作者：lizw <br/>
+ * 创建时间：2026/10/19 05:32 <br/>
+ */
+@Slf4j
+public class LoadSheddingFilterTest {
+    private static MockRequest newRequest(String path, Map<String, String> headers) {
+        MockRequest request = new MockRequest("GET", path);
+        headers.forEach(request::header);
+        return request;
+    }
+
+    /**
+     * 线程池队列中的等待时间
+     */
+    @SneakyThrows
+    @Test
+    public void t01() {
+        QueueTimeThreadPool threadPool = new QueueTimeThreadPool(8, 8, 60_000);
+        threadPool.setReservedThreads(0);
+        threadPool.start();
+        try {
+            // 占用所有线程
+            final int threads = threadPool.getMaxThreads();
+            CountDownLatch release = new CountDownLatch(1);
+            CountDownLatch started = new CountDownLatch(threads);
+            for (int i = 0; i < threads; i++) {
+                threadPool.execute(() -> {
+                    QueueTimeThreadPool.takeQueueTime();
+                    started.countDown();
+                    try {
+                        release.await(5, TimeUnit.SECONDS);
+                    } catch (InterruptedException e) {
+                        throw new RuntimeException(e);
+                    }
+                });
+            }
+            Assertions.assertTrue(started.await(5, TimeUnit.SECONDS));
+            AtomicLong queueTime = new AtomicLong();
+            AtomicLong secondTake = new AtomicLong();
+            CountDownLatch finished = new CountDownLatch(1);
+            threadPool.execute(() -> {
+                queueTime.set(QueueTimeThreadPool.takeQueueTime());
+                secondTake.set(QueueTimeThreadPool.takeQueueTime());
+                finished.countDown();
+            });
+            Thread.sleep(200);
+            release.countDown();
+            Assertions.assertTrue(finished.await(5, TimeUnit.SECONDS));
+            log.info("--> queueTime={}ms", TimeUnit.NANOSECONDS.toMillis(queueTime.get()));
+            Assertions.assertTrue(queueTime.get() >= TimeUnit.MILLISECONDS.toNanos(150));
+            // 每个任务只能获取一次
+            Assertions.assertEquals(-1, secondTake.get());
+            Assertions.assertEquals(-1, QueueTimeThreadPool.takeQueueTime());
+        } finally {
+            threadPool.stop();
+        }
+    }
+
+    @SneakyThrows
+    @Test
+    public void t02() {
+        LoadSheddingConfig config = new LoadSheddingConfig();
+        config.setEnable(true);
+        config.setMaxQueueTime(Duration.ofSeconds(5));
+        LoadSheddingFilter filter = new LoadSheddingFilter(config);
+        final long now = System.currentTimeMillis();
+        // 正常请求
+        MockResponse res = new MockResponse();
+        MockRequest request = newRequest("/api/a", Map.of("X-Request-Start", "t=" + (now - 100) / 1000.0));
+        boolean[] invoked = {false};
+        filter.doFilter(new FilterRegistrar.Context(request, res, (req, resp) -> invoked[0] = true));
+        Assertions.assertTrue(invoked[0]);
+        Assertions.assertEquals(200, res.getStatus());
+        Assertions.assertTrue((Long) request.getAttribute(LoadSheddingFilter.QUEUE_TIME_ATTRIBUTE) >= 90);
+        // 等待时间超过 maxQueueTime
+        res = new MockResponse();
+        request = newRequest("/api/a", Map.of("X-Request-Start", String.valueOf((now - 6000) * 1000)));
+        filter.doFilter(new FilterRegistrar.Context(request, res, (req, resp) -> Assertions.fail("请求应该被丢弃")));
+        Assertions.assertEquals(503, res.getStatus());
+        Assertions.assertEquals("1", res.getHeader("Retry-After"));
+        // 超过客户端截止时间
+        res = new MockResponse();
+        request = newRequest("/api/a", Map.of("X-Request-Deadline", String.valueOf(now - 1)));
+        filter.doFilter(new FilterRegistrar.Context(request, res, (req, resp) -> Assertions.fail("请求应该被丢弃")));
+        Assertions.assertEquals(503, res.getStatus());
+        Assertions.assertEquals("1", res.getHeader("Retry-After"));
+        // 未超过客户端截止时间
+        res = new MockResponse();
+        request = newRequest("/api/a", Map.of("X-Request-Deadline", String.valueOf(now + 60_000)));
+        invoked[0] = false;
+        filter.doFilter(new FilterRegistrar.Context(request, res, (req, resp) -> invoked[0] = true));
+        Assertions.assertTrue(invoked[0]);
+        log.info("--> shedCount={} | queueTimeShedCount={} | deadlineShedCount={}", filter.getShedCount(), filter.getQueueTimeShedCount(), filter.getDeadlineShedCount());
+        Assertions.assertEquals(1, filter.getQueueTimeShedCount());
+        Assertions.assertEquals(1, filter.getDeadlineShedCount());
+        Assertions.assertEquals(1700000000123L, LoadSheddingFilter.parseRequestStart("t=1700000000.123"));
+        Assertions.assertEquals(1700000000123L, LoadSheddingFilter.parseRequestStart("1700000000123"));
+        Assertions.assertEquals(1700000000123L, LoadSheddingFilter.parseRequestStart("1700000000123456"));
+        Assertions.assertEquals(-1, LoadSheddingFilter.parseRequestStart("abc"));
+    }
+}
@@ -0,0 +1,274 @@
+package org.clever.web.filter;
+
+import lombok.SneakyThrows;
+import lombok.extern.slf4j.Slf4j;
+import org.clever.web.MockRequest;
+import org.clever.web.MockResponse;
+import org.clever.web.config.MvcConfig;
+import org.clever.web.mvc.AsyncRequest;
+import org.clever.web.mvc.HandlerContext;
+import org.clever.web.mvc.HandlerMethod;
+import org.clever.web.mvc.annotation.Transactional;
+import org.clever.web.mvc.annotation.Validated;
+import org.clever.web.mvc.interceptor.ArgumentsValidated;
+import org.clever.web.mvc.interceptor.HandlerInterceptor;
+import org.clever.web.mvc.interceptor.TransactionInterceptor;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.MethodParameter;
+
+import java.io.ByteArrayOutputStream;
+import java.lang.reflect.Method;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+
+/**
+ * 作者：lizw <br/>
+ * 创建时间：2026/10/19 04:53 <br/>
+ */
+@Slf4j
+public class MvcFilterTest {
+    public static String hello(String name) {
+        return "hello " + name;
+    }
+
+    @Transactional
+    public static String tx(@Validated String name) {
+        return "tx " + name;
+    }
+
+    public static String error() {
+        throw new IllegalArgumentException("error");
+    }
+
+    private static MvcFilter newMvcFilter() {
+        MvcFilter mvcFilter = new MvcFilter("./", "default", new MvcConfig());
+        // 只初始化拦截器(参数解析器依赖 JavalinConfig)
+        mvcFilter.getDefaultHandlerInterceptors().forEach(mvcFilter::addInterceptor);
+        return mvcFilter;
+    }
+
+    /**
+     * 模拟异步请求，结束异步请求时 completed 减一
+     */
+    private static AsyncRequest newAsyncRequest(MockResponse response, AtomicInteger completeCount, CountDownLatch completed) {
+        MockRequest request = new MockRequest("GET", "/async");
+        MockRequest.MockAsyncContext asyncContext = new MockRequest.MockAsyncContext(request, response) {
+            @Override
+            public void complete() {
+                completeCount.incrementAndGet();
+                completed.countDown();
+                super.complete();
+            }
+        };
+        return new AsyncRequest(asyncContext, request, response);
+    }
+
+    @SneakyThrows
+    private static HandlerMethod newHandlerMethod(String name, Class<?>... parameterTypes) {
+        Method method = MvcFilterTest.class.getMethod(name, parameterTypes);
+        MethodParameter[] parameters = new MethodParameter[method.getParameterCount()];
+        for (int i = 0; i < parameters.length; i++) {
+            parameters[i] = new MethodParameter(method, i);
+        }
+        return new HandlerMethod("/" + name, MvcFilterTest.class, method, parameters);
+    }
+
+    @Test
+    public void t01() {
+        MvcFilter mvcFilter = newMvcFilter();
+        // 没有 @Transactional、@Validated 时不需要任何拦截器
+        HandlerMethod hello = newHandlerMethod("hello", String.class);
+        HandlerMethod.InterceptorChain chain = mvcFilter.getInterceptorChain(hello);
+        Assertions.assertEquals(0, chain.getInterceptors().length);
+        Assertions.assertSame(chain, mvcFilter.getInterceptorChain(hello));
+        HandlerMethod tx = newHandlerMethod("tx", String.class);
+        HandlerInterceptor[] interceptors = mvcFilter.getInterceptorChain(tx).getInterceptors();
+        Assertions.assertEquals(2, interceptors.length);
+        Assertions.assertInstanceOf(ArgumentsValidated.class, interceptors[0]);
+        Assertions.assertInstanceOf(TransactionInterceptor.class, interceptors[1]);
+        // 拦截器变化后重新生成拦截器链
+        mvcFilter.addInterceptor(new HandlerInterceptor() {
+        });
+        Assertions.assertNotSame(chain, mvcFilter.getInterceptorChain(hello));
+        Assertions.assertEquals(1, mvcFilter.getInterceptorChain(hello).getInterceptors().length);
+    }
+
+    @SneakyThrows
+    @Test
+    public void t02() {
+        MvcFilter mvcFilter = newMvcFilter();
+        final List<String> events = new ArrayList<>();
+        for (int i = 1; i <= 2; i++) {
+            final int order = i;
+            mvcFilter.addInterceptor(new HandlerInterceptor() {
+                @Override
+                public boolean beforeHandle(HandlerContext context) {
+                    events.add("before-" + order);
+                    return true;
+                }
+
+                @Override
+                public void afterHandle(HandlerContext.After context) {
+                    events.add("after-" + order);
+                    context.setResult(context.getResult() + "-" + order);
+                }
+
+                @Override
+                public void finallyHandle(HandlerContext.Finally context) {
+                    events.add("finally-" + order);
+                }
+
+                @Override
+                public double getOrder() {
+                    return order;
+                }
+            });
+        }
+        HandlerMethod hello = newHandlerMethod("hello", String.class);
+        Object result = mvcFilter.executeInterceptor(new HandlerContext(null, null, hello, new Object[]{"lizw"}));
+        log.info("--> {} | {}", result, events);
+        Assertions.assertEquals("hello lizw-2-1", result);
+        Assertions.assertEquals(List.of("before-1", "before-2", "after-2", "after-1", "finally-2", "finally-1"), events);
+        // Handler Method 异常
+        events.clear();
+        HandlerMethod error = newHandlerMethod("error");
+        Assertions.assertThrows(IllegalArgumentException.class, () -> mvcFilter.executeInterceptor(new HandlerContext(null, null, error, new Object[0])));
+        Assertions.assertEquals(List.of("before-1", "before-2", "finally-2", "finally-1"), events);
+    }
+
+    @SneakyThrows
+    @Test
+    public void t03() {
+        MvcFilter mvcFilter = newMvcFilter();
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        mvcFilter.writeJson(Map.of("name", "张三"), out);
+        Assertions.assertEquals("{\"name\":\"张三\"}", out.toString(StandardCharsets.UTF_8));
+        Assertions.assertSame(mvcFilter.getObjectWriter(List.class), mvcFilter.getObjectWriter(List.class));
+        // Stream 返回值序列化成数组并关闭 Stream
+        out.reset();
+        AtomicBoolean closed = new AtomicBoolean(false);
+        mvcFilter.writeJson(Stream.of(1, "a", Map.of("k", "v")).onClose(() -> closed.set(true)), out);
+        log.info("--> {}", out.toString(StandardCharsets.UTF_8));
+        Assertions.assertEquals("[1,\"a\",{\"k\":\"v\"}]", out.toString(StandardCharsets.UTF_8));
+        Assertions.assertTrue(closed.get());
+    }
+
+    @SneakyThrows
+    @Test
+    public void t04() {
+        MvcFilter mvcFilter = newMvcFilter();
+        AtomicInteger completeCount = new AtomicInteger();
+        CountDownLatch completed = new CountDownLatch(3);
+        // CompletableFuture 完成时响应
+        MockResponse body1 = new MockResponse();
+        AsyncRequest asyncRequest1 = newAsyncRequest(body1, completeCount, completed);
+        CompletableFuture<String> future = new CompletableFuture<>();
+        mvcFilter.handleAsyncResult(asyncRequest1, future);
+        Assertions.assertFalse(asyncRequest1.isCompleted());
+        future.complete("async");
+        // Future 在异步线程中等待完成
+        MockResponse body2 = new MockResponse();
+        AsyncRequest asyncRequest2 = newAsyncRequest(body2, completeCount, completed);
+        FutureTask<Map<String, Object>> task = new FutureTask<>(() -> Map.of("k", "v"));
+        mvcFilter.handleAsyncResult(asyncRequest2, task);
+        task.run();
+        // 异步执行 HandlerMethod
+        MockResponse body3 = new MockResponse();
+        AsyncRequest asyncRequest3 = newAsyncRequest(body3, completeCount, completed);
+        mvcFilter.executeAsync(asyncRequest3, () -> mvcFilter.handleAsyncResult(asyncRequest3, hello("async")));
+        Assertions.assertTrue(completed.await(5, TimeUnit.SECONDS));
+        log.info("--> {} | {} | {}", body1.getBodyAsString(), body2.getBodyAsString(), body3.getBodyAsString());
+        Assertions.assertEquals("\"async\"", body1.getBodyAsString());
+        Assertions.assertEquals("{\"k\":\"v\"}", body2.getBodyAsString());
+        Assertions.assertEquals("\"hello async\"", body3.getBodyAsString());
+        // 请求只会被响应一次(例如: 超时后业务代码才完成)
+        asyncRequest1.complete(null, () -> Assertions.fail("重复响应"));
+        Assertions.assertEquals(3, completeCount.get());
+    }
+
+    /**
+     * 模拟 8 个请求处理线程处理 200 个耗时 50ms 的请求
+     */
+    @SneakyThrows
+    @Test
+    public void t05() {
+        final int threads = 8;
+        final int requests = 200;
+        final long handleTime = 50;
+        MvcFilter mvcFilter = newMvcFilter();
+        ExecutorService requestThreads = Executors.newFixedThreadPool(threads);
+        try {
+            // 同步执行
+            CountDownLatch completed = new CountDownLatch(requests);
+            long startTime = System.nanoTime();
+            for (int i = 0; i < requests; i++) {
+                requestThreads.execute(() -> {
+                    sleep(handleTime);
+                    completed.countDown();
+                });
+            }
+            Assertions.assertTrue(completed.await(60, TimeUnit.SECONDS));
+            final long syncTime = (System.nanoTime() - startTime) / 1_000_000;
+            // 异步执行(请求处理线程只负责开始异步请求)
+            CountDownLatch asyncCompleted = new CountDownLatch(requests);
+            startTime = System.nanoTime();
+            for (int i = 0; i < requests; i++) {
+                requestThreads.execute(() -> {
+                    AsyncRequest asyncRequest = newAsyncRequest(new MockResponse(), new AtomicInteger(), asyncCompleted);
+                    mvcFilter.executeAsync(asyncRequest, () -> {
+                        sleep(handleTime);
+                        mvcFilter.handleAsyncResult(asyncRequest, "ok");
+                    });
+                });
+            }
+            Assertions.assertTrue(asyncCompleted.await(60, TimeUnit.SECONDS));
+            final long asyncTime = (System.nanoTime() - startTime) / 1_000_000;
+            log.info("--> 请求处理线程={} | 请求数={} | 同步耗时={}ms | 异步耗时={}ms", threads, requests, syncTime, asyncTime);
+            Assertions.assertTrue(asyncTime < syncTime);
+        } finally {
+            requestThreads.shutdown();
+        }
+    }
+
+    /**
+     * 未完成的 Future 最多等待异步请求的超时时间，web服务停止时关闭线程池
+     */
+    @SneakyThrows
+    @Test
+    public void t06() {
+        MvcFilter mvcFilter = newMvcFilter();
+        CountDownLatch completed = new CountDownLatch(1);
+        AsyncRequest asyncRequest = newAsyncRequest(new MockResponse(), new AtomicInteger(), completed);
+        asyncRequest.getAsyncContext().setTimeout(100);
+        FutureTask<String> task = new FutureTask<>(() -> "never");
+        mvcFilter.handleAsyncResult(asyncRequest, task);
+        Assertions.assertTrue(completed.await(5, TimeUnit.SECONDS));
+        Assertions.assertTrue(task.isCancelled());
+        // 已完成的 Future 直接响应
+        MockResponse response = new MockResponse();
+        AtomicInteger completeCount = new AtomicInteger();
+        FutureTask<String> done = new FutureTask<>(() -> "done");
+        done.run();
+        mvcFilter.handleAsyncResult(newAsyncRequest(response, completeCount, new CountDownLatch(1)), done);
+        Assertions.assertEquals(1, completeCount.get());
+        Assertions.assertEquals("\"done\"", response.getBodyAsString());
+        // 关闭线程池
+        ExecutorService executor = mvcFilter.getAsyncExecutor();
+        mvcFilter.shutdownAsyncExecutor();
+        Assertions.assertTrue(executor.isTerminated());
+        Assertions.assertNotSame(executor, mvcFilter.getAsyncExecutor());
+        mvcFilter.shutdownAsyncExecutor();
+    }
+
+    @SneakyThrows
+    private static void sleep(long millis) {
+        Thread.sleep(millis);
+    }
+}
@@ -0,0 +1,157 @@
+package org.clever.web.filter;
+
+import lombok.SneakyThrows;
+import lombok.extern.slf4j.Slf4j;
+import org.clever.web.FilterRegistrar;
+import org.clever.web.MockRequest;
+import org.clever.web.MockResponse;
+import org.clever.web.config.RateLimitConfig;
+import org.clever.web.support.LeasedRateLimiter;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 作者：lizw <br/>
+ * 创建时间：2026/10/19 05:52 <br/>
+ */
+@Slf4j
+public class RateLimitFilterTest {
+    /**
+     * 模拟 redis 中的令牌桶
+     */
+    private static class MemoryTokenSource implements LeasedRateLimiter.TokenSource {
+        private final Map<String, double[]> buckets = new HashMap<>();
+        private final AtomicLong calls = new AtomicLong();
+        private final Map<String, AtomicLong> keyCalls = new ConcurrentHashMap<>();
+
+        @Override
+        public synchronized long lease(String key, double ratePerSecond, long capacity, long requested) {
+            calls.incrementAndGet();
+            keyCalls.computeIfAbsent(key, k -> new AtomicLong()).incrementAndGet();
+            final long now = System.nanoTime();
+            final double[] bucket = buckets.computeIfAbsent(key, k -> new double[]{capacity, now});
+            bucket[0] = Math.min(capacity, bucket[0] + (now - bucket[1]) / 1_000_000_000.0 * ratePerSecond);
+            bucket[1] = now;
+            final long granted = Math.min(requested, (long) bucket[0]);
+            bucket[0] -= granted;
+            return granted;
+        }
+    }
+
+    private static RateLimitConfig newConfig() {
+        RateLimitConfig config = new RateLimitConfig();
+        config.setEnable(true);
+        config.setTolerance(0.05);
+        RateLimitConfig.Rule rule = new RateLimitConfig.Rule();
+        rule.setName("api");
+        rule.setPathPatterns(List.of("/api/**"));
+        rule.setKeyBy("header:X-User");
+        rule.setLimit(100);
+        rule.setPeriod(Duration.ofSeconds(1));
+        config.getRules().add(rule);
+        return config;
+    }
+
+    @SneakyThrows
+    private static boolean doRequest(RateLimitFilter filter, String path, String user, MockResponse response) {
+        boolean[] passed = {false};
+        filter.doFilter(new FilterRegistrar.Context(new MockRequest("GET", path).header("X-User", user), response, (req, res) -> passed[0] = true));
+        return passed[0];
+    }
+
+    /**
+     * 两个节点共用一个全局令牌桶
+     */
+    @SneakyThrows
+    @Test
+    public void t01() {
+        MemoryTokenSource tokenSource = new MemoryTokenSource();
+        RateLimitFilter node1 = new RateLimitFilter(newConfig(), tokenSource);
+        RateLimitFilter node2 = new RateLimitFilter(newConfig(), tokenSource);
+        final int requests = 20_000;
+        final long startTime = System.nanoTime();
+        int allowed = 0;
+        for (int i = 0; i < requests; i++) {
+            if (doRequest(i % 2 == 0 ? node1 : node2, "/api/a", "u1", new MockResponse())) {
+                allowed++;
+            }
+            if (i % 100 == 0) {
+                Thread.sleep(1);
+            }
+        }
+        final double seconds = (System.nanoTime() - startTime) / 1_000_000_000.0;
+        // 允许的请求数 = 令牌桶容量 + 补充的令牌数，误差不超过每个节点持有的令牌数
+        final double expected = 100 + 100 * seconds;
+        final long batchSize = node1.getMetrics().get(0).getBatchSize();
+        log.info(
+            "--> seconds={} | allowed={} | expected={} | redisCalls={} | node1={} | node2={}",
+            seconds, allowed, expected, tokenSource.calls.get(), node1.getMetrics(), node2.getMetrics()
+        );
+        Assertions.assertTrue(allowed <= expected + 1);
+        Assertions.assertTrue(allowed >= expected - 2 * batchSize * 2);
+        // redis 访问次数远小于请求数
+        Assertions.assertTrue(tokenSource.calls.get() < requests / 20);
+        node1.shutdown();
+        node2.shutdown();
+    }
+
+    @SneakyThrows
+    @Test
+    public void t02() {
+        MemoryTokenSource tokenSource = new MemoryTokenSource();
+        RateLimitConfig config = newConfig();
+        config.getRules().get(0).setLimit(10);
+        config.getRules().get(0).setPeriod(Duration.ofMinutes(1));
+        RateLimitFilter filter = new RateLimitFilter(config, tokenSource);
+        for (int i = 0; i < 10; i++) {
+            Assertions.assertTrue(doRequest(filter, "/api/a", "u1", new MockResponse()));
+        }
+        // 超过限制
+        MockResponse response = new MockResponse();
+        Assertions.assertFalse(doRequest(filter, "/api/a", "u1", response));
+        Assertions.assertEquals(429, response.getStatus());
+        Assertions.assertEquals("6", response.getHeader("Retry-After"));
+        // 其他用户、不匹配规则的请求不受影响
+        Assertions.assertTrue(doRequest(filter, "/api/a", "u2", new MockResponse()));
+        Assertions.assertTrue(doRequest(filter, "/static/a.js", "u1", new MockResponse()));
+        // 被限流期间不访问 redis(等待已提交的异步租借完成)
+        Thread.sleep(200);
+        final AtomicLong u1Calls = tokenSource.keyCalls.entrySet().stream()
+            .filter(entry -> entry.getKey().endsWith("u1"))
+            .findFirst().orElseThrow().getValue();
+        final long calls = u1Calls.get();
+        for (int i = 0; i < 100; i++) {
+            Assertions.assertFalse(doRequest(filter, "/api/a", "u1", new MockResponse()));
+        }
+        Assertions.assertEquals(calls, u1Calls.get());
+        log.info("--> {}", filter.getMetrics());
+        filter.shutdown();
+    }
+
+    /**
+     * 线程池停止后同步租借令牌
+     */
+    @Test
+    public void t03() {
+        MemoryTokenSource tokenSource = new MemoryTokenSource();
+        RateLimitConfig config = newConfig();
+        config.getRules().get(0).setLimit(10);
+        config.getRules().get(0).setPeriod(Duration.ofMinutes(1));
+        config.getRules().get(0).setBurst(100L);
+        RateLimitFilter filter = new RateLimitFilter(config, tokenSource);
+        filter.shutdown();
+        for (int i = 0; i < 100; i++) {
+            Assertions.assertTrue(doRequest(filter, "/api/a", "u1", new MockResponse()));
+        }
+        Assertions.assertFalse(doRequest(filter, "/api/a", "u1", new MockResponse()));
+        // 每个批次1个令牌，每次都同步租借
+        Assertions.assertEquals(101, tokenSource.calls.get());
+    }
+}
@@ -0,0 +1,262 @@
+package org.clever.web.filter;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.http.Cookie;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.SneakyThrows;
+import lombok.extern.slf4j.Slf4j;
+import org.clever.web.FilterRegistrar;
+import org.clever.web.MockRequest;
+import org.clever.web.MockResponse;
+import org.clever.web.config.ResponseCacheConfig;
+import org.clever.web.mvc.HandlerMethod;
+import org.clever.web.mvc.annotation.ResponseCache;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.MethodParameter;
+import org.springframework.util.unit.DataSize;
+
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 作者：lizw <br/>
+ * 创建时间：2026/10/19 05:58 <br/>
+ */
+@Slf4j
+public class ResponseCacheFilterTest {
+    private static final String HANDLER_METHOD_ATTRIBUTE = MvcHandlerMethodFilter.class.getName() + "_Handler_Method";
+
+    public static class DictHandler {
+        @ResponseCache(name = "dict")
+        public static Object dict() {
+            return null;
+        }
+
+        @ResponseCache(perUser = true)
+        public static Object menus() {
+            return null;
+        }
+    }
+
+    @SneakyThrows
+    private static HandlerMethod newHandlerMethod(String path, String methodName) {
+        return new HandlerMethod(path, DictHandler.class, DictHandler.class.getMethod(methodName), new MethodParameter[0]);
+    }
+
+    private static MockRequest newRequest(HandlerMethod handlerMethod, Map<String, String[]> params, String user, String ifNoneMatch) {
+        MockRequest request = new MockRequest("GET", handlerMethod.getMatcherPath()).params(params).user(user);
+        request.setAttribute(HANDLER_METHOD_ATTRIBUTE, handlerMethod);
+        if (ifNoneMatch != null) {
+            request.header("If-None-Match", ifNoneMatch);
+        }
+        return request;
+    }
+
+    /**
+     * 模拟执行 HandlerMethod(耗时 50ms)
+     */
+    private static FilterChain newChain(AtomicInteger invokeCount, int status, String json) {
+        return (req, res) -> {
+            invokeCount.incrementAndGet();
+            try {
+                Thread.sleep(50);
+            } catch (InterruptedException e) {
+                throw new RuntimeException(e);
+            }
+            HttpServletResponse response = (HttpServletResponse) res;
+            response.setStatus(status);
+            response.setContentType("application/json");
+            response.getOutputStream().write(json.getBytes(StandardCharsets.UTF_8));
+            response.flushBuffer();
+        };
+    }
+
+    private static ResponseCacheFilter newFilter() {
+        ResponseCacheConfig config = new ResponseCacheConfig();
+        config.setEnable(true);
+        return new ResponseCacheFilter(config);
+    }
+
+    @SneakyThrows
+    @Test
+    public void t01() {
+        ResponseCacheFilter filter = newFilter();
+        HandlerMethod handlerMethod = newHandlerMethod("/api/dict", "dict");
+        AtomicInteger invokeCount = new AtomicInteger();
+        FilterChain chain = newChain(invokeCount, 200, "{\"a\":1}");
+        // 并发请求只执行一次 HandlerMethod
+        final int threads = 20;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        List<String> bodies = Collections.synchronizedList(new ArrayList<>());
+        for (int i = 0; i < threads; i++) {
+            executor.execute(() -> {
+                try {
+                    start.await();
+                    MockResponse response = new MockResponse();
+                    filter.doFilter(new FilterRegistrar.Context(newRequest(handlerMethod, Map.of(), null, null), response, chain));
+                    bodies.add(response.getBodyAsString());
+                } catch (Exception e) {
+                    throw new RuntimeException(e);
+                }
+            });
+        }
+        start.countDown();
+        executor.shutdown();
+        Assertions.assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS));
+        Assertions.assertEquals(1, invokeCount.get());
+        Assertions.assertEquals(threads, bodies.size());
+        Assertions.assertTrue(bodies.stream().allMatch("{\"a\":1}"::equals));
+        // 缓存命中
+        MockResponse response = new MockResponse();
+        filter.doFilter(new FilterRegistrar.Context(newRequest(handlerMethod, Map.of(), null, null), response, chain));
+        Assertions.assertEquals(1, invokeCount.get());
+        Assertions.assertEquals("{\"a\":1}", response.getBodyAsString());
+        Assertions.assertEquals("application/json", response.getContentType());
+        final String etag = response.getHeader("ETag");
+        Assertions.assertNotNull(etag);
+        // 客户端缓存未变化
+        response = new MockResponse();
+        filter.doFilter(new FilterRegistrar.Context(newRequest(handlerMethod, Map.of(), null, etag), response, chain));
+        Assertions.assertEquals(304, response.getStatus());
+        Assertions.assertEquals(0, response.getBody().length);
+        // 清除缓存
+        filter.evict("dict");
+        filter.doFilter(new FilterRegistrar.Context(newRequest(handlerMethod, Map.of(), null, null), new MockResponse(), chain));
+        Assertions.assertEquals(2, invokeCount.get());
+        ResponseCacheFilter.Metrics metrics = filter.getMetrics();
+        log.info("--> {}", metrics);
+        Assertions.assertEquals(2, metrics.getMisses());
+        Assertions.assertEquals(threads - 1, metrics.getWaits());
+        Assertions.assertEquals(2, metrics.getHits());
+        Assertions.assertEquals(1, metrics.getNotModified());
+    }
+
+    @SneakyThrows
+    @Test
+    public void t02() {
+        ResponseCacheFilter filter = newFilter();
+        HandlerMethod dict = newHandlerMethod("/api/dict", "dict");
+        HandlerMethod menus = newHandlerMethod("/api/menus", "menus");
+        AtomicInteger invokeCount = new AtomicInteger();
+        FilterChain chain = newChain(invokeCount, 200, "[]");
+        // 请求参数不同(参数顺序不影响)
+        filter.doFilter(new FilterRegistrar.Context(newRequest(dict, new LinkedHashMap<>(Map.of("a", new String[]{"1"}, "b", new String[]{"2"})), null, null), new MockResponse(), chain));
+        filter.doFilter(new FilterRegistrar.Context(newRequest(dict, new TreeMap<>(Map.of("b", new String[]{"2"}, "a", new String[]{"1"})), null, null), new MockResponse(), chain));
+        Assertions.assertEquals(1, invokeCount.get());
+        filter.doFilter(new FilterRegistrar.Context(newRequest(dict, Map.of("a", new String[]{"2"}), null, null), new MockResponse(), chain));
+        Assertions.assertEquals(2, invokeCount.get());
+        // 按用户缓存
+        filter.doFilter(new FilterRegistrar.Context(newRequest(menus, Map.of(), "u1", null), new MockResponse(), chain));
+        filter.doFilter(new FilterRegistrar.Context(newRequest(menus, Map.of(), "u1", null), new MockResponse(), chain));
+        filter.doFilter(new FilterRegistrar.Context(newRequest(menus, Map.of(), "u2", null), new MockResponse(), chain));
+        Assertions.assertEquals(4, invokeCount.get());
+        // 非 200 响应不缓存
+        invokeCount.set(0);
+        FilterChain errorChain = newChain(invokeCount, 500, "{\"error\":1}");
+        HandlerMethod other = newHandlerMethod("/api/other", "dict");
+        for (int i = 0; i < 2; i++) {
+            MockResponse response = new MockResponse();
+            filter.doFilter(new FilterRegistrar.Context(newRequest(other, Map.of(), null, null), response, errorChain));
+            Assertions.assertEquals(500, response.getStatus());
+            Assertions.assertEquals("{\"error\":1}", response.getBodyAsString());
+        }
+        Assertions.assertEquals(2, invokeCount.get());
+        // 超过 maxEntrySize 的响应数据不缓存
+        ResponseCacheConfig config = new ResponseCacheConfig();
+        config.setEnable(true);
+        config.setMaxEntrySize(DataSize.ofBytes(8));
+        ResponseCacheFilter smallFilter = new ResponseCacheFilter(config);
+        invokeCount.set(0);
+        FilterChain largeChain = newChain(invokeCount, 200, "{\"data\":\"0123456789\"}");
+        for (int i = 0; i < 2; i++) {
+            MockResponse response = new MockResponse();
+            smallFilter.doFilter(new FilterRegistrar.Context(newRequest(dict, Map.of(), null, null), response, largeChain));
+            Assertions.assertEquals("{\"data\":\"0123456789\"}", response.getBodyAsString());
+        }
+        Assertions.assertEquals(2, invokeCount.get());
+        log.info("--> {} | {}", filter.getMetrics(), smallFilter.getMetrics());
+    }
+
+    /**
+     * 参数值中包含分隔符时缓存 key 不会冲突
+     */
+    @Test
+    public void t03() {
+        ResponseCacheFilter filter = newFilter();
+        HandlerMethod dict = newHandlerMethod("/api/dict", "dict");
+        final String key1 = filter.getCacheKey("dict", false, newRequest(dict, Map.of("a", new String[]{"1&b=2"}), null, null));
+        final String key2 = filter.getCacheKey("dict", false, newRequest(dict, Map.of("a", new String[]{"1"}, "b", new String[]{"2"}), null, null));
+        final String key3 = filter.getCacheKey("dict", false, newRequest(dict, Map.of("a", new String[]{"1", "b=2"}), null, null));
+        Assertions.assertNotEquals(key1, key2);
+        Assertions.assertNotEquals(key1, key3);
+        Assertions.assertNotEquals(key2, key3);
+        // 用户名中包含换行符
+        HandlerMethod menus = newHandlerMethod("/api/menus", "menus");
+        final String key4 = filter.getCacheKey("menus", true, newRequest(menus, Map.of(), "u1\nu2", null));
+        final String key5 = filter.getCacheKey("menus\nu1", true, newRequest(menus, Map.of(), "u2", null));
+        Assertions.assertNotEquals(key4, key5);
+    }
+
+    /**
+     * 缓存命中时输出 HandlerMethod 设置的响应头，设置了 Cookie 的响应不缓存
+     */
+    @SneakyThrows
+    @Test
+    public void t04() {
+        ResponseCacheFilter filter = newFilter();
+        HandlerMethod dict = newHandlerMethod("/api/dict", "dict");
+        AtomicInteger invokeCount = new AtomicInteger();
+        FilterChain chain = (req, res) -> {
+            invokeCount.incrementAndGet();
+            HttpServletResponse response = (HttpServletResponse) res;
+            response.setContentType("application/json");
+            response.setHeader("Cache-Control", "max-age=60");
+            response.addHeader("Vary", "Accept");
+            response.addHeader("Vary", "Accept-Language");
+            response.setHeader("ETag", "\"handler\"");
+            response.getOutputStream().write("{}".getBytes(StandardCharsets.UTF_8));
+        };
+        filter.doFilter(new FilterRegistrar.Context(newRequest(dict, Map.of(), null, null), new MockResponse(), chain));
+        MockResponse response = new MockResponse();
+        filter.doFilter(new FilterRegistrar.Context(newRequest(dict, Map.of(), null, null), response, chain));
+        Assertions.assertEquals(1, invokeCount.get());
+        Assertions.assertEquals("{}", response.getBodyAsString());
+        Assertions.assertEquals("max-age=60", response.getHeader("Cache-Control"));
+        Assertions.assertEquals(List.of("Accept", "Accept-Language"), response.getHeaders("Vary"));
+        // ETag 使用响应内容的hash
+        Assertions.assertNotEquals("\"handler\"", response.getHeader("ETag"));
+        // 设置了 Cookie 的响应
+        invokeCount.set(0);
+        HandlerMethod other = newHandlerMethod("/api/other", "dict");
+        FilterChain cookieChain = (req, res) -> {
+            invokeCount.incrementAndGet();
+            HttpServletResponse resp = (HttpServletResponse) res;
+            resp.setHeader("Set-Cookie", "sid=1");
+            resp.getOutputStream().write("{}".getBytes(StandardCharsets.UTF_8));
+        };
+        for (int i = 0; i < 2; i++) {
+            response = new MockResponse();
+            filter.doFilter(new FilterRegistrar.Context(newRequest(other, Map.of(), null, null), response, cookieChain));
+            Assertions.assertEquals("sid=1", response.getHeader("Set-Cookie"));
+        }
+        Assertions.assertEquals(2, invokeCount.get());
+        HandlerMethod another = newHandlerMethod("/api/another", "dict");
+        invokeCount.set(0);
+        FilterChain addCookieChain = (req, res) -> {
+            invokeCount.incrementAndGet();
+            ((HttpServletResponse) res).addCookie(new Cookie("sid", "1"));
+            res.getOutputStream().write("{}".getBytes(StandardCharsets.UTF_8));
+        };
+        for (int i = 0; i < 2; i++) {
+            filter.doFilter(new FilterRegistrar.Context(newRequest(another, Map.of(), null, null), new MockResponse(), addCookieChain));
+        }
+        Assertions.assertEquals(2, invokeCount.get());
+    }
+}
@@ -0,0 +1,129 @@
+package org.clever.web.filter;
+
+import lombok.SneakyThrows;
+import lombok.extern.slf4j.Slf4j;
+import org.clever.core.PhaseTimer;
+import org.clever.data.jdbc.listener.PhaseTimerListener;
+import org.clever.web.FilterRegistrar;
+import org.clever.web.MockRequest;
+import org.clever.web.MockResponse;
+import org.clever.web.config.ServerTimingConfig;
+import org.clever.web.support.RouteTimingMetrics;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * 作者：lizw <br/>
+ * 创建时间：2026/10/19 05:42 <br/>
+ */
+@Slf4j
+public class ServerTimingFilterTest {
+    @SneakyThrows
+    private static void sleep(long millis) {
+        Thread.sleep(millis);
+    }
+
+    @SneakyThrows
+    @Test
+    public void t01() {
+        ServerTimingConfig config = new ServerTimingConfig();
+        config.setEnable(true);
+        config.setResponseHeader(true);
+        ServerTimingFilter filter = new ServerTimingFilter(config);
+        // 模拟过滤器链: 认证过滤器(含一次sql) -> 处理请求(两次sql、一次响应数据)
+        FilterRegistrar.FilterAdapter authFilter = new FilterRegistrar.FilterAdapter(ctx -> {
+            sleep(20);
+            PhaseTimerListener.INSTANCE.beforeExec(null, null);
+            sleep(10);
+            PhaseTimerListener.INSTANCE.afterExec(null, null, null);
+            ctx.next();
+        }, "AuthenticationFilter");
+        MockResponse response = null;
+        for (int i = 0; i < 3; i++) {
+            response = new MockResponse();
+            filter.doFilter(new FilterRegistrar.Context(new MockRequest("GET", "/api/a"), response, (req, res) -> authFilter.doFilter(req, res, (req2, res2) -> {
+                for (int j = 0; j < 2; j++) {
+                    PhaseTimerListener.INSTANCE.beforeExec(null, null);
+                    sleep(5);
+                    PhaseTimerListener.INSTANCE.afterExec(null, null, null);
+                }
+                res2.getOutputStream().write('{');
+                // 响应提交之后的耗时不会输出到响应头
+                sleep(10);
+            })));
+        }
+        final String serverTiming = response.getHeader(ServerTimingFilter.SERVER_TIMING_HEADER);
+        log.info("--> {}", serverTiming);
+        Assertions.assertNotNull(serverTiming);
+        Assertions.assertTrue(serverTiming.contains("AuthenticationFilter;dur="));
+        Assertions.assertTrue(serverTiming.contains("sql;dur="));
+        Assertions.assertTrue(serverTiming.contains(";desc=\"3 calls\""));
+        Assertions.assertTrue(serverTiming.contains("total;dur="));
+        // 请求完成后线程上不再绑定计时器
+        Assertions.assertNull(PhaseTimer.current());
+        List<RouteTimingMetrics.RouteMetrics> metrics = filter.getMetrics();
+        log.info("--> {}", metrics);
+        Assertions.assertEquals(1, metrics.size());
+        Assertions.assertEquals("GET /api/a", metrics.get(0).getRoute());
+        RouteTimingMetrics.PhaseMetrics auth = metrics.get(0).getPhases().get("AuthenticationFilter");
+        RouteTimingMetrics.PhaseMetrics sql = metrics.get(0).getPhases().get(PhaseTimerListener.PHASE);
+        RouteTimingMetrics.PhaseMetrics total = metrics.get(0).getPhases().get(RouteTimingMetrics.TOTAL_PHASE);
+        Assertions.assertEquals(3, auth.getCount());
+        // 过滤器自身耗时不包含后续过滤器的耗时
+        Assertions.assertTrue(auth.getAvg() >= 30 && auth.getAvg() < 40);
+        Assertions.assertTrue(sql.getAvg() >= 20);
+        Assertions.assertTrue(total.getAvg() >= 50);
+    }
+
+    @Test
+    public void t02() {
+        RouteTimingMetrics metrics = new RouteTimingMetrics(2, List.of(Duration.ofMillis(1), Duration.ofMillis(10), Duration.ofMillis(100)));
+        for (int i = 1; i <= 100; i++) {
+            metrics.record("GET /a", Duration.ofMillis(i).toNanos(), List.of());
+        }
+        metrics.record("GET /b", 1, List.of());
+        metrics.record("GET /c", 1, List.of());
+        metrics.record("GET /d", 1, List.of());
+        List<RouteTimingMetrics.RouteMetrics> list = metrics.getMetrics();
+        log.info("--> {}", list);
+        Assertions.assertEquals(List.of("GET /a", "GET /b", RouteTimingMetrics.OTHER_ROUTE), list.stream().map(RouteTimingMetrics.RouteMetrics::getRoute).toList());
+        RouteTimingMetrics.PhaseMetrics total = list.get(0).getPhases().get(RouteTimingMetrics.TOTAL_PHASE);
+        Assertions.assertEquals(100, total.getCount());
+        Assertions.assertEquals(100, total.getP50());
+        Assertions.assertEquals(1, total.getBuckets().get("1.0"));
+        Assertions.assertEquals(9, total.getBuckets().get("10.0"));
+        Assertions.assertEquals(90, total.getBuckets().get("100.0"));
+        Assertions.assertEquals(0, total.getBuckets().get("+Inf"));
+        Assertions.assertEquals(2, list.get(2).getPhases().get(RouteTimingMetrics.TOTAL_PHASE).getCount());
+    }
+
+    /**
+     * 没有配对的 afterExec 不会影响后续请求的sql耗时统计
+     */
+    @Test
+    public void t03() {
+        PhaseTimer first = new PhaseTimer();
+        PhaseTimer.bind(first);
+        try {
+            // 只调用了 beforeExec(例如: 其它监听器异常)
+            PhaseTimerListener.INSTANCE.beforeExec(null, null);
+        } finally {
+            PhaseTimer.unbind();
+        }
+        PhaseTimer second = new PhaseTimer();
+        PhaseTimer.bind(second);
+        try {
+            PhaseTimerListener.INSTANCE.beforeExec(null, null);
+            PhaseTimerListener.INSTANCE.afterExec(null, null, null);
+        } finally {
+            PhaseTimer.unbind();
+        }
+        Assertions.assertTrue(first.getPhases().isEmpty());
+        Assertions.assertEquals(1, second.getPhases().size());
+        Assertions.assertEquals(PhaseTimerListener.PHASE, second.getPhases().get(0).getName());
+        Assertions.assertEquals(1, second.getPhases().get(0).getCount());
+    }
+}
@@ -1,7 +1,14 @@
 package org.clever.web.http;
 
+import jakarta.servlet.ServletContext;
+import jakarta.servlet.http.HttpServletRequest;
 import lombok.SneakyThrows;
 import lombok.extern.slf4j.Slf4j;
+import org.clever.web.MockRequest;
+import org.clever.web.MockResponse;
+import org.clever.web.config.StaticResourceConfig;
+import org.clever.web.support.StaticResourceHandler;
+import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 import org.springframework.core.io.DefaultResourceLoader;
 import org.springframework.core.io.FileSystemResourceLoader;
@@ -9,6 +16,11 @@ import org.springframework.core.io.Resource;
 import org.springframework.util.ResourceUtils;
 
 import java.io.File;
+import java.lang.reflect.Proxy;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
 
 /**
  * 作者：lizw <br/>
@@ -74,4 +86,75 @@ public class StaticResourceHandlerTest {
         Resource res = resourceLoader.getResource("classpath:META-INF/maven/org.apache.commons/commons-lang3");
         log.info("-> {}", res.getURL().toExternalForm());
     }
+
+    private static HttpServletRequest newRequest(String uri) {
+        final ServletContext servletContext = (ServletContext) Proxy.newProxyInstance(
+            StaticResourceHandlerTest.class.getClassLoader(), new Class[]{ServletContext.class}, (proxy, m, args) -> null
+        );
+        return new MockRequest("GET", uri).servletContext(servletContext);
+    }
+
+    @SneakyThrows
+    @Test
+    public void t06() {
+        Path dir = Files.createTempDirectory("static-cache");
+        Path file = dir.resolve("app.js");
+        Files.writeString(file, "console.log('hello world');\n".repeat(200), StandardCharsets.UTF_8);
+        StaticResourceConfig.ResourceMapping mapping = new StaticResourceConfig.ResourceMapping();
+        mapping.setHostedPath("/static/");
+        mapping.setLocation(dir.toAbsolutePath().toString());
+        StaticResourceConfig.ResourceCache cacheConfig = new StaticResourceConfig.ResourceCache();
+        cacheConfig.setEnable(true);
+        cacheConfig.setCheckInterval(Duration.ZERO);
+        StaticResourceHandler handler = new StaticResourceHandler("./", mapping, cacheConfig);
+        StaticResourceHandler.CachedResource cached = handler.getCachedResource(newRequest("/static/app.js"));
+        log.info("-> {} | size={} | gzip={} | {}", cached.getMediaType(), cached.getContent().length, cached.getGzipContent().length, cached.getEtag());
+        Assertions.assertEquals(Files.size(file), cached.getContent().length);
+        Assertions.assertTrue(cached.getGzipContent().length < cached.getContent().length);
+        // 命中缓存
+        Assertions.assertSame(cached, handler.getCachedResource(newRequest("/static/app.js")));
+        // 文件变化后重新加载
+        Files.writeString(file, "console.log('changed');\n".repeat(200), StandardCharsets.UTF_8);
+        Files.setLastModifiedTime(file, java.nio.file.attribute.FileTime.fromMillis(System.currentTimeMillis() + 2000));
+        StaticResourceHandler.CachedResource changed = handler.getCachedResource(newRequest("/static/app.js"));
+        Assertions.assertNotSame(cached, changed);
+        Assertions.assertNotEquals(cached.getEtag(), changed.getEtag());
+        Assertions.assertNull(handler.getCachedResource(newRequest("/static/not-exists.js")));
+        Files.delete(file);
+        Files.delete(dir);
+    }
+
+    /**
+     * 不使用最后修改时间时仍然根据ETag响应304
+     */
+    @Test
+    public void t07() {
+        StaticResourceConfig.ResourceMapping mapping = new StaticResourceConfig.ResourceMapping();
+        mapping.setHostedPath("/static/");
+        mapping.setLocation("./src/test/resources/static");
+        StaticResourceHandler handler = new StaticResourceHandler("./", mapping, new StaticResourceConfig.ResourceCache());
+        handler.setUseLastModified(false);
+        final long lastModified = System.currentTimeMillis();
+        MockResponse response = new MockResponse();
+        MockRequest request = new MockRequest("GET", "/static/index.html").header("If-None-Match", "\"abc\"");
+        Assertions.assertTrue(handler.checkNotModified(request, response, "abc", lastModified));
+        Assertions.assertEquals(304, response.getStatus());
+        // ETag不匹配
+        response = new MockResponse();
+        request = new MockRequest("GET", "/static/index.html").header("If-None-Match", "\"old\"");
+        Assertions.assertFalse(handler.checkNotModified(request, response, "abc", lastModified));
+        Assertions.assertEquals(200, response.getStatus());
+        Assertions.assertEquals("\"abc\"", response.getHeader("ETag"));
+        Assertions.assertNull(response.getHeader("Last-Modified"));
+        // 最后修改时间不参与判断
+        response = new MockResponse();
+        request = new MockRequest("GET", "/static/index.html").header("If-Modified-Since", String.valueOf(lastModified));
+        Assertions.assertFalse(handler.checkNotModified(request, response, lastModified));
+        Assertions.assertFalse(handler.checkNotModified(request, response, null, lastModified));
+        Assertions.assertEquals(200, response.getStatus());
+        // 使用最后修改时间
+        handler.setUseLastModified(true);
+        Assertions.assertTrue(handler.checkNotModified(request, response, lastModified));
+        Assertions.assertEquals(304, response.getStatus());
+    }
 }
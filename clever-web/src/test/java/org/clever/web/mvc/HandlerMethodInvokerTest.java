@@ -0,0 +1,83 @@
+package org.clever.web.mvc;
+
+import lombok.SneakyThrows;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.lang.reflect.Method;
+
+/**
+ * 作者：lizw <br/>
+ * 创建时间：2026/10/19 04:50 <br/>
+ */
+@Slf4j
+public class HandlerMethodInvokerTest {
+    public static String add(String name, int a, Integer b) {
+        return name + "=" + (a + b);
+    }
+
+    public static void error() throws IOException {
+        throw new IOException("test");
+    }
+
+    public static long sum(long a, int b, short c, byte d, double e, float f, char g, boolean h) {
+        return h ? (long) (a + b + c + d + e + f + g) : 0;
+    }
+
+    public static final StringBuilder OUT = new StringBuilder();
+
+    public static void print(String str, int count) {
+        OUT.append(str.repeat(count));
+    }
+
+    @SneakyThrows
+    @Test
+    public void t01() {
+        Method method = HandlerMethodInvokerTest.class.getMethod("add", String.class, int.class, Integer.class);
+        HandlerMethodInvoker invoker = HandlerMethodInvoker.create(method);
+        Object[] args = new Object[]{"sum", 1, 2};
+        Assertions.assertNull(invoker.checkArguments(args));
+        Assertions.assertEquals("sum=3", invoker.invoke(args));
+        Assertions.assertNotNull(invoker.checkArguments(new Object[]{"sum", null, 2}));
+        Assertions.assertNotNull(invoker.checkArguments(new Object[]{"sum", "1", 2}));
+        Assertions.assertNotNull(invoker.checkArguments(new Object[]{"sum", 1}));
+        // 函数抛出的异常原样抛出
+        HandlerMethodInvoker errorInvoker = HandlerMethodInvoker.create(HandlerMethodInvokerTest.class.getMethod("error"));
+        Assertions.assertThrows(IOException.class, () -> errorInvoker.invoke(new Object[0]));
+        // 没有返回值的函数
+        HandlerMethodInvoker printInvoker = HandlerMethodInvoker.create(HandlerMethodInvokerTest.class.getMethod("print", String.class, int.class));
+        Assertions.assertNull(printInvoker.invoke(new Object[]{"ab", 2}));
+        Assertions.assertEquals("abab", OUT.toString());
+        // 参数数量超过 MAX_LAMBDA_ARITY 的函数
+        Method sum = HandlerMethodInvokerTest.class.getMethod("sum", long.class, int.class, short.class, byte.class, double.class, float.class, char.class, boolean.class);
+        Assertions.assertTrue(sum.getParameterCount() > HandlerMethodInvoker.MAX_LAMBDA_ARITY);
+        Object[] sumArgs = new Object[]{1L, 2, (short) 3, (byte) 4, 5D, 6F, (char) 7, true};
+        Assertions.assertNull(HandlerMethodInvoker.create(sum).checkArguments(sumArgs));
+        Assertions.assertEquals(28L, HandlerMethodInvoker.create(sum).invoke(sumArgs));
+    }
+
+    @SneakyThrows
+    @Test
+    public void t02() {
+        Method method = HandlerMethodInvokerTest.class.getMethod("add", String.class, int.class, Integer.class);
+        HandlerMethodInvoker invoker = HandlerMethodInvoker.create(method);
+        Object[] args = new Object[]{"sum", 1, 2};
+        final int count = 5_000_000;
+        for (int i = 0; i < count; i++) {
+            invoker.invoke(args);
+            method.invoke(null, args);
+        }
+        long startTime = System.nanoTime();
+        for (int i = 0; i < count; i++) {
+            invoker.invoke(args);
+        }
+        log.info("--> Lambda     平均耗时={}ns", (System.nanoTime() - startTime) / (double) count);
+        startTime = System.nanoTime();
+        for (int i = 0; i < count; i++) {
+            method.invoke(null, args);
+        }
+        log.info("--> Reflection   平均耗时={}ns", (System.nanoTime() - startTime) / (double) count);
+    }
+}
@@ -1,6 +1,7 @@
 package org.clever.web.mvc;
 
 import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 
 /**
@@ -43,4 +44,76 @@ public class HttpRouteRegisterTest {
         ;
         registry.printAllRouteInfo();
     }
+
+    @Test
+    public void t02() {
+        String clazz = "org.clever.jscript.groovy.GroovyMain1";
+        HttpRouteRegistry registry = new HttpRouteRegistry();
+        registry.get("/api/user/list", clazz, "list")
+            .get("/api/user/{id}", clazz, "getById")
+            .put("/api/user/{id}", clazz, "update")
+            .get("/api/user/{id}/roles/{roleId}", clazz, "getRole")
+            .get("/api/user/*/avatar", clazz, "avatar")
+            .get("/api/files/{*path}", clazz, "file")
+            .get("/api/**", clazz, "fallback");
+        // 字面量优先于路径变量
+        Assertions.assertEquals("list", registry.match("/api/user/list", "GET").getMethod());
+        RouteMatch match = registry.matchRoute("/api/user/123", "GET");
+        Assertions.assertEquals("getById", match.getRouteInfo().getMethod());
+        Assertions.assertEquals("123", match.getPathVariables().get("id"));
+        Assertions.assertEquals("update", registry.match("/api/user/123", "PUT").getMethod());
+        match = registry.matchRoute("/api/user/123/roles/9", "GET");
+        Assertions.assertEquals("getRole", match.getRouteInfo().getMethod());
+        Assertions.assertEquals("9", match.getPathVariables().get("roleId"));
+        Assertions.assertEquals("avatar", registry.match("/api/user/123/avatar", "GET").getMethod());
+        match = registry.matchRoute("/api/files/a/b/c.txt", "GET");
+        Assertions.assertEquals("file", match.getRouteInfo().getMethod());
+        Assertions.assertEquals("a/b/c.txt", match.getPathVariables().get("path"));
+        // 回溯到多段通配符
+        Assertions.assertEquals("fallback", registry.match("/api/user/123/other", "GET").getMethod());
+        Assertions.assertNull(registry.match("/api/user/123", "DELETE"));
+        Assertions.assertNull(registry.match("/other", "GET"));
+        registry.unregister("/api/user/{id}", "GET");
+        Assertions.assertEquals("fallback", registry.match("/api/user/123", "GET").getMethod());
+    }
+
+    @Test
+    public void t03() {
+        String clazz = "org.clever.jscript.groovy.GroovyMain1";
+        HttpRouteRegistry registry = new HttpRouteRegistry();
+        for (int i = 0; i < 5000; i++) {
+            registry.get("/api/module" + i + "/{id}/detail", clazz, "m" + i);
+        }
+        final int count = 1_000_000;
+        long startTime = System.nanoTime();
+        for (int i = 0; i < count; i++) {
+            registry.matchRoute("/api/module" + (i % 5000) + "/123/detail", "GET");
+        }
+        log.info("--> 路由数量=5000 | 平均耗时={}ns", (System.nanoTime() - startTime) / count);
+        Assertions.assertEquals("m4999", registry.match("/api/module4999/1/detail", "GET").getMethod());
+    }
+
+    /**
+     * 路径变量名不同的路由冲突
+     */
+    @Test
+    public void t04() {
+        String clazz = "org.clever.jscript.groovy.GroovyMain1";
+        HttpRouteRegistry registry = new HttpRouteRegistry();
+        registry.get("/a/{id}", clazz, "byId");
+        Assertions.assertThrows(IllegalArgumentException.class, () -> registry.get("/a/{uid}", clazz, "byUid"));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> registry.get("/b/**", clazz, "all").get("/b/{*path}", clazz, "path"));
+        Assertions.assertEquals(2, registry.getAllRouteInfo().size());
+        // 不同 httpMethod 不冲突，相同路径会替换
+        registry.post("/a/{uid}", clazz, "post");
+        registry.get("/a//{id}/", clazz, "byId2");
+        Assertions.assertEquals("byId2", registry.match("/a/1", "GET").getMethod());
+        Assertions.assertEquals(3, registry.getAllRouteInfo().size());
+        // 只能删除注册时的路由路径
+        registry.unregister("/a/{uid}", "GET");
+        Assertions.assertEquals("byId2", registry.match("/a/1", "GET").getMethod());
+        registry.unregister("/a//{id}/", "GET");
+        Assertions.assertNull(registry.match("/a/1", "GET"));
+        Assertions.assertEquals("post", registry.match("/a/1", "POST").getMethod());
+    }
 }
@@ -0,0 +1,117 @@
+package org.clever.web.mvc.interceptor;
+
+import lombok.SneakyThrows;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DataSourceUtils;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.DefaultTransactionDefinition;
+
+import javax.sql.DataSource;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 作者：lizw <br/>
+ * 创建时间：2026/10/19 04:56 <br/>
+ */
+@Slf4j
+public class TransactionInterceptorTest {
+    private static final AtomicInteger CONNECTIONS = new AtomicInteger();
+    private static final List<String> CALLS = new ArrayList<>();
+
+    private static DataSource newDataSource() {
+        return (DataSource) Proxy.newProxyInstance(
+            TransactionInterceptorTest.class.getClassLoader(),
+            new Class[]{DataSource.class},
+            (proxy, m, args) -> switch (m.getName()) {
+                case "getConnection" -> {
+                    CONNECTIONS.incrementAndGet();
+                    yield newConnection();
+                }
+                case "hashCode" -> System.identityHashCode(proxy);
+                case "equals" -> proxy == args[0];
+                default -> null;
+            }
+        );
+    }
+
+    private static Connection newConnection() {
+        return (Connection) Proxy.newProxyInstance(
+            TransactionInterceptorTest.class.getClassLoader(),
+            new Class[]{Connection.class},
+            (proxy, m, args) -> {
+                CALLS.add(m.getName());
+                return switch (m.getName()) {
+                    case "getAutoCommit" -> true;
+                    case "getTransactionIsolation" -> Connection.TRANSACTION_READ_COMMITTED;
+                    case "isReadOnly", "isClosed" -> false;
+                    case "createStatement" -> Proxy.newProxyInstance(
+                        TransactionInterceptorTest.class.getClassLoader(), new Class[]{Statement.class}, (p, sm, sa) -> null
+                    );
+                    case "hashCode" -> System.identityHashCode(proxy);
+                    case "equals" -> proxy == args[0];
+                    default -> null;
+                };
+            }
+        );
+    }
+
+    @SneakyThrows
+    @Test
+    public void t01() {
+        DataSource dataSource = newDataSource();
+        DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(
+            new TransactionInterceptor.LazyTransactionDataSource(dataSource)
+        );
+        // 读取数据源默认的连接属性
+        transactionManager.commit(transactionManager.getTransaction(new DefaultTransactionDefinition()));
+        final int connections = CONNECTIONS.get();
+        CALLS.clear();
+        // 未执行SQL，不会获取数据库连接
+        TransactionStatus status = transactionManager.getTransaction(new DefaultTransactionDefinition());
+        transactionManager.commit(status);
+        Assertions.assertEquals(connections, CONNECTIONS.get());
+        Assertions.assertTrue(CALLS.isEmpty());
+        // 执行SQL时获取数据库连接并开启事务
+        status = transactionManager.getTransaction(new DefaultTransactionDefinition());
+        Connection connection = DataSourceUtils.getConnection(dataSource);
+        connection.createStatement();
+        // 事务内使用的是同一个连接
+        Assertions.assertSame(connection, DataSourceUtils.getConnection(dataSource));
+        transactionManager.commit(status);
+        log.info("--> {}", CALLS);
+        Assertions.assertEquals(connections + 1, CONNECTIONS.get());
+        Assertions.assertTrue(CALLS.contains("setAutoCommit"));
+        Assertions.assertTrue(CALLS.contains("commit"));
+        Assertions.assertTrue(CALLS.contains("close"));
+    }
+
+    /**
+     * 延迟开启事务的事务管理器使用原事务管理器的配置
+     */
+    @Test
+    public void t02() {
+        DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(newDataSource());
+        transactionManager.setDefaultTimeout(30);
+        transactionManager.setRollbackOnCommitFailure(true);
+        transactionManager.setEnforceReadOnly(true);
+        transactionManager.setValidateExistingTransaction(true);
+        transactionManager.setGlobalRollbackOnParticipationFailure(false);
+        DataSourceTransactionManager lazyTransactionManager = new DataSourceTransactionManager(
+            new TransactionInterceptor.LazyTransactionDataSource(transactionManager.getDataSource())
+        );
+        TransactionInterceptor.copyConfig(transactionManager, lazyTransactionManager);
+        Assertions.assertEquals(30, lazyTransactionManager.getDefaultTimeout());
+        Assertions.assertTrue(lazyTransactionManager.isRollbackOnCommitFailure());
+        Assertions.assertTrue(lazyTransactionManager.isEnforceReadOnly());
+        Assertions.assertTrue(lazyTransactionManager.isValidateExistingTransaction());
+        Assertions.assertFalse(lazyTransactionManager.isGlobalRollbackOnParticipationFailure());
+    }
+}
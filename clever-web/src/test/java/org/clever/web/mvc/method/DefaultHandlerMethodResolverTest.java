@@ -0,0 +1,93 @@
+package org.clever.web.mvc.method;
+
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.extern.slf4j.Slf4j;
+import org.clever.web.MockRequest;
+import org.clever.web.config.MvcConfig;
+import org.clever.web.mvc.HandlerMethod;
+import org.clever.web.mvc.HttpRouteRegistry;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * 作者：lizw <br/>
+ * 创建时间：2026/10/19 04:47 <br/>
+ */
+@Slf4j
+public class DefaultHandlerMethodResolverTest {
+    public static String hello(String name) {
+        return "hello " + name;
+    }
+
+    private static HttpServletRequest newRequest(String method, String uri) {
+        return new MockRequest(method, uri);
+    }
+
+    private static MvcConfig newMvcConfig() {
+        MvcConfig mvcConfig = new MvcConfig();
+        mvcConfig.getAllowPackages().add("org.clever.web.mvc.method");
+        return mvcConfig;
+    }
+
+    @Test
+    public void t01() {
+        MvcConfig mvcConfig = newMvcConfig();
+        DefaultHandlerMethodResolver resolver = new DefaultHandlerMethodResolver("./", mvcConfig.getHotReload());
+        String path = "/org/clever/web/mvc/method/DefaultHandlerMethodResolverTest@hello";
+        HandlerMethod handlerMethod = resolver.getHandleMethod(newRequest("GET", path), null, mvcConfig);
+        log.info("--> {}", handlerMethod);
+        Assertions.assertNotNull(handlerMethod);
+        Assertions.assertEquals("hello", handlerMethod.getMethod().getName());
+        // 命中缓存
+        Assertions.assertSame(handlerMethod, resolver.getHandleMethod(newRequest("GET", path), null, mvcConfig));
+        // 未匹配的结果也会缓存
+        Assertions.assertNull(resolver.getHandleMethod(newRequest("GET", "/org/clever/web/mvc/method/NotExists@hello"), null, mvcConfig));
+        Assertions.assertNull(resolver.getHandleMethod(newRequest("GET", "/org/clever/web/mvc/method/NotExists@hello"), null, mvcConfig));
+        resolver.clearCache();
+        Assertions.assertNotSame(handlerMethod, resolver.getHandleMethod(newRequest("GET", path), null, mvcConfig));
+    }
+
+    @Test
+    public void t02() {
+        MvcConfig mvcConfig = newMvcConfig();
+        DefaultHandlerMethodResolver resolver = new DefaultHandlerMethodResolver("./", mvcConfig.getHotReload());
+        HttpRouteRegistry routeRegistry = new HttpRouteRegistry();
+        routeRegistry.get("/api/hello/{name}", DefaultHandlerMethodResolverTest.class, "hello");
+        resolver.setRouteRegistry(routeRegistry);
+        HttpServletRequest request = newRequest("GET", "/api/hello/lizw");
+        HandlerMethod handlerMethod = resolver.getHandleMethod(request, null, mvcConfig);
+        Assertions.assertNotNull(handlerMethod);
+        Assertions.assertEquals("lizw", HttpRouteRegistry.getPathVariables(request).get("name"));
+        // 同一个路由的不同请求路径共用 HandlerMethod
+        Assertions.assertSame(handlerMethod, resolver.getHandleMethod(newRequest("GET", "/api/hello/abc"), null, mvcConfig));
+    }
+
+    /**
+     * mvc 配置或注册的路由变化时缓存失效
+     */
+    @Test
+    public void t03() {
+        MvcConfig mvcConfig = newMvcConfig();
+        DefaultHandlerMethodResolver resolver = new DefaultHandlerMethodResolver("./", mvcConfig.getHotReload());
+        String path = "/org/clever/web/mvc/method/DefaultHandlerMethodResolverTest@hello";
+        Assertions.assertNotNull(resolver.getHandleMethod(newRequest("GET", path), null, mvcConfig));
+        // 修改 allowPackages
+        mvcConfig.getAllowPackages().clear();
+        Assertions.assertNull(resolver.getHandleMethod(newRequest("GET", path), null, mvcConfig));
+        mvcConfig.getAllowPackages().add("org.clever.web.mvc.method");
+        Assertions.assertNotNull(resolver.getHandleMethod(newRequest("GET", path), null, mvcConfig));
+        // 修改 path
+        mvcConfig.setPath("/api");
+        Assertions.assertNull(resolver.getHandleMethod(newRequest("GET", path), null, mvcConfig));
+        Assertions.assertNotNull(resolver.getHandleMethod(newRequest("GET", "/api" + path), null, mvcConfig));
+        // 取消注册的路由
+        HttpRouteRegistry routeRegistry = new HttpRouteRegistry();
+        routeRegistry.get("/hello/{name}", DefaultHandlerMethodResolverTest.class, "hello");
+        resolver.setRouteRegistry(routeRegistry);
+        Assertions.assertNotNull(resolver.getHandleMethod(newRequest("GET", "/hello/lizw"), null, mvcConfig));
+        Assertions.assertTrue(resolver.resolvedCache.asMap().keySet().stream().anyMatch(key -> key.startsWith("route:")));
+        routeRegistry.unregister("/hello/{name}", "GET");
+        Assertions.assertNull(resolver.getHandleMethod(newRequest("GET", "/hello/lizw"), null, mvcConfig));
+        Assertions.assertTrue(resolver.resolvedCache.asMap().keySet().stream().noneMatch(key -> key.startsWith("route:")));
+    }
+}
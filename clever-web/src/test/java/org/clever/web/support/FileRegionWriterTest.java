@@ -0,0 +1,119 @@
+package org.clever.web.support;
+
+import jakarta.servlet.http.HttpServlet;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpServletResponseWrapper;
+import lombok.SneakyThrows;
+import lombok.extern.slf4j.Slf4j;
+import org.eclipse.jetty.server.HttpOutput;
+import org.eclipse.jetty.server.Server;
+import org.eclipse.jetty.server.ServerConnector;
+import org.eclipse.jetty.servlet.ServletContextHandler;
+import org.eclipse.jetty.servlet.ServletHolder;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.ByteArrayResource;
+import org.springframework.core.io.FileSystemResource;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 作者：lizw <br/>
+ * 创建时间：2026/10/19 05:10 <br/>
+ */
+@Slf4j
+public class FileRegionWriterTest {
+    @SneakyThrows
+    @Test
+    public void t01() {
+        byte[] data = new byte[(int) FileRegionWriter.MIN_FILE_SIZE * 4];
+        new Random(1).nextBytes(data);
+        Path file = Files.createTempFile("file-region", ".bin");
+        try {
+            Files.write(file, data);
+            FileSystemResource resource = new FileSystemResource(file);
+            Assertions.assertTrue(FileRegionWriter.isSupported(resource));
+            Assertions.assertFalse(FileRegionWriter.isSupported(new ByteArrayResource(data)));
+            try (FileChannel channel = FileRegionWriter.open(resource)) {
+                // 完整文件
+                ByteArrayOutputStream out = new ByteArrayOutputStream();
+                FileRegionWriter.write(channel, 0, data.length, out);
+                Assertions.assertArrayEquals(data, out.toByteArray());
+                // 文件区域
+                out = new ByteArrayOutputStream();
+                FileRegionWriter.write(channel, 1000, 70_000, out);
+                Assertions.assertArrayEquals(Arrays.copyOfRange(data, 1000, 71_000), out.toByteArray());
+                log.info("--> 文件大小={} | 区域大小={}", data.length, out.size());
+            }
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    /**
+     * 使用 Jetty 的 HttpOutput 输出(包括包装过的 response)
+     */
+    @SneakyThrows
+    @Test
+    public void t02() {
+        byte[] data = new byte[(int) FileRegionWriter.MIN_FILE_SIZE * 64 + 123];
+        new Random(2).nextBytes(data);
+        Path file = Files.createTempFile("file-region", ".bin");
+        Server server = new Server(0);
+        try {
+            Files.write(file, data);
+            FileSystemResource resource = new FileSystemResource(file);
+            AtomicBoolean sendContent = new AtomicBoolean(true);
+            ServletContextHandler context = new ServletContextHandler();
+            context.addServlet(new ServletHolder(new HttpServlet() {
+                @Override
+                protected void doGet(HttpServletRequest req, HttpServletResponse res) throws IOException {
+                    final long position = Long.parseLong(req.getParameter("position"));
+                    final long count = Long.parseLong(req.getParameter("count"));
+                    HttpServletResponse response = Boolean.parseBoolean(req.getParameter("wrap")) ? new HttpServletResponseWrapper(res) : res;
+                    response.setContentLengthLong(count);
+                    try (FileChannel channel = FileRegionWriter.open(resource)) {
+                        FileRegionWriter.send(channel, position, count, response);
+                    }
+                    // sendContent 输出完成后关闭输出流
+                    sendContent.compareAndSet(true, res.getOutputStream() instanceof HttpOutput out && out.isClosed());
+                }
+            }), "/file");
+            server.setHandler(context);
+            server.start();
+            final int port = ((ServerConnector) server.getConnectors()[0]).getLocalPort();
+            HttpClient client = HttpClient.newHttpClient();
+            for (String query : new String[]{
+                "position=0&count=" + data.length + "&wrap=false",
+                "position=0&count=" + data.length + "&wrap=true",
+                "position=1000&count=70000&wrap=true",
+            }) {
+                HttpResponse<byte[]> response = client.send(
+                    HttpRequest.newBuilder(URI.create("http://127.0.0.1:" + port + "/file?" + query)).build(),
+                    HttpResponse.BodyHandlers.ofByteArray()
+                );
+                Assertions.assertEquals(200, response.statusCode());
+                final String[] params = query.split("&");
+                final int position = Integer.parseInt(params[0].substring("position=".length()));
+                final int count = Integer.parseInt(params[1].substring("count=".length()));
+                Assertions.assertArrayEquals(Arrays.copyOfRange(data, position, position + count), response.body());
+            }
+            Assertions.assertTrue(sendContent.get());
+        } finally {
+            server.stop();
+            Files.deleteIfExists(file);
+        }
+    }
+}
@@ -0,0 +1,60 @@
+package org.clever.web.support;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.util.AntPathMatcher;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 路径匹配性能测试(逐个 AntPathMatcher 匹配与 PathPatternMatcher 对比)，运行 main 函数执行
+ * <p>
+ * 作者：lizw <br/>
+ * 创建时间：2026/10/19 07:50 <br/>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class PathPatternMatcherBenchmark {
+    private final String path = "/api/module/user/detail/1";
+    private final AntPathMatcher antPathMatcher = new AntPathMatcher();
+    private List<String> patterns;
+    private PathPatternMatcher matcher;
+
+    @Setup
+    public void setup() {
+        patterns = new ArrayList<>();
+        for (int i = 0; i < 50; i++) {
+            patterns.add("/module" + i + "/**");
+            patterns.add("/static" + i + "/**/*.js");
+        }
+        matcher = new PathPatternMatcher(patterns);
+    }
+
+    @Benchmark
+    public boolean antPathMatcher() {
+        for (String pattern : patterns) {
+            if (antPathMatcher.match(pattern, path)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Benchmark
+    public boolean pathPatternMatcher() {
+        return matcher.matches(path);
+    }
+
+    public static void main(String[] args) throws Exception {
+        Options options = new OptionsBuilder().include(PathPatternMatcherBenchmark.class.getSimpleName()).build();
+        new Runner(options).run();
+    }
+}
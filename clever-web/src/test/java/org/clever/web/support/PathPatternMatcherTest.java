@@ -0,0 +1,119 @@
+package org.clever.web.support;
+
+import jakarta.servlet.DispatcherType;
+import lombok.extern.slf4j.Slf4j;
+import org.clever.web.MockRequest;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.util.AntPathMatcher;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * 作者：lizw <br/>
+ * 创建时间：2026/10/19 05:15 <br/>
+ */
+@Slf4j
+public class PathPatternMatcherTest {
+    private static final List<String> PATTERNS = Arrays.asList(
+        "/",
+        "/api",
+        "/api/",
+        "/api/user",
+        "/api/user/*",
+        "/api/user/{id}/detail",
+        "/api/*/list",
+        "/api/**",
+        "/static/**/*.js",
+        "/static/**/img/*.png",
+        "/**/favicon.ico",
+        "/doc/v?/index.html",
+        "/files/{name:[a-z]+}.txt",
+        "/a/**/b/**/c",
+        "/x/*.json",
+        "test/**"
+    );
+    private static final List<String> PATHS = Arrays.asList(
+        "/",
+        "",
+        "/api",
+        "/api/",
+        "/api/user",
+        "/api/user/",
+        "/api/user/1",
+        "/api/user/1/",
+        "/api/user/1/detail",
+        "/api/order/list",
+        "/api/order/list/",
+        "/static/app.js",
+        "/static/a/b/c/app.js",
+        "/static/a/img/logo.png",
+        "/static/img/logo.png",
+        "/static/img/logo.jpg",
+        "/favicon.ico",
+        "/a/b/favicon.ico",
+        "/doc/v1/index.html",
+        "/doc/v10/index.html",
+        "/files/abc.txt",
+        "/files/a1.txt",
+        "/a/b/c",
+        "/a/x/b/y/z/c",
+        "/a/c",
+        "/x/.json",
+        "/x/data.json",
+        "//api//user",
+        "test/a",
+        "/test/a",
+        "/other"
+    );
+
+    @Test
+    public void t01() {
+        AntPathMatcher antPathMatcher = new AntPathMatcher();
+        PathPatternMatcher matcher = new PathPatternMatcher(PATTERNS);
+        for (String path : PATHS) {
+            List<String> expected = new ArrayList<>();
+            for (String pattern : PATTERNS) {
+                if (antPathMatcher.match(pattern, path)) {
+                    expected.add(pattern);
+                }
+            }
+            List<String> actual = matcher.getMatchPatterns(path);
+            log.info("--> {} | {}", path, actual);
+            Assertions.assertEquals(expected, actual, path);
+            Assertions.assertEquals(!expected.isEmpty(), matcher.matches(path), path);
+            for (String pattern : PATTERNS) {
+                Assertions.assertEquals(antPathMatcher.match(pattern, path), new PathPatternMatcher(List.of(pattern)).matches(path), pattern + " | " + path);
+            }
+        }
+        // 同一个 List 对象只编译一次
+        Assertions.assertSame(PathPatternMatcher.of(PATTERNS), PathPatternMatcher.of(PATTERNS));
+        Assertions.assertFalse(PathPatternMatcher.of(null).matches("/api"));
+    }
+
+    /**
+     * 配置的 List 被修改、请求被 forward
+     */
+    @Test
+    public void t03() {
+        List<String> patterns = new ArrayList<>(List.of("/api/**"));
+        PathPatternMatcher matcher = PathPatternMatcher.of(patterns);
+        Assertions.assertSame(matcher, PathPatternMatcher.of(new ArrayList<>(patterns)));
+        Assertions.assertTrue(matcher.matches("/api/user"));
+        patterns.set(0, "/static/**");
+        Assertions.assertNotSame(matcher, PathPatternMatcher.of(patterns));
+        Assertions.assertFalse(PathPatternMatcher.of(patterns).matches("/api/user"));
+        Assertions.assertTrue(PathPatternMatcher.of(patterns).matches("/static/app.js"));
+        // forward 之后使用新的请求路径
+        MockRequest request = new MockRequest("GET", "/api/user");
+        Assertions.assertEquals("/api/user", PathPatternMatcher.getPath(request));
+        Assertions.assertFalse(PathPatternMatcher.of(patterns).matches(request));
+        request.requestURI("/static/app.js").dispatcherType(DispatcherType.FORWARD);
+        Assertions.assertEquals("/static/app.js", PathPatternMatcher.getPath(request));
+        Assertions.assertTrue(PathPatternMatcher.of(patterns).matches(request));
+        request.requestURI("/error").dispatcherType(DispatcherType.ERROR);
+        Assertions.assertFalse(PathPatternMatcher.of(patterns).matches(request));
+    }
+}
@@ -0,0 +1,238 @@
+package org.clever.web.support;
+
+import lombok.SneakyThrows;
+import lombok.extern.slf4j.Slf4j;
+import org.clever.web.config.WebSocketConfig;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 作者：lizw <br/>
+ * 创建时间：2026/10/19 06:06 <br/>
+ */
+@Slf4j
+public class WebSocketBroadcastHubTest {
+    /**
+     * 模拟的 WebSocket 会话
+     */
+    private static class FakePeer implements WebSocketBroadcastHub.Peer {
+        private final String id;
+        /**
+         * 异步完成发送的线程池，为 null 时同步完成
+         */
+        private final ExecutorService executor;
+        /**
+         * 是否是不读取数据的慢客户端(发送一直不完成)
+         */
+        private final boolean stuck;
+        private final List<WebSocketBroadcastHub.Message> expected;
+        private final ArrayDeque<Callback> pending = new ArrayDeque<>();
+        private final List<WebSocketBroadcastHub.Message> received = new ArrayList<>();
+        private volatile boolean open = true;
+        private volatile int closeStatus;
+        private volatile int count;
+        private volatile boolean outOfOrder;
+
+        private FakePeer(String id, ExecutorService executor, boolean stuck, List<WebSocketBroadcastHub.Message> expected) {
+            this.id = id;
+            this.executor = executor;
+            this.stuck = stuck;
+            this.expected = expected;
+        }
+
+        @Override
+        public String getId() {
+            return id;
+        }
+
+        @Override
+        public boolean isOpen() {
+            return open;
+        }
+
+        @Override
+        public synchronized void send(WebSocketBroadcastHub.Message message, Callback callback) {
+            if (expected != null) {
+                // 所有会话收到的是同一个消息对象，并且顺序不变
+                outOfOrder = outOfOrder || expected.get(count) != message;
+            } else {
+                received.add(message);
+            }
+            count++;
+            if (stuck) {
+                pending.add(callback);
+            } else if (executor != null) {
+                executor.execute(callback::succeeded);
+            } else {
+                callback.succeeded();
+            }
+        }
+
+        @Override
+        public void close(int statusCode, String reason) {
+            open = false;
+            closeStatus = statusCode;
+        }
+
+        /**
+         * 慢客户端读取完一条消息
+         */
+        private void release() {
+            final Callback callback;
+            synchronized (this) {
+                callback = pending.poll();
+            }
+            if (callback != null) {
+                callback.succeeded();
+            }
+        }
+    }
+
+    private static long usedMemory() {
+        final Runtime runtime = Runtime.getRuntime();
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+
+    /**
+     * 10000 个会话的广播吞吐量和内存占用
+     */
+    @SneakyThrows
+    @Test
+    public void t01() {
+        final int sessions = 10_000;
+        final int messages = 100;
+        final String payload = "x".repeat(1024);
+        List<WebSocketBroadcastHub.Message> expected = new ArrayList<>(messages);
+        for (int i = 0; i < messages; i++) {
+            expected.add(WebSocketBroadcastHub.Message.of(Map.of("seq", i, "data", payload)));
+        }
+        // 同步完成发送: 广播本身的开销
+        WebSocketBroadcastHub hub = new WebSocketBroadcastHub(256, 4 * 1024 * 1024, WebSocketBroadcastHub.OverflowPolicy.CLOSE);
+        List<FakePeer> peers = new ArrayList<>(sessions);
+        for (int i = 0; i < sessions; i++) {
+            FakePeer peer = new FakePeer("s" + i, null, false, expected);
+            peers.add(peer);
+            hub.join(peer, "news");
+        }
+        long startTime = System.nanoTime();
+        for (WebSocketBroadcastHub.Message message : expected) {
+            Assertions.assertEquals(sessions, hub.broadcast("news", message));
+        }
+        double seconds = (System.nanoTime() - startTime) / 1_000_000_000.0;
+        log.info("--> 同步发送 | 会话={} | 消息={} | 耗时={}s | 吞吐量={}条/s", sessions, messages, seconds, (long) (sessions * messages / seconds));
+        Assertions.assertEquals((long) sessions * messages, hub.getMetrics().getSent());
+        Assertions.assertTrue(peers.stream().noneMatch(peer -> peer.outOfOrder));
+        // IO线程异步完成发送
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        hub = new WebSocketBroadcastHub(256, 4 * 1024 * 1024, WebSocketBroadcastHub.OverflowPolicy.CLOSE);
+        peers.clear();
+        for (int i = 0; i < sessions; i++) {
+            FakePeer peer = new FakePeer("s" + i, executor, false, expected);
+            peers.add(peer);
+            hub.join(peer);
+        }
+        startTime = System.nanoTime();
+        for (WebSocketBroadcastHub.Message message : expected) {
+            hub.broadcast(message);
+        }
+        final double enqueueSeconds = (System.nanoTime() - startTime) / 1_000_000_000.0;
+        final long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(30);
+        while (hub.getMetrics().getSent() < (long) sessions * messages && System.nanoTime() < deadline) {
+            Thread.sleep(1);
+        }
+        seconds = (System.nanoTime() - startTime) / 1_000_000_000.0;
+        log.info("--> 异步发送 | 广播耗时={}s | 全部发送耗时={}s | 吞吐量={}条/s | {}", enqueueSeconds, seconds, (long) (sessions * messages / seconds), hub.getMetrics());
+        Assertions.assertEquals((long) sessions * messages, hub.getMetrics().getSent());
+        Assertions.assertTrue(peers.stream().noneMatch(peer -> peer.outOfOrder));
+        Assertions.assertTrue(peers.stream().allMatch(peer -> peer.count == messages));
+        executor.shutdown();
+        // 内存占用: 所有会话都不读取数据，排队的消息共享同一份数据
+        hub = new WebSocketBroadcastHub(256, 4 * 1024 * 1024, WebSocketBroadcastHub.OverflowPolicy.CLOSE);
+        peers.clear();
+        for (int i = 0; i < sessions; i++) {
+            FakePeer peer = new FakePeer("s" + i, null, true, expected);
+            peers.add(peer);
+            hub.join(peer);
+        }
+        final long before = usedMemory();
+        for (WebSocketBroadcastHub.Message message : expected) {
+            hub.broadcast(message);
+        }
+        final long used = usedMemory() - before;
+        final WebSocketBroadcastHub.Metrics metrics = hub.getMetrics();
+        log.info("--> 内存占用={}KB | 消息数据={}KB | {}", used / 1024, metrics.getQueuedBytes() / 1024, metrics);
+        Assertions.assertEquals((long) sessions * (messages - 1), metrics.getQueued());
+        // 每个会话复制一份消息需要 1GB 内存
+        Assertions.assertTrue(used < metrics.getQueuedBytes() / 10);
+    }
+
+    /**
+     * 慢客户端不影响其他会话
+     */
+    @Test
+    public void t02() {
+        final int maxQueueSize = 4;
+        for (WebSocketBroadcastHub.OverflowPolicy policy : WebSocketBroadcastHub.OverflowPolicy.values()) {
+            WebSocketBroadcastHub hub = new WebSocketBroadcastHub(maxQueueSize, 1024 * 1024, policy);
+            FakePeer fast = new FakePeer("fast", null, false, null);
+            FakePeer slow = new FakePeer("slow", null, true, null);
+            hub.join(fast, "news");
+            hub.join(slow, "news");
+            List<WebSocketBroadcastHub.Message> messages = new ArrayList<>();
+            for (int i = 0; i < 10; i++) {
+                WebSocketBroadcastHub.Message message = WebSocketBroadcastHub.Message.of("m" + i);
+                messages.add(message);
+                hub.broadcast("news", message);
+            }
+            Assertions.assertEquals(messages, fast.received);
+            // 慢客户端: 第一条消息正在发送，队列中最多 maxQueueSize 条消息
+            for (int i = 0; i < 10; i++) {
+                slow.release();
+            }
+            final WebSocketBroadcastHub.Metrics metrics = hub.getMetrics();
+            log.info("--> {} | {}", policy, metrics);
+            switch (policy) {
+                case DROP_OLDEST -> {
+                    Assertions.assertEquals(messages.get(0), slow.received.get(0));
+                    Assertions.assertEquals(messages.subList(10 - maxQueueSize, 10), slow.received.subList(1, slow.received.size()));
+                    Assertions.assertEquals(10 - 1 - maxQueueSize, metrics.getDropped());
+                }
+                case DROP_NEWEST -> {
+                    Assertions.assertEquals(messages.subList(0, maxQueueSize + 1), slow.received);
+                    Assertions.assertEquals(10 - 1 - maxQueueSize, metrics.getDropped());
+                }
+                case CLOSE -> {
+                    Assertions.assertFalse(slow.open);
+                    Assertions.assertEquals(WebSocketBroadcastHub.CLOSE_STATUS_QUEUE_FULL, slow.closeStatus);
+                    Assertions.assertEquals(messages.subList(0, 1), slow.received);
+                    Assertions.assertEquals(1, metrics.getClosed());
+                    Assertions.assertEquals(1, metrics.getSessions());
+                }
+            }
+            Assertions.assertEquals(0, metrics.getQueued());
+        }
+    }
+
+    /**
+     * 使用配置创建
+     */
+    @Test
+    public void t03() {
+        WebSocketConfig.Broadcast broadcast = new WebSocketConfig().getBroadcast();
+        Assertions.assertNotNull(broadcast);
+        Assertions.assertNotNull(new WebSocketBroadcastHub(broadcast).getMetrics());
+        broadcast.setMaxQueueBytes(null);
+        Assertions.assertThrows(IllegalArgumentException.class, () -> new WebSocketBroadcastHub(broadcast));
+    }
+}